@@ -7,7 +7,7 @@ package byps.ureq;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface BUtilityRequestsAsync extends BRemote, 
 	BUtilityRequests {
 	/**
@@ -16,6 +16,12 @@ public interface BUtilityRequestsAsync extends BRemote,
 	public void cancelMessage(long messageId) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:409
 	public void cancelMessage(long messageId, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> cancelMessageAsync(long messageId) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		cancelMessage(messageId, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -23,6 +29,12 @@ public interface BUtilityRequestsAsync extends BRemote,
 	public java.util.Map<java.lang.String,java.lang.String> testAdapter(java.lang.String functionName, java.util.Map<java.lang.String,java.lang.String> params) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:409
 	public void testAdapter(java.lang.String functionName, java.util.Map<java.lang.String,java.lang.String> params, final BAsyncResult<java.util.Map<java.lang.String,java.lang.String>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Map<java.lang.String,java.lang.String>> testAdapterAsync(java.lang.String functionName, java.util.Map<java.lang.String,java.lang.String> params) {
+		final BFutureResult<java.util.Map<java.lang.String,java.lang.String>> asyncResult = new BFutureResult<java.util.Map<java.lang.String,java.lang.String>>();		
+		testAdapter(functionName, params, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -30,6 +42,12 @@ public interface BUtilityRequestsAsync extends BRemote,
 	public java.util.Map<java.lang.String,java.lang.String> execute(java.lang.String functionName, java.util.Map<java.lang.String,java.lang.String> params) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:409
 	public void execute(java.lang.String functionName, java.util.Map<java.lang.String,java.lang.String> params, final BAsyncResult<java.util.Map<java.lang.String,java.lang.String>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Map<java.lang.String,java.lang.String>> executeAsync(java.lang.String functionName, java.util.Map<java.lang.String,java.lang.String> params) {
+		final BFutureResult<java.util.Map<java.lang.String,java.lang.String>> asyncResult = new BFutureResult<java.util.Map<java.lang.String,java.lang.String>>();		
+		execute(functionName, params, asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
@@ -223,7 +223,25 @@ public abstract class BBuffer {
 	 */
 	protected BBuffer(BBinaryModel bmodel, ByteBuffer buf) {
 		this.bmodel = bmodel;
-		this.buf = buf != null ? buf : ByteBuffer.allocate(10 * 1000);
+		this.pooled = buf == null;
+		this.buf = buf != null ? buf : BBufferPool.allocate(10 * 1000);
+	}
+	
+	/**
+	 * Replace the internal buffer by a larger one.
+	 * The bytes up to the current position are copied into the new buffer.
+	 * If the internal buffer has been taken from the {@link BBufferPool}, 
+	 * it is returned to the pool and the new buffer is taken from the pool too.
+	 * @param minCapacity Required capacity.
+	 */
+	protected void growBuffer(int minCapacity) {
+		int cap = Math.max(buf.capacity() << 1, minCapacity);
+		ByteBuffer nbuf = pooled ? BBufferPool.allocate(cap) : ByteBuffer.allocate(cap);
+		nbuf.order(buf.order());
+		buf.flip();
+		nbuf.put(buf);
+		if (pooled) BBufferPool.release(buf);
+		buf = nbuf;
 	}
 
 	// This functions are used in TestSerializePrimitiveTypes.
@@ -246,6 +264,11 @@ public abstract class BBuffer {
 
 	protected final BBinaryModel bmodel;
 	protected ByteBuffer buf;
+	
+	/**
+	 * True, if {@link #buf} has been taken from the {@link BBufferPool}.
+	 */
+	protected final boolean pooled;
 
 	private static String internalToString(Object result, boolean resultNotParam) {
 	  if (result == null) {
@@ -18,6 +18,13 @@ public abstract class BBufferBin extends BBuffer {
   private byte[] helpBufferStr = new byte[0];
   protected boolean compressInteger = true;
 
+  /**
+   * True, if the elements of int and long arrays are written as fixed size values.
+   * Otherwise, they are compressed like single values by {@link #putInt(int)} and {@link #putLong(long)}.
+   * This encoding is used, if both sides support {@link BMessageHeader#BYPS_VERSION_BULK_ARRAYS}.
+   */
+  protected boolean bulkArrays;
+
   public void putBoolean(boolean v) {
     putByte((byte) (v ? 1 : 0));
   }
@@ -91,6 +98,19 @@ public abstract class BBufferBin extends BBuffer {
 
   }
 
+  /**
+   * Same encoding as {@link #putLongCompressed(long)}.
+   * The caller has to ensure that 10 bytes remain in the buffer.
+   */
+  private void putLongCompressedNoCheck(long v) {
+    long z = (v << 1) ^ (v >> 63);
+    while ((z & ~0x7FL) != 0) {
+      buf.put((byte)((z & 0x7F) | 0x80));
+      z >>>= 7;
+    }
+    buf.put((byte)z);
+  }
+
   private long getLongCompressed() {
     
     long v = 0;
@@ -334,6 +354,106 @@ public abstract class BBufferBin extends BBuffer {
     buf.get(v);
   }
 
+  // The view buffers returned by asXxxBuffer() share the content and the byte order of buf.
+  // Their positions start at the position of buf.
+
+  public void putArrayChar(char[] v) {
+    ensureRemaining(v.length << 1);
+    buf.asCharBuffer().put(v);
+    buf.position(buf.position() + (v.length << 1));
+  }
+
+  public void getArrayChar(char[] v) {
+    buf.asCharBuffer().get(v);
+    buf.position(buf.position() + (v.length << 1));
+  }
+
+  public void putArrayShort(short[] v) {
+    ensureRemaining(v.length << 1);
+    buf.asShortBuffer().put(v);
+    buf.position(buf.position() + (v.length << 1));
+  }
+
+  public void getArrayShort(short[] v) {
+    buf.asShortBuffer().get(v);
+    buf.position(buf.position() + (v.length << 1));
+  }
+
+  public void putArrayInt(int[] v) {
+    if (bulkArrays || !compressInteger) {
+      ensureRemaining(v.length << 2);
+      buf.asIntBuffer().put(v);
+      buf.position(buf.position() + (v.length << 2));
+    }
+    else {
+      // A compressed int needs at most 5 bytes.
+      ensureRemaining(v.length * 5);
+      for (int i = 0; i < v.length; i++) {
+        putLongCompressedNoCheck(v[i]);
+      }
+    }
+  }
+
+  public void getArrayInt(int[] v) {
+    if (bulkArrays || !compressInteger) {
+      buf.asIntBuffer().get(v);
+      buf.position(buf.position() + (v.length << 2));
+    }
+    else {
+      for (int i = 0; i < v.length; i++) {
+        v[i] = (int)getLongCompressed();
+      }
+    }
+  }
+
+  public void putArrayLong(long[] v) {
+    if (bulkArrays || !compressInteger) {
+      ensureRemaining(v.length << 3);
+      buf.asLongBuffer().put(v);
+      buf.position(buf.position() + (v.length << 3));
+    }
+    else {
+      ensureRemaining(v.length * 10);
+      for (int i = 0; i < v.length; i++) {
+        putLongCompressedNoCheck(v[i]);
+      }
+    }
+  }
+
+  public void getArrayLong(long[] v) {
+    if (bulkArrays || !compressInteger) {
+      buf.asLongBuffer().get(v);
+      buf.position(buf.position() + (v.length << 3));
+    }
+    else {
+      for (int i = 0; i < v.length; i++) {
+        v[i] = getLongCompressed();
+      }
+    }
+  }
+
+  public void putArrayFloat(float[] v) {
+    ensureRemaining(v.length << 2);
+    buf.asFloatBuffer().put(v);
+    buf.position(buf.position() + (v.length << 2));
+  }
+
+  public void getArrayFloat(float[] v) {
+    buf.asFloatBuffer().get(v);
+    buf.position(buf.position() + (v.length << 2));
+  }
+
+  public void putArrayDouble(double[] v) {
+    ensureRemaining(v.length << 3);
+    buf.asDoubleBuffer().put(v);
+    buf.position(buf.position() + (v.length << 3));
+  }
+
+  public void getArrayDouble(double[] v) {
+    buf.asDoubleBuffer().get(v);
+    buf.position(buf.position() + (v.length << 3));
+  }
+
   public void putByteBuffer(ByteBuffer v) {
     ensureRemaining(v.remaining());
     buf.put(v);
@@ -357,7 +477,16 @@ public abstract class BBufferBin extends BBuffer {
   }
 
   public void skip(int size) {
-    position(buf.position() + size);
+    if (pooled) {
+      
+      // A pooled buffer contains bytes of a previous message.
+      // Do not send them.
+      ensureRemaining(size);
+      for (int i = 0; i < size; i++) buf.put((byte)0);
+    }
+    else {
+      position(buf.position() + size);
+    }
   }
 
   public void position(int pos) {
@@ -389,12 +518,7 @@ public abstract class BBufferBin extends BBuffer {
   private final void ensureRemaining(int size) {
 
     if (buf.position() + size > buf.capacity()) {
-      int cap = Math.max(buf.capacity() << 1, buf.position() + size);
-      ByteBuffer nbuf = ByteBuffer.allocate(cap);
-      nbuf.order(buf.order());
-      buf.flip();
-      nbuf.put(buf);
-      buf = nbuf;
+      growBuffer(buf.position() + size);
     }
 
   }
@@ -585,6 +709,14 @@ public abstract class BBufferBin extends BBuffer {
     this.compressInteger = compressInteger;
     return ret;
   }
+
+  public boolean isBulkArrays() {
+    return bulkArrays;
+  }
+
+  public void setBulkArrays(boolean bulkArrays) {
+    this.bulkArrays = bulkArrays;
+  }
   
 }
 
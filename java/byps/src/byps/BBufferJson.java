@@ -16,7 +16,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.StringTokenizer;
 import java.util.TimeZone;
 
@@ -551,43 +551,75 @@ public class BBufferJson extends BBuffer {
 	}
 	
 	public double getDouble() {
-		StringBuilder sbuf = new StringBuilder(30);
-		for (;;) {
-			char c = nextJsonChar(true);
-			if ((c >= '0' && c <= '9') || (c == '.') || (c == 'e') || (c == 'E') || (c == '-') || (c == '+')) {
-				sbuf.append(c);
+		nextJsonChar(false); // skip white space
+		int p = buf.position();
+		int e = p;
+		int limit = buf.limit();
+		boolean integral = true;
+		for (; e < limit; e++) {
+			int c = buf.get(e);
+			if (c >= '0' && c <= '9') {
+			}
+			else if ((c == '-' || c == '+') && e == p) {
+			}
+			else if (c == '.' || c == 'e' || c == 'E' || c == '-' || c == '+') {
+				integral = false;
 			}
 			else if (c == 'N') {
-				internalSkip(2);
+				buf.position(e + 3);
 				nextJsonChar(false); // update this.lastChar
 				return Double.NaN;
 			}
 			else if (c == 'I') {
-				boolean neg = sbuf.length() != 0 && sbuf.charAt(0) == '-'; 
-				internalSkip(7);
+				boolean neg = e != p && buf.get(p) == '-';
+				buf.position(e + 8);
 				nextJsonChar(false); // update this.lastChar
 				return neg ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
 			}
 			else {
-				oneCharBack();
 				break;
 			}
 		}
-		return Double.parseDouble(sbuf.toString());
+		buf.position(e);
+		nextJsonChar(false); // update this.lastChar
+		
+		// Most numbers are integers, e.g. object IDs, type IDs and sizes.
+		// Parse them without creating a String.
+		int len = e - p;
+		if (integral && len != 0 && len <= 18) {
+			int i = p;
+			boolean neg = false;
+			int c = buf.get(i);
+			if (c == '-' || c == '+') {
+				neg = c == '-';
+				i++;
+			}
+			if (i != e) {
+				long v = 0;
+				for (; i < e; i++) {
+					v = v * 10 + (buf.get(i) - '0');
+				}
+				return neg ? -v : v;
+			}
+		}
+		
+		return Double.parseDouble(new String(buf.array(), buf.arrayOffset() + p, len, StandardCharsets.ISO_8859_1));
 	}
 	
 	/**
 	 * Find the end of the string.
 	 * BYPS-92
+	 * Sets {@link #stringEscaped}, if the string contains a backslash.
 	 * @param p First character of the string (after the quote)
 	 * @param quote Quote character, usually "
 	 * @return String length, without the closing quote character at the end of the string.
 	 */
 	private int getStringLength(int p, char quote) {
 
-    int pmax = buf.limit();
+    int pmax = buf.limit() - p;
     int plen;
     boolean esc = false; // true if following character should not be interpreted (as end-quote)
+    stringEscaped = false;
     
     // Linear search for end-quote
     
@@ -595,6 +627,7 @@ public class BBufferJson extends BBuffer {
       int c = buf.get(p + plen);
       if (!esc && c == '\\') {
         esc = true;
+        stringEscaped = true;
       }
       else if (!esc && c == (int)quote) {
         break;
@@ -607,6 +640,11 @@ public class BBufferJson extends BBuffer {
     return plen;
 	}
 	
+	/**
+	 * True, if the string found by the last call to {@link #getStringLength(int, char)} contains escape sequences.
+	 */
+	private boolean stringEscaped;
+	
 	public String getString() {
 		
 		// BYPS-92: Refactoring to support 4byte UTF-8 chars.
@@ -623,16 +661,13 @@ public class BBufferJson extends BBuffer {
 			buf.position(p + plen + 1);
 			
 			// Extract the string from UTF-8 bytes in the buffer.
-			String s =  new String(buf.array(), p, plen, StandardCharsets.UTF_8);
-			
-			// Optimization: return string if there is no escaped character in it.
-			boolean hasBackslash = s.chars().anyMatch(c -> c == '\\');
-			if (!hasBackslash) {
-			  return s;
+			int offset = buf.arrayOffset() + p;
+			if (!stringEscaped) {
+			  return new String(buf.array(), offset, plen, StandardCharsets.UTF_8);
 			}
 			
 			// Process \t, \r, \u1234 etc.
-			return processStringEscapeSequences(s);
+			return getEscapedString(buf.array(), offset, plen);
 		}
 		else {
 			// null
@@ -641,6 +676,159 @@ public class BBufferJson extends BBuffer {
 		}
 		
 	}
+	
+	/**
+	 * Read the name of an object member.
+	 * Objects of the same type have the same member names. Names are
+	 * taken from a small cache to avoid allocating the same strings
+	 * for each object.
+	 * @return Name
+	 */
+	private String getKey() {
+		char quote = nextJsonChar(true);
+		if (quote != '\"' && quote != '\'') {
+			oneCharBack();
+			return getString();
+		}
+		
+		int p = buf.position();
+		int plen = getStringLength(p, quote);
+		buf.position(p + plen + 1);
+		
+		byte[] arr = buf.array();
+		int offset = buf.arrayOffset() + p;
+		if (stringEscaped) {
+			return getEscapedString(arr, offset, plen);
+		}
+		if (plen > MAX_CACHED_KEY_LENGTH) {
+			return new String(arr, offset, plen, StandardCharsets.UTF_8);
+		}
+		
+		int h = plen;
+		for (int i = offset; i < offset + plen; i++) {
+			h = 31 * h + arr[i];
+		}
+		int slot = (h ^ (h >>> 8)) & (KEY_CACHE_SIZE - 1);
+		
+		if (keyCache == null) {
+			keyCache = new String[KEY_CACHE_SIZE];
+			keyCacheBytes = new byte[KEY_CACHE_SIZE][];
+		}
+		
+		byte[] keyBytes = keyCacheBytes[slot];
+		if (keyBytes != null && Arrays.equals(keyBytes, 0, keyBytes.length, arr, offset, offset + plen)) {
+			return keyCache[slot];
+		}
+		
+		String key = new String(arr, offset, plen, StandardCharsets.UTF_8);
+		keyCache[slot] = key;
+		keyCacheBytes[slot] = Arrays.copyOfRange(arr, offset, offset + plen);
+		return key;
+	}
+	
+	private final static int KEY_CACHE_SIZE = 256;
+	private final static int MAX_CACHED_KEY_LENGTH = 64;
+	private String[] keyCache;
+	private byte[][] keyCacheBytes;
+	
+	/**
+	 * Decode a string with escape sequences.
+	 * The escape sequences are replaced in the UTF-8 bytes,  
+	 * so that the string is decoded only once.
+	 * @param arr Buffer 
+	 * @param offset Array offset of the first character (after the quote)
+	 * @param plen Number of bytes without the closing quote
+	 * @return String
+	 */
+	private String getEscapedString(byte[] arr, int offset, int plen) {
+	  
+	  // The replacement is never longer than the escape sequence.
+	  byte[] bytes = new byte[plen];
+	  int n = 0;
+	  int end = offset + plen;
+	  
+	  for (int i = offset; i < end; i++) {
+	    byte c = arr[i];
+	    if (c != '\\' || i + 1 == end) {
+	      bytes[n++] = c;
+	      continue;
+	    }
+	    
+	    c = arr[++i];
+	    switch (c) {
+	      case 't':
+	        bytes[n++] = '\t';
+	        break;
+	      case 'r':
+	        bytes[n++] = '\r';
+	        break;
+	      case 'n':
+	        bytes[n++] = '\n';
+	        break;
+	      case 'b':
+	        bytes[n++] = '\b';
+	        break;
+	      case 'f':
+	        bytes[n++] = '\f';
+	        break;
+	      case 'u': {
+	        int ch = parseHex4(arr, i + 1, end);
+	        i += 4;
+	        if (Character.isHighSurrogate((char)ch) && i + 6 < end && arr[i+1] == '\\' && arr[i+2] == 'u') {
+	          int low = parseHex4(arr, i + 3, end);
+	          if (Character.isLowSurrogate((char)low)) {
+	            ch = Character.toCodePoint((char)ch, (char)low);
+	            i += 6;
+	          }
+	        }
+	        if (ch < 0 || Character.isSurrogate((char)ch)) {
+	          // Invalid or unpaired surrogate, cannot be expressed in UTF-8.
+	          return processStringEscapeSequences(new String(arr, offset, plen, StandardCharsets.UTF_8));
+	        }
+	        n = putUtf8(bytes, n, ch);
+	        break;
+	      }
+	      default: // e.g. \"
+	        bytes[n++] = c;
+	        break;
+	    }
+	  }
+	  
+	  return new String(bytes, 0, n, StandardCharsets.UTF_8);
+	}
+	
+	private static int parseHex4(byte[] arr, int i, int end) {
+	  if (i + 4 > end) return -1;
+	  int v = 0;
+	  for (int k = i; k < i + 4; k++) {
+	    int d = Character.digit(arr[k], 16);
+	    if (d < 0) return -1;
+	    v = (v << 4) | d;
+	  }
+	  return v;
+	}
+	
+	private static int putUtf8(byte[] bytes, int n, int cp) {
+	  if (cp < 0x80) {
+	    bytes[n++] = (byte)cp;
+	  }
+	  else if (cp < 0x800) {
+	    bytes[n++] = (byte)(0xC0 | (cp >> 6));
+	    bytes[n++] = (byte)(0x80 | (cp & 0x3F));
+	  }
+	  else if (cp < 0x10000) {
+	    bytes[n++] = (byte)(0xE0 | (cp >> 12));
+	    bytes[n++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+	    bytes[n++] = (byte)(0x80 | (cp & 0x3F));
+	  }
+	  else {
+	    bytes[n++] = (byte)(0xF0 | (cp >> 18));
+	    bytes[n++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+	    bytes[n++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+	    bytes[n++] = (byte)(0x80 | (cp & 0x3F));
+	  }
+	  return n;
+	}
 
 	/**
 	 * Replace JavaScript escape sequences by their appropriate chars.
@@ -650,7 +838,7 @@ public class BBufferJson extends BBuffer {
 	 * @return String with replaced escape sequences
 	 */
   private String processStringEscapeSequences(String s) {
-    StringBuilder sbuf = new StringBuilder();
+    StringBuilder sbuf = new StringBuilder(s.length());
     boolean esc = false;
     for (int i = 0; i < s.length(); i++) {
       
@@ -675,7 +863,7 @@ public class BBufferJson extends BBuffer {
           case 'u':
             i++;
             sbuf.append((char)Integer.parseInt(s.substring(i, i+4), 16));
-            i+=4;
+            i+=3;
             break;
           default: // e.g. \"
             sbuf.append(c);
@@ -749,12 +937,7 @@ public class BBufferJson extends BBuffer {
 	private final void ensureRemaining(int size) {
 		
 		if (buf.position() + size > buf.capacity()) {
-			int cap = Math.max(buf.capacity() << 1, buf.position() + size);
-			ByteBuffer nbuf = ByteBuffer.allocate(cap);
-			nbuf.order(buf.order());
-			buf.flip();
-			nbuf.put(buf);
-			buf = nbuf;
+			growBuffer(buf.position() + size);
 		}
 		
 	}
@@ -823,7 +1006,9 @@ public class BBufferJson extends BBuffer {
 			return parseJsonArray();
 		}
 		else if (c == '{') {
-			HashMap<String, Object> map = new HashMap<String, Object>();
+			String[] names = null;
+			Object[] values = null;
+			int count = 0;
 
 			c = nextJsonChar(false);
 			if (c == '}') {
@@ -841,7 +1026,7 @@ public class BBufferJson extends BBuffer {
 						throw e;
 					}
 					
-					String key = getString();
+					String key = getKey();
 					if (key == null) {
 						BException e = new BException(BExceptionC.CORRUPT, "Expecting element name at position " + buf.position());
 						log.error(e.getMessage(), e);
@@ -853,13 +1038,23 @@ public class BBufferJson extends BBuffer {
 					
 					Object value = parseJsonValue();
 					
-					map.put(key, value);
+					if (names == null) {
+						names = new String[8];
+						values = new Object[8];
+					}
+					else if (count == names.length) {
+						names = Arrays.copyOf(names, count << 1);
+						values = Arrays.copyOf(values, count << 1);
+					}
+					names[count] = key;
+					values[count] = value;
+					count++;
 		
 					c = nextJsonChar(true);
 				}
 			}
 			
-			return new BJsonObject(map);
+			return new BJsonObject(names, values, count);
 		}
 		else {
 			return new BJsonObject();
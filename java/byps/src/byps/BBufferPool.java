@@ -0,0 +1,244 @@
+package byps;
+
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of message buffers.
+ *
+ * Output buffers of {@link BBufferBin} and {@link BBufferJson} are taken from
+ * this pool instead of being allocated for each message. The pool manages
+ * buffers in size classes of powers of two between {@link #MIN_CAPACITY} and
+ * {@link #MAX_CAPACITY}. Each thread keeps one buffer per small size class,
+ * all other buffers are kept in a bounded queue per size class that is shared
+ * by all threads.
+ *
+ * Buffers are heap buffers because the message bytes are accessed by
+ * {@link ByteBuffer#array()} when they are written to the HTTP connection or
+ * printed into the log file.
+ *
+ * A buffer must only be released by the owner of the message after the bytes
+ * have been completely written. This is done in HWireClient after the response
+ * of a request has been received and in HWriteResponseHelper after the
+ * response has been written. Buffers that are not released are simply
+ * collected by the garbage collector.
+ *
+ * The pool can be disabled by system property "byps.bufferPool=false".
+ */
+public class BBufferPool {
+
+  /**
+   * Capacity of the smallest size class.
+   */
+  public final static int MIN_CAPACITY = 1 << 14;
+
+  /**
+   * Capacity of the largest size class.
+   * Larger buffers are allocated but not pooled.
+   */
+  public final static int MAX_CAPACITY = 1 << 24;
+
+  /**
+   * Buffers of size classes up to this capacity are cached per thread.
+   */
+  private final static int MAX_THREAD_LOCAL_CAPACITY = 1 << 18;
+
+  /**
+   * Maximum number of bytes of all buffers of one size class in the shared queue.
+   */
+  private final static int MAX_SHARED_BYTES_PER_CLASS = 8 * 1000 * 1000;
+
+  /**
+   * Maximum number of buffers of one size class in the shared queue.
+   */
+  private final static int MAX_SHARED_BUFFERS_PER_CLASS = 64;
+
+  private final static int MIN_SHIFT = 14;
+  private final static int NB_OF_CLASSES = 24 - MIN_SHIFT + 1;
+
+  private static volatile boolean enabled = Boolean.parseBoolean(System.getProperty("byps.bufferPool", "true"));
+
+  @SuppressWarnings("unchecked")
+  private final static ConcurrentLinkedQueue<ByteBuffer>[] sharedBuffers = new ConcurrentLinkedQueue[NB_OF_CLASSES];
+  private final static AtomicInteger[] sharedCounts = new AtomicInteger[NB_OF_CLASSES];
+  private final static int[] maxSharedCounts = new int[NB_OF_CLASSES];
+
+  private final static ThreadLocal<ByteBuffer[]> threadBuffers = new ThreadLocal<ByteBuffer[]>() {
+    protected ByteBuffer[] initialValue() {
+      return new ByteBuffer[NB_OF_CLASSES];
+    }
+  };
+
+  private final static AtomicLong hits = new AtomicLong();
+  private final static AtomicLong misses = new AtomicLong();
+  private final static AtomicLong releases = new AtomicLong();
+  private final static AtomicLong discards = new AtomicLong();
+
+  static {
+    for (int i = 0; i < NB_OF_CLASSES; i++) {
+      int capacity = 1 << (MIN_SHIFT + i);
+      sharedBuffers[i] = new ConcurrentLinkedQueue<ByteBuffer>();
+      sharedCounts[i] = new AtomicInteger();
+      maxSharedCounts[i] = Math.max(1, Math.min(MAX_SHARED_BUFFERS_PER_CLASS, MAX_SHARED_BYTES_PER_CLASS / capacity));
+    }
+  }
+
+  /**
+   * Pool counters.
+   */
+  public static class Statistics {
+
+    /**
+     * Number of buffers taken from the pool.
+     */
+    public long hits;
+
+    /**
+     * Number of buffers that had to be allocated.
+     */
+    public long misses;
+
+    /**
+     * Number of buffers returned to the pool.
+     */
+    public long releases;
+
+    /**
+     * Number of released buffers that did not fit into the pool.
+     */
+    public long discards;
+
+    public Statistics() {
+    }
+
+    public Statistics(Statistics rhs) {
+      this.hits = rhs.hits;
+      this.misses = rhs.misses;
+      this.releases = rhs.releases;
+      this.discards = rhs.discards;
+    }
+
+    public String toString() {
+      return "[hits=" + hits + ", misses=" + misses + ", releases=" + releases + ", discards=" + discards + "]";
+    }
+  }
+
+  /**
+   * Get a buffer with at least the given capacity.
+   * The buffer is cleared and has byte order BIG_ENDIAN like a newly allocated buffer.
+   * Its content is undefined.
+   * @param minCapacity Required capacity.
+   * @return ByteBuffer
+   */
+  public static ByteBuffer allocate(int minCapacity) {
+    int idx = sizeClassOf(minCapacity);
+    if (!enabled || idx < 0) {
+      return ByteBuffer.allocate(minCapacity);
+    }
+
+    ByteBuffer buf = null;
+    ByteBuffer[] tbufs = threadBuffers.get();
+    if (tbufs[idx] != null) {
+      buf = tbufs[idx];
+      tbufs[idx] = null;
+    }
+    else {
+      buf = sharedBuffers[idx].poll();
+      if (buf != null) {
+        sharedCounts[idx].decrementAndGet();
+      }
+    }
+
+    if (buf != null) {
+      hits.incrementAndGet();
+      buf.clear();
+      buf.order(ByteOrder.BIG_ENDIAN);
+    }
+    else {
+      misses.incrementAndGet();
+      buf = ByteBuffer.allocate(1 << (MIN_SHIFT + idx));
+    }
+
+    return buf;
+  }
+
+  /**
+   * Return a buffer to the pool.
+   * The caller must not access the buffer after this function has been called.
+   * Buffers that do not match a size class are ignored.
+   * @param buf Buffer or null.
+   */
+  public static void release(ByteBuffer buf) {
+    if (!enabled || buf == null || buf.isDirect() || buf.isReadOnly() || !buf.hasArray() || buf.arrayOffset() != 0) return;
+
+    int capacity = buf.capacity();
+    int idx = sizeClassOf(capacity);
+    if (idx < 0 || (1 << (MIN_SHIFT + idx)) != capacity) return;
+
+    releases.incrementAndGet();
+
+    if (capacity <= MAX_THREAD_LOCAL_CAPACITY) {
+      ByteBuffer[] tbufs = threadBuffers.get();
+      if (tbufs[idx] == null) {
+        tbufs[idx] = buf;
+        return;
+      }
+    }
+
+    if (sharedCounts[idx].incrementAndGet() <= maxSharedCounts[idx]) {
+      sharedBuffers[idx].offer(buf);
+    }
+    else {
+      sharedCounts[idx].decrementAndGet();
+      discards.incrementAndGet();
+    }
+  }
+
+  /**
+   * Enable or disable the pool.
+   * If the pool is disabled, {@link #allocate(int)} always allocates a new buffer
+   * and {@link #release(ByteBuffer)} does nothing.
+   * @param v true, to enable the pool.
+   */
+  public static void setEnabled(boolean v) {
+    enabled = v;
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static Statistics getStatistics() {
+    Statistics stats = new Statistics();
+    stats.hits = hits.get();
+    stats.misses = misses.get();
+    stats.releases = releases.get();
+    stats.discards = discards.get();
+    return stats;
+  }
+
+  public static void clearStatistics() {
+    hits.set(0);
+    misses.set(0);
+    releases.set(0);
+    discards.set(0);
+  }
+
+  /**
+   * Compute the index of the size class that can hold the given capacity.
+   * @param capacity Capacity
+   * @return Index of size class or -1, if the capacity is larger than {@link #MAX_CAPACITY}.
+   */
+  private static int sizeClassOf(int capacity) {
+    if (capacity > MAX_CAPACITY) return -1;
+    if (capacity <= MIN_CAPACITY) return 0;
+    int shift = 32 - Integer.numberOfLeadingZeros(capacity - 1);
+    return shift - MIN_SHIFT;
+  }
+
+}
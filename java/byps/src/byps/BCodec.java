@@ -0,0 +1,142 @@
+package byps;
+
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base class for compression codecs.
+ *
+ * A codec compresses message bodies. Its name is used in the negotiation (see {@link BNegotiate#codecs})
+ * and as HTTP content coding in the headers Content-Encoding and Accept-Encoding.
+ * Codecs are registered in {@link BCodecs}.
+ * Codec objects are shared by all transports and must be thread-safe.
+ *
+ * @see BCodecs
+ */
+public abstract class BCodec {
+
+  private final String name;
+
+  private final LongAdder compressCount = new LongAdder();
+  private final LongAdder compressBytesIn = new LongAdder();
+  private final LongAdder compressBytesOut = new LongAdder();
+  private final LongAdder compressNanos = new LongAdder();
+  private final LongAdder decompressCount = new LongAdder();
+  private final LongAdder decompressBytesIn = new LongAdder();
+  private final LongAdder decompressBytesOut = new LongAdder();
+  private final LongAdder decompressNanos = new LongAdder();
+
+  /**
+   * Constructor.
+   * @param name Name of the codec, e.g. "gzip". Codecs that are not an IANA registered
+   * HTTP content coding should use a name that starts with "x-".
+   */
+  protected BCodec(String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Compress the remaining bytes of a buffer.
+   * @param buf Buffer, its position is moved to its limit.
+   * @return Heap buffer with the compressed bytes between position and limit.
+   * @throws IOException
+   */
+  public ByteBuffer compress(ByteBuffer buf) throws IOException {
+    long t0 = System.nanoTime();
+    int n = buf.remaining();
+    ByteBuffer ret = internalCompress(buf);
+    buf.position(buf.limit());
+    compressNanos.add(System.nanoTime() - t0);
+    compressCount.increment();
+    compressBytesIn.add(n);
+    compressBytesOut.add(ret.remaining());
+    return ret;
+  }
+
+  /**
+   * Decompress the remaining bytes of a buffer.
+   * @param buf Buffer with compressed bytes, its position is moved to its limit.
+   * @return Heap buffer with the decompressed bytes between position and limit.
+   * @throws IOException Data is corrupt.
+   */
+  public ByteBuffer decompress(ByteBuffer buf) throws IOException {
+    long t0 = System.nanoTime();
+    int n = buf.remaining();
+    ByteBuffer ret = internalDecompress(buf);
+    buf.position(buf.limit());
+    decompressNanos.add(System.nanoTime() - t0);
+    decompressCount.increment();
+    decompressBytesIn.add(n);
+    decompressBytesOut.add(ret.remaining());
+    return ret;
+  }
+
+  protected abstract ByteBuffer internalCompress(ByteBuffer buf) throws IOException;
+
+  protected abstract ByteBuffer internalDecompress(ByteBuffer buf) throws IOException;
+
+  /**
+   * Return the counters of this codec.
+   * @return Statistics
+   */
+  public Statistics getStatistics() {
+    Statistics s = new Statistics(name);
+    s.compressCount = compressCount.sum();
+    s.compressBytesIn = compressBytesIn.sum();
+    s.compressBytesOut = compressBytesOut.sum();
+    s.compressNanos = compressNanos.sum();
+    s.decompressCount = decompressCount.sum();
+    s.decompressBytesIn = decompressBytesIn.sum();
+    s.decompressBytesOut = decompressBytesOut.sum();
+    s.decompressNanos = decompressNanos.sum();
+    return s;
+  }
+
+  public void clearStatistics() {
+    compressCount.reset();
+    compressBytesIn.reset();
+    compressBytesOut.reset();
+    compressNanos.reset();
+    decompressCount.reset();
+    decompressBytesIn.reset();
+    decompressBytesOut.reset();
+    decompressNanos.reset();
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  /**
+   * Byte and time counters of a codec.
+   */
+  public static class Statistics {
+    public final String name;
+    public long compressCount;
+    public long compressBytesIn;
+    public long compressBytesOut;
+    public long compressNanos;
+    public long decompressCount;
+    public long decompressBytesIn;
+    public long decompressBytesOut;
+    public long decompressNanos;
+
+    public Statistics(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return "[" + name + ", compress=" + compressCount + "/" + compressBytesIn + "/" + compressBytesOut + "/" + (compressNanos / 1000000) + "ms"
+          + ", decompress=" + decompressCount + "/" + decompressBytesIn + "/" + decompressBytesOut + "/" + (decompressNanos / 1000000) + "ms]";
+    }
+  }
+}
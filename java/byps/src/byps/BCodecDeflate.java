@@ -0,0 +1,203 @@
+package byps;
+
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Codec for the zlib format (HTTP content coding "deflate").
+ *
+ * Deflater and Inflater objects allocate native memory which is expensive to
+ * create. They are kept in a bounded pool and reset after each message.
+ *
+ * Small messages compress poorly because the compressor has not seen enough
+ * data to find repetitions. If client and server share a preset dictionary
+ * that contains typical message content (e.g. class and member names of a JSON
+ * message), even small messages compress well. A codec with a dictionary must
+ * be registered under a different name than "deflate", see
+ * {@link BCodecs#register(BCodec)}.
+ */
+public class BCodecDeflate extends BCodec {
+
+  public final static String NAME = "deflate";
+
+  /**
+   * Maximum number of pooled Deflater and Inflater objects, each.
+   */
+  private final static int MAX_POOLED = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+  private final static int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+  private final int level;
+  private final byte[] dictionary;
+  private final boolean nowrap;
+
+  private final ArrayBlockingQueue<Deflater> deflaters = new ArrayBlockingQueue<Deflater>(MAX_POOLED);
+  private final ArrayBlockingQueue<Inflater> inflaters = new ArrayBlockingQueue<Inflater>(MAX_POOLED);
+
+  /**
+   * Constructor.
+   * @param level Compression level, see {@link Deflater#setLevel(int)}.
+   */
+  public BCodecDeflate(int level) {
+    this(NAME, level, null, false);
+  }
+
+  /**
+   * Constructor.
+   * @param name Codec name
+   * @param level Compression level, see {@link Deflater#setLevel(int)}.
+   * @param dictionary Preset dictionary or null.
+   */
+  public BCodecDeflate(String name, int level, byte[] dictionary) {
+    this(name, level, dictionary, false);
+  }
+
+  protected BCodecDeflate(String name, int level, byte[] dictionary, boolean nowrap) {
+    super(name);
+    if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+      throw new IllegalArgumentException("Invalid compression level=" + level);
+    }
+    this.level = level;
+    this.dictionary = dictionary != null ? dictionary.clone() : null;
+    this.nowrap = nowrap;
+  }
+
+  public int getLevel() {
+    return level;
+  }
+
+  @Override
+  protected ByteBuffer internalCompress(ByteBuffer buf) throws IOException {
+    int n = buf.remaining();
+    long bound = (long) n + (n >> 12) + (n >> 14) + (n >> 25) + 64;
+    byte[] arr = new byte[(int) Math.min(MAX_BUFFER_SIZE, bound)];
+
+    int pos = writeHeader(arr, buf);
+
+    Deflater def = deflaters.poll();
+    if (def == null) def = new Deflater(level, nowrap);
+    try {
+      if (dictionary != null) def.setDictionary(dictionary);
+      def.setInput(buf);
+      def.finish();
+      while (!def.finished()) {
+        if (pos == arr.length) arr = grow(arr);
+        pos += def.deflate(arr, pos, arr.length - pos);
+      }
+    }
+    finally {
+      releaseDeflater(def);
+    }
+
+    if (pos + getTrailerSize() > arr.length) arr = Arrays.copyOf(arr, pos + getTrailerSize());
+    pos = writeTrailer(arr, pos, n);
+    return ByteBuffer.wrap(arr, 0, pos);
+  }
+
+  @Override
+  protected ByteBuffer internalDecompress(ByteBuffer buf) throws IOException {
+    buf = readHeader(buf);
+
+    byte[] arr = new byte[(int) Math.min(MAX_BUFFER_SIZE, Math.max(256L, buf.remaining() * 4L))];
+    int len = 0;
+
+    Inflater inf = inflaters.poll();
+    if (inf == null) inf = new Inflater(nowrap);
+    try {
+      if (nowrap && dictionary != null) inf.setDictionary(dictionary);
+      inf.setInput(buf);
+      while (!inf.finished()) {
+        if (len == arr.length) arr = grow(arr);
+        int n = inf.inflate(arr, len, arr.length - len);
+        if (n == 0 && !inf.finished()) {
+          if (inf.needsDictionary()) {
+            if (dictionary == null) throw new ZipException("Compressed data requires a dictionary.");
+            inf.setDictionary(dictionary);
+          }
+          else if (inf.needsInput()) {
+            throw new ZipException("Unexpected end of compressed data.");
+          }
+        }
+        len += n;
+      }
+    }
+    catch (DataFormatException e) {
+      throw new ZipException(e.getMessage());
+    }
+    finally {
+      releaseInflater(inf);
+    }
+
+    readTrailer(buf, arr, len);
+    return ByteBuffer.wrap(arr, 0, len);
+  }
+
+  /**
+   * Write a header before the compressed data.
+   * @param arr Output array
+   * @param buf Uncompressed data, must not be modified.
+   * @return Header size
+   */
+  protected int writeHeader(byte[] arr, ByteBuffer buf) {
+    return 0;
+  }
+
+  protected int getTrailerSize() {
+    return 0;
+  }
+
+  /**
+   * Write a trailer after the compressed data.
+   * @param arr Output array
+   * @param pos Position behind the compressed data
+   * @param size Number of uncompressed bytes
+   * @return Position behind the trailer
+   */
+  protected int writeTrailer(byte[] arr, int pos, int size) {
+    return pos;
+  }
+
+  /**
+   * Skip the header.
+   * @param buf Compressed data
+   * @return Buffer positioned at the compressed data.
+   * @throws IOException Invalid header
+   */
+  protected ByteBuffer readHeader(ByteBuffer buf) throws IOException {
+    return buf;
+  }
+
+  /**
+   * Check the trailer.
+   * @param buf Buffer positioned behind the compressed data.
+   * @param arr Uncompressed data
+   * @param len Number of uncompressed bytes
+   * @throws IOException Invalid trailer
+   */
+  protected void readTrailer(ByteBuffer buf, byte[] arr, int len) throws IOException {
+  }
+
+  private static byte[] grow(byte[] arr) throws IOException {
+    if (arr.length >= MAX_BUFFER_SIZE) throw new IOException("Message too large.");
+    return Arrays.copyOf(arr, (int) Math.min(MAX_BUFFER_SIZE, arr.length * 2L));
+  }
+
+  private void releaseDeflater(Deflater def) {
+    def.reset();
+    if (!deflaters.offer(def)) def.end();
+  }
+
+  private void releaseInflater(Inflater inf) {
+    inf.reset();
+    if (!inflaters.offer(inf)) inf.end();
+  }
+
+}
@@ -0,0 +1,107 @@
+package byps;
+
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32;
+import java.util.zip.ZipException;
+
+/**
+ * Codec for the gzip format (HTTP content coding "gzip").
+ *
+ * This is the format that has always been used for JSON messages.
+ * In contrast to GZIPOutputStream and GZIPInputStream, the Deflater and Inflater
+ * objects are taken from the pool of {@link BCodecDeflate}.
+ */
+public class BCodecGzip extends BCodecDeflate {
+
+  public final static String NAME = "gzip";
+
+  private final static int GZIP_MAGIC = 0x8b1f;
+  private final static int HEADER_SIZE = 10;
+  private final static int TRAILER_SIZE = 8;
+
+  private final static int FHCRC = 2;
+  private final static int FEXTRA = 4;
+  private final static int FNAME = 8;
+  private final static int FCOMMENT = 16;
+
+  public BCodecGzip(int level) {
+    super(NAME, level, null, true);
+  }
+
+  @Override
+  protected int writeHeader(byte[] arr, ByteBuffer buf) {
+    arr[0] = (byte) GZIP_MAGIC;
+    arr[1] = (byte) (GZIP_MAGIC >> 8);
+    arr[2] = 8; // CM = deflate
+    // FLG, MTIME, XFL = 0, OS = unknown
+    arr[9] = (byte) 0xFF;
+    return HEADER_SIZE;
+  }
+
+  @Override
+  protected int getTrailerSize() {
+    return TRAILER_SIZE;
+  }
+
+  @Override
+  protected int writeTrailer(byte[] arr, int pos, int size) {
+    // CRC has been computed in internalCompress before the Deflater consumed the input.
+    ByteBuffer tbuf = ByteBuffer.wrap(arr, pos, TRAILER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    tbuf.putInt((int) crc.get().getValue());
+    tbuf.putInt(size);
+    return pos + TRAILER_SIZE;
+  }
+
+  @Override
+  protected ByteBuffer internalCompress(ByteBuffer buf) throws IOException {
+    CRC32 c = crc.get();
+    c.reset();
+    c.update(buf.duplicate());
+    return super.internalCompress(buf);
+  }
+
+  @Override
+  protected ByteBuffer readHeader(ByteBuffer buf) throws IOException {
+    buf = buf.slice().order(ByteOrder.LITTLE_ENDIAN);
+    try {
+      if ((buf.getShort() & 0xFFFF) != GZIP_MAGIC) throw new ZipException("Not in GZIP format.");
+      if (buf.get() != 8) throw new ZipException("Unsupported compression method.");
+      int flags = buf.get() & 0xFF;
+      buf.position(HEADER_SIZE);
+      if ((flags & FEXTRA) != 0) {
+        int n = buf.getShort() & 0xFFFF;
+        buf.position(buf.position() + n);
+      }
+      if ((flags & FNAME) != 0) {
+        while (buf.get() != 0);
+      }
+      if ((flags & FCOMMENT) != 0) {
+        while (buf.get() != 0);
+      }
+      if ((flags & FHCRC) != 0) {
+        buf.getShort();
+      }
+    }
+    catch (RuntimeException e) {
+      throw new ZipException("Invalid GZIP header.");
+    }
+    return buf;
+  }
+
+  @Override
+  protected void readTrailer(ByteBuffer buf, byte[] arr, int len) throws IOException {
+    if (buf.remaining() < TRAILER_SIZE) throw new ZipException("Unexpected end of compressed data.");
+    CRC32 c = crc.get();
+    c.reset();
+    c.update(arr, 0, len);
+    if (buf.getInt() != (int) c.getValue()) throw new ZipException("Corrupt GZIP trailer.");
+    if (buf.getInt() != len) throw new ZipException("Corrupt GZIP trailer.");
+  }
+
+  private final static ThreadLocal<CRC32> crc = ThreadLocal.withInitial(CRC32::new);
+
+}
@@ -0,0 +1,226 @@
+package byps;
+
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Fast codec in the LZ4 block format.
+ *
+ * Compression is several times faster than deflate at a lower compression ratio.
+ * It is suitable for large binary messages in fast networks.
+ *
+ * The compressed data starts with the number of uncompressed bytes as a 4 byte
+ * big endian integer followed by one LZ4 block. The decompressor checks all
+ * lengths and offsets, so that corrupt data cannot cause reads or writes outside
+ * of the buffers.
+ */
+public class BCodecLz4 extends BCodec {
+
+  public final static String NAME = "x-byps-lz4";
+
+  private final static int MIN_MATCH = 4;
+  private final static int LAST_LITERALS = 5;
+  private final static int MF_LIMIT = 12;
+  private final static int MAX_DISTANCE = 0xFFFF;
+  private final static int HASH_LOG = 12;
+  private final static int SKIP_STRENGTH = 6;
+  private final static int RUN_MASK = 15;
+  private final static int MAX_RATIO = 255;
+  private final static int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+  private final static ThreadLocal<int[]> hashTables = ThreadLocal.withInitial(() -> new int[1 << HASH_LOG]);
+
+  public BCodecLz4() {
+    super(NAME);
+  }
+
+  @Override
+  protected ByteBuffer internalCompress(ByteBuffer buf) throws IOException {
+    final int n = buf.remaining();
+    final byte[] src;
+    final int off;
+    if (buf.hasArray()) {
+      src = buf.array();
+      off = buf.arrayOffset() + buf.position();
+    }
+    else {
+      src = new byte[n];
+      buf.duplicate().get(src);
+      off = 0;
+    }
+
+    long bound = 4L + n + n / 255 + 16;
+    if (bound > MAX_BUFFER_SIZE) throw new IOException("Message too large.");
+    byte[] dst = new byte[(int) bound];
+    dst[0] = (byte) (n >>> 24);
+    dst[1] = (byte) (n >>> 16);
+    dst[2] = (byte) (n >>> 8);
+    dst[3] = (byte) n;
+    int dp = 4;
+
+    final int end = off + n;
+    int anchor = off;
+
+    if (n > MF_LIMIT) {
+      final int[] table = hashTables.get();
+      Arrays.fill(table, -1);
+
+      final int matchLimit = end - LAST_LITERALS;
+      final int mfLimit = end - MF_LIMIT;
+      int ip = off;
+
+      while (ip < mfLimit) {
+        int seq = readInt(src, ip);
+        int h = hash(seq);
+        int ref = table[h];
+        table[h] = ip;
+        if (ref < 0 || ip - ref > MAX_DISTANCE || readInt(src, ref) != seq) {
+          ip += 1 + ((ip - anchor) >>> SKIP_STRENGTH);
+          continue;
+        }
+
+        while (ip > anchor && ref > off && src[ip - 1] == src[ref - 1]) {
+          ip--;
+          ref--;
+        }
+
+        int matchLen = 0;
+        while (ip + matchLen < matchLimit && src[ip + matchLen] == src[ref + matchLen]) {
+          matchLen++;
+        }
+
+        dp = writeSequence(src, anchor, ip - anchor, ip - ref, matchLen, dst, dp);
+        ip += matchLen;
+        anchor = ip;
+      }
+    }
+
+    dp = writeLastLiterals(src, anchor, end - anchor, dst, dp);
+    return ByteBuffer.wrap(dst, 0, dp);
+  }
+
+  @Override
+  protected ByteBuffer internalDecompress(ByteBuffer buf) throws IOException {
+    final int n = buf.remaining();
+    final byte[] src;
+    int sp;
+    if (buf.hasArray()) {
+      src = buf.array();
+      sp = buf.arrayOffset() + buf.position();
+    }
+    else {
+      src = new byte[n];
+      buf.duplicate().get(src);
+      sp = 0;
+    }
+    final int send = sp + n;
+
+    if (n < 5) throw corrupt();
+    int len = ((src[sp] & 0xFF) << 24) | ((src[sp + 1] & 0xFF) << 16) | ((src[sp + 2] & 0xFF) << 8) | (src[sp + 3] & 0xFF);
+    sp += 4;
+    if (len < 0 || len > MAX_BUFFER_SIZE || len > (long) (n - 4) * MAX_RATIO) throw corrupt();
+
+    final byte[] dst = new byte[len];
+    int dp = 0;
+
+    while (true) {
+      if (sp >= send) throw corrupt();
+      int token = src[sp++] & 0xFF;
+
+      int litLen = token >>> 4;
+      if (litLen == RUN_MASK) {
+        int b;
+        do {
+          if (sp >= send) throw corrupt();
+          b = src[sp++] & 0xFF;
+          litLen += b;
+        } while (b == 255 && litLen >= 0);
+        if (litLen < 0) throw corrupt();
+      }
+      if (litLen > send - sp || litLen > len - dp) throw corrupt();
+      System.arraycopy(src, sp, dst, dp, litLen);
+      sp += litLen;
+      dp += litLen;
+
+      if (sp == send) break;
+
+      if (send - sp < 2) throw corrupt();
+      int offset = (src[sp] & 0xFF) | ((src[sp + 1] & 0xFF) << 8);
+      sp += 2;
+      if (offset == 0 || offset > dp) throw corrupt();
+
+      int matchLen = token & RUN_MASK;
+      if (matchLen == RUN_MASK) {
+        int b;
+        do {
+          if (sp >= send) throw corrupt();
+          b = src[sp++] & 0xFF;
+          matchLen += b;
+        } while (b == 255 && matchLen >= 0);
+        if (matchLen < 0) throw corrupt();
+      }
+      matchLen += MIN_MATCH;
+      if (matchLen < 0 || matchLen > len - dp) throw corrupt();
+
+      int mp = dp - offset;
+      if (offset >= matchLen) {
+        System.arraycopy(dst, mp, dst, dp, matchLen);
+        dp += matchLen;
+      }
+      else {
+        for (int i = 0; i < matchLen; i++) {
+          dst[dp++] = dst[mp++];
+        }
+      }
+    }
+
+    if (dp != len) throw corrupt();
+    return ByteBuffer.wrap(dst);
+  }
+
+  private static int writeSequence(byte[] src, int litOff, int litLen, int offset, int matchLen, byte[] dst, int dp) {
+    int ml = matchLen - MIN_MATCH;
+    int tp = dp++;
+    int token = (Math.min(litLen, RUN_MASK) << 4) | Math.min(ml, RUN_MASK);
+    if (litLen >= RUN_MASK) dp = writeLength(litLen - RUN_MASK, dst, dp);
+    System.arraycopy(src, litOff, dst, dp, litLen);
+    dp += litLen;
+    dst[dp++] = (byte) offset;
+    dst[dp++] = (byte) (offset >>> 8);
+    if (ml >= RUN_MASK) dp = writeLength(ml - RUN_MASK, dst, dp);
+    dst[tp] = (byte) token;
+    return dp;
+  }
+
+  private static int writeLastLiterals(byte[] src, int litOff, int litLen, byte[] dst, int dp) {
+    dst[dp++] = (byte) (Math.min(litLen, RUN_MASK) << 4);
+    if (litLen >= RUN_MASK) dp = writeLength(litLen - RUN_MASK, dst, dp);
+    System.arraycopy(src, litOff, dst, dp, litLen);
+    return dp + litLen;
+  }
+
+  private static int writeLength(int len, byte[] dst, int dp) {
+    while (len >= 255) {
+      dst[dp++] = (byte) 255;
+      len -= 255;
+    }
+    dst[dp++] = (byte) len;
+    return dp;
+  }
+
+  private static int readInt(byte[] arr, int pos) {
+    return (arr[pos] & 0xFF) | ((arr[pos + 1] & 0xFF) << 8) | ((arr[pos + 2] & 0xFF) << 16) | ((arr[pos + 3] & 0xFF) << 24);
+  }
+
+  private static int hash(int seq) {
+    return (seq * -1640531535) >>> (32 - HASH_LOG);
+  }
+
+  private static IOException corrupt() {
+    return new IOException("Corrupt LZ4 data.");
+  }
+
+}
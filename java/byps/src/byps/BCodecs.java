@@ -0,0 +1,200 @@
+package byps;
+
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of compression codecs.
+ *
+ * The client sends the names of its codecs in {@link BNegotiate#codecs}. The
+ * server selects the first name it supports and returns it in the negotiate
+ * response. Both sides compress messages with the selected codec, if the
+ * message is at least {@link #getMinSize()} bytes long. Smaller messages are
+ * sent uncompressed, because compression does not pay off for them.
+ *
+ * Codecs "x-byps-lz4", "deflate" and "gzip" are built in. Further codecs can be
+ * added by {@link #register(BCodec)} or as a service provider of {@link BCodec}
+ * (META-INF/services/byps.BCodec).
+ *
+ * System properties:
+ * <ul>
+ * <li>byps.compression.codecs: Comma separated list of codec names in the order of preference.
+ * Default: "x-byps-lz4,deflate,gzip". An empty value disables the negotiation of codecs.</li>
+ * <li>byps.compression.minSize: Messages smaller than this number of bytes are not compressed. Default: 1024.</li>
+ * <li>byps.compression.deflateLevel: Compression level of "deflate" and "gzip", 0 to 9 or -1 for the zlib default. Default: -1.</li>
+ * </ul>
+ */
+public class BCodecs {
+
+  private final static Logger log = LoggerFactory.getLogger(BCodecs.class);
+
+  public final static int DEFAULT_MIN_SIZE = 1024;
+
+  private final static ConcurrentHashMap<String, BCodec> codecs = new ConcurrentHashMap<String, BCodec>();
+
+  private static volatile String supportedNames;
+
+  private static volatile int minSize = Integer.parseInt(System.getProperty("byps.compression.minSize", Integer.toString(DEFAULT_MIN_SIZE)));
+
+  static {
+    int level = Integer.parseInt(System.getProperty("byps.compression.deflateLevel", Integer.toString(Deflater.DEFAULT_COMPRESSION)));
+    internalRegister(new BCodecLz4());
+    internalRegister(new BCodecDeflate(level));
+    internalRegister(new BCodecGzip(level));
+    try {
+      for (BCodec codec : ServiceLoader.load(BCodec.class)) {
+        internalRegister(codec);
+      }
+    }
+    catch (Throwable e) {
+      log.error("Failed to load codecs.", e);
+    }
+    setSupportedNames(System.getProperty("byps.compression.codecs", BCodecLz4.NAME + "," + BCodecDeflate.NAME + "," + BCodecGzip.NAME));
+  }
+
+  private static void internalRegister(BCodec codec) {
+    codecs.put(codec.getName().toLowerCase(), codec);
+  }
+
+  /**
+   * Add a codec.
+   * The codec is not offered in the negotiation before its name is passed to {@link #setSupportedNames(String)}.
+   * @param codec Codec
+   */
+  public static void register(BCodec codec) {
+    internalRegister(codec);
+  }
+
+  /**
+   * Find a codec.
+   * @param name Codec name, case insensitive.
+   * @return Codec or null, if name is null, empty or unknown.
+   */
+  public static BCodec get(String name) {
+    if (name == null || name.isEmpty()) return null;
+    return codecs.get(name.trim().toLowerCase());
+  }
+
+  /**
+   * Comma separated names of the codecs offered by the client in the order of preference.
+   * @return Names or an empty string.
+   */
+  public static String getSupportedNames() {
+    return supportedNames;
+  }
+
+  /**
+   * Set the codecs offered by the client.
+   * Unknown names are ignored.
+   * @param names Comma separated names in the order of preference.
+   */
+  public static void setSupportedNames(String names) {
+    StringBuilder sbuf = new StringBuilder();
+    if (names != null) {
+      for (String name : names.split(",")) {
+        BCodec codec = get(name);
+        if (codec == null) continue;
+        if (sbuf.length() != 0) sbuf.append(",");
+        sbuf.append(codec.getName());
+      }
+    }
+    supportedNames = sbuf.toString();
+  }
+
+  public static int getMinSize() {
+    return minSize;
+  }
+
+  public static void setMinSize(int v) {
+    minSize = v;
+  }
+
+  /**
+   * Select a codec from the names offered by the client.
+   * Called by the server while processing the negotiate message.
+   * @param clientNames Comma separated names or null, if the client does not support codecs.
+   * @return Name of the first supported codec, an empty string if no codec is supported,
+   * or null if clientNames is null.
+   */
+  public static String negotiate(String clientNames) {
+    if (clientNames == null) return null;
+    for (String name : clientNames.split(",")) {
+      BCodec codec = get(name);
+      if (codec != null) return codec.getName();
+    }
+    return "";
+  }
+
+  /**
+   * Return the codec to compress a message of the given size.
+   * @param codec Negotiated codec or null.
+   * @param size Message size in bytes
+   * @return Codec or null, if the message should not be compressed.
+   */
+  public static BCodec getForSize(BCodec codec, int size) {
+    return size >= minSize ? codec : null;
+  }
+
+  /**
+   * Select the codec to compress a response from an HTTP Accept-Encoding header.
+   * The first known codec in the header is used. Quality values are ignored.
+   * @param acceptEncoding Value of the Accept-Encoding header or null.
+   * @param size Message size in bytes
+   * @return Codec or null, if the message should not be compressed.
+   */
+  public static BCodec getForAcceptEncoding(String acceptEncoding, int size) {
+    if (acceptEncoding == null || size < minSize) return null;
+    for (String item : acceptEncoding.split(",")) {
+      int p = item.indexOf(';');
+      BCodec codec = get(p >= 0 ? item.substring(0, p) : item);
+      if (codec != null) return codec;
+    }
+    return null;
+  }
+
+  /**
+   * Read a message body and decompress it.
+   * @param is Stream
+   * @param contentEncoding Value of the Content-Encoding header or null.
+   * @param contentLength Number of bytes in the stream or -1, if unknown.
+   * @return Decompressed message
+   * @throws IOException
+   */
+  public static ByteBuffer bufferFromStream(InputStream is, String contentEncoding, long contentLength) throws IOException {
+    BCodec codec = get(contentEncoding);
+    if (codec == null) {
+      return BWire.bufferFromStream(is, null, contentLength);
+    }
+    ByteBuffer buf = BWire.bufferFromStream(is, Boolean.FALSE, contentLength);
+    return codec.decompress(buf);
+  }
+
+  /**
+   * Counters of all registered codecs.
+   * @return Map of codec name to statistics.
+   */
+  public static Map<String, BCodec.Statistics> getStatistics() {
+    Map<String, BCodec.Statistics> ret = new LinkedHashMap<String, BCodec.Statistics>();
+    for (BCodec codec : codecs.values()) {
+      ret.put(codec.getName(), codec.getStatistics());
+    }
+    return ret;
+  }
+
+  public static void clearStatistics() {
+    for (BCodec codec : codecs.values()) {
+      codec.clearStatistics();
+    }
+  }
+}
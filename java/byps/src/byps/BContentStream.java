@@ -2,6 +2,7 @@ package byps;
 
 /* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
@@ -227,6 +228,15 @@ public abstract class BContentStream extends InputStream {
 		return exp;
 	}
 	
+	/**
+	 * Returns the time when the stream expires.
+	 * This function is only used on the provider side.
+	 * @return Time in milliseconds since 1970, Long.MAX_VALUE if the stream has no lifetime.
+	 */
+	public long getExpirationMillis() {
+		return lifetimeMillis > 0 ? bestBefore : Long.MAX_VALUE;
+	}
+	
 	/**
 	 * Set the stream expired.
 	 * This function is called on the server side if the associated message is finished. 
@@ -452,6 +462,18 @@ public abstract class BContentStream extends InputStream {
     throw new UnsupportedOperationException();
   }
   
+  /**
+   * Return the file that contains the bytes of this stream.
+   * The stream must not have been read so far. 
+   * If a file is returned, the server sends the bytes directly from the file 
+   * and supports byte range requests for this stream. 
+   * @return File or null, if the stream is not backed by a file.
+   * @throws IOException
+   */
+  public File getFile() throws IOException {
+    return null;
+  }
+  
   @Override
   public void close() throws IOException {
     setExpired();
@@ -30,6 +30,11 @@ public class BContentStreamWrapper extends BContentStream {
 	 */
 	protected volatile InputStream innerStream;
 	
+	/**
+	 * File passed to the constructor or null.
+	 */
+	private File file;
+	
 	static
 	{
 	  ensureMimeTypesOnMacOS();
@@ -71,6 +76,7 @@ public class BContentStreamWrapper extends BContentStream {
 	  super(getFileContentType(file), file.length());
 	  innerStream = new BufferedInputStream(new FileInputStream(file));
 	  setContentDisposition(file.getName(), false);
+	  this.file = file;
 	}
 	
   public BContentStreamWrapper(ByteArrayInputStream is, String contentType) {
@@ -313,6 +319,16 @@ public class BContentStreamWrapper extends BContentStream {
 		return ensureStream().skip(n);
 	}
 	
+	@Override
+	public File getFile() throws IOException {
+	  if (file != null) return file;
+	  InputStream is = ensureStream();
+	  if (is instanceof BContentStream) {
+	    return ((BContentStream)is).getFile();
+	  }
+	  return null;
+	}
+	
 	public boolean positionSupported() {
 	  try {
       InputStream is = ensureStream();
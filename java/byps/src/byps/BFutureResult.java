@@ -0,0 +1,38 @@
+package byps;
+
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A CompletableFuture that receives the result of a remote call.
+ *
+ * The future is completed in the thread that receives the response, which is
+ * usually an I/O thread of the transport. Dependent stages added with e.g.
+ * {@link #thenApply(java.util.function.Function)} run in this thread too.
+ * Time-consuming stages should be added with the *Async variants.
+ *
+ * Objects of this class are used in the generated *Async methods of remote
+ * interfaces:
+ * <pre>
+ * CompletableFuture&lt;Integer&gt; f = remote.addAsync(1, 2);
+ * </pre>
+ *
+ * @param <T> The method's result type.
+ */
+public class BFutureResult<T> extends CompletableFuture<T> implements BAsyncResult<T> {
+
+  public BFutureResult() {
+  }
+
+  @Override
+  public void setAsyncResult(T result, Throwable e) {
+    if (e != null) {
+      completeExceptionally(e);
+    }
+    else {
+      complete(result);
+    }
+  }
+
+}
@@ -3,55 +3,63 @@ package byps;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Map class that supports concurrent access.
  *
+ * The map is backed by a ConcurrentHashMap. Reading does not lock, so
+ * many threads can look up entries at the same time, e.g. the session
+ * of each incoming message in {@code HHttpServlet}.
+ * Null keys and values are not stored: {@link #get(Object)} returns null
+ * for a null key and {@link #put(Object, Object)} with a null value removes
+ * the key.
+ *
  * @param <K>
  * @param <V>
  */
 public class BHashMap<K, V> implements Serializable {
-  
+
   private static final long serialVersionUID = BRegistry.TYPEID_MAP;
-  private HashMap<K, V> map = new HashMap<K,V>();
+  private final ConcurrentHashMap<K, V> map = new ConcurrentHashMap<K,V>();
 
   public BHashMap() {
   }
-  
-  public synchronized V get(K key) {
-    return map.get(key);
-  }
-  
-  public synchronized void put(K k, V v) {
-    map.put(k, v);
-  }
-  
-  public synchronized V remove(K k) {
-    return map.remove(k);
+
+  public V get(K key) {
+    return key != null ? map.get(key) : null;
   }
-  
-  public synchronized V putIfAbsent(K k, V v) {
-    V c = map.get(k);
-    if (c == null) {
+
+  public void put(K k, V v) {
+    if (v != null) {
       map.put(k, v);
     }
-    return c;
+    else if (k != null) {
+      map.remove(k);
+    }
   }
-  
-  public synchronized Collection<K> keys() {
+
+  public V remove(K k) {
+    return k != null ? map.remove(k) : null;
+  }
+
+  public V putIfAbsent(K k, V v) {
+    return map.putIfAbsent(k, v);
+  }
+
+  public Collection<K> keys() {
     return new ArrayList<K>(map.keySet());
   }
-  
-  public synchronized Collection<V> values() {
+
+  public Collection<V> values() {
     return new ArrayList<V>(map.values());
   }
 
-  public synchronized void clear() {
+  public void clear() {
     map.clear();
   }
 
-  public synchronized int size() {
+  public int size() {
     return map.size();
   }
 }
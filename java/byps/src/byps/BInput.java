@@ -1,30 +1,34 @@
 package byps;
 
-import java.util.HashMap;
-import java.util.Map;
-
-
-
 public abstract class BInput {
 	
 	public final BMessageHeader header;
 	public final BTransport transport;
 	public final BRegistry registry;
-	protected final Map<Integer,Object> idMap;
-	protected Integer currentId;
+	protected final BObjTable idMap;
+	
+	/**
+	 * Position of the object that is currently deserialized or 0 for inline instances.
+	 */
+	protected int currentId;
+	
+	/**
+	 * Objects already prepared in {@link #prepareForLazyLoading(Object, BSerializer)}.
+	 */
+	private BObjMap lazyLoadingObjs;
 	
 	public BInput(BMessageHeader header, BTransport transport, BRegistry registry) {
 		super();
 		this.header = header != null ? header : new BMessageHeader();
 		this.transport = transport;
 		this.registry = registry;
-		this.idMap = new HashMap<Integer,Object>();
+		this.idMap = new BObjTable();
 	}
 	
 	public abstract Object load() throws BException;
 	
 	public Object onObjectCreated(Object obj) {
-		if (currentId != null) {
+		if (currentId != 0) {
 			idMap.put(currentId, obj);
 		}
     
@@ -46,8 +50,9 @@ public abstract class BInput {
     if (obj != null) {
 
       // Memorize the object to avoid recursion.
-      Integer dummyValue = Integer.valueOf(0);
-      if (idMap.putIfAbsent(System.identityHashCode(obj), dummyValue) == null) {
+      if (lazyLoadingObjs == null) lazyLoadingObjs = new BObjMap();
+      if (lazyLoadingObjs.get(obj) == BObjMap.NOT_FOUND) {
+        lazyLoadingObjs.put(obj, 1);
 
         // Get serializer object if not supplied.
         if (ser == null) {
@@ -62,7 +67,7 @@ public abstract class BInput {
   }
   
   public int getNbOfObjects() {
-    return idMap.size();
+    return idMap.size() + (lazyLoadingObjs != null ? lazyLoadingObjs.size() : 0);
   }
 	
 }
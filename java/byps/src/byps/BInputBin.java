@@ -19,6 +19,7 @@ public abstract class BInputBin extends BInput {
 		if (header.messageId == 0) {
 			header.read(bbuf.buf);
 		}
+		bbuf.setBulkArrays(header.bversion >= BMessageHeader.BYPS_VERSION_BULK_ARRAYS);
 		if (header.error != 0) {
 			Throwable ex = (Throwable)readObj(false, null);
 			if (ex instanceof BException) throw (BException)ex;
@@ -144,7 +144,7 @@ public class BInputJson extends BInput {
 		}
 		
 		// Create and read Java object by information in this.currentObj
-		currentId = id;
+		currentId = id != null ? id : 0;
 		obj = ser.read(null, this, header.version);
 			// idMap.put(currentId, obj); has to be done in BSerializer.read() by calling onObjectCreated
 		
@@ -3,7 +3,6 @@ package byps;
 /* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
 
 import java.nio.ByteBuffer;
-import java.util.Map;
 
 public class BInputS extends BInputBin {
 
@@ -16,16 +15,19 @@ public class BInputS extends BInputBin {
 		Object obj = null;
 		
 		if (ser != null && ser.inlineInstance) {
-			currentId = null;
+			currentId = 0;
 			obj = ser.read(null, this, header.version);
 			return obj;
 		}
 
-		Map<Integer, Object> idMap = isUnique ? null : this.idMap;
+		BObjTable idMap = isUnique ? null : this.idMap;
 		
 		int id = bbuf.getPointer();
 		if (id > 0) {
 			
+			// Each object occupies at least one byte in the stream.
+			if (id > bbuf.limit()) throw new BException(BExceptionC.CORRUPT, "Invalid object ID at stream position " + bbuf.position());
+			
 			// Read type and size from stream
 			int typeId = bbuf.getTypeId();
 			if (typeId < 0) throw new BException(BExceptionC.CORRUPT, "Invalid type ID at stream position " + bbuf.position());
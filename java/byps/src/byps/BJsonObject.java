@@ -7,25 +7,71 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
+/**
+ * Parsed JSON object or array.
+ * 
+ * The members of an object are kept in the order of the JSON text.
+ * Generated serializers read the members in the order they were written,
+ * so {@link #get(String)} first compares the name with the member following 
+ * the one found last. Members accessed out of order are searched, 
+ * larger objects build a hash index for this purpose on demand.
+ */
 public class BJsonObject {
 	
-	final HashMap<String,Object> map;
+	final String[] names;
+	final Object[] values;
+	final int count;
 	final ArrayList<Object> arr;
+	
+	/**
+	 * Index of the member expected to be accessed next. 
+	 */
+	private int next;
+	
+	/**
+	 * Index of member names, created on the first out of order access to a large object. 
+	 */
+	private HashMap<String,Integer> index;
+	
+	private final static int MAX_LINEAR_SEARCH = 8;
 
 	public BJsonObject(HashMap<String,Object> map) {
-		this.map = map;
+		this.count = map.size();
+		this.names = map.keySet().toArray(new String[count]);
+		this.values = new Object[count];
+		for (int i = 0; i < count; i++) {
+			values[i] = map.get(names[i]);
+		}
+		this.arr = null;
+	}
+	
+	/**
+	 * Constructor used by the parser.
+	 * @param names Member names, the array is not copied.
+	 * @param values Member values, the array is not copied.
+	 * @param count Number of members.
+	 */
+	BJsonObject(String[] names, Object[] values, int count) {
+		this.names = names;
+		this.values = values;
+		this.count = count;
 		this.arr = null;
 	}
 	
 	public BJsonObject(ArrayList<Object> arr) {
 		this.arr = arr;
-		this.map = null;
+		this.names = null;
+		this.values = null;
+		this.count = 0;
 	}
 	
 	public BJsonObject() {
-		map = null;
+		names = null;
+		values = null;
+		count = 0;
 		arr = null;
 	}
 	
@@ -34,11 +80,42 @@ public class BJsonObject {
 	}
 	
 	public Set<String> keys() {
-		return map.keySet();
+		LinkedHashSet<String> keys = new LinkedHashSet<String>(count);
+		for (int i = 0; i < count; i++) {
+			keys.add(names[i]);
+		}
+		return keys;
 	}
 	
 	public final Object get(String name) {
-		return map != null ? map.get(name) : null;
+		if (name == null) return null;
+		int i = next;
+		if (i < count && name.equals(names[i])) {
+			next = i + 1;
+			return values[i];
+		}
+		i = indexOf(name);
+		if (i < 0) return null;
+		next = i + 1;
+		return values[i];
+	}
+	
+	private int indexOf(String name) {
+		if (count <= MAX_LINEAR_SEARCH) {
+			// Search backwards: the last member wins, if a name occurs twice.
+			for (int i = count - 1; i >= 0; i--) {
+				if (name.equals(names[i])) return i;
+			}
+			return -1;
+		}
+		if (index == null) {
+			index = new HashMap<String,Integer>(count * 2);
+			for (int i = 0; i < count; i++) {
+				index.put(names[i], i);
+			}
+		}
+		Integer i = index.get(name);
+		return i != null ? i : -1;
 	}
 	
 	public final Object get(int i) {
@@ -0,0 +1,98 @@
+package byps;
+
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Several binary messages sent in one message.
+ *
+ * A batch consists of a message header with {@link BMessageHeader#FLAG_BATCH},
+ * followed by the number of messages and, for each message, its length and its
+ * bytes including the message header. The header of the batch is a copy of the
+ * header of the first message.
+ *
+ * Batches are used to pass several reverse requests in the response of one long-poll
+ * and to return their results in the next long-poll. JSON messages are not batched.
+ */
+public class BMessageBatch {
+
+  /**
+   * Space for the batch header.
+   */
+  private final static int HEADER_CAPACITY = 128;
+
+  /**
+   * Join binary messages.
+   * @param msgs Messages, their buffers are not modified.
+   * @return Batch message
+   */
+  public static BMessage join(List<BMessage> msgs) {
+    BMessageHeader header = new BMessageHeader(msgs.get(0).header);
+    header.flags |= BMessageHeader.FLAG_BATCH;
+
+    int capacity = HEADER_CAPACITY + 4;
+    for (BMessage msg : msgs) {
+      capacity += 4 + msg.buf.remaining();
+    }
+
+    ByteBuffer buf = BBufferPool.allocate(capacity);
+    header.writeBin(buf);
+    buf.putInt(msgs.size());
+    for (BMessage msg : msgs) {
+      buf.putInt(msg.buf.remaining());
+      buf.put(msg.buf.duplicate());
+    }
+    buf.flip();
+
+    return new BMessage(header, buf, null);
+  }
+
+  /**
+   * Split a batch message.
+   * @param batch Batch message, its header has already been read from its buffer.
+   * @return Messages, their headers have already been read.
+   * @throws BException {@link BExceptionC#CORRUPT}, if the batch is invalid.
+   */
+  public static List<BMessage> split(BMessage batch) throws BException {
+    ByteBuffer buf = batch.buf;
+    int count = buf.getInt();
+    if (count < 0 || count > buf.remaining() / 4) throw new BException(BExceptionC.CORRUPT, "Invalid message batch.");
+
+    List<BMessage> msgs = new ArrayList<BMessage>(count);
+    for (int i = 0; i < count; i++) {
+      int length = buf.getInt();
+      if (length < 0 || length > buf.remaining()) throw new BException(BExceptionC.CORRUPT, "Invalid message batch.");
+
+      ByteBuffer mbuf;
+      if (buf.hasArray()) {
+        mbuf = ByteBuffer.wrap(buf.array(), buf.arrayOffset() + buf.position(), length);
+      }
+      else {
+        mbuf = ByteBuffer.allocate(length);
+        ByteBuffer src = buf.duplicate();
+        src.limit(src.position() + length);
+        mbuf.put(src);
+        mbuf.flip();
+      }
+      buf.position(buf.position() + length);
+
+      BMessageHeader header = new BMessageHeader();
+      header.read(mbuf);
+      msgs.add(new BMessage(header, mbuf, null));
+    }
+
+    return msgs;
+  }
+
+  /**
+   * Check whether a message is a batch.
+   * @param header Message header
+   * @return true, if the message body contains several messages.
+   */
+  public static boolean isBatch(BMessageHeader header) {
+    return (header.flags & BMessageHeader.FLAG_BATCH) != 0;
+  }
+}
@@ -32,7 +32,13 @@ public class BMessageHeader {
   public final static int BYPS_VERSION_EXTENDED_STREAM_INFORMATION = 1;
   public final static int BYPS_VERSION_ENCRYPTED_TARGETID = 2;
   public final static int BYPS_VERSION_WITH_SESSIONID = 3;
-  public static int BYPS_VERSION_CURRENT = BYPS_VERSION_WITH_SESSIONID;
+  
+  /**
+   * Elements of int[] and long[] are serialized as fixed size values instead of compressed values.
+   * See {@link BBufferBin#putArrayInt(int[])}.
+   */
+  public final static int BYPS_VERSION_BULK_ARRAYS = 4;
+  public static int BYPS_VERSION_CURRENT = BYPS_VERSION_BULK_ARRAYS;
 		
 	public final static int FLAG_BYPS_VERSION = 1;
 	public final static int FLAG_RESPONSE = 2; 
@@ -46,7 +52,19 @@ public class BMessageHeader {
 	 * @since 5.28
 	 */
 	public static final int FLAG_POLL_PROCESSING = 8;
-	
+
+	/**
+	 * This flag indicates that the message body contains several messages.
+	 * See {@link BMessageBatch}.
+	 */
+	public static final int FLAG_BATCH = 16;
+
+	/**
+	 * A long-poll with this flag accepts several reverse requests in its response.
+	 * Peers that do not know this flag ignore it and never receive a batch.
+	 */
+	public static final int FLAG_ACCEPT_BATCH = 32;
+
 	public final static int SESSIONID_LENGTH = 16;
 	
 	public int magic;
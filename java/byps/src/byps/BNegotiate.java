@@ -9,7 +9,7 @@ import java.nio.ByteOrder;
 /**
  * 
  * Negotiate request consists of:
- * ["N","SCJ","version","{B,L,_}", "targetId", "bversion"]
+ * ["N","SCJ","version","{B,L,_}", "targetId", "bversion", "sessionId", "codecs", "transports"]
  *
  */
 public class BNegotiate {
@@ -27,6 +27,25 @@ public class BNegotiate {
 	public int bversion;
 	public String sessionId = BTargetId.SESSIONID_ZERO;
 	
+	/**
+	 * Compression codecs.
+	 * The client sends the comma separated names of the codecs it supports.
+	 * The server answers with the selected codec name or an empty string.
+	 * Null, if the peer does not support codecs.
+	 * @see BCodecs
+	 */
+	public String codecs;
+	
+	/**
+	 * Alternative transports.
+	 * The client sends the comma separated names of the transports it supports 
+	 * in addition to HTTP, e.g. "websocket". 
+	 * The server answers with the selected transport or an empty string.
+	 * Null, if the peer does not support alternative transports.
+	 * @see BWire#getTransports()
+	 */
+	public String transports;
+	
 	public BNegotiate() {
 	}
 	
@@ -37,6 +56,8 @@ public class BNegotiate {
 	  this.targetId = rhs.targetId;
 	  this.bversion = rhs.bversion;
 	  this.sessionId = rhs.sessionId;
+	  this.codecs = rhs.codecs;
+	  this.transports = rhs.transports;
 	}
 
 	/**
@@ -49,6 +70,7 @@ public class BNegotiate {
 		this.version = apiDesc.version;
 		this.protocols = apiDesc.getProtocolIds();
 		this.bversion = BMessageHeader.BYPS_VERSION_CURRENT;
+		this.codecs = BCodecs.getSupportedNames();
 	}
 	
 	/**
@@ -127,6 +149,14 @@ public class BNegotiate {
 		
 		if (sessionId != null) {
 		  bbuf.putString(sessionId);
+		  
+		  if (codecs != null || transports != null) {
+		    bbuf.putString(codecs != null ? codecs : "");
+		    
+		    if (transports != null) {
+		      bbuf.putString(transports);
+		    }
+		  }
 		}
 		
 		bbuf.endArray();
@@ -178,6 +208,12 @@ public class BNegotiate {
 		
     if (bbuf.nextJsonChar(true) == ',') {
       sessionId = bbuf.getString();
+      
+      // Compression codecs
+      codecs = bbuf.nextJsonChar(true) == ',' ? bbuf.getString() : null;
+      
+      // Alternative transports
+      transports = (codecs != null && bbuf.nextJsonChar(true) == ',') ? bbuf.getString() : null;
     }
     else if (bversion >= BMessageHeader.BYPS_VERSION_WITH_SESSIONID) {
       bversion = BMessageHeader.BYPS_VERSION_WITH_SESSIONID-1;
@@ -1,78 +1,154 @@
 package byps;
 
-import java.util.ArrayList;
-
 /* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
 
+/**
+ * Maps objects to their positions in the pointer table of a message.
+ *
+ * Objects are compared by identity. The map is an open addressing hash table
+ * with linear probing on the identity hash code. Keys and positions are held
+ * in two arrays, so that put and get do not allocate any objects.
+ *
+ * BYPS-53: System.identityHashCode is not unique (there were around 260 collisions
+ * per 1000000 objects in a synthetic test). Thus the keys are always compared
+ * with the == operator.
+ */
 public class BObjMap {
 
-	public void put(Object obj, Integer pos) {
-		int key = System.identityHashCode(obj);
-		map
-		    .computeIfAbsent(key, k -> new ArrayList<>(3))
-		    // BYPS-53: to identify the object's position correctly we remember the
-		    // reference to the object itself
-		    .add(new ObjectEntry(obj, pos));
-	}
+	/**
+	 * Return value of {@link #get(Object)} if the object is not in the map.
+	 * Positions start at 1.
+	 */
+	public final static int NOT_FOUND = 0;
 
-	public Integer get(Object obj) {
-		int key = System.identityHashCode(obj);
+	private final static int INITIAL_CAPACITY = 64;
 
-		List<ObjectEntry> l = map.get(key);
-		if (l == null)
-			return null;
+	/**
+	 * Tables larger than this are released in {@link #clear()}.
+	 * Smaller tables are kept for the next message.
+	 */
+	private final static int MAX_RETAINED_CAPACITY = 1 << 16;
+
+	public BObjMap() {
+		allocate(INITIAL_CAPACITY);
+	}
 
-		// BYPS-53: search the list for the the given object
-		for (ObjectEntry h : l) {
-			// explicitly check for object identity in case of identityHashCode collisions
-			if (h != null && h.obj == obj)
-				return h.position;
+	public void put(Object obj, int pos) {
+		if (size >= threshold) {
+			rehash(keys.length << 1);
 		}
 
-		return null;
+		int mask = keys.length - 1;
+		int i = hash(obj) & mask;
+		Object k;
+		while ((k = keys[i]) != null) {
+			if (k == obj) {
+				positions[i] = pos;
+				return;
+			}
+			i = (i + 1) & mask;
+		}
+
+		keys[i] = obj;
+		positions[i] = pos;
+		size++;
+	}
+
+	/**
+	 * Return the position of the object.
+	 * @param obj Object
+	 * @return Position or {@link #NOT_FOUND}
+	 */
+	public int get(Object obj) {
+		int mask = keys.length - 1;
+		int i = hash(obj) & mask;
+		Object k;
+		while ((k = keys[i]) != null) {
+			if (k == obj) return positions[i];
+			i = (i + 1) & mask;
+		}
+		return NOT_FOUND;
 	}
 
+	/**
+	 * Remove all objects.
+	 * The table is kept to be reused for the next message.
+	 */
 	public void clear() {
-		map.clear();
+		if (size == 0) return;
+		if (keys.length > MAX_RETAINED_CAPACITY) {
+			allocate(INITIAL_CAPACITY);
+		}
+		else {
+			Arrays.fill(keys, null);
+		}
+		size = 0;
 	}
 
 	@Override
 	public String toString() {
-		return map.toString();
+		StringBuilder sbuf = new StringBuilder();
+		sbuf.append("{");
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] == null) continue;
+			if (sbuf.length() > 1) sbuf.append(", ");
+			sbuf.append(positions[i]).append("=").append(keys[i].getClass().getName()).append("@")
+				.append(Integer.toHexString(System.identityHashCode(keys[i])));
+		}
+		sbuf.append("}");
+		return sbuf.toString();
 	}
 
 	public int size() {
-		return map.size();
+		return size;
 	}
 
 	/**
-	 * Maps the identity hash code of an object to its position in the pointer
-	 * table.
-	 *
-	 * BYPS-53: Use a {@link List} as value to not override the position of an other
-	 * object with the same identity hash code. Using System.identityHashCode as key
-	 * caused collisions (there were around 260 collisions per 1000000 objects in a
-	 * synthetic test). Thus we use some kind of a multi-valued map to avoid
-	 * overriding values.
+	 * Spread the identity hash code over the lower bits used as table index.
 	 */
-	private Map<Integer, List<ObjectEntry>> map = new HashMap<>();
+	private static int hash(Object obj) {
+		int h = System.identityHashCode(obj) * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
 
-	/**
-	 * Container to map an object's reference to a position. Used as Type in the
-	 * enclosing class' map.
-	 */
-	private class ObjectEntry {
-		/** Reference to the {@link Object} stored in {@link BObjMap#map} */
-		private final Object obj;
-		private final Integer position;
-
-		private ObjectEntry(Object obj, Integer position) {
-			this.obj = obj;
-			this.position = position;
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		positions = new int[capacity];
+		threshold = capacity >> 1;
+	}
+
+	private void rehash(int capacity) {
+		Object[] oldKeys = keys;
+		int[] oldPositions = positions;
+		allocate(capacity);
+
+		int mask = capacity - 1;
+		for (int j = 0; j < oldKeys.length; j++) {
+			Object obj = oldKeys[j];
+			if (obj == null) continue;
+			int i = hash(obj) & mask;
+			while (keys[i] != null) {
+				i = (i + 1) & mask;
+			}
+			keys[i] = obj;
+			positions[i] = oldPositions[j];
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Objects, null for unused slots.
+	 * Load factor is 0.5 to keep the probe sequences short.
+	 */
+	private Object[] keys;
+
+	/**
+	 * Positions of the objects at the same index in {@link #keys}.
+	 */
+	private int[] positions;
+
+	private int size;
+
+	private int threshold;
+}
@@ -0,0 +1,71 @@
+package byps;
+
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.util.Arrays;
+
+/**
+ * Maps the positions in the pointer table of a message to the deserialized objects.
+ *
+ * Positions are assigned in ascending order starting at 1 by {@link BOutput}.
+ * Hence the objects are stored in an array indexed by position which grows as needed.
+ */
+public class BObjTable {
+
+	private final static int INITIAL_CAPACITY = 64;
+
+	/**
+	 * Tables larger than this are released in {@link #clear()}.
+	 * Smaller tables are kept for the next message.
+	 */
+	private final static int MAX_RETAINED_CAPACITY = 1 << 16;
+
+	public BObjTable() {
+		objs = new Object[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Set the object at the given position.
+	 * @param pos Position, must be greater than 0.
+	 * @param obj Object
+	 */
+	public void put(int pos, Object obj) {
+		if (pos >= objs.length) {
+			objs = Arrays.copyOf(objs, Math.max(pos + 1, objs.length << 1));
+		}
+		if (objs[pos] == null) size++;
+		objs[pos] = obj;
+	}
+
+	/**
+	 * Get the object at the given position.
+	 * @param pos Position
+	 * @return Object or null, if no object has been put at this position.
+	 */
+	public Object get(int pos) {
+		return pos > 0 && pos < objs.length ? objs[pos] : null;
+	}
+
+	/**
+	 * Remove all objects.
+	 * The table is kept to be reused for the next message.
+	 */
+	public void clear() {
+		if (size == 0) return;
+		if (objs.length > MAX_RETAINED_CAPACITY) {
+			objs = new Object[INITIAL_CAPACITY];
+		}
+		else {
+			Arrays.fill(objs, null);
+		}
+		size = 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	private Object[] objs;
+
+	private int size;
+}
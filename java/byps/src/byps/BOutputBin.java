@@ -14,11 +14,13 @@ public abstract class BOutputBin extends BOutput {
 	public BOutputBin(BTransport transport, BMessageHeader requestHeader) {
 		super(transport, transport.getApiDesc().getRegistry(BProtocolS.BINARY_MODEL), requestHeader);
 		this.bbuf = (BBufferBin)BBuffer.create(BBinaryModel.MEDIUM, null);
+		this.bbuf.setBulkArrays(header.bversion >= BMessageHeader.BYPS_VERSION_BULK_ARRAYS);
 	}
 
 	public BOutputBin(BTransport transport, int streamHeaderMagic, int negotiatedBypsVersion, long negotiatedVersion, ByteOrder negotiatedByteOrder) {
 		super(transport, transport.getApiDesc().getRegistry(BProtocolS.BINARY_MODEL), streamHeaderMagic, negotiatedBypsVersion, negotiatedVersion, negotiatedByteOrder);
 		this.bbuf = (BBufferBin)BBuffer.create(BBinaryModel.MEDIUM, null);
+		this.bbuf.setBulkArrays(header.bversion >= BMessageHeader.BYPS_VERSION_BULK_ARRAYS);
 	}
 	
 	@Override
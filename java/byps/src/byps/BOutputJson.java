@@ -19,15 +19,13 @@ public class BOutputJson extends BOutput {
 		    0, 
 		    ByteOrder.BIG_ENDIAN);
 		this.objMap = new BObjMap();
-		ByteBuffer buf = ByteBuffer.allocate(10 * 1000);
-		this.bbuf = new BBufferJson(buf);
+		this.bbuf = new BBufferJson(null);
 	}
 	
 	public BOutputJson(BTransport transport, BMessageHeader requestHeader) {
 		super(transport, transport.getApiDesc().getRegistry(BProtocolJson.BINARY_MODEL), requestHeader);
 		this.objMap = new BObjMap();
-		ByteBuffer buf = ByteBuffer.allocate(10 * 1000);
-		this.bbuf = new BBufferJson(buf);
+		this.bbuf = new BBufferJson(null);
 	}
 	
 	@Override
@@ -115,8 +113,8 @@ public class BOutputJson extends BOutput {
 				// Es ist ein Array Element
 			}
 			
-			Integer id_o = objMap.get(obj); 
-			if (id_o != null) {
+			int id_o = objMap.get(obj); 
+			if (id_o != BObjMap.NOT_FOUND) {
 				bbuf.putRef(id_o); // write { "*i":-123 }
 			}
 			else {
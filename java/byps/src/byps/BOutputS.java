@@ -40,8 +40,8 @@ public class BOutputS extends BOutputBin {
 
 			BObjMap objMap = isUnique ? null : this.objMap;
 
-			Integer id_o = objMap != null ? objMap.get(obj) : null; 
-			if (id_o != null) {
+			int id_o = objMap != null ? objMap.get(obj) : BObjMap.NOT_FOUND; 
+			if (id_o != BObjMap.NOT_FOUND) {
 				bbuf.putPointer(-id_o);
 			}
 			else {
@@ -2,6 +2,7 @@ package byps;
 
 /* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
 
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -11,24 +12,26 @@ import byps.BAsyncResult;
 import byps.BException;
 import byps.RemoteException;
 
+/**
+ * Blocks the calling thread until the result of a remote call is received.
+ *
+ * The result is stored in a {@link BFutureResult}. Waiting threads are parked
+ * by the CompletableFuture and do not hold a monitor, so a virtual thread
+ * waiting for a result does not block its carrier thread.
+ *
+ * @param <T> The method's result type.
+ */
 public class BSyncResult<T> implements BAsyncResult<T> {
 	
-	protected T result;
-	protected Throwable ex;
-	private boolean done;
-	private Future<T> future;
+	private final BFutureResult<T> result = new BFutureResult<T>();
+	private volatile Future<T> future;
 	
 	public BSyncResult() {
 	}
 	
 	@Override
 	public void setAsyncResult(T result, Throwable e) {
-		synchronized(this) {
-			this.result = result;
-			this.ex = e;
-			this.done = true;
-			this.notifyAll();
-		}
+		this.result.setAsyncResult(result, e);
 	}
 
 	public T getResult() throws RemoteException {
@@ -37,40 +40,40 @@ public class BSyncResult<T> implements BAsyncResult<T> {
 	
 	public T getResult(long timeout) throws RemoteException {
 		try {
-			synchronized(this) {
-				long t1 = System.currentTimeMillis();
-				while (!done) {
-					this.wait(timeout);
-					long dt = System.currentTimeMillis() - t1;
-					if (dt >= timeout) {
-						throw new BException(BExceptionC.TIMEOUT, "Timeout while waiting for result.");
-					}
-				}
-				if (ex != null) {
-					if (ex instanceof BException) {
-					  // Copy exception information.
-					  // The new exception has a more helpful stack trace.
-					  throw new BException((BException)ex); 
-					}
-					else {
-					  throw new BException(BExceptionC.REMOTE_ERROR, "", ex);
-					}
-				}
-				return result;
+			return timeout == Long.MAX_VALUE ? result.get() : result.get(timeout, TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException e) {
+			Throwable ex = e.getCause();
+			if (ex instanceof BException) {
+			  // Copy exception information.
+			  // The new exception has a more helpful stack trace.
+			  throw new BException((BException)ex); 
+			}
+			else {
+			  throw new BException(BExceptionC.REMOTE_ERROR, "", ex);
 			}
 		}
+		catch (TimeoutException e) {
+			throw new BException(BExceptionC.TIMEOUT, "Timeout while waiting for result.");
+		}
 		catch (InterruptedException e) {
 			throw new BException(BExceptionC.CANCELLED, e.toString(), e);
 		}
 	}
 	
+	/**
+	 * Return the result as a CompletableFuture.
+	 * @return Future, completed when the result is received.
+	 */
+	public BFutureResult<T> getCompletableFuture() {
+		return result;
+	}
+	
 	public Future<T> getFuture() {
-		synchronized(this) {
-			if (future == null) {
-				future = new MyFuture<T>();
-			}
-			return future;
+		if (future == null) {
+			future = new MyFuture<T>();
 		}
+		return future;
 	}
 
 	private class MyFuture<V> implements Future<V> {
@@ -86,11 +89,16 @@ public class BSyncResult<T> implements BAsyncResult<T> {
 	
 		@Override
 		public boolean isCancelled() {
-			synchronized(this) {
-				Throwable tx = BSyncResult.this.ex;
-				if (tx != null && tx instanceof BException) {
-					BException ex = (BException)tx;
-					return ex.code == BExceptionC.CANCELLED;
+			if (result.isCompletedExceptionally()) {
+				try {
+					result.getNow(null);
+				}
+				catch (CompletionException e) {
+					Throwable tx = e.getCause();
+					if (tx instanceof BException) {
+						BException ex = (BException)tx;
+						return ex.code == BExceptionC.CANCELLED;
+					}
 				}
 			}
 			return false;
@@ -98,9 +106,7 @@ public class BSyncResult<T> implements BAsyncResult<T> {
 	
 		@Override
 		public boolean isDone() {
-			synchronized(this) {
-				return done;
-			}
+			return result.isDone();
 		}
 	
 		@Override
@@ -90,7 +90,9 @@ public class BTransport {
     protocol = createNegotiatedProtocol(nego);
     setSessionId(negoResponse.sessionId);
     setTargetId(negoResponse.targetId);
-    if (log.isDebugEnabled()) log.debug("targetId=" + targetId + ", protocol=" + protocol);
+    wire.setCodec(BCodecs.get(negoResponse.codecs));
+    wire.setTransport(negoResponse.transports);
+    if (log.isDebugEnabled()) log.debug("targetId=" + targetId + ", protocol=" + protocol + ", codec=" + wire.getCodec());
   }
   
   public synchronized BOutput getOutput() throws BException {
@@ -447,6 +449,10 @@ public class BTransport {
     try {
       
       final BInput bin = getInput(msg.header, msg.buf);
+      
+      // The callback must not refer to bin. Otherwise the request buffer 
+      // could not be garbage collected while the method is executed.
+      final BMessageHeader requestHeader = bin.header;
   
       final BAsyncResult<Object> methodResult = new BAsyncResult<Object>() {
   
@@ -464,7 +470,7 @@ public class BTransport {
           }
 
           try {
-            BOutput bout = getResponse(bin.header);
+            BOutput bout = getResponse(requestHeader);
             if (e != null) {
               if (log.isDebugEnabled()) log.debug("exception:", e);
               bout.setException(e);
@@ -479,7 +485,7 @@ public class BTransport {
             
             // Try to send the exception to the other part
             try {
-              BOutput bout = getResponse(bin.header);
+              BOutput bout = getResponse(requestHeader);
               bout.setException(ex);
               final BMessage msg = bout.toMessage(requestId);
               asyncResult.setAsyncResult(msg, null);
@@ -577,6 +583,7 @@ public class BTransport {
       if (log.isDebugEnabled()) log.debug("build nego message");
       ByteBuffer buf = ByteBuffer.allocate(BNegotiate.NEGOTIATE_MAX_SIZE);
       final BNegotiate negoRequest = new BNegotiate(apiDesc);
+      negoRequest.transports = wire.getTransports();
       negoRequest.write(buf);
       buf.flip();
   
@@ -679,6 +686,13 @@ public class BTransport {
         setSessionId(targetId.toSessionId());
         setTargetId(targetId);
       }
+      
+      // Select the compression codec. 
+      // Responses are compressed as requested by the client in the Accept-Encoding header.
+      nego.codecs = BCodecs.negotiate(nego.codecs);
+      
+      // Select an alternative transport, e.g. WebSocket.
+      nego.transports = wire.negotiateTransport(nego.transports);
 
       ByteBuffer bout = ByteBuffer.allocate(BNegotiate.NEGOTIATE_MAX_SIZE);
       try {
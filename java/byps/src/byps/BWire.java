@@ -8,10 +8,11 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -108,6 +109,19 @@ public class BWire {
     		os = new GZIPOutputStream(os);
     	}
     	
+    	// Write heap buffers directly from their array. 
+    	// A channel would copy the bytes in pieces of 8 KB into a temporary array.
+    	if (buf.hasArray()) {
+    		try {
+    			os.write(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+    			buf.position(buf.limit());
+    		}
+    		finally {
+    			os.close();
+    		}
+    		return;
+    	}
+    	
     	WritableByteChannel wch = null;
     	try {
 	    	wch = Channels.newChannel(os);
@@ -130,10 +144,24 @@ public class BWire {
      * @throws IOException
      */
 	public static ByteBuffer bufferFromStream(InputStream is, Boolean gzip) throws IOException {
+		return bufferFromStream(is, gzip, -1L);
+	}
+	
+	/**
+	 * Reads a ByteBuffer from an InputStream.
+	 * Closes the InputStream.
+	 * If the content length is known, e.g. from the Content-Length header of a HTTP message, 
+	 * the buffer is allocated once with this size. Otherwise it starts small and is doubled when it is full, 
+	 * which needs up to three times the message size while the bytes are copied.  
+	 * @param is
+	 * @param gzip true, if the stream is GZIP compressed, false if not, null to detect the compression.
+	 * @param contentLength Number of bytes in the stream or -1, if unknown. For compressed streams, it is the number of compressed bytes. 
+	 * @return
+	 * @throws IOException
+	 */
+	public static ByteBuffer bufferFromStream(InputStream is, Boolean gzip, long contentLength) throws IOException {
 		if (is == null) return null;
 		try {
-			ByteBuffer ibuf = ByteBuffer.allocate(10 * 1000);
-			
 			if (gzip != null) {
 				if (gzip) {
 					is = new GZIPInputStream(is);
@@ -146,27 +174,46 @@ public class BWire {
 				is.reset();
 				if (magic == GZIPInputStream.GZIP_MAGIC) {
 					is = new GZIPInputStream(is);
+					gzip = Boolean.TRUE;
 				}
 			}
 			
-	        ReadableByteChannel rch = Channels.newChannel(is);
-	        while (rch.read(ibuf) != -1) {
-	        	if (ibuf.remaining() == 0) {
-	        		ByteBuffer nbuf = ByteBuffer.allocate(ibuf.capacity() * 2);
-	        		ibuf.flip();
-	        		nbuf.put(ibuf);
-	        		ibuf = nbuf;
-	        	}
-	        }
-	        
-	        ibuf.flip();
-	        return ibuf;
+			// One more byte than the content length, so that the end of stream 
+			// is detected without growing the array.
+			int capacity = INITIAL_BUFFER_SIZE;
+			if (contentLength >= 0 && contentLength < MAX_BUFFER_SIZE) {
+				capacity = gzip == Boolean.TRUE ? Math.max(capacity, (int)contentLength) : (int)contentLength + 1;
+			}
+			
+			// Read directly into the array. 
+			// Channels.newChannel(is) would read into a temporary array and copy from there.
+			byte[] arr = new byte[capacity];
+			int n = 0;
+			for (int len; (len = is.read(arr, n, arr.length - n)) != -1; ) {
+				n += len;
+				if (n == arr.length) {
+					if (n == MAX_BUFFER_SIZE) throw new IOException("Message too large.");
+					arr = Arrays.copyOf(arr, (int)Math.min((long)arr.length << 1, MAX_BUFFER_SIZE));
+				}
+			}
+			
+			return ByteBuffer.wrap(arr, 0, n);
 		}
 		finally {
 			is.close();
 		}
 	}
 
+	/**
+	 * Initial size of the buffer in {@link #bufferFromStream(InputStream, Boolean, long)}, if the content length is unknown.
+	 */
+	private final static int INITIAL_BUFFER_SIZE = 10 * 1000;
+	
+	/**
+	 * Maximum size of a Java array.
+	 */
+	private final static int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
 	public Object getSessionContext() {
 		return sess;
 	}
@@ -184,6 +231,13 @@ public class BWire {
 		public long countSent;
 		public long countReceived;
 		
+		/**
+		 * Counters of the compression codecs.
+		 * Codecs are shared by all wires, hence these counters sum up the messages of all wires.
+		 * Set when the statistics are copied from the wire.
+		 */
+		public Map<String, BCodec.Statistics> codecs;
+		
 		public Statistics() {
 		}
 		
@@ -194,6 +248,7 @@ public class BWire {
 			this.millisReceived = rhs.millisReceived;
 			this.countSent = rhs.countSent;
 			this.countReceived = rhs.countReceived;
+			this.codecs = BCodecs.getStatistics();
 		}
 		
 		public void addSendData(long bytes, long millis) {
@@ -331,6 +386,51 @@ public class BWire {
 		return flags;
 	}
 	
+	/**
+	 * Return the compression codec negotiated for this wire.
+	 * @return Codec or null, if messages are not compressed.
+	 */
+	public BCodec getCodec() {
+		return codec;
+	}
+	
+	/**
+	 * Set the compression codec.
+	 * Called by the transport after the protocol has been negotiated.
+	 * @param codec Codec or null
+	 */
+	public void setCodec(BCodec codec) {
+		this.codec = codec;
+	}
+	
+	/**
+	 * Return the alternative transports supported by this client wire.
+	 * The names are sent in the negotiate request, see {@link BNegotiate#transports}.
+	 * @return Comma separated names or null, if only the default transport is supported.
+	 */
+	public String getTransports() {
+		return null;
+	}
+	
+	/**
+	 * Select an alternative transport offered by the client.
+	 * Called by the server transport while negotiating the protocol.
+	 * @param transports Transports supported by the client, can be null.
+	 * @return Selected transport, empty string, if the default transport is used, 
+	 * null, if the client does not support alternative transports.
+	 */
+	public String negotiateTransport(String transports) {
+		return transports != null ? "" : null;
+	}
+	
+	/**
+	 * Set the transport selected by the server.
+	 * Called by the client transport after the protocol has been negotiated.
+	 * @param transport Transport name, empty or null, if the default transport is used.
+	 */
+	public void setTransport(String transport) {
+	}
+	
 	public BTestAdapter getTestAdapter() {
 		return null;
 	}
@@ -346,6 +446,7 @@ public class BWire {
   protected SecureRandom rand;
 	protected Object sess;
 	protected int flags;
+	protected volatile BCodec codec;
 	private final static Logger log = LoggerFactory.getLogger(BWire.class);
 
 }
@@ -6,6 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import byps.gen.api.GeneratorException;
+import byps.gen.api.MemberInfo;
 import byps.gen.api.MethodInfo;
 import byps.gen.api.RemoteInfo;
 import byps.gen.utils.CodePrinter;
@@ -99,6 +100,7 @@ class GenRemoteClassAsync {
     for (MethodInfo minfo : rinfoAsync.methods) {
       printMethod(minfo);
       printMethodAsync(minfo);
+      printMethodFuture(minfo);
       pr.println();
     }
 
@@ -111,6 +113,52 @@ class GenRemoteClassAsync {
     // log.debug(GeneratorJ.class.getName(), "generate");
   }
   
+  /**
+   * Print a default method that returns a CompletableFuture.
+   * The future is completed by the BAsyncResult method in the thread that receives the response.
+   * @param methodInfo Remote method
+   * @throws IOException
+   */
+  private void printMethodFuture(MethodInfo methodInfo) throws IOException {
+    // log.debug(GeneratorJ.class.getName(), "printMethodFuture");
+
+    // Skip, if the interface already has a method with this name.
+    String futureName = pctxt.getFutureMethodName(methodInfo);
+    for (MethodInfo minfo : rinfoAsync.methods) {
+      if (minfo.name.equals(futureName)) {
+        log.warn("Skip method " + rinfoAsync.qname + "." + futureName + " returning CompletableFuture, name is already used.");
+        return;
+      }
+    }
+
+    CodePrinter mpr = pctxt.printDeclareMethodFuture(pr, rinfoAsync, methodInfo);
+    mpr.println("{");
+    pr.beginBlock();
+
+    String rtype = pctxt.getReturnTypeAsObjType(methodInfo, rinfoAsync.pack);
+    String futureType = "BFutureResult<" + rtype + ">";
+    pr.print("final ").print(futureType).print(" asyncResult = new ").print(futureType).print("();");
+    pr.println();
+
+    mpr = pr.print(methodInfo.name).print("(");
+    for (MemberInfo pinfo : methodInfo.requestInfo.members) {
+
+      // Skip authentication parameter
+      if (pctxt.isSessionParam(rinfoAsync, pinfo)) continue;
+
+      mpr.print(pinfo.name).print(", ");
+    }
+    mpr.print("asyncResult");
+    mpr.println(");");
+
+    pr.println("return asyncResult;");
+
+    pr.endBlock();
+    pr.println("}");
+
+    // log.debug(GeneratorJ.class.getName(), "printMethodFuture");
+  }
+
   protected String getBaseRemote() {
     return rinfoBase.name;
   }
@@ -244,6 +244,20 @@ public class GenSerArray {
 		pr.println(s);
 	}
 
+  /**
+   * Elements of these types are read and written by one call of a BBufferBin method
+   * for the innermost dimension, e.g. bbuf.putArrayInt(a0).
+   * @return true, if the element type is byte, char, short, int, long, float or double.
+   */
+  protected boolean isBulkElementType() {
+    switch (serInfo.toStringNoDims("")) {
+    case "byte": case "char": case "short": case "int": case "long": case "float": case "double":
+      return true;
+    default:
+      return false;
+    }
+  }
+
   private void printReadPrimitiveArray() {
     printReadWritePrimitiveArray(false);
   }
@@ -283,7 +297,7 @@ public class GenSerArray {
 		
 		for (int i = ndims-1; i >=0 ; i--) {
 			
-			if (i == 0 && serInfo.isByteArray1dim() ) {
+			if (i == 0 && isBulkElementType()) {
 				printDo1Dim.run();
 				break;
 			}
@@ -314,7 +328,7 @@ public class GenSerArray {
 		}
 		
 		for (int i = ndims-1; i >= 0; i--) {
-			if (i == 0 && serInfo.isByteArray1dim()) break;
+			if (i == 0 && isBulkElementType()) break;
 			pr.endBlock();
 			pr.println("}");
 		}
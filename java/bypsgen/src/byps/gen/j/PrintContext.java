@@ -461,6 +461,37 @@ class PrintContext extends PrintContextBase {
 		return mpr;
 	}
 
+	/**
+	 * Return the name of the method that returns a CompletableFuture.
+	 * @param methodInfo Remote method
+	 * @return Method name with suffix "Async"
+	 */
+	public String getFutureMethodName(MethodInfo methodInfo) {
+	  return methodInfo.name + "Async";
+	}
+	
+	public CodePrinter printDeclareMethodFuture(CodePrinter pr, RemoteInfo rinfo, MethodInfo methodInfo) throws IOException {
+	  
+	  pr.checkpoint();
+	  
+		String rtype = getReturnTypeAsObjType(methodInfo, rinfo.pack);
+		CodePrinter mpr = pr.print("public default java.util.concurrent.CompletableFuture<").print(rtype).print("> ")
+		  .print(getFutureMethodName(methodInfo)).print("(");
+		
+		boolean first = true;
+		for (MemberInfo pinfo : methodInfo.requestInfo.members) {
+      
+		  // Skip authentication parameter
+      if (isSessionParam(rinfo, pinfo)) continue;
+      
+			if (first) first = false; else mpr.print(", ");
+			mpr.print(pinfo.type.toString(rinfo.pack)).print(" ").print(pinfo.name);
+		}
+		
+		mpr.print(") ");
+		return mpr;
+	}
+
 	public String getStubClassQName(RemoteInfo rinfo, String pack) {
 		String className = "";
 		if (!rinfo.pack.equals(pack)) className += rinfo.pack + ".";
@@ -13,6 +13,7 @@ import byps.BContentStream;
 import byps.BTransport;
 import byps.http.client.HHttpClient;
 import byps.http.client.HHttpRequest;
+import byps.stdio.common.ShmFile;
 
 public class StdioClient extends StdioCommunication implements HHttpClient {
 
@@ -30,6 +31,15 @@ public class StdioClient extends StdioCommunication implements HHttpClient {
     this.transport = StdioTransport.createTransport();
   }
   
+  /**
+   * Communicate with the server over a shared memory file.
+   * @param shmFile File created by this process with {@link ShmFile#create(java.io.File, int)}
+   */
+  public StdioClient(ShmFile shmFile) {
+    super(shmFile, true);
+    this.transport = StdioTransport.createTransport();
+  }
+  
   protected void send(int method, ByteBuffer request, BAsyncResult<ByteBuffer> asyncResult) {
     Exception ex = null;
     try {
@@ -8,6 +8,9 @@ import java.util.concurrent.TimeUnit;
 
 import byps.stdio.common.RecvChannel;
 import byps.stdio.common.SendChannel;
+import byps.stdio.common.ShmFile;
+import byps.stdio.common.ShmRecvChannel;
+import byps.stdio.common.ShmSendChannel;
 
 public abstract class StdioCommunication {
 
@@ -16,6 +19,8 @@ public abstract class StdioCommunication {
   
   protected OutputStream system_out;
   protected InputStream system_in;
+  protected ShmFile shmFile;
+  protected boolean shmCreator;
   protected SendChannel sendChannel;
   protected RecvChannel recvChannel;
   protected Thread receiverThread;
@@ -30,6 +35,16 @@ public abstract class StdioCommunication {
     this.system_out = system_out;
   }
   
+  /**
+   * Communicate over a shared memory file instead of stdin/stdout.
+   * @param shmFile Shared memory file
+   * @param shmCreator true, if this process has created the file.
+   */
+  public StdioCommunication(ShmFile shmFile, boolean shmCreator) {
+    this.shmFile = shmFile;
+    this.shmCreator = shmCreator;
+  }
+  
   public void done() {
     stopEvent = true;
     
@@ -81,8 +96,14 @@ public abstract class StdioCommunication {
         startPeerProgram();
       }
       
-      sendChannel = new SendChannel(system_out);
-      recvChannel = new RecvChannel(system_in);
+      if (shmFile != null) {
+        sendChannel = new ShmSendChannel(shmFile.getSendRing(shmCreator));
+        recvChannel = new ShmRecvChannel(shmFile.getRecvRing(shmCreator));
+      }
+      else {
+        sendChannel = new SendChannel(system_out);
+        recvChannel = new RecvChannel(system_in);
+      }
 
       sendChannel.open();
       recvChannel.open();
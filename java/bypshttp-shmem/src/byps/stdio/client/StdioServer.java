@@ -16,6 +16,7 @@ import byps.BHttpRequest;
 import byps.BOutput;
 import byps.BTransport;
 import byps.http.HHttpServlet;
+import byps.stdio.common.ShmFile;
 
 public class StdioServer extends StdioCommunication {
   
@@ -39,6 +40,17 @@ public class StdioServer extends StdioCommunication {
     this.transport = StdioTransport.createTransport();
   }
   
+  /**
+   * Communicate with the client over a shared memory file.
+   * @param shmFile File opened with {@link ShmFile#open(java.io.File)}
+   */
+  public StdioServer(ShmFile shmFile, HHttpServlet servlet, int maxThreads) {
+    super(shmFile, false);
+    this.servlet = servlet;
+    this.tpool = ensureExecutor(maxThreads);
+    this.transport = StdioTransport.createTransport();
+  }
+  
   @Override
   public void done() {
     ((ThreadPoolExecutor)this.tpool).shutdown();
@@ -15,6 +15,9 @@ public class RecvChannel extends StdioChannel {
     this.istream = istream;
   }
   
+  protected RecvChannel() {
+  }
+  
   public void open() throws Exception {
     ichannel = Channels.newChannel(istream);
   }
@@ -26,7 +29,7 @@ public class RecvChannel extends StdioChannel {
   public ByteBuffer recv() throws Exception {
     
     messageHeader.clear();
-    ichannel.read(messageHeader);
+    read(messageHeader);
     messageHeader.flip();
     
     if (messageHeader.remaining() == 0) throw new Exception("Disconnected by peer.");
@@ -46,12 +49,16 @@ public class RecvChannel extends StdioChannel {
       msg = ByteBuffer.allocate(length + 8); // + messageId + method
       msg.putInt(messageId);
       msg.putInt(method);
-      while(msg.hasRemaining()) ichannel.read(msg);
+      while(msg.hasRemaining()) read(msg);
       msg.flip();
     }
     return msg;
   }
   
+  protected int read(ByteBuffer buf) throws Exception {
+    return ichannel.read(buf);
+  }
+  
   public boolean isTerminate() {
     return terminate;
   }
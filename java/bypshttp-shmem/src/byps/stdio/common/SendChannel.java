@@ -14,6 +14,9 @@ public class SendChannel extends StdioChannel {
     this.ostream = ostream;
   }
   
+  protected SendChannel() {
+  }
+  
   public void open() throws Exception {
     ochannel = Channels.newChannel(ostream);
   }
@@ -29,17 +32,25 @@ public class SendChannel extends StdioChannel {
     messageHeader.putInt(length);
     messageHeader.putInt(messageId);
     messageHeader.flip();
-    ochannel.write(messageHeader);
+    write(messageHeader);
+  }
+  
+  protected void write(ByteBuffer buf) throws Exception {
+    ochannel.write(buf);
+  }
+  
+  protected void flush() throws Exception {
+    ostream.flush();
   }
   
   public synchronized void send(int method, int messageId, ByteBuffer msg) throws Exception {
     header_unsync(method, messageId, msg.remaining());
-    ochannel.write(msg);
-    ostream.flush();
+    write(msg);
+    flush();
   }
   
   public synchronized void terminate() throws Exception {
     header_unsync(HTTP_GET, 0, -1);
-    ostream.flush();
+    flush();
   }
 }
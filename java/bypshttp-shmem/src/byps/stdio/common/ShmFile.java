@@ -0,0 +1,149 @@
+package byps.stdio.common;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Memory mapped file shared by two processes.
+ * The file contains two ring buffers, one for each direction.
+ * The process that calls {@link #create(File, int)} writes into ring 0 and reads from ring 1,
+ * the process that calls {@link #open(File)} uses the rings the other way round.
+ * <p>
+ * File layout:
+ * <pre>
+ * 0    file header: magic, version, capacity
+ * 64   ring 0: header (128 bytes) + data (capacity bytes)
+ * ...  ring 1: header (128 bytes) + data (capacity bytes)
+ * </pre>
+ */
+public class ShmFile implements Closeable {
+
+  public final static int MAGIC = 0x42595053;
+  public final static int DEFAULT_CAPACITY = 1 << 20;
+
+  final static int FILE_HEADER_SIZE = 64;
+  final static VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+  private final File file;
+  private final RandomAccessFile raf;
+  private final MappedByteBuffer mapping;
+  private final int capacity;
+
+  private ShmFile(File file, RandomAccessFile raf, MappedByteBuffer mapping, int capacity) {
+    this.file = file;
+    this.raf = raf;
+    this.mapping = mapping;
+    this.capacity = capacity;
+  }
+
+  /**
+   * Create a new shared memory file.
+   * An existing file is overwritten.
+   * @param file File, should be placed on a RAM backed file system, e.g. /dev/shm
+   * @param capacity Size of each ring buffer in bytes. Must be a power of two.
+   * @return ShmFile
+   * @throws IOException
+   */
+  public static ShmFile create(File file, int capacity) throws IOException {
+    if (capacity < 1024 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a power of two >= 1024, capacity=" + capacity);
+    }
+
+    RandomAccessFile raf = new RandomAccessFile(file, "rw");
+    try {
+      long size = fileSize(capacity);
+      raf.setLength(0);
+      raf.setLength(size);
+      MappedByteBuffer mapping = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+      mapping.order(ByteOrder.nativeOrder());
+      mapping.putInt(4, StdioChannel.VERSION);
+      mapping.putInt(8, capacity);
+
+      // Magic is written last. The peer must not use the file before.
+      INTS.setRelease(mapping, 0, MAGIC);
+
+      return new ShmFile(file, raf, mapping, capacity);
+    }
+    catch (IOException | RuntimeException e) {
+      raf.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Open a shared memory file created by the peer process.
+   * @param file File
+   * @return ShmFile
+   * @throws IOException
+   */
+  public static ShmFile open(File file) throws IOException {
+    RandomAccessFile raf = new RandomAccessFile(file, "rw");
+    try {
+      if (raf.length() < FILE_HEADER_SIZE) throw new IOException("Invalid shared memory file " + file);
+
+      MappedByteBuffer header = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, FILE_HEADER_SIZE);
+      header.order(ByteOrder.nativeOrder());
+      if ((int)INTS.getAcquire(header, 0) != MAGIC) throw new IOException("Invalid shared memory file " + file);
+      if (header.getInt(4) != StdioChannel.VERSION) throw new IOException("Version mismatch.");
+
+      int capacity = header.getInt(8);
+      long size = fileSize(capacity);
+      if (raf.length() != size) throw new IOException("Invalid shared memory file " + file);
+
+      MappedByteBuffer mapping = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+      mapping.order(ByteOrder.nativeOrder());
+      return new ShmFile(file, raf, mapping, capacity);
+    }
+    catch (IOException | RuntimeException e) {
+      raf.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Ring buffer to send messages to the peer.
+   * @return ShmRing
+   */
+  public ShmRing getSendRing(boolean creator) {
+    return getRing(creator ? 0 : 1);
+  }
+
+  /**
+   * Ring buffer to receive messages from the peer.
+   * @return ShmRing
+   */
+  public ShmRing getRecvRing(boolean creator) {
+    return getRing(creator ? 1 : 0);
+  }
+
+  private ShmRing getRing(int index) {
+    int offset = FILE_HEADER_SIZE + index * (ShmRing.HEADER_SIZE + capacity);
+    return new ShmRing(mapping, offset, capacity);
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  @Override
+  public void close() throws IOException {
+    // The mapping stays valid until it is garbage collected.
+    raf.close();
+  }
+
+  private static long fileSize(int capacity) {
+    return FILE_HEADER_SIZE + 2L * (ShmRing.HEADER_SIZE + capacity);
+  }
+
+}
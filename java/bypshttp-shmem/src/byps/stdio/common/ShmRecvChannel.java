@@ -0,0 +1,33 @@
+package byps.stdio.common;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Receive messages from a ring buffer in a shared memory file.
+ * The message format is the same as for {@link RecvChannel}.
+ * Each message is copied once from the shared memory into the returned buffer,
+ * because receivers process the message asynchronously after the ring has moved on.
+ */
+public class ShmRecvChannel extends RecvChannel {
+  
+  private final ShmRing ring;
+  
+  public ShmRecvChannel(ShmRing ring) {
+    this.ring = ring;
+  }
+  
+  @Override
+  public void open() throws Exception {
+    ring.openReader();
+  }
+  
+  @Override
+  public void close() {
+    ring.close(false);
+  }
+  
+  @Override
+  protected int read(ByteBuffer buf) throws Exception {
+    return ring.read(buf);
+  }
+}
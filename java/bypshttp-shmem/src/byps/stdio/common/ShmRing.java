@@ -0,0 +1,205 @@
+package byps.stdio.common;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single producer, single consumer ring buffer in a memory mapped file.
+ * <p>
+ * Reader and writer live in different processes and cannot signal each other.
+ * A waiting side spins and yields for a short time and then parks with an increasing timeout
+ * until the other side has moved its position.
+ * Messages larger than the ring are passed in pieces while the reader consumes them.
+ * <p>
+ * Ring header:
+ * <pre>
+ * 0    write position (long), updated by the writer
+ * 8    closed flag (int), set by the writer
+ * 64   read position (long), updated by the reader
+ * </pre>
+ * The positions are on different cache lines and count bytes since the file was created.
+ */
+public class ShmRing {
+
+  final static int HEADER_SIZE = 128;
+
+  private final static int OFFSET_WRITE_POS = 0;
+  private final static int OFFSET_CLOSED = 8;
+  private final static int OFFSET_READ_POS = 64;
+
+  /**
+   * Spinning only helps if the peer runs on another CPU.
+   */
+  private final static int SPIN_COUNT = Runtime.getRuntime().availableProcessors() > 1 ? 1000 : 0;
+  private final static int YIELD_COUNT = 10 * 1000;
+  private final static long PARK_MIN_NANOS = 1000L;
+  private final static long PARK_MAX_NANOS = 1000L * 1000L;
+
+  private final static VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+  private final ByteBuffer mapping;
+  private final ByteBuffer data;
+  private final int headerOffset;
+  private final int capacity;
+  private final int mask;
+
+  /**
+   * Position owned by this side: write position for a writer, read position for a reader.
+   */
+  private long position;
+
+  private volatile boolean closed;
+
+  ShmRing(ByteBuffer mapping, int headerOffset, int capacity) {
+    this.mapping = mapping.duplicate().order(ByteOrder.nativeOrder());
+    this.headerOffset = headerOffset;
+    this.capacity = capacity;
+    this.mask = capacity - 1;
+
+    ByteBuffer d = mapping.duplicate();
+    d.position(headerOffset + HEADER_SIZE);
+    d.limit(headerOffset + HEADER_SIZE + capacity);
+    this.data = d.slice();
+  }
+
+  /**
+   * Prepare this object to be used as writer.
+   */
+  public void openWriter() {
+    position = (long)LONGS.getAcquire(mapping, headerOffset + OFFSET_WRITE_POS);
+  }
+
+  /**
+   * Prepare this object to be used as reader.
+   */
+  public void openReader() {
+    position = (long)LONGS.getAcquire(mapping, headerOffset + OFFSET_READ_POS);
+  }
+
+  /**
+   * Write all remaining bytes of the buffer.
+   * Blocks while the ring is full.
+   * @param src Buffer
+   * @throws InterruptedException
+   */
+  public void write(ByteBuffer src) throws InterruptedException {
+    int round = 0;
+    while (src.hasRemaining()) {
+      if (closed) throw new IllegalStateException("Channel closed.");
+
+      long readPos = (long)LONGS.getAcquire(mapping, headerOffset + OFFSET_READ_POS);
+      int free = capacity - (int)(position - readPos);
+      if (free == 0) {
+        round = await(round);
+        continue;
+      }
+      round = 0;
+
+      int n = Math.min(free, src.remaining());
+      int idx = (int)position & mask;
+      int first = Math.min(n, capacity - idx);
+      copyIn(src, idx, first);
+      copyIn(src, 0, n - first);
+
+      position += n;
+      LONGS.setRelease(mapping, headerOffset + OFFSET_WRITE_POS, position);
+    }
+  }
+
+  /**
+   * Read bytes into the buffer until it is full.
+   * Blocks while the ring is empty.
+   * @param dst Buffer
+   * @return Number of bytes read or -1, if the channel was closed before any byte could be read.
+   * @throws InterruptedException
+   */
+  public int read(ByteBuffer dst) throws InterruptedException {
+    int nbOfBytes = 0;
+    int round = 0;
+    while (dst.hasRemaining()) {
+      long writePos = (long)LONGS.getAcquire(mapping, headerOffset + OFFSET_WRITE_POS);
+      int avail = (int)(writePos - position);
+      if (avail == 0) {
+        if (closed || isClosedByWriter()) {
+          // Bytes written before the close flag are still delivered.
+          if ((long)LONGS.getAcquire(mapping, headerOffset + OFFSET_WRITE_POS) != position) continue;
+          if (nbOfBytes == 0) return -1;
+          throw new IllegalStateException("Disconnected by peer.");
+        }
+        round = await(round);
+        continue;
+      }
+      round = 0;
+
+      int n = Math.min(avail, dst.remaining());
+      int idx = (int)position & mask;
+      int first = Math.min(n, capacity - idx);
+      copyOut(dst, idx, first);
+      copyOut(dst, 0, n - first);
+
+      position += n;
+      nbOfBytes += n;
+      LONGS.setRelease(mapping, headerOffset + OFFSET_READ_POS, position);
+    }
+    return nbOfBytes;
+  }
+
+  /**
+   * Close this side of the ring.
+   * If this side is the writer, the reader receives end-of-stream after it has read the pending bytes.
+   * @param writer true, if this side is the writer.
+   */
+  public void close(boolean writer) {
+    closed = true;
+    if (writer) {
+      ShmFile.INTS.setRelease(mapping, headerOffset + OFFSET_CLOSED, 1);
+    }
+  }
+
+  private boolean isClosedByWriter() {
+    return (int)ShmFile.INTS.getAcquire(mapping, headerOffset + OFFSET_CLOSED) != 0;
+  }
+
+  private void copyIn(ByteBuffer src, int idx, int n) {
+    if (n == 0) return;
+    int limit = src.limit();
+    src.limit(src.position() + n);
+    data.position(idx);
+    data.put(src);
+    src.limit(limit);
+  }
+
+  private void copyOut(ByteBuffer dst, int idx, int n) {
+    if (n == 0) return;
+    data.limit(idx + n);
+    data.position(idx);
+    dst.put(data);
+    data.limit(capacity);
+  }
+
+  /**
+   * Wait for the peer to move its position.
+   * Spin first, then yield, then park with doubling timeout.
+   * @param round Number of previous unsuccessful rounds.
+   * @return Next round
+   * @throws InterruptedException
+   */
+  private int await(int round) throws InterruptedException {
+    if (round < SPIN_COUNT) {
+      Thread.onSpinWait();
+    }
+    else if (round < YIELD_COUNT) {
+      Thread.yield();
+    }
+    else {
+      int shift = Math.min(round - YIELD_COUNT, 10);
+      LockSupport.parkNanos(Math.min(PARK_MIN_NANOS << shift, PARK_MAX_NANOS));
+      if (Thread.interrupted()) throw new InterruptedException();
+    }
+    return round + 1;
+  }
+
+}
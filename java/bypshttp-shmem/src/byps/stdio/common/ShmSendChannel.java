@@ -0,0 +1,36 @@
+package byps.stdio.common;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Send messages through a ring buffer in a shared memory file.
+ * The message format is the same as for {@link SendChannel}.
+ */
+public class ShmSendChannel extends SendChannel {
+  
+  private final ShmRing ring;
+  
+  public ShmSendChannel(ShmRing ring) {
+    this.ring = ring;
+  }
+  
+  @Override
+  public void open() throws Exception {
+    ring.openWriter();
+  }
+  
+  @Override
+  public void close() {
+    ring.close(true);
+  }
+  
+  @Override
+  protected void write(ByteBuffer buf) throws Exception {
+    ring.write(buf);
+  }
+  
+  @Override
+  protected void flush() throws Exception {
+    // Bytes are visible to the reader as soon as they are written.
+  }
+}
@@ -0,0 +1,168 @@
+package byps.http.stdio.test;
+
+import java.io.File;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import byps.stdio.common.RecvChannel;
+import byps.stdio.common.SendChannel;
+import byps.stdio.common.ShmFile;
+import byps.stdio.common.ShmRecvChannel;
+import byps.stdio.common.ShmSendChannel;
+import byps.stdio.common.StdioChannel;
+
+/**
+ * Test communication over a shared memory file.
+ * The peer is simulated by an echo thread in this process that opens the file a second time.
+ */
+public class TestShmChannel {
+
+  private File file;
+  private ShmFile clientFile;
+  private ShmFile serverFile;
+
+  @Before
+  public void beforeTest() throws Exception {
+    file = File.createTempFile("byps-shm", ".dat");
+    clientFile = ShmFile.create(file, 4096);
+    serverFile = ShmFile.open(file);
+  }
+
+  @After
+  public void afterTest() throws Exception {
+    clientFile.close();
+    serverFile.close();
+    file.delete();
+  }
+
+  @Test
+  public void testSendRecv() throws Exception {
+    SendChannel send = new ShmSendChannel(clientFile.getSendRing(true));
+    RecvChannel recv = new ShmRecvChannel(clientFile.getRecvRing(true));
+    Thread echo = startEcho(new ShmRecvChannel(serverFile.getRecvRing(false)), new ShmSendChannel(serverFile.getSendRing(false)));
+    send.open();
+    recv.open();
+
+    // Messages smaller and larger than the ring capacity.
+    Random rand = new Random(1);
+    int[] lengths = new int[] { 0, 1, 100, 4095, 4096, 4097, 100 * 1000 };
+    for (int i = 0; i < lengths.length; i++) {
+      byte[] bytes = new byte[lengths[i]];
+      rand.nextBytes(bytes);
+      send.send(StdioChannel.HTTP_POST, i, ByteBuffer.wrap(bytes));
+
+      ByteBuffer msgR = recv.recv();
+      Assert.assertEquals("messageId", i, msgR.getInt());
+      Assert.assertEquals("method", StdioChannel.HTTP_POST, msgR.getInt());
+      Assert.assertEquals("length", bytes.length, msgR.remaining());
+      Assert.assertEquals(ByteBuffer.wrap(bytes), msgR);
+    }
+
+    send.terminate();
+    echo.join(10 * 1000);
+    Assert.assertFalse("echo thread terminated", echo.isAlive());
+
+    // Closing the writer side disconnects the reader.
+    send.close();
+    RecvChannel recvS = new ShmRecvChannel(serverFile.getRecvRing(false));
+    recvS.open();
+    try {
+      recvS.recv();
+      Assert.fail("Exception expected");
+    }
+    catch (Exception expected) {
+    }
+  }
+
+  /**
+   * Compare the time for echo messages over shared memory and over pipes.
+   */
+  @Test
+  public void testCompareWithPipe() throws Exception {
+    int nbOfMessages = 10 * 1000;
+    int messageSize = 1000;
+
+    File fileBig = File.createTempFile("byps-shm", ".dat");
+    ShmFile bigFile = ShmFile.create(fileBig, ShmFile.DEFAULT_CAPACITY);
+    ShmFile bigFileS = ShmFile.open(fileBig);
+    try {
+      long tShm = echoMessages(
+          new ShmSendChannel(bigFile.getSendRing(true)), new ShmRecvChannel(bigFile.getRecvRing(true)),
+          new ShmRecvChannel(bigFileS.getRecvRing(false)), new ShmSendChannel(bigFileS.getSendRing(false)),
+          nbOfMessages, messageSize);
+
+      PipedInputStream clientIn = new PipedInputStream(64 * 1000);
+      PipedOutputStream serverOut = new PipedOutputStream(clientIn);
+      PipedInputStream serverIn = new PipedInputStream(64 * 1000);
+      PipedOutputStream clientOut = new PipedOutputStream(serverIn);
+      long tPipe = echoMessages(
+          new SendChannel(clientOut), new RecvChannel(clientIn),
+          new RecvChannel(serverIn), new SendChannel(serverOut),
+          nbOfMessages, messageSize);
+
+      System.out.println("echo " + nbOfMessages + " messages of " + messageSize + " bytes: shm=" + tShm + "ms, pipe=" + tPipe + "ms");
+    }
+    finally {
+      bigFile.close();
+      bigFileS.close();
+      fileBig.delete();
+    }
+  }
+
+  private long echoMessages(SendChannel send, RecvChannel recv, RecvChannel recvS, SendChannel sendS, int nbOfMessages, int messageSize) throws Exception {
+    Thread echo = startEcho(recvS, sendS);
+    send.open();
+    recv.open();
+
+    ByteBuffer msg = ByteBuffer.allocate(messageSize);
+    long t1 = System.currentTimeMillis();
+    for (int i = 0; i < nbOfMessages; i++) {
+      msg.clear();
+      send.send(StdioChannel.HTTP_POST, i, msg);
+      ByteBuffer msgR = recv.recv();
+      Assert.assertEquals(i, msgR.getInt());
+    }
+    long t2 = System.currentTimeMillis();
+
+    send.terminate();
+    echo.join(10 * 1000);
+    send.close();
+    recv.close();
+    return t2 - t1;
+  }
+
+  private Thread startEcho(RecvChannel recv, SendChannel send) {
+    Thread thread = new Thread("byps-echo") {
+      public void run() {
+        try {
+          recv.open();
+          send.open();
+          while (true) {
+            ByteBuffer msg = recv.recv();
+            if (msg == null) break;
+            int messageId = msg.getInt();
+            int method = msg.getInt();
+            send.send(method, messageId, msg);
+          }
+        }
+        catch (Exception e) {
+          e.printStackTrace();
+        }
+        finally {
+          recv.close();
+          send.close();
+        }
+      }
+    };
+    thread.start();
+    return thread;
+  }
+
+}
@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,10 +29,26 @@ public class HActiveMessage {
   private volatile boolean canceled;
   private volatile String sessionId;
   private AtomicLong cleanupAtMillis = new AtomicLong(0L);
+  
+  /**
+   * Called when the cleanup time has been set.
+   */
+  private final Consumer<HActiveMessage> cleanupScheduler;
 
   HActiveMessage(Long messageId) {
+    this(messageId, null);
+  }
+
+  /**
+   * Constructor.
+   * @param messageId Message ID
+   * @param cleanupScheduler Called when the message is finished or canceled. 
+   * It should register a timer that removes the message at {@link #getCleanupAtMillis()}.
+   */
+  HActiveMessage(Long messageId, Consumer<HActiveMessage> cleanupScheduler) {
     this.messageId = messageId;
     this.waitingForRequestContext = true;
+    this.cleanupScheduler = cleanupScheduler;
   }
 
   public boolean isCanceled() {
@@ -53,11 +70,25 @@ public class HActiveMessage {
     }
     else if (isCanceled() || isFinished()) { // just to make sure that I never forget to cleanup a message,
       // cleanupAtMillis should already be set if the message is finished 
-      cleanupAtMillis.compareAndSet(0, System.currentTimeMillis() + HConstants.KEEP_MESSAGE_AFTER_FINISHED);
+      setCleanupAtMillis();
     }
     return ret;
   }
   
+  /**
+   * Time when the message can be removed.
+   * @return Time in milliseconds since 1970, 0 if not set.
+   */
+  public long getCleanupAtMillis() {
+    return cleanupAtMillis.get();
+  }
+  
+  private void setCleanupAtMillis() {
+    if (cleanupAtMillis.compareAndSet(0, System.currentTimeMillis() + HConstants.KEEP_MESSAGE_AFTER_FINISHED)) {
+      if (cleanupScheduler != null) cleanupScheduler.accept(this);
+    }
+  }
+  
   public synchronized boolean isLongPoll() {
     return workerThread == null && rctxtMessage != null;
   }
@@ -119,6 +150,9 @@ public class HActiveMessage {
   }
 
   private void checkFinished() {
+    if (isFinished()) {
+      setCleanupAtMillis();
+    }
   }
   
   public synchronized HRequestContext getAndRemoveRequestContext(HRemoveMessageControl removeControl) throws BException {
@@ -164,7 +198,7 @@ public class HActiveMessage {
   public synchronized void removeWorker() {
     if (log.isDebugEnabled()) log.debug("removeWorker(" + messageId);
     workerThread = null;
-    cleanupAtMillis.compareAndSet(0, System.currentTimeMillis() + HConstants.KEEP_MESSAGE_AFTER_FINISHED);
+    setCleanupAtMillis();
     checkFinished();
     if (log.isDebugEnabled()) log.debug(")removeWorker");
   }
@@ -173,7 +207,7 @@ public class HActiveMessage {
     if (log.isDebugEnabled()) log.debug("cancelMessage(" + messageId);
 
     canceled = true;
-    cleanupAtMillis.compareAndSet(0, System.currentTimeMillis() + HConstants.KEEP_MESSAGE_AFTER_FINISHED);
+    setCleanupAtMillis();
     
     // Threads might wait in getIncomingStream()
     this.notifyAll();
@@ -208,7 +242,7 @@ public class HActiveMessage {
       // sending a new long-poll.
 
       HttpServletResponse resp = (HttpServletResponse) rctxtMessage.getResponse();
-      resp.setStatus(HttpServletResponse.SC_GONE);
+      if (resp != null) resp.setStatus(HttpServletResponse.SC_GONE);
       rctxtMessage.complete();
       rctxtMessage = null;
     }
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,21 +43,54 @@ public class HActiveMessages {
 	private final BHashMap<Long, BContentStream> incomingStreams = new BHashMap<Long, BContentStream>();
 	private final BHashMap<Long, BContentStream> outgoingStreams = new BHashMap<Long, BContentStream>();
 	
+	/**
+	 * Threads waiting in {@link #getIncomingOrOutgoingStream(Long, long)}, by stream ID.
+	 * A thread waits on the object of its stream. Adding a stream only wakes up 
+	 * the threads waiting for this stream.
+	 */
+	private final ConcurrentHashMap<Long, StreamWaiter> streamWaiters = new ConcurrentHashMap<Long, StreamWaiter>();
+	
+	private static class StreamWaiter {
+	  int nbOfThreads;
+	}
+	
 	private final static Logger log = LoggerFactory.getLogger(HActiveMessages.class);
 	private final File tempDir;
 	
+	/**
+	 * Timers that remove finished messages and close expired streams.
+	 */
+	private final HTimerWheel timerWheel;
+	private final boolean ownTimerWheel;
+	
 	public HActiveMessages(File tempDir) {
+	  this(tempDir, new HTimerWheel("byps-active-messages-timer"), true);
+	}
+	
+	/**
+	 * Constructor.
+	 * @param tempDir Directory for temporary files of streams.
+	 * @param timerWheel Timers for messages and streams.
+	 */
+	public HActiveMessages(File tempDir, HTimerWheel timerWheel) {
+	  this(tempDir, timerWheel, false);
+	}
+	
+	private HActiveMessages(File tempDir, HTimerWheel timerWheel, boolean ownTimerWheel) {
 	  this.tempDir = tempDir;
+	  this.timerWheel = timerWheel;
+	  this.ownTimerWheel = ownTimerWheel;
 	}
 	
 	public void done() {
 		if (log.isDebugEnabled()) log.debug("done(");
 		cleanup(true);
+		if (ownTimerWheel) timerWheel.done();
 		if (log.isDebugEnabled()) log.debug(")done");
 	}
 	
 	private HActiveMessage getOrCreateActiveMessage(final Long messageId) throws BException {
-		HActiveMessage msg = new HActiveMessage(messageId);
+		HActiveMessage msg = new HActiveMessage(messageId, this::scheduleMessageCleanup);
 		HActiveMessage msg1 = activeMessages.putIfAbsent(messageId, msg);
 		if (msg1 != null) msg = msg1;
 		if (msg.isCanceled()) {
@@ -151,7 +185,7 @@ public class HActiveMessages {
 		// Added to outgoing streams, since those streams are cleaned up 
 		// merely if they are expired. An incoming stream is also cleaned up, 
 		// if it is not referenced by an active message.
-		outgoingStreams.put(is.getTargetId().getStreamId(), new BContentStreamWrapper(is, HConstants.REQUEST_TIMEOUT_MILLIS) {
+		BContentStream stream = new BContentStreamWrapper(is, HConstants.REQUEST_TIMEOUT_MILLIS) {
       public void close() throws IOException {
         if (log.isDebugEnabled()) log.debug("close incoming stream " + targetId + "(");
         Long streamId = getTargetId().getStreamId();
@@ -159,7 +193,11 @@ public class HActiveMessages {
         super.close();
         if (log.isDebugEnabled()) log.debug(")close");
       }
-		});
+		};
+		Long streamId = is.getTargetId().getStreamId();
+		outgoingStreams.put(streamId, stream);
+		scheduleStreamCleanup(outgoingStreams, streamId, stream);
+		notifyStreamWaiters(streamId);
 		
     if (log.isDebugEnabled()) log.debug(")addIncomingStream");
 	}
@@ -253,6 +291,8 @@ public class HActiveMessages {
 	
 	/**
 	 * Cleanup expired messages and close expired streams.
+	 * Expired messages and streams are removed by timers. This function checks all 
+	 * messages and streams at once. It is called when the server is shut down and by tests. 
 	 * @param all false: cleanup expired, true: cleanup all
 	 */
 	public void cleanup(final boolean all) {
@@ -286,6 +326,91 @@ public class HActiveMessages {
 		if (log.isDebugEnabled()) log.debug(")cleanup");
 	}
 	
+	/**
+	 * Add an incoming stream to the message and to the map of incoming streams.
+	 * @param msg Message
+	 * @param streamId Stream ID
+	 * @param stream Stream
+	 * @throws BException
+	 */
+	private void addIncomingStream(HActiveMessage msg, Long streamId, BContentStream stream) throws BException {
+	  msg.addIncomingStream(streamId, stream, incomingStreams);
+	  
+	  // The stream is not added, if the message is already finished.
+	  if (incomingStreams.get(streamId) == stream) {
+	    scheduleStreamCleanup(incomingStreams, streamId, stream);
+	    notifyStreamWaiters(streamId);
+	  }
+	}
+	
+	/**
+	 * Wake up the threads waiting for the stream.
+	 * @param streamId Stream ID
+	 */
+	private void notifyStreamWaiters(Long streamId) {
+	  StreamWaiter waiter = streamWaiters.get(streamId);
+	  if (waiter != null) {
+	    synchronized (waiter) {
+	      waiter.notifyAll();
+	    }
+	  }
+	}
+	
+	/**
+	 * Register a timer that removes the message at its cleanup time.
+	 * This function is called by the message when it is finished or canceled.
+	 * @param msg Message
+	 */
+	private void scheduleMessageCleanup(HActiveMessage msg) {
+	  long delayMillis = msg.getCleanupAtMillis() - System.currentTimeMillis();
+	  timerWheel.schedule(delayMillis, () -> cleanupMessage(msg));
+	}
+	
+	/**
+	 * Remove the message, if it is finished and its cleanup time is reached.
+	 * Otherwise, check again later.
+	 * @param msg Message
+	 */
+	private void cleanupMessage(HActiveMessage msg) {
+	  if (activeMessages.get(msg.messageId) != msg) return;
+	  
+	  long delayMillis = HConstants.CLEANUP_MILLIS;
+	  if (msg.isFinished()) {
+	    delayMillis = msg.getCleanupAtMillis() - System.currentTimeMillis();
+	    if (delayMillis <= 0) {
+	      if (log.isDebugEnabled()) log.debug("remove message={}", msg);
+	      activeMessages.remove(msg.messageId);
+	      return;
+	    }
+	  }
+	  
+	  timerWheel.schedule(delayMillis, () -> cleanupMessage(msg));
+	}
+	
+	/**
+	 * Register a timer that closes the stream when it is expired.
+	 * The stream is checked at least every {@link HConstants#CLEANUP_MILLIS}, 
+	 * since its lifetime might be extended or it might be set expired.
+	 * @param streams Map of the stream
+	 * @param streamId Stream ID
+	 * @param stream Stream
+	 */
+	private void scheduleStreamCleanup(BHashMap<Long, BContentStream> streams, Long streamId, BContentStream stream) {
+	  long delayMillis = Math.min(HConstants.CLEANUP_MILLIS, stream.getExpirationMillis() - System.currentTimeMillis() + 1);
+	  timerWheel.schedule(delayMillis, () -> cleanupStream(streams, streamId, stream));
+	}
+	
+	private void cleanupStream(BHashMap<Long, BContentStream> streams, Long streamId, BContentStream stream) {
+	  if (streams.get(streamId) != stream) return;
+	  
+	  if (stream.isExpired()) {
+	    quietCloseStream(stream);
+	  }
+	  else {
+	    scheduleStreamCleanup(streams, streamId, stream);
+	  }
+	}
+	
 	/**
 	 * Close expired streams.
 	 * @param streams Streams
@@ -353,6 +478,8 @@ public class HActiveMessages {
       
       final Long streamId = streamRequest.getTargetId().getStreamId();
       outgoingStreams.put(streamId, ish);
+      scheduleStreamCleanup(outgoingStreams, streamId, ish);
+      notifyStreamWaiters(streamId);
       
     }
 
@@ -411,33 +538,56 @@ public class HActiveMessages {
       rctxt.addListener(alsn);
 
       BContentStream istrm = null;
+      
+      // Receive the request body without blocking a thread, see HIncomingStreamSync#addStreamAsync.
+      // The message can read the bytes already received.
+      final boolean readBodyAsync = HConstants.READ_BODY_ASYNC && !isMultipartRequest(rctxt);
 
       // Is splitted stream?
       if (partId != -1L) {
 
-        istrm = incomingStreams.get(targetId.getStreamId());
-
-        if (istrm == null) {
-
-          istrm = new HIncomingSplittedStreamAsync(targetId, contentType, totalLength, contentDisposition, HConstants.REQUEST_TIMEOUT_MILLIS, tempDir) {
-            public void close() throws IOException {
-              if (log.isDebugEnabled()) log.debug("close incoming stream={} (", targetId.getStreamId());
-              Long streamId = getTargetId().getStreamId();
-              incomingStreams.remove(streamId);
-              super.close();
-              if (log.isDebugEnabled()) log.debug(")close");
-            }
-          };
-
-          // BYPS-45: Add stream to the map of all streams and to the map of the messages' streams in a synchronized block.
-          // It has to be done 'at the same time' to have a consistent state in the cleanup thread.
-          if (log.isDebugEnabled()) log.debug("put splitted stream={}", targetId.getStreamId());
-          msg.addIncomingStream(targetId.getStreamId(), istrm, incomingStreams);
+        // The client might send several parts at the same time.
+        // Only the first part must create the stream object.
+        synchronized (msg) {
+          istrm = incomingStreams.get(targetId.getStreamId());
+
+          if (istrm == null) {
+
+            istrm = new HIncomingSplittedStreamAsync(targetId, contentType, totalLength, contentDisposition, HConstants.REQUEST_TIMEOUT_MILLIS, tempDir) {
+              public void close() throws IOException {
+                if (log.isDebugEnabled()) log.debug("close incoming stream={} (", targetId.getStreamId());
+                Long streamId = getTargetId().getStreamId();
+                incomingStreams.remove(streamId);
+                super.close();
+                if (log.isDebugEnabled()) log.debug(")close");
+              }
+            };
+
+            // BYPS-45: Add stream to the map of all streams and to the map of the messages' streams in a synchronized block.
+            // It has to be done 'at the same time' to have a consistent state in the cleanup thread.
+            if (log.isDebugEnabled()) log.debug("put splitted stream={}", targetId.getStreamId());
+            addIncomingStream(msg, targetId.getStreamId(), istrm);
+          }
         }
 
-        ((HIncomingSplittedStreamAsync) istrm).addStream(partId, preStream, isLastPart);
+        if (readBodyAsync) {
+          final HIncomingStreamSync partBuffer = new HIncomingStreamSync(targetId, contentType, preStream.getContentLength(), contentDisposition, HConstants.REQUEST_TIMEOUT_MILLIS, tempDir);
+          ((HIncomingSplittedStreamAsync) istrm).addStream(partId, partBuffer, isLastPart);
+          partBuffer.addStreamAsync(rctxt);
+        }
+        else {
+          ((HIncomingSplittedStreamAsync) istrm).addStream(partId, preStream, isLastPart);
+        }
 
       }
+      else if (readBodyAsync) {
+        final long length = totalLength >= 0 ? totalLength : preStream.getContentLength();
+        final HIncomingStreamSync istrmSync = createIncomingStreamSync(targetId, contentType, length, contentDisposition);
+        
+        if (log.isDebugEnabled()) log.debug("put stream={}", targetId.getStreamId());
+        addIncomingStream(msg, targetId.getStreamId(), istrmSync);
+        istrmSync.addStreamAsync(rctxt);
+      }
       else {
 
         istrm = new HIncomingStreamAsync(targetId, preStream, tempDir) {
@@ -452,11 +602,7 @@ public class HActiveMessages {
         
         // BYPS-45: see above
         if (log.isDebugEnabled()) log.debug("put stream={}", targetId.getStreamId());
-        msg.addIncomingStream(targetId.getStreamId(), istrm, incomingStreams);
-      }
-
-      synchronized(this) {
-        notifyAll();
+        addIncomingStream(msg, targetId.getStreamId(), istrm);
       }
 
     } catch (Throwable e) {
@@ -487,6 +633,29 @@ public class HActiveMessages {
     if (log.isDebugEnabled()) log.debug(")addIncomingStreamSync");
   }
 
+  /**
+   * Create a stream that buffers the received bytes in memory or in a temporary file.
+   * The stream is removed from the incoming streams when it is closed.
+   */
+  private HIncomingStreamSync createIncomingStreamSync(final BTargetId targetId, String contentType, long contentLength, String contentDisposition) {
+    return new HIncomingStreamSync(targetId, contentType, contentLength, contentDisposition, HConstants.REQUEST_TIMEOUT_MILLIS, tempDir) {
+
+      @Override
+      public void close() throws IOException {
+        if (log.isDebugEnabled()) log.debug("close " + targetId + "(");
+        Long streamId = getTargetId().getStreamId();
+        incomingStreams.remove(streamId);
+        super.close();
+        if (log.isDebugEnabled()) log.debug(")close");
+      }
+    };
+  }
+
+  private static boolean isMultipartRequest(HRequestContext rctxt) {
+    String requestContentType = rctxt.getRequest().getContentType();
+    return requestContentType != null && requestContentType.toLowerCase().startsWith("multipart/form-data");
+  }
+
   /**
    * Wrap the stream data of the request body into a BContentStream.
    * If the request is of type multipart/form-data get the InputStream from request part "file". 
@@ -579,26 +748,11 @@ public class HActiveMessages {
 
         if (log.isDebugEnabled()) log.debug("create HInputStreamBuffer");
         long length = totalLength >= 0 ? totalLength : contentLength;
-        istrm = new HIncomingStreamSync(targetId, contentType, length, contentDisposition, HConstants.REQUEST_TIMEOUT_MILLIS, tempDir) {
-
-          @Override
-          public void close() throws IOException {
-            if (log.isDebugEnabled()) log.debug("close " + targetId + "(");
-            Long streamId = getTargetId().getStreamId();
-            incomingStreams.remove(streamId);
-            super.close();
-            if (log.isDebugEnabled()) log.debug(")close");
-          }
-        };
+        istrm = createIncomingStreamSync(targetId, contentType, length, contentDisposition);
 
         // BYPS-45: see addIncomingStreamAsync
         if (log.isDebugEnabled()) log.debug("put incoming stream into map, targetId={}", targetId);
-        msg.addIncomingStream(targetId.getStreamId(), istrm, incomingStreams);
-      }
-
-      // Notify threads waiting to read this stream
-      synchronized(this) {
-        notifyAll();
+        addIncomingStream(msg, targetId.getStreamId(), istrm);
       }
 
     } catch (Throwable e) {
@@ -609,41 +763,61 @@ public class HActiveMessages {
     return istrm;
   }
 
-  public synchronized BContentStream getIncomingOrOutgoingStream(Long streamId, long timeoutMillis) throws IOException, BException {
+  public BContentStream getIncomingOrOutgoingStream(Long streamId, long timeoutMillis) throws IOException, BException {
     if (log.isDebugEnabled()) log.debug("getIncomingStream(streamId=" + streamId);
     long t1 = System.currentTimeMillis();
-    BContentStream stream = null;
-
-    while (true) {
-
-      stream = incomingStreams != null ? incomingStreams.get(streamId) : null;
-      if (stream != null) break;
-
-      stream = outgoingStreams != null ? outgoingStreams.get(streamId) : null;
-      if (stream != null) break;
-
-      // Wait until the requested stream is received
-      long t2 = System.currentTimeMillis();
-      if (timeoutMillis < (t2 - t1)) {
-        String msg = "Wait for stream=" + streamId + " timed out after " + timeoutMillis + "ms";
-        if (log.isDebugEnabled()) log.debug(msg);
-        throw new BException(BExceptionC.TIMEOUT, msg);
-      }
-
-      // Wait not more than 10s to make sure,
-      // that we never will hang here because of a lost notify().
-      long to = Math.min(timeoutMillis, HConstants.INCOMING_STREAM_TIMEOUT_MILLIS/10);
-      if (log.isDebugEnabled()) log.debug("wait for stream=" + streamId + ", timeout=" + to);
+    
+    BContentStream stream = findStream(streamId);
+    if (stream == null) {
+      
+      // Register this thread before the maps are checked again.
+      // A stream added after this point notifies the waiter.
+      StreamWaiter waiter = streamWaiters.compute(streamId, (k, w) -> {
+        if (w == null) w = new StreamWaiter();
+        w.nbOfThreads++;
+        return w;
+      });
+      
       try {
-        wait(to);
-      } catch (InterruptedException e) {
-        throw new BException(BExceptionC.TIMEOUT, "Wait for stream=" + streamId + " interrupted.");
+        synchronized (waiter) {
+          while ((stream = findStream(streamId)) == null) {
+            
+            // Wait until the requested stream is received
+            long t2 = System.currentTimeMillis();
+            if (timeoutMillis < (t2 - t1)) {
+              String msg = "Wait for stream=" + streamId + " timed out after " + timeoutMillis + "ms";
+              if (log.isDebugEnabled()) log.debug(msg);
+              throw new BException(BExceptionC.TIMEOUT, msg);
+            }
+      
+            // Wait not more than 10s to make sure,
+            // that we never will hang here because of a lost notify().
+            long to = Math.min(timeoutMillis, HConstants.INCOMING_STREAM_TIMEOUT_MILLIS/10);
+            if (log.isDebugEnabled()) log.debug("wait for stream=" + streamId + ", timeout=" + to);
+            try {
+              waiter.wait(to);
+            } catch (InterruptedException e) {
+              throw new BException(BExceptionC.TIMEOUT, "Wait for stream=" + streamId + " interrupted.");
+            }
+          }
+        }
+      }
+      finally {
+        streamWaiters.compute(streamId, (k, w) -> --w.nbOfThreads == 0 ? null : w);
       }
     }
     
     if (log.isDebugEnabled()) log.debug(")getIncomingStream=" + stream);
     return stream;
   }
+  
+  private BContentStream findStream(Long streamId) {
+    BContentStream stream = incomingStreams.get(streamId);
+    if (stream == null) {
+      stream = outgoingStreams.get(streamId);
+    }
+    return stream;
+  }
 
   public HActiveMessage getActiveMessage(long messageId) {
     return activeMessages.get(messageId);
@@ -0,0 +1,160 @@
+package byps.http;
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import byps.BBufferPool;
+import byps.BCodec;
+import byps.BCodecs;
+import byps.BWire;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Reads a message body without blocking a container thread.
+ * The bytes are collected in a pooled buffer, which is allocated with the size of the Content-Length header.
+ * After the body has been received, the decompressed message is stored in the request attribute
+ * {@link #ATTR_MESSAGE_BODY} and the request is dispatched to the servlet again.
+ * See {@link HHttpServlet#doPostMessage(HttpServletRequest, HttpServletResponse)}.
+ */
+class HAsyncBodyReader implements ReadListener {
+
+  private final static Logger log = LoggerFactory.getLogger(HAsyncBodyReader.class);
+
+  /**
+   * Request attribute that holds the received message.
+   */
+  final static String ATTR_MESSAGE_BODY = "byps.http.messageBody";
+
+  private final static int INITIAL_BUFFER_SIZE = 10 * 1000;
+  private final static int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+  private final AsyncContext actxt;
+  private final ServletInputStream istream;
+  private final String contentEncoding;
+  private ByteBuffer buf;
+
+  private HAsyncBodyReader(AsyncContext actxt, ServletInputStream istream, String contentEncoding, long contentLength) {
+    this.actxt = actxt;
+    this.istream = istream;
+    this.contentEncoding = contentEncoding;
+
+    // One more byte than the content length, so that the end of stream
+    // is detected without growing the buffer.
+    int capacity = INITIAL_BUFFER_SIZE;
+    if (contentLength >= 0 && contentLength < MAX_BUFFER_SIZE) {
+      capacity = (int)contentLength + 1;
+    }
+    this.buf = BBufferPool.allocate(capacity);
+  }
+
+  /**
+   * Start reading the request body.
+   * The container thread returns immediately.
+   * @param request Request
+   * @param contentEncoding Value of the Content-Encoding header or null.
+   * @param contentLength Value of the Content-Length header or -1.
+   * @throws IOException
+   */
+  static void start(HttpServletRequest request, String contentEncoding, long contentLength) throws IOException {
+    if (log.isDebugEnabled()) log.debug("start(contentEncoding={}, contentLength={}", contentEncoding, contentLength);
+    AsyncContext actxt = request.startAsync();
+    actxt.setTimeout(HConstants.REQUEST_TIMEOUT_MILLIS);
+    ServletInputStream istream = request.getInputStream();
+    istream.setReadListener(new HAsyncBodyReader(actxt, istream, contentEncoding, contentLength));
+    if (log.isDebugEnabled()) log.debug(")start");
+  }
+
+  @Override
+  public void onDataAvailable() throws IOException {
+    while (istream.isReady()) {
+      if (!buf.hasRemaining()) {
+        if (buf.capacity() >= MAX_BUFFER_SIZE) throw new IOException("Message too large.");
+        ByteBuffer nbuf = BBufferPool.allocate((int)Math.min((long)buf.capacity() << 1, MAX_BUFFER_SIZE));
+        buf.flip();
+        nbuf.put(buf);
+        BBufferPool.release(buf);
+        buf = nbuf;
+      }
+      int len = istream.read(buf.array(), buf.position(), buf.remaining());
+      if (len < 0) break;
+      buf.position(buf.position() + len);
+    }
+  }
+
+  @Override
+  public void onAllDataRead() throws IOException {
+    if (log.isDebugEnabled()) log.debug("onAllDataRead(#bytes={}", buf.position());
+    buf.flip();
+
+    ByteBuffer ibuf = null;
+    try {
+      ibuf = decompress(buf);
+    }
+    catch (IOException e) {
+      log.warn("Failed to decompress message.", e);
+      onError(e);
+      return;
+    }
+    if (ibuf != buf) {
+      BBufferPool.release(buf);
+    }
+    buf = null;
+
+    // Process the message in the servlet, see HHttpServlet.doPostMessage
+    actxt.getRequest().setAttribute(ATTR_MESSAGE_BODY, ibuf);
+    actxt.dispatch();
+
+    if (log.isDebugEnabled()) log.debug(")onAllDataRead");
+  }
+
+  @Override
+  public void onError(Throwable e) {
+    if (log.isDebugEnabled()) log.debug("onError(", e);
+    BBufferPool.release(buf);
+    buf = null;
+    try {
+      HttpServletResponse response = (HttpServletResponse)actxt.getResponse();
+      if (!response.isCommitted()) {
+        response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+      }
+    }
+    finally {
+      actxt.complete();
+    }
+    if (log.isDebugEnabled()) log.debug(")onError");
+  }
+
+  /**
+   * Decompress the message as done by {@link BCodecs#bufferFromStream(java.io.InputStream, String, long)}.
+   * @param buf Received bytes
+   * @return Message
+   * @throws IOException
+   */
+  private ByteBuffer decompress(ByteBuffer buf) throws IOException {
+    BCodec codec = BCodecs.get(contentEncoding);
+    if (codec != null) {
+      return codec.decompress(buf);
+    }
+
+    // Older clients compress messages by GZIP without Content-Encoding header.
+    if (buf.remaining() >= 2) {
+      int magic = (buf.get(buf.position()) & 0xFF) | ((buf.get(buf.position() + 1) & 0xFF) << 8);
+      if (magic == GZIPInputStream.GZIP_MAGIC) {
+        ByteArrayInputStream is = new ByteArrayInputStream(buf.array(), buf.position(), buf.remaining());
+        return BWire.bufferFromStream(is, Boolean.TRUE, buf.remaining());
+      }
+    }
+
+    return buf;
+  }
+
+}
@@ -1,59 +1,89 @@
 package byps.http;
 /* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
-import java.util.ArrayList;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import byps.BHashMap;
 
+/**
+ * Removes expired sessions and their expired long-polls and reverse requests.
+ *
+ * Each session registers a timer in a {@link HTimerWheel}. The timer expires every
+ * {@link HConstants#CLEANUP_MILLIS} or when the session expires, whatever comes first.
+ * Since the sessions are created at different times, their timers are spread over
+ * the cleanup interval. Expired messages and streams are removed by timers
+ * registered in {@link HActiveMessages}.
+ */
 public class HCleanupResources {
-	
-	protected final BHashMap<String, HSession> sessions;
-	protected final MyCleanupThread cleanupThread;
-	protected final HServerContext serverContext;
-	
-	public HCleanupResources(BHashMap<String, HSession> sessions, HServerContext serverContext) {
-		this.sessions = sessions;
-		this.serverContext = serverContext;
-		this.cleanupThread = new MyCleanupThread();
-		this.cleanupThread.start();
-	}
-	
-	public void done() {
-		this.cleanupThread.interrupt();
-	}
-	
-  private class MyCleanupThread extends Thread {
-
-    public MyCleanupThread() {
-      setName("cleanup-resources");
-      setDaemon(true);
+
+  private final static Logger log = LoggerFactory.getLogger(HCleanupResources.class);
+
+  protected final BHashMap<String, HSession> sessions;
+  protected final HServerContext serverContext;
+  protected final HTimerWheel timerWheel;
+
+  /**
+   * Constructor.
+   * Registers a timer for each session in the map.
+   * Sessions added later have to be passed to {@link #addSession(String, HSession)}.
+   * @param sessions Sessions
+   * @param serverContext Server context
+   * @param timerWheel Timers, stopped in {@link #done()}
+   */
+  public HCleanupResources(BHashMap<String, HSession> sessions, HServerContext serverContext, HTimerWheel timerWheel) {
+    this.sessions = sessions;
+    this.serverContext = serverContext;
+    this.timerWheel = timerWheel;
+    for (String sessionId : sessions.keys()) {
+      HSession sess = sessions.get(sessionId);
+      if (sess != null) addSession(sessionId, sess);
+    }
+  }
+
+  public HCleanupResources(BHashMap<String, HSession> sessions, HServerContext serverContext) {
+    this(sessions, serverContext, new HTimerWheel("cleanup-resources"));
+  }
+
+  public void done() {
+    this.timerWheel.done();
+  }
+
+  /**
+   * Register the timer of a session.
+   * @param sessionId Session ID, key in the session map.
+   * @param sess Session
+   */
+  public void addSession(String sessionId, HSession sess) {
+    scheduleSession(sessionId, sess);
+  }
+
+  /**
+   * Number of pending timers for sessions, messages and streams.
+   * @return Number of timers.
+   */
+  public int getPendingTimers() {
+    return timerWheel.getPendingTimers();
+  }
+
+  private void scheduleSession(String sessionId, HSession sess) {
+    long delayMillis = Math.min(HConstants.CLEANUP_MILLIS, sess.getExpirationMillis() - System.currentTimeMillis() + 1);
+    timerWheel.schedule(delayMillis, () -> cleanupSession(sessionId, sess));
+  }
+
+  private void cleanupSession(String sessionId, HSession sess) {
+
+    // Session has been removed in HSession.done()
+    if (sessions.get(sessionId) != sess) return;
+
+    try {
+      sess.removeExpiredResources();
+    }
+    catch (Throwable e) {
+      log.error("Unexpected exception in cleanup of session: ", e);
     }
 
-    @Override
-    public void run() {
-      Logger log = LoggerFactory.getLogger(HCleanupResources.class);
-      try {
-        while (!Thread.interrupted()) {
-          Thread.sleep(HConstants.CLEANUP_MILLIS);
-          
-          try {
-            ArrayList<HSession> arrSessions = new ArrayList<HSession>(sessions.values());
-            for (HSession sess : arrSessions) {
-              sess.removeExpiredResources();
-            }
-            
-            serverContext.getActiveMessages().cleanup(false);
-          }
-          catch (Throwable e) {
-            log.error("Unexpected exception in cleanup-thread: ", e);
-          }
-
-        }
-      }
-      catch (InterruptedException e) {
-      }
+    if (!sess.isExpired()) {
+      scheduleSession(sessionId, sess);
     }
   }
 
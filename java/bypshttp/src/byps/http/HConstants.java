@@ -75,6 +75,12 @@ public class HConstants {
    */
   public final static boolean PROCESS_MESSAGE_ASYNC = true;
 
+  /**
+   * Send file-backed outgoing streams with non-blocking I/O (Servlet 3.1 WriteListener).
+   * The request thread is released while the client downloads the stream.
+   */
+  public final static boolean PROCESS_GET_STREAM_ASYNC = true;
+
   /**
    * Incoming streams up to this size are kept in memory. If the stream is
    * large, it is written on disc.
@@ -174,6 +180,82 @@ public class HConstants {
    */
   public static String BYPS_SESSION_ID_PARAMETER_NAME = "bypsSessionId";
   
+  /**
+   * Maximum number of requests that wait for a free thread in the thread pool of a HWireClient.
+   * Further requests fail with BExceptionC.TOO_MANY_REQUESTS.
+   * This option can be configured by system property byps.http.maxPendingRequests
+   */
+  public static long MAX_PENDING_REQUESTS = 1000;
+  
+  /**
+   * Time a request waits for a free thread in the thread pool of a HWireClient.
+   * This option can be configured by system property byps.http.pendingRequestTimeoutSeconds
+   */
+  public static long PENDING_REQUEST_TIMEOUT_MILLIS = 10 * 1000L;
+  
+  /**
+   * Number of parts of a stream that the client uploads concurrently.
+   * Large streams are sent in several requests. While a part is transferred, 
+   * the following parts are read from the stream and sent. This hides the round trip 
+   * time of the requests on high-latency connections.
+   * A value of 1 sends the parts one after another.
+   * This option can be configured by system property byps.http.putStreamParallelParts
+   */
+  public static int PUT_STREAM_PARALLEL_PARTS = 4;
+  
+  /**
+   * Resolution of the timers for messages, streams and sessions.
+   * The timers are managed by {@link HTimerWheel}. A timer expires at most
+   * this time after its deadline.
+   * This option can be configured by system property byps.http.timerTickMillis
+   */
+  public static long TIMER_TICK_MILLIS = 100;
+  
+  /**
+   * Maximum number of reverse requests the server sends in the response of one long-poll.
+   * If more reverse requests are pending than long-polls are available, the
+   * client receives several requests at once, executes them in parallel and
+   * returns their results in its next long-poll. A value of 1 disables batching.
+   * This option can be configured by system property byps.http.longpollBatchSize
+   */
+  public static int LONGPOLL_BATCH_SIZE = 16;
+  
+  /**
+   * Name of the WebSocket transport in the negotiate message.
+   * See {@link byps.BNegotiate#transports}.
+   */
+  public final static String TRANSPORT_WEBSOCKET = "websocket";
+  
+  /**
+   * Accept WebSocket connections.
+   * If enabled, clients that support WebSockets send method calls and receive 
+   * reverse requests over one WebSocket connection instead of HTTP requests and long-polls. 
+   * This option can be configured by system property byps.http.websocket
+   */
+  public static boolean WEBSOCKET_ENABLED = true;
+  
+  /**
+   * Maximum size of a message received over a WebSocket connection.
+   * Larger messages are sent in HTTP requests by the client.
+   * This option can be configured by system property byps.http.websocketMaxMessageSize
+   */
+  public static int WEBSOCKET_MAX_MESSAGE_SIZE = 10 * 1000 * 1000;
+  
+  /**
+   * Maximum number of encrypted and of decrypted target IDs kept in the cache of {@link HTargetIdFactory}.
+   * A value of 0 disables the cache.
+   * This option can be configured by system property byps.http.targetIdCacheSize
+   */
+  public static int TARGET_ID_CACHE_SIZE = 10000;
+  
+  /**
+   * Read message bodies and streams by a ReadListener (Servlet 3.1).
+   * If enabled, a slow client does not block a thread of the servlet container while it sends the request body.
+   * Multipart requests are still read by blocking calls.
+   * This option can be configured by system property byps.http.readBodyAsync
+   */
+  public static boolean READ_BODY_ASYNC = true;
+  
   static
   {
     INCOMING_STREAM_TIMEOUT_MILLIS = getSystemPropertyLong("byps.http.incomingStreamTimeoutSeconds", INCOMING_STREAM_TIMEOUT_MILLIS / 1000) * 1000;
@@ -187,6 +269,20 @@ public class HConstants {
     HTTP_SESSION_COOKIE_REQUIRED = Boolean.parseBoolean(System.getProperty("byps.http.sessionCookieRequired", "true"));
     
     HTTP_UPLOAD_CSRF_PROTECTION = Boolean.parseBoolean(System.getProperty("byps.http.uploadCsrfProtection", "true"));
+    
+    MAX_PENDING_REQUESTS = getSystemPropertyLong("byps.http.maxPendingRequests", MAX_PENDING_REQUESTS);
+    PENDING_REQUEST_TIMEOUT_MILLIS = getSystemPropertyLong("byps.http.pendingRequestTimeoutSeconds", PENDING_REQUEST_TIMEOUT_MILLIS / 1000) * 1000;
+    
+    PUT_STREAM_PARALLEL_PARTS = (int)getSystemPropertyLong("byps.http.putStreamParallelParts", PUT_STREAM_PARALLEL_PARTS);
+    
+    TIMER_TICK_MILLIS = getSystemPropertyLong("byps.http.timerTickMillis", TIMER_TICK_MILLIS);
+    
+    LONGPOLL_BATCH_SIZE = (int)getSystemPropertyLong("byps.http.longpollBatchSize", LONGPOLL_BATCH_SIZE);
+    
+    WEBSOCKET_ENABLED = Boolean.parseBoolean(System.getProperty("byps.http.websocket", "true"));
+    WEBSOCKET_MAX_MESSAGE_SIZE = (int)getSystemPropertyLong("byps.http.websocketMaxMessageSize", WEBSOCKET_MAX_MESSAGE_SIZE);
+    TARGET_ID_CACHE_SIZE = (int)getSystemPropertyLong("byps.http.targetIdCacheSize", TARGET_ID_CACHE_SIZE);
+    READ_BODY_ASYNC = Boolean.parseBoolean(System.getProperty("byps.http.readBodyAsync", "true"));
   }
 
   private static long getSystemPropertyLong(String prop, long defaultValue) {
@@ -10,6 +10,8 @@ import java.io.PrintWriter;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -28,6 +30,7 @@ import byps.BAsyncResult;
 import byps.BBuffer;
 import byps.BBufferJson;
 import byps.BClient;
+import byps.BCodecs;
 import byps.BContentStream;
 import byps.BException;
 import byps.BExceptionC;
@@ -48,8 +51,10 @@ import byps.rest.RestOperations;
 import byps.ureq.BRegistry_BUtilityRequests;
 import byps.ureq.BSkeleton_BUtilityRequests;
 import byps.ureq.JRegistry_BUtilityRequests;
+import jakarta.servlet.AsyncContext;
 import jakarta.servlet.ServletConfig;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.annotation.MultipartConfig;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
@@ -213,11 +218,13 @@ public abstract class HHttpServlet extends HttpServlet implements
 
         };
 
+        HTimerWheel timerWheel = new HTimerWheel("cleanup-resources");
+        
         activeMessages_use_getActiveMessages = new HActiveMessages(
-            config.getTempDir());
+            config.getTempDir(), timerWheel);
 
         cleanupThread = new HCleanupResources(
-            HSessionListener.getAllSessions(), HHttpServlet.this);
+            HSessionListener.getAllSessions(), HHttpServlet.this, timerWheel);
 
         initializationFinished();
 
@@ -409,30 +416,56 @@ public abstract class HHttpServlet extends HttpServlet implements
     return new HRestExecutor(getConfig(), getRestOperations(), getHtmlUploadMaxSize(), sess, request, response);
   }
   
-  private void sendOutgoingStream(BContentStream is, HttpServletResponse response, HRangeRequest rangeRequest) throws IOException {
+  /**
+   * Send the bytes of a stream in the response of a GET request.
+   * If the stream is backed by a file, the bytes are sent from the file. 
+   * If the stream is backed by a file and the container supports asynchronous processing, 
+   * the bytes are written with non-blocking I/O and this function returns before the stream has been sent.
+   */
+  private void sendOutgoingStream(BContentStream is, HttpServletRequest request, HttpServletResponse response, HRangeRequest rangeRequest) throws IOException {
     if (log.isDebugEnabled()) log.debug("sendOutgoingStream(stream=" + is);
 
-    OutputStream os = null;
-    byte[] buf = new byte[HConstants.DEFAULT_BYTE_BUFFER_SIZE];
-    int len = 0;
-    final long BYTES_WRITTEN_GRANULARITY = 100*1000*1000;
-    final long BYTES_WRITTEN_MB = 1000*1000;
+    HOutgoingStreamWriter writer = null;
+    FileChannel fileChannel = null;
     
     try {
       
+      // Are the bytes stored in a file?
+      final File file = is.getFile();
+      
       // Evaluate offset, length, etc.
-      rangeRequest.evaluateByteRange(is);
-      if (log.isDebugEnabled()) log.debug("rangeRequest=" + rangeRequest);
+      rangeRequest.evaluateByteRange(is, file != null || is.positionSupported());
+      if (log.isDebugEnabled()) log.debug("rangeRequest=" + rangeRequest + ", file=" + file);
+      
+      final boolean closeStream = !rangeRequest.isValid();
+      final byte[] buf = new byte[HConstants.DEFAULT_BYTE_BUFFER_SIZE];
       
-      // Position the stream to the given offset
-      if (rangeRequest.isValid()) {
-        is.position(rangeRequest.getOffset());
+      if (file != null) {
+        
+        // Open the file before setting headers. 
+        // This makes sure that the file can be read before the response code is set to 200 or 206.
+        fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        
+        long offset = rangeRequest.isValid() ? rangeRequest.getOffset() : 0;
+        long length = rangeRequest.getLength() >= 0 ? rangeRequest.getLength() : fileChannel.size() - offset;
+        writer = new HOutgoingStreamWriter(is, closeStream, buf, fileChannel, offset, length);
       }
+      else {
+        
+        // Position the stream to the given offset
+        if (rangeRequest.isValid()) {
+          is.position(rangeRequest.getOffset());
+        }
 
-      // Before setting headers, read the first bytes to return. 
-      // This makes sure that the stream can be read before the response code is set to 200 or 206.
-      // Furthermore, if the stream is a BContentStreamWrapper, it calls ensureStream() which initializes the stream properties (contentLength, ....)
-      len = is.read(buf);
+        // Before setting headers, read the first bytes to return. 
+        // This makes sure that the stream can be read before the response code is set to 200 or 206.
+        // Furthermore, if the stream is a BContentStreamWrapper, it calls ensureStream() which initializes the stream properties (contentLength, ....)
+        long length = rangeRequest.getLength();
+        int len = is.read(buf, 0, length >= 0 ? (int)Math.min(length, buf.length) : buf.length);
+        if (len == 0 && length == 0) len = -1;
+        
+        writer = new HOutgoingStreamWriter(is, closeStream, buf, len, length);
+      }
       
       // Always return Content-Type and Content-Disposition 
       final String contentType = is.getContentType();
@@ -446,83 +479,107 @@ public abstract class HHttpServlet extends HttpServlet implements
       // Set headers Accept-Ranges, Content-Range, ETAG, Content-Length,...
       rangeRequest.setResponseHeaders(response);
       
-      // Copy bytes to socket -------------
-      long bytesWritten = 0;
-      os = response.getOutputStream();
-      while (len != -1) {
-        
-        // Browsers use to send a "Range: 123-" header only with an start offset but without an end offset. 
-        // If the user e.g. changes the play position of a video, the browser resets the socket and 
-        // requests the stream with another "Range: 234-" header again. 
-        // Resetting the socket causes at this point (os.write) a 
-        // "ClientAbortException:  java.net.SocketException: Connection reset by peer: socket write error"
-        os.write(buf, 0, len);
-        
-        bytesWritten += len;
-        if (log.isDebugEnabled()) {
-          if (bytesWritten != 0 && (bytesWritten % BYTES_WRITTEN_GRANULARITY == 0)) {
-            if (log.isDebugEnabled()) log.debug("bytesWritten=" + (bytesWritten / BYTES_WRITTEN_MB) + "MB");
-          }
-        }
-
-        int bytesToRead = buf.length;
-        if (rangeRequest.getLength() != -1) {
-          bytesToRead = (int)Math.min(rangeRequest.getLength() - bytesWritten, buf.length);
-        }
-        
-        if (bytesToRead == 0) break;
-        len = is.read(buf, 0, bytesToRead);
-      }
-
-      if (log.isDebugEnabled()) {
-        long totalMB = bytesWritten / BYTES_WRITTEN_MB;
-        if (totalMB != 0) {
-          if (log.isDebugEnabled()) log.debug("total bytesWritten=" + totalMB + "MB");
-        }
-      }
-
-    }
-    catch (BException e) {
-      log.debug("Read stream failed", e);
-      throw e;
-    }
-    catch (IOException e) {
-      log.debug("Read stream failed", e);
-      throw e;
     }
     catch (Throwable e) {
       log.debug("Read stream failed", e);
-      throw new IOException("Read stream failed.", e);
-    }
-    finally {
       
-      if (rangeRequest.isValid()) {
-        // Keep the stream open until BContentStream.isExpired 
+      if (fileChannel != null) try {
+        fileChannel.close();
       }
-      else {
-        if (log.isDebugEnabled()) log.debug("close response of outgoing stream, stream=" + is);
-        if (is != null) try {
-          is.close();
-        }
-        catch (IOException ignored) {
-        }
+      catch (IOException ignored) {
       }
       
-      if (os != null) try {
-        os.close();
+      if (is != null && !rangeRequest.isValid()) try {
+        is.close();
       }
       catch (IOException ignored) {
       }
+      
+      if (e instanceof IOException) throw (IOException)e;
+      throw new IOException("Read stream failed.", e);
+    }
+    
+    // Copy bytes to socket -------------
+    // Only the bytes of a file can be read without blocking the thread that writes them.
+    // Other streams might wait for data, e.g. for an upload that is still in progress.
+    if (fileChannel != null && HConstants.PROCESS_GET_STREAM_ASYNC && request.isAsyncSupported()) {
+      
+      // Write the bytes when the socket is ready.
+      // The async context has no timeout, because large downloads can take a long time.
+      // If the client does not read anymore, the container reports an error to the writer.
+      AsyncContext asyncContext = request.startAsync(request, response);
+      asyncContext.setTimeout(0);
+      writer.writeAsync(asyncContext);
+    }
+    else {
+      
+      try (ServletOutputStream os = response.getOutputStream()) {
+        writer.write(os);
+      }
+      catch (IOException e) {
+        log.debug("Write stream failed", e);
+        throw e;
+      }
     }
 
     if (log.isDebugEnabled()) log.debug(")sendOutgoingStream");
   }
 
+  /**
+   * Upgrade the request to a WebSocket connection.
+   * The client opens the connection after it has negotiated the transport {@link HConstants#TRANSPORT_WEBSOCKET}.
+   * The BYPS session is passed in the parameter {@link HConstants#BYPS_SESSION_ID_PARAMETER_NAME}.
+   * @param request Request
+   * @param response Response
+   * @throws ServletException
+   * @throws IOException
+   */
+  protected void doWebSocketUpgrade(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+    if (log.isDebugEnabled()) log.debug("doWebSocketUpgrade(");
+
+    final String key = request.getHeader("Sec-WebSocket-Key");
+    final String version = request.getHeader("Sec-WebSocket-Version");
+    if (!HConstants.WEBSOCKET_ENABLED || key == null || key.isEmpty() || !"13".equals(version)) {
+      if (log.isDebugEnabled()) log.debug(")doWebSocketUpgrade, invalid upgrade request, key={}, version={}", key, version);
+      response.setHeader("Sec-WebSocket-Version", "13");
+      response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+      return;
+    }
+
+    final BMessageHeader header = new BMessageHeader();
+    final String sessionId = request.getParameter(HConstants.BYPS_SESSION_ID_PARAMETER_NAME);
+    if (sessionId != null) header.sessionId = sessionId;
+    
+    final HSession sess = getSessionFromMessageHeaderOrHttpRequest(header, request);
+    if (sess == null) {
+      if (log.isDebugEnabled()) log.debug(")doWebSocketUpgrade, no session");
+      response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+      return;
+    }
+
+    response.setStatus(HttpServletResponse.SC_SWITCHING_PROTOCOLS);
+    response.setHeader("Upgrade", "websocket");
+    response.setHeader("Connection", "Upgrade");
+    response.setHeader("Sec-WebSocket-Accept", HWebSocketConnection.makeAcceptKey(key));
+
+    HWebSocketConnection conn = request.upgrade(HWebSocketConnection.class);
+    conn.setSession(this, sess, request);
+
+    if (log.isDebugEnabled()) log.debug(")doWebSocketUpgrade");
+  }
+
   @Override
   public void doGet(HttpServletRequest request, HttpServletResponse response)
       throws ServletException, IOException {
     if (log.isDebugEnabled()) log.debug("doGet(");
 
+    // WebSocket connection?
+    if (HWebSocketConnection.isUpgradeRequest(request)) {
+      doWebSocketUpgrade(request, response);
+      if (log.isDebugEnabled()) log.debug(")doGet");
+      return;
+    }
+
     // Test adapter function?
     final String testAdapterStr = request.getParameter(HTestAdapter.KEY_PARAM);
     if (testAdapterStr != null && testAdapterStr.length() != 0) {
@@ -614,7 +671,7 @@ public abstract class HHttpServlet extends HttpServlet implements
 
       HRangeRequest rangeRequest = new HRangeRequest(request);
       
-      sendOutgoingStream(stream, response, rangeRequest);
+      sendOutgoingStream(stream, request, response, rangeRequest);
     }
 
     // Bad request
@@ -662,6 +719,16 @@ public abstract class HHttpServlet extends HttpServlet implements
       HttpServletResponse response) throws ServletException, IOException {
     if (log.isDebugEnabled()) log.debug("doPostMessage(");
 
+    // Message body received by HAsyncBodyReader?
+    final ByteBuffer receivedBuf = (ByteBuffer)request.getAttribute(HAsyncBodyReader.ATTR_MESSAGE_BODY);
+    if (receivedBuf != null) {
+      request.removeAttribute(HAsyncBodyReader.ATTR_MESSAGE_BODY);
+      if (log.isDebugEnabled()) log.debug(BBuffer.toDetailString(receivedBuf));
+      doMessage(request, response, receivedBuf);
+      if (log.isDebugEnabled()) log.debug(")doPostMessage");
+      return;
+    }
+
     // Is request of type multipart/form-data?
     // BYPS-83
     String requestContentType = request.getContentType();
@@ -673,12 +740,24 @@ public abstract class HHttpServlet extends HttpServlet implements
     // InputStream, content-type and content-length is either from the "file" part or from the entire request.
     String contentType = filePart.map(Part::getContentType).orElse(requestContentType);
     long contentLength = filePart.map(Part::getSize).orElse(request.getContentLengthLong());
+    String contentEncoding = filePart.map(p -> p.getHeader("Content-Encoding")).orElse(request.getHeader("Content-Encoding"));
+    
+    // Read the body without blocking the container thread.
+    // Multipart requests have already been read by request.getPart().
+    if (HConstants.READ_BODY_ASYNC && !isMultipart && request.isAsyncSupported()) {
+      if (log.isDebugEnabled()) log.debug("read body async");
+      HAsyncBodyReader.start(request, contentEncoding, contentLength);
+      if (log.isDebugEnabled()) log.debug(")doPostMessage");
+      return;
+    }
+    
     try (InputStream istream = filePart.isPresent() ? filePart.get().getInputStream() : request.getInputStream()) {
       
-      if (log.isDebugEnabled()) log.debug("requestContentType={}, contentType={}, contentLength={}", requestContentType, contentType, contentLength);
+      if (log.isDebugEnabled()) log.debug("requestContentType={}, contentType={}, contentLength={}, contentEncoding={}", requestContentType, contentType, contentLength, contentEncoding);
 
-      // Read stream into buffer.
-      ByteBuffer ibuf = BWire.bufferFromStream(istream);
+      // Read stream into buffer and decompress it.
+      // The buffer is allocated once, if the client has sent the Content-Length.
+      ByteBuffer ibuf = BCodecs.bufferFromStream(istream, contentEncoding, contentLength);
 
       if (log.isDebugEnabled()) log.debug(BBuffer.toDetailString(ibuf));
 
@@ -1026,6 +1105,9 @@ public abstract class HHttpServlet extends HttpServlet implements
     final BHashMap<String, HSession> sessions = HSessionListener.getAllSessions();
     final String bsessionId = targetId.toSessionId();
     sessions.put(bsessionId, sess);
+    if (cleanupThread != null) {
+      cleanupThread.addSession(bsessionId, sess);
+    }
 
     // Add BRemote for utility requests.
     addUtilityRequestsInterface(sess);
@@ -1556,11 +1638,13 @@ public abstract class HHttpServlet extends HttpServlet implements
    * applications do not send the session ID in the BMessageHeader. For this
    * clients, the BYPS session is found in the application server's session.
    * 
+   * The lookup does not lock the servlet. It is called for each incoming message.
+   * 
    * @param httpSession Application server's session.
    * @param header BYPS message header.
    * @return BYPS session, or null
    */
-  protected synchronized Optional<HSession> getBypsSessionFromHttpSession(HttpSession httpSession, BMessageHeader header) {
+  protected Optional<HSession> getBypsSessionFromHttpSession(HttpSession httpSession, BMessageHeader header) {
     if (log.isDebugEnabled()) log.debug("getBypsSessionFromHttpSession(request.session={}, header={}", httpSession, header);
     Optional<HSession> ret = Optional.empty();
     
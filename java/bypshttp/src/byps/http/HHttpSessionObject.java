@@ -1,32 +1,32 @@
 package byps.http;
 
-import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * BYPS sessions attached to an application server's session.
+ * Sessions are added and removed rarely but looked up for each message,
+ * so the list is copied on write and read without locking.
+ */
 public class HHttpSessionObject {
 
-  private ArrayList<HSession> sessions = new ArrayList<HSession>();
+  private final CopyOnWriteArrayList<HSession> sessions = new CopyOnWriteArrayList<HSession>();
 
-  public synchronized void addSession(HSession s) {
+  public void addSession(HSession s) {
     sessions.add(s);
   }
   
-  public synchronized void removeSession(HSession s) {
-    for (int i = 0; i < sessions.size(); i++) {
-      HSession o = sessions.get(i);
-      if (o == s) {
-        sessions.remove(i);
-        break;
-      }
-    }
+  public void removeSession(HSession s) {
+    sessions.removeIf(o -> o == s);
   }
   
-  public synchronized Optional<HSession> getSession(String sessionId) {
+  public Optional<HSession> getSession(String sessionId) {
     HSession bypsSession = HSessionListener.getAllSessions().get(sessionId);
+    if (bypsSession == null) return Optional.empty();
     return sessions.stream().filter(s -> s == bypsSession).findAny();
   }
   
-  public synchronized Optional<HSession> getFirstSession() {
+  public Optional<HSession> getFirstSession() {
     return sessions.stream().findFirst();
   }
   
@@ -34,11 +34,11 @@ public class HHttpSessionObject {
     return getFirstSession().orElse(null);
   }
   
-  public synchronized boolean isEmpty() {
+  public boolean isEmpty() {
     return sessions.isEmpty();
   }
 
-  public synchronized int size() {
+  public int size() {
     return sessions.size();
   }
   
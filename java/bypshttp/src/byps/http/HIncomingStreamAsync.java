@@ -65,9 +65,11 @@ public class HIncomingStreamAsync extends BContentStreamWrapper  {
 			// The stream data must be completely read.
 			// Otherwise the data remains in the socket and 
 			// disturbs the next request.
+			// A HIncomingStreamSync receives the data by a ReadListener, 
+			// it does not have to be drained.
 			try {
   			long n = 0;
-  			while (is.read() != -1) {
+  			while (!(is instanceof HIncomingStreamSync) && is.read() != -1) {
   				n++;
   			}
   			if (n != 0) {
@@ -16,6 +16,9 @@ import byps.BContentStream;
 import byps.BException;
 import byps.BExceptionC;
 import byps.BTargetId;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
 
 public class HIncomingStreamSync extends BContentStream {
 	
@@ -266,6 +269,69 @@ public class HIncomingStreamSync extends BContentStream {
 		if (log.isDebugEnabled()) log.debug(")addStream");
 	}
 
+	/**
+	 * Receive the request body by a ReadListener.
+	 * A slow client does not block a thread of the servlet container.
+	 * The request is completed after all bytes have been received.
+	 * @param rctxt Asynchronous request context
+	 * @throws IOException
+	 */
+	public void addStreamAsync(final HRequestContext rctxt) throws IOException {
+		if (log.isDebugEnabled()) log.debug("addStreamAsync " + targetId + "(");
+		
+		final ServletInputStream is = rctxt.getRequest().getInputStream();
+		is.setReadListener(new ReadListener() {
+			
+			private final byte[] bytes = new byte[HConstants.DEFAULT_BYTE_BUFFER_SIZE];
+			private boolean discard;
+
+			@Override
+			public void onDataAvailable() throws IOException {
+				int len = 0;
+				while (is.isReady() && (len = is.read(bytes)) != -1) {
+					if (discard) continue;
+					try {
+						write(bytes, 0, len);
+					}
+					catch (IOException e) {
+						// The stream has been closed before all bytes were received.
+						// The remaining bytes must be read, otherwise they would disturb the next request.
+						if (!writeClosed) throw e;
+						if (log.isDebugEnabled()) log.debug("stream closed, discard remaining bytes of " + targetId);
+						discard = true;
+					}
+				}
+			}
+
+			@Override
+			public void onAllDataRead() throws IOException {
+				if (log.isDebugEnabled()) log.debug("onAllDataRead " + targetId);
+				writeClose();
+				complete(rctxt, HttpServletResponse.SC_OK);
+			}
+
+			@Override
+			public void onError(Throwable e) {
+				if (log.isDebugEnabled()) log.debug("onError " + targetId, e);
+				ex = new BException(BExceptionC.IOERROR, "Failed to copy received bytes into buffer.", e);
+				writeClose();
+				complete(rctxt, HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+			}
+		});
+		
+		if (log.isDebugEnabled()) log.debug(")addStreamAsync");
+	}
+	
+	private static void complete(HRequestContext rctxt, int status) {
+		if (!rctxt.isCompleted()) {
+			try {
+				((HttpServletResponse) rctxt.getResponse()).setStatus(status);
+			} finally {
+				rctxt.complete();
+			}
+		}
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sbuf = new StringBuilder();
@@ -418,6 +484,17 @@ public class HIncomingStreamSync extends BContentStream {
 		return bytesRead;
 	}
 	
+	/**
+	 * Return the file, if the stream has been completely written into a file.
+	 * @return File or null, if the bytes are kept in memory or are still being received.
+	 */
+	@Override
+	public synchronized File getFile() throws IOException {
+	  if (ex != null) throw ex;
+	  if (closed) throw new IOException("Stream closed");
+	  return bytesSource == FILE_BYTES && writeClosed && fis == null ? file.getFile() : null;
+	}
+	
 	private InputStream ensureFileInputStream() throws FileNotFoundException {
 	  if (fis == null) {
 	    fis = new BufferedInputStream(new FileInputStream(file.getFile()));
@@ -0,0 +1,212 @@
+package byps.http;
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import byps.BContentStream;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+/**
+ * Copies an outgoing stream into the response of a GET request.
+ *
+ * In asynchronous mode, bytes are written in {@link #onWritePossible()} as long
+ * as the container accepts them without blocking. If the client reads slowly,
+ * the container calls onWritePossible again when the socket is writable.
+ * No request thread waits for the client meanwhile. The asynchronous mode
+ * is used for file-backed streams only, since reading other streams can block.
+ *
+ * If the stream is backed by a file, the bytes are taken from memory mapped
+ * regions of the file. This saves the copy into the buffer of a FileInputStream.
+ * Otherwise, the bytes are read from the stream.
+ */
+class HOutgoingStreamWriter implements WriteListener {
+
+  private final static Logger log = LoggerFactory.getLogger(HOutgoingStreamWriter.class);
+
+  /**
+   * Size of a memory mapped region.
+   */
+  private final static long MAP_SIZE = 16 * 1000 * 1000;
+
+  private final BContentStream stream;
+  private final boolean closeStream;
+  private final byte[] buf;
+
+  /**
+   * Number of valid bytes in buf, not written yet.
+   */
+  private int pending;
+
+  /**
+   * Number of bytes to be read, -1 if unknown.
+   */
+  private long remaining;
+
+  private final FileChannel fileChannel;
+  private long filePos;
+  private MappedByteBuffer region;
+
+  private ServletOutputStream os;
+  private AsyncContext asyncContext;
+  private long bytesWritten;
+  private boolean finished;
+
+  /**
+   * Write the bytes of a stream.
+   * @param stream Stream
+   * @param closeStream Close the stream after the bytes have been written.
+   * @param buf Buffer
+   * @param pending Number of bytes already read into buf.
+   * @param length Number of bytes to write including the pending bytes, -1 if unknown.
+   */
+  HOutgoingStreamWriter(BContentStream stream, boolean closeStream, byte[] buf, int pending, long length) {
+    this.stream = stream;
+    this.closeStream = closeStream;
+    this.buf = buf;
+    this.pending = pending;
+    this.remaining = length >= 0 ? (length - pending) : -1;
+    this.fileChannel = null;
+  }
+
+  /**
+   * Write the bytes of a file-backed stream.
+   * @param stream Stream, closed after the bytes have been written, if closeStream is true.
+   * @param closeStream Close the stream after the bytes have been written.
+   * @param buf Buffer
+   * @param fileChannel File channel, closed after the bytes have been written.
+   * @param offset File offset of the first byte to write.
+   * @param length Number of bytes to write.
+   */
+  HOutgoingStreamWriter(BContentStream stream, boolean closeStream, byte[] buf, FileChannel fileChannel, long offset, long length) {
+    this.stream = stream;
+    this.closeStream = closeStream;
+    this.buf = buf;
+    this.fileChannel = fileChannel;
+    this.filePos = offset;
+    this.remaining = length;
+  }
+
+  /**
+   * Write all bytes in the current thread.
+   * @param os Output stream of the response.
+   * @throws IOException
+   */
+  void write(ServletOutputStream os) throws IOException {
+    try {
+      while (pending != -1) {
+        os.write(buf, 0, pending);
+        bytesWritten += pending;
+        pending = read();
+      }
+    }
+    finally {
+      done();
+    }
+  }
+
+  /**
+   * Write the bytes asynchronously.
+   * The asynchronous context is completed after all bytes have been written or an error occurred.
+   * @param asyncContext Asynchronous context of the request.
+   * @throws IOException
+   */
+  void writeAsync(AsyncContext asyncContext) throws IOException {
+    this.asyncContext = asyncContext;
+    this.os = asyncContext.getResponse().getOutputStream();
+    os.setWriteListener(this);
+  }
+
+  @Override
+  public void onWritePossible() throws IOException {
+    try {
+      while (os.isReady()) {
+        if (pending == -1) {
+          complete();
+          break;
+        }
+
+        // Browsers use to reset the socket, if the user e.g. changes the play position of a video.
+        // This causes an exception here which is passed to onError.
+        os.write(buf, 0, pending);
+        bytesWritten += pending;
+        pending = read();
+      }
+    }
+    catch (IOException | RuntimeException e) {
+      onError(e);
+    }
+  }
+
+  @Override
+  public void onError(Throwable e) {
+    if (log.isDebugEnabled()) log.debug("Write stream failed, stream=" + stream, e);
+    complete();
+  }
+
+  private void complete() {
+    if (finished) return;
+    done();
+    asyncContext.complete();
+  }
+
+  /**
+   * Read the next bytes into buf.
+   * @return Number of bytes or -1 at the end of the stream.
+   * @throws IOException
+   */
+  private int read() throws IOException {
+    if (remaining == 0) return -1;
+
+    int bytesToRead = remaining > 0 ? (int)Math.min(remaining, buf.length) : buf.length;
+    int len = fileChannel != null ? readFile(bytesToRead) : stream.read(buf, 0, bytesToRead);
+
+    if (len > 0 && remaining > 0) remaining -= len;
+    return len;
+  }
+
+  private int readFile(int bytesToRead) throws IOException {
+    if (region == null || !region.hasRemaining()) {
+      long size = Math.min(Math.min(remaining, MAP_SIZE), fileChannel.size() - filePos);
+      if (size <= 0) return -1;
+      region = fileChannel.map(FileChannel.MapMode.READ_ONLY, filePos, size);
+      filePos += size;
+    }
+
+    int len = Math.min(bytesToRead, region.remaining());
+    region.get(buf, 0, len);
+    return len;
+  }
+
+  private void done() {
+    if (finished) return;
+    finished = true;
+    if (log.isDebugEnabled()) log.debug("bytesWritten=" + bytesWritten + ", stream=" + stream);
+    pending = -1;
+    region = null;
+
+    if (fileChannel != null) try {
+      fileChannel.close();
+    }
+    catch (IOException ignored) {
+    }
+
+    if (closeStream) {
+      if (log.isDebugEnabled()) log.debug("close response of outgoing stream, stream=" + stream);
+      try {
+        stream.close();
+      }
+      catch (IOException ignored) {
+      }
+    }
+    else {
+      // Keep the stream open until BContentStream.isExpired
+    }
+  }
+}
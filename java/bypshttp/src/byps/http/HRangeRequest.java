@@ -36,6 +36,17 @@ public class HRangeRequest {
   }
   
   public void evaluateByteRange(BContentStream stream) throws IOException {
+    evaluateByteRange(stream, stream.positionSupported());
+  }
+  
+  /**
+   * Evaluate the byte range for the given stream.
+   * @param stream Stream to be sent.
+   * @param randomAccess true, if the bytes can be read from an arbitrary offset, 
+   * e.g. by {@link BContentStream#position(long)} or from the file of the stream.
+   * @throws IOException
+   */
+  public void evaluateByteRange(BContentStream stream, boolean randomAccess) throws IOException {
     
     // If the given stream object is a BContentStreamWrapper, make sure that ensureStream has been called.
     // Otherwise the stream.getContentLength() might return a wrong value.
@@ -44,7 +55,7 @@ public class HRangeRequest {
     targetId = stream.getTargetId();
     contentLength = stream.getContentLength();
     
-    valid &= stream.positionSupported();
+    valid &= randomAccess;
     if (valid && rangeHeader != null) {
       
       int p = rangeHeader.indexOf("bytes=");
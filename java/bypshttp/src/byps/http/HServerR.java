@@ -1,4 +1,9 @@
 package byps.http;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
@@ -9,6 +14,7 @@ import byps.BAsyncResult;
 import byps.BException;
 import byps.BExceptionC;
 import byps.BMessage;
+import byps.BMessageBatch;
 import byps.BMessageHeader;
 import byps.BOutput;
 import byps.BServer;
@@ -76,6 +82,7 @@ public class HServerR extends BServerR {
       else {
         BOutput outp = transport.getOutput();
         outp.header.flags |= BMessageHeader.FLAG_RESPONSE;
+        acceptBatch(outp.header);
         outp.store(null); // irgendwas, damit auch der Header in den ByteBuffer
                           // geschrieben wird.
         this.methodResult = outp.toMessage(requestId);
@@ -97,10 +104,7 @@ public class HServerR extends BServerR {
           final long requestId = HServerR.requstCounter.incrementAndGet();
           try {
             if (e != null) {
-              BOutput out = transport.getOutput();
-              out.header.flags = BMessageHeader.FLAG_RESPONSE;
-              out.setException(e);
-              msg = out.toMessage(requestId);
+              msg = createExceptionResponse(e, requestId);
             }
             sendLongPoll(msg);
           } catch (BException e1) {
@@ -122,8 +126,15 @@ public class HServerR extends BServerR {
             if (log.isInfoEnabled()) log.info("sendr-" + methodResult.header.getTrackingId() + "[" + (endTime-startTime) + "]");
             
             if (e == null) {
-              // Execute the method received from server.
-              transport.recv(server, msg, asyncResult);
+              if (BMessageBatch.isBatch(msg.header)) {
+                // Execute the methods in parallel and return the results in one long-poll.
+                recvBatch(msg, asyncResult);
+              }
+              else {
+                // Execute the method received from server.
+                acceptBatch(msg.header);
+                transport.recv(server, msg, asyncResult);
+              }
             }
             else {
               BException ex = (BException) e;
@@ -207,6 +218,78 @@ public class HServerR extends BServerR {
 
   }
 
+  /**
+   * Execute the methods of a batch in parallel.
+   * The results are passed to asyncResult as one batch after all methods have finished.
+   * @param batch Batch of methods received from server.
+   * @param asyncResult Receives the results.
+   * @throws BException
+   */
+  protected void recvBatch(BMessage batch, BAsyncResult<BMessage> asyncResult) throws BException {
+    final List<BMessage> msgs = BMessageBatch.split(batch);
+    if (log.isDebugEnabled()) log.debug("recvBatch #messages=" + msgs.size());
+    
+    final BMessage[] results = new BMessage[msgs.size()];
+    final AtomicInteger pendingResults = new AtomicInteger(results.length);
+    
+    for (int i = 0; i < results.length; i++) {
+      final int index = i;
+      final BMessage msg = msgs.get(i);
+      acceptBatch(msg.header);
+      
+      final BAsyncResult<BMessage> methodResult = (result, e) -> {
+        try {
+          results[index] = e != null ? createExceptionResponse(e, HServerR.requstCounter.incrementAndGet()) : result;
+        }
+        catch (BException e1) {
+          if (log.isErrorEnabled()) log.error("Failed to create response for exception=" + e, e1);
+        }
+        
+        if (pendingResults.decrementAndGet() == 0) {
+          asyncResult.setAsyncResult(joinResults(results), null);
+        }
+      };
+      
+      // The last method is executed in the current thread.
+      if (index == results.length - 1) {
+        transport.recv(server, msg, methodResult);
+      }
+      else {
+        batchExecutor.execute(() -> transport.recv(server, msg, methodResult));
+      }
+    }
+  }
+  
+  private BMessage joinResults(BMessage[] results) {
+    List<BMessage> list = new ArrayList<BMessage>(results.length);
+    for (BMessage result : results) {
+      if (result != null) list.add(result);
+    }
+    if (list.size() == 0) return null;
+    if (list.size() == 1) return list.get(0);
+    return BMessageBatch.join(list);
+  }
+  
+  protected BMessage createExceptionResponse(Throwable e, long requestId) throws BException {
+    BOutput out = transport.getOutput();
+    out.header.flags = BMessageHeader.FLAG_RESPONSE;
+    acceptBatch(out.header);
+    out.setException(e);
+    return out.toMessage(requestId);
+  }
+  
+  /**
+   * Tell the server that the next long-poll accepts a batch of methods.
+   * The response header of a method is a copy of its request header. 
+   * Thus, the flag is set in the request header before the method is executed.
+   * @param header Message header
+   */
+  protected void acceptBatch(BMessageHeader header) {
+    if (header.isBinaryMessage()) {
+      header.flags |= BMessageHeader.FLAG_ACCEPT_BATCH;
+    }
+  }
+
   protected void sendLongPoll(BMessage obj) throws BException {
     if (log.isDebugEnabled()) log.debug("sendLongPollInWorkerThread(" + obj);
     synchronized (refDone) {
@@ -259,6 +342,15 @@ public class HServerR extends BServerR {
   // }
   // }
 
+  /**
+   * Threads that execute the methods of a batch.
+   */
+  private static final ExecutorService batchExecutor = Executors.newCachedThreadPool(r -> {
+    Thread thread = new Thread(r, "byps-reverse-request");
+    thread.setDaemon(true);
+    return thread;
+  });
+
   protected int nbOfConns;
   protected boolean[] refDone = new boolean[1];
   protected final long sleepMillisBeforeRetry;
@@ -207,8 +207,16 @@ public abstract class HSession
    */
   public boolean isExpired() {
     long now = System.currentTimeMillis();
+    return getExpirationMillis() < now;
+  }
+  
+  /**
+   * Time when the session expires, if it is not touched before.
+   * @return Time in milliseconds since 1970.
+   */
+  public long getExpirationMillis() {
     long maxIdleMillis = (long)getMaxInactiveSeconds() * 1000;
-    return lastAccessTime + maxIdleMillis < now;
+    return lastAccessTime + maxIdleMillis;
   }
   
   protected BTransportFactory getTransportFactory(BApiDescriptor apiDesc) {
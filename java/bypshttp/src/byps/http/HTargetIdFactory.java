@@ -4,6 +4,8 @@ import java.nio.ByteBuffer;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.crypto.Cipher;
 import javax.crypto.KeyGenerator;
@@ -16,10 +18,60 @@ import byps.BMessageHeader;
 import byps.BTargetId;
 import byps.RemoteException;
 
+/**
+ * Creates target IDs and encrypts the target IDs passed to the clients.
+ * 
+ * The AES ciphers are initialized once per thread. Since the key and the IV 
+ * do not change, a target ID is always encrypted into the same value. 
+ * The results are kept in a bounded cache in both directions, so that 
+ * remote references and streams sent in each message are encrypted or 
+ * decrypted only once.
+ */
 public class HTargetIdFactory {
 	
+	/**
+	 * Cache counters.
+	 */
+	public static class Statistics {
+	  
+	  /**
+	   * Number of target IDs found in the cache.
+	   */
+	  public long hits;
+	  
+	  /**
+	   * Number of target IDs encrypted or decrypted by the cipher.
+	   */
+	  public long misses;
+	  
+	  /**
+	   * Number of times the cache was cleared because it was full.
+	   */
+	  public long evictions;
+	  
+	  /**
+	   * Number of cached target IDs.
+	   */
+	  public long size;
+	  
+	  @Override
+	  public String toString() {
+	    return "[hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", size=" + size + "]";
+	  }
+	}
+	
 	public HTargetIdFactory(int serverId) {
+	  this(serverId, HConstants.TARGET_ID_CACHE_SIZE);
+	}
+	
+	/**
+	 * Constructor.
+	 * @param serverId Server ID
+	 * @param cacheSize Maximum number of target IDs kept in the cache for each direction, 0 disables the cache.
+	 */
+	public HTargetIdFactory(int serverId, int cacheSize) {
 		this.serverId = serverId;
+		this.cacheSize = cacheSize;
 		this.key = generateKey();
 		this.targetId_signature = getRandomLong();
 		byte[] iv = new byte[16];
@@ -74,6 +126,17 @@ public class HTargetIdFactory {
 	  
 	  if (encryptNotDecrypt ^ encrypted) {
 	    
+	    final ConcurrentHashMap<CacheKey, BTargetId> cache = encryptNotDecrypt ? encryptedIds : decryptedIds;
+	    final CacheKey cacheKey = cacheSize > 0 ? new CacheKey(targetId) : null;
+	    if (cacheKey != null) {
+	      ret = cache.get(cacheKey);
+	      if (ret != null) {
+	        hits.incrementAndGet();
+	        return ret;
+	      }
+	    }
+	    misses.incrementAndGet();
+	    
   	  ByteBuffer buf = ByteBuffer.allocate(32);
   	  
   	  if (encryptNotDecrypt) {
@@ -82,16 +145,26 @@ public class HTargetIdFactory {
   	  
   	  targetId.write(buf, BMessageHeader.BYPS_VERSION_ENCRYPTED_TARGETID);
   	  
+  	  final Cipher[] threadCiphers = ciphers.get();
+  	  final int mode = encryptNotDecrypt ? Cipher.ENCRYPT_MODE : Cipher.DECRYPT_MODE;
       try {
-        Cipher cipher = Cipher.getInstance("AES/CBC/NoPadding", "SunJCE");
-        //Cipher cipher = Cipher.getInstance("AES/CBC/NoPadding");
-        cipher.init(encryptNotDecrypt ? Cipher.ENCRYPT_MODE : Cipher.DECRYPT_MODE, key, ivkey);
+        Cipher cipher = threadCiphers[mode];
+        if (cipher == null) {
+          cipher = Cipher.getInstance("AES/CBC/NoPadding", "SunJCE");
+          //Cipher cipher = Cipher.getInstance("AES/CBC/NoPadding");
+          cipher.init(mode, key, ivkey);
+          threadCiphers[mode] = cipher;
+        }
+        
+        // doFinal resets the cipher to the state after init.
         byte[] bytes = cipher.doFinal(buf.array());
         
         ByteBuffer obuf = ByteBuffer.wrap(bytes);
         ret = BTargetId.read(obuf, BMessageHeader.BYPS_VERSION_ENCRYPTED_TARGETID);
         
       } catch (Exception e) {
+        // The cipher might be in an undefined state.
+        threadCiphers[mode] = null;
         throw new BException(BExceptionC.INTERNAL, "Failed to encrypt/decrypt targetId", e);
       }
       
@@ -102,13 +175,98 @@ public class HTargetIdFactory {
         ret = new BTargetId(ret, 0);
       }
       
+      if (cacheKey != null) {
+        if (cache.size() >= cacheSize) {
+          cache.clear();
+          evictions.incrementAndGet();
+        }
+        cache.put(cacheKey, ret);
+      }
+      
 	  }
 	  
     return ret;
 	}
+	
+	public Statistics getStatistics() {
+	  Statistics stats = new Statistics();
+	  stats.hits = hits.get();
+	  stats.misses = misses.get();
+	  stats.evictions = evictions.get();
+	  stats.size = encryptedIds.size() + decryptedIds.size();
+	  return stats;
+	}
+	
+	public void clearStatistics() {
+	  hits.set(0);
+	  misses.set(0);
+	  evictions.set(0);
+	}
+	
+	/**
+	 * Key of the cache.
+	 * {@link BTargetId#equals(Object)} does not compare the remote ID and the signature.
+	 */
+	private static final class CacheKey {
+	  private final int serverId;
+	  private final int remoteId;
+	  private final long v1;
+	  private final long v2;
+	  private final long signature;
+	  
+	  CacheKey(BTargetId targetId) {
+	    this.serverId = targetId.getServerId();
+	    this.remoteId = targetId.getRemoteId();
+	    this.v1 = targetId.getMessageId();
+	    this.v2 = targetId.getStreamId();
+	    this.signature = targetId.getSignature();
+	  }
+	  
+	  @Override
+	  public int hashCode() {
+	    int result = serverId;
+	    result = 31 * result + remoteId;
+	    result = 31 * result + Long.hashCode(v1);
+	    result = 31 * result + Long.hashCode(v2);
+	    result = 31 * result + Long.hashCode(signature);
+	    return result;
+	  }
+	  
+	  @Override
+	  public boolean equals(Object obj) {
+	    if (this == obj) return true;
+	    if (!(obj instanceof CacheKey)) return false;
+	    CacheKey other = (CacheKey) obj;
+	    return serverId == other.serverId && remoteId == other.remoteId && v1 == other.v1 && v2 == other.v2 && signature == other.signature;
+	  }
+	}
 
   protected final SecretKey key;
   private final IvParameterSpec ivkey;
+  
+  /**
+   * Initialized ciphers of the current thread, indexed by Cipher.ENCRYPT_MODE and Cipher.DECRYPT_MODE.
+   */
+  private final ThreadLocal<Cipher[]> ciphers = new ThreadLocal<Cipher[]>() {
+    protected Cipher[] initialValue() {
+      return new Cipher[Math.max(Cipher.ENCRYPT_MODE, Cipher.DECRYPT_MODE) + 1];
+    }
+  };
+  
+  /**
+   * Plain target ID to encrypted target ID.
+   */
+  private final ConcurrentHashMap<CacheKey, BTargetId> encryptedIds = new ConcurrentHashMap<CacheKey, BTargetId>();
+  
+  /**
+   * Encrypted target ID to plain target ID.
+   */
+  private final ConcurrentHashMap<CacheKey, BTargetId> decryptedIds = new ConcurrentHashMap<CacheKey, BTargetId>();
+  
+  private final int cacheSize;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
 	protected Random rand;
 	protected long randBestBefore;
 	private final int serverId;
@@ -0,0 +1,270 @@
+package byps.http;
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hashed timer wheel.
+ *
+ * The server registers the deadlines of messages, streams and sessions here.
+ * A timer is put into the bucket of the wheel that belongs to its deadline.
+ * A thread advances the wheel by one bucket each tick and runs the expired timers
+ * of this bucket. Timers with a deadline beyond one revolution of the wheel
+ * wait for the number of remaining rounds.
+ *
+ * Scheduling and cancelling a timer are O(1) and do not lock.
+ * New and cancelled timers are passed to the wheel thread in queues.
+ * A timer expires at most one tick after its deadline.
+ *
+ * The timer tasks run in the wheel thread. They must not block.
+ */
+public class HTimerWheel {
+
+  private final static Logger log = LoggerFactory.getLogger(HTimerWheel.class);
+
+  /**
+   * Maximum number of new timers moved into the wheel per tick.
+   * Remaining timers are moved in the next tick.
+   */
+  private final static int MAX_NEW_TIMERS_PER_TICK = 100000;
+
+  private final static int ST_INIT = 0;
+  private final static int ST_CANCELLED = 1;
+  private final static int ST_EXPIRED = 2;
+
+  private final long tickNanos;
+  private final Bucket[] wheel;
+  private final int mask;
+  private final long startNanos;
+  private final ConcurrentLinkedQueue<Timer> newTimers = new ConcurrentLinkedQueue<Timer>();
+  private final ConcurrentLinkedQueue<Timer> cancelledTimers = new ConcurrentLinkedQueue<Timer>();
+  private final AtomicInteger pendingTimers = new AtomicInteger();
+  private final Thread thread;
+  private volatile boolean stopped;
+
+  /**
+   * Current tick, only accessed by the wheel thread.
+   */
+  private long tick;
+
+  /**
+   * Timer returned by {@link HTimerWheel#schedule(long, Runnable)}.
+   */
+  public static class Timer {
+
+    private final HTimerWheel timerWheel;
+    private final Runnable task;
+    private final long deadlineNanos;
+    private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+    // Accessed by the wheel thread.
+    private long remainingRounds;
+    private Bucket bucket;
+    private Timer prev;
+    private Timer next;
+
+    private Timer(HTimerWheel timerWheel, Runnable task, long deadlineNanos) {
+      this.timerWheel = timerWheel;
+      this.task = task;
+      this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Cancel the timer.
+     * @return false, if the timer has already expired or was cancelled before.
+     */
+    public boolean cancel() {
+      if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) return false;
+      timerWheel.pendingTimers.decrementAndGet();
+      timerWheel.cancelledTimers.add(this);
+      return true;
+    }
+
+    public boolean isCancelled() {
+      return state.get() == ST_CANCELLED;
+    }
+
+    public boolean isExpired() {
+      return state.get() == ST_EXPIRED;
+    }
+
+    private void expire() {
+      if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) return;
+      timerWheel.pendingTimers.decrementAndGet();
+      try {
+        task.run();
+      }
+      catch (Throwable e) {
+        log.error("Unexpected exception in timer task: ", e);
+      }
+    }
+  }
+
+  /**
+   * Double linked list of the timers that belong to a bucket of the wheel.
+   */
+  private static class Bucket {
+    private Timer head;
+    private Timer tail;
+
+    void add(Timer t) {
+      t.bucket = this;
+      if (head == null) {
+        head = tail = t;
+      }
+      else {
+        tail.next = t;
+        t.prev = tail;
+        tail = t;
+      }
+    }
+
+    Timer remove(Timer t) {
+      Timer next = t.next;
+      if (t.prev != null) t.prev.next = next;
+      if (t.next != null) t.next.prev = t.prev;
+      if (t == head) head = next;
+      if (t == tail) tail = t.prev;
+      t.prev = t.next = null;
+      t.bucket = null;
+      return next;
+    }
+
+    void expire(long deadlineNanos) {
+      Timer t = head;
+      while (t != null) {
+        if (t.remainingRounds <= 0 && t.deadlineNanos <= deadlineNanos) {
+          Timer next = remove(t);
+          t.expire();
+          t = next;
+        }
+        else {
+          t.remainingRounds--;
+          t = t.next;
+        }
+      }
+    }
+  }
+
+  /**
+   * Create and start a timer wheel with {@link HConstants#TIMER_TICK_MILLIS}.
+   * @param name Name of the thread.
+   */
+  public HTimerWheel(String name) {
+    this(name, HConstants.TIMER_TICK_MILLIS, 512);
+  }
+
+  /**
+   * Create and start a timer wheel.
+   * @param name Name of the thread.
+   * @param tickMillis Duration of a tick.
+   * @param ticksPerWheel Number of buckets, rounded up to a power of 2.
+   */
+  public HTimerWheel(String name, long tickMillis, int ticksPerWheel) {
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMillis));
+    int n = Integer.highestOneBit(Math.max(1, ticksPerWheel - 1)) << 1;
+    this.wheel = new Bucket[n];
+    for (int i = 0; i < n; i++) {
+      wheel[i] = new Bucket();
+    }
+    this.mask = n - 1;
+    this.startNanos = System.nanoTime();
+
+    this.thread = new Thread(this::run, name);
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /**
+   * Run a task after the given delay.
+   * @param delayMillis Delay in milliseconds.
+   * @param task Task, runs in the thread of the timer wheel.
+   * @return Timer object to cancel the task.
+   */
+  public Timer schedule(long delayMillis, Runnable task) {
+    long deadlineNanos = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+    Timer t = new Timer(this, task, deadlineNanos);
+    if (stopped) {
+      if (log.isDebugEnabled()) log.debug("Timer wheel is stopped, ignore task=" + task);
+      t.state.set(ST_CANCELLED);
+      return t;
+    }
+    pendingTimers.incrementAndGet();
+    newTimers.add(t);
+    return t;
+  }
+
+  /**
+   * Number of timers that have neither expired nor been cancelled.
+   * @return Number of timers.
+   */
+  public int getPendingTimers() {
+    return pendingTimers.get();
+  }
+
+  /**
+   * Stop the thread. Pending timers do not expire anymore.
+   */
+  public void done() {
+    stopped = true;
+    thread.interrupt();
+  }
+
+  private void run() {
+    try {
+      while (!stopped) {
+        long deadlineNanos = waitForNextTick();
+
+        removeCancelledTimers();
+        addNewTimers();
+
+        Bucket bucket = wheel[(int)(tick & mask)];
+        bucket.expire(deadlineNanos);
+        tick++;
+      }
+    }
+    catch (InterruptedException e) {
+      if (log.isDebugEnabled()) log.debug("Timer wheel interrupted");
+    }
+  }
+
+  private long waitForNextTick() throws InterruptedException {
+    long deadlineNanos = tickNanos * (tick + 1);
+    while (true) {
+      long sleepNanos = deadlineNanos - (System.nanoTime() - startNanos);
+      if (sleepNanos <= 0) return deadlineNanos;
+      TimeUnit.NANOSECONDS.sleep(sleepNanos);
+    }
+  }
+
+  private void addNewTimers() {
+    for (int i = 0; i < MAX_NEW_TIMERS_PER_TICK; i++) {
+      Timer t = newTimers.poll();
+      if (t == null) break;
+      if (t.state.get() != ST_INIT) continue;
+
+      long calculatedTick = t.deadlineNanos / tickNanos;
+      t.remainingRounds = (calculatedTick - tick) / wheel.length;
+
+      // Timers in the past expire with the current tick.
+      long timerTick = Math.max(calculatedTick, tick);
+      wheel[(int)(timerTick & mask)].add(t);
+    }
+  }
+
+  private void removeCancelledTimers() {
+    while (true) {
+      Timer t = cancelledTimers.poll();
+      if (t == null) break;
+      if (t.bucket != null) {
+        t.bucket.remove(t);
+      }
+    }
+  }
+
+}
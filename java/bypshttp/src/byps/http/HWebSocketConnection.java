@@ -0,0 +1,465 @@
+package byps.http;
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import byps.BAsyncResult;
+import byps.BBufferPool;
+import byps.BException;
+import byps.BExceptionC;
+import byps.BMessage;
+import byps.BMessageHeader;
+import byps.BServer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpUpgradeHandler;
+import jakarta.servlet.http.WebConnection;
+
+/**
+ * Server side of a WebSocket connection of a client.
+ *
+ * The client opens the connection after it has negotiated the transport
+ * {@link HConstants#TRANSPORT_WEBSOCKET}. HHttpServlet upgrades the GET request
+ * to this handler. Each WebSocket message carries one BYPS message.
+ * Requests of the client are executed like requests received in HTTP POST
+ * requests and their results are returned over the connection.
+ * Reverse requests of the server are sent over the connection too,
+ * see {@link HWireClientR#setWebSocket(HWebSocketConnection)}.
+ * Requests and results are correlated by the message ID. Results are
+ * marked by {@link BMessageHeader#FLAG_RESPONSE}.
+ *
+ * Streams are still sent in HTTP requests.
+ *
+ * The frames are read and written as specified in RFC 6455 on the streams
+ * of the upgraded connection. A thread reads the messages, the requests
+ * are executed in a thread pool.
+ */
+public class HWebSocketConnection implements HttpUpgradeHandler {
+
+  private final static Logger log = LoggerFactory.getLogger(HWebSocketConnection.class);
+
+  private final static String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+  private final static int OPCODE_CONTINUATION = 0;
+  private final static int OPCODE_TEXT = 1;
+  private final static int OPCODE_BINARY = 2;
+  private final static int OPCODE_CLOSE = 8;
+  private final static int OPCODE_PING = 9;
+  private final static int OPCODE_PONG = 10;
+
+  private final static int CLOSE_NORMAL = 1000;
+  private final static int CLOSE_PROTOCOL_ERROR = 1002;
+  private final static int CLOSE_TOO_BIG = 1009;
+
+  /**
+   * Threads that execute the requests received over WebSocket connections.
+   */
+  private static final ExecutorService requestExecutor = Executors.newCachedThreadPool(r -> {
+    Thread thread = new Thread(r, "byps-websocket-request");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private HHttpServlet servlet;
+  private HSession sess;
+  private HttpServletRequest request;
+  private WebConnection connection;
+  private InputStream is;
+  private OutputStream os;
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  /**
+   * IDs of the reverse requests that wait for their result.
+   */
+  private final Set<Long> reverseMessageIds = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Constructor.
+   * Called by the servlet container in HttpServletRequest.upgrade.
+   */
+  public HWebSocketConnection() {
+  }
+
+  /**
+   * Check whether the request asks for a WebSocket connection.
+   * @param request GET request
+   * @return true, if the request has the header Upgrade: websocket
+   */
+  public static boolean isUpgradeRequest(HttpServletRequest request) {
+    String upgrade = request.getHeader("Upgrade");
+    return upgrade != null && upgrade.equalsIgnoreCase("websocket");
+  }
+
+  /**
+   * Compute the value of the Sec-WebSocket-Accept header.
+   * @param key Value of the Sec-WebSocket-Key header.
+   * @return Accept value
+   */
+  public static String makeAcceptKey(String key) {
+    try {
+      MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+      byte[] digest = sha1.digest((key.trim() + ACCEPT_GUID).getBytes(StandardCharsets.US_ASCII));
+      return Base64.getEncoder().encodeToString(digest);
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Assign the session.
+   * This function is called by HHttpServlet after the request has been upgraded.
+   * @param servlet Servlet that executes the requests.
+   * @param sess Session
+   * @param request Upgraded request, provided to the requests by {@link HRequestContext#getRequest()}.
+   */
+  void setSession(HHttpServlet servlet, HSession sess, HttpServletRequest request) {
+    this.servlet = servlet;
+    this.sess = sess;
+    this.request = request;
+  }
+
+  @Override
+  public void init(WebConnection wc) {
+    if (log.isDebugEnabled()) log.debug("init(");
+    try {
+      this.connection = wc;
+      this.is = wc.getInputStream();
+      this.os = wc.getOutputStream();
+
+      sess.wireClientR.setWebSocket(this);
+
+      Thread thread = new Thread(this::readMessages, "byps-websocket-reader");
+      thread.setDaemon(true);
+      thread.start();
+    }
+    catch (IOException e) {
+      log.warn("Failed to initialize WebSocket connection.", e);
+      done(e);
+    }
+    if (log.isDebugEnabled()) log.debug(")init");
+  }
+
+  @Override
+  public void destroy() {
+    if (log.isDebugEnabled()) log.debug("destroy()");
+    done(null);
+  }
+
+  /**
+   * Send a reverse request to the client.
+   * @param msg Request
+   * @throws IOException
+   */
+  void sendReverseRequest(BMessage msg) throws IOException {
+    reverseMessageIds.add(msg.header.messageId);
+    sendMessage(msg.buf);
+  }
+
+  /**
+   * Send a message to the client.
+   * @param buf Message bytes
+   * @throws IOException
+   */
+  void sendMessage(ByteBuffer buf) throws IOException {
+    if (closed.get()) throw new IOException("WebSocket closed.");
+    if (buf.hasArray()) {
+      writeFrame(OPCODE_BINARY, buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+    }
+    else {
+      byte[] arr = new byte[buf.remaining()];
+      buf.duplicate().get(arr);
+      writeFrame(OPCODE_BINARY, arr, 0, arr.length);
+    }
+  }
+
+  /**
+   * Close the connection.
+   */
+  public void close() {
+    if (!closed.get()) {
+      try {
+        writeClose(CLOSE_NORMAL);
+      }
+      catch (IOException e) {
+        if (log.isDebugEnabled()) log.debug("Failed to send close frame.", e);
+      }
+    }
+    done(null);
+  }
+
+  public boolean isClosed() {
+    return closed.get();
+  }
+
+  private void readMessages() {
+    if (log.isDebugEnabled()) log.debug("readMessages(");
+    Throwable ex = null;
+    try {
+      ByteBuffer buf;
+      while ((buf = readMessage()) != null) {
+        recvMessage(buf);
+      }
+    }
+    catch (Throwable e) {
+      if (!closed.get()) {
+        if (log.isDebugEnabled()) log.debug("Failed to read message.", e);
+        ex = e;
+      }
+    }
+    finally {
+      done(ex);
+    }
+    if (log.isDebugEnabled()) log.debug(")readMessages");
+  }
+
+  private void recvMessage(ByteBuffer buf) throws BException {
+    final BMessageHeader header = new BMessageHeader();
+    header.read(buf);
+    final BMessage msg = new BMessage(header, buf, null);
+    if (log.isDebugEnabled()) log.debug("recvMessage(" + header);
+
+    if (sess.isExpired()) {
+      if (log.isDebugEnabled()) log.debug("session expired, close WebSocket");
+      sess.done();
+      return;
+    }
+    sess.touch();
+
+    if ((header.flags & BMessageHeader.FLAG_RESPONSE) != 0) {
+      // Result of a reverse request
+      reverseMessageIds.remove(header.messageId);
+      sess.wireClientR.recvResults(msg);
+    }
+    else {
+      requestExecutor.execute(() -> executeMessage(msg));
+    }
+  }
+
+  private void executeMessage(BMessage msg) {
+    final BMessageHeader header = msg.header;
+    final HRequestContext rctxt = new HWebSocketRequestContext(this, request, header, sess.getServer().getTransport());
+
+    final BAsyncResult<BMessage> asyncResponse = sess.wireServer.addMessage(header, rctxt, Thread.currentThread());
+    if (asyncResponse == null) return;
+
+    try {
+      final BServer server = sess.getServer();
+      servlet.executeMessageInRequestContext(msg, rctxt, asyncResponse, server, server.getTransport());
+    }
+    catch (Throwable e) {
+      if (log.isDebugEnabled()) log.debug("Failed to execute.", e);
+      try {
+        asyncResponse.setAsyncResult(null, e);
+      }
+      catch (Exception ignored) {
+        // The connection might be closed.
+      }
+    }
+    finally {
+      servlet.getActiveMessages().removeWorker(header.messageId);
+    }
+  }
+
+  private void done(Throwable e) {
+    if (!closed.compareAndSet(false, true)) return;
+    if (log.isDebugEnabled()) log.debug("done(" + e);
+
+    if (sess != null) {
+      sess.wireClientR.webSocketClosed(this);
+
+      // Reverse requests sent over this connection will not receive a result.
+      BException bex = e != null ? new BException(BExceptionC.CLIENT_DIED, "WebSocket closed.", e) : new BException(BExceptionC.CLIENT_DIED, "WebSocket closed.");
+      for (Long messageId : new ArrayList<Long>(reverseMessageIds)) {
+        sess.wireClientR.terminateMessage(messageId, bex);
+      }
+      reverseMessageIds.clear();
+    }
+
+    if (connection != null) {
+      try {
+        connection.close();
+      }
+      catch (Exception ex) {
+        if (log.isDebugEnabled()) log.debug("Failed to close connection.", ex);
+      }
+    }
+  }
+
+  /**
+   * Read a data message.
+   * Control frames are processed while reading.
+   * @return Message bytes or null, if the connection has been closed.
+   * @throws IOException
+   */
+  private ByteBuffer readMessage() throws IOException {
+    byte[] data = null;
+    int length = 0;
+
+    while (true) {
+      int b0 = is.read();
+      if (b0 < 0) return null;
+      int b1 = readByte();
+
+      boolean fin = (b0 & 0x80) != 0;
+      int opcode = b0 & 0x0F;
+      if ((b1 & 0x80) == 0) {
+        writeClose(CLOSE_PROTOCOL_ERROR);
+        throw new ProtocolException("Client frame is not masked.");
+      }
+
+      long payloadLength = b1 & 0x7F;
+      if (payloadLength == 126) {
+        payloadLength = (readByte() << 8) | readByte();
+      }
+      else if (payloadLength == 127) {
+        payloadLength = 0;
+        for (int i = 0; i < 8; i++) {
+          payloadLength = (payloadLength << 8) | readByte();
+        }
+      }
+
+      byte[] mask = new byte[4];
+      readFully(mask, 0, 4);
+
+      if (opcode >= OPCODE_CLOSE) {
+        if (payloadLength > 125 || !fin) {
+          writeClose(CLOSE_PROTOCOL_ERROR);
+          throw new ProtocolException("Invalid control frame.");
+        }
+        byte[] payload = new byte[(int)payloadLength];
+        readPayload(payload, 0, payload.length, mask);
+
+        switch (opcode) {
+        case OPCODE_CLOSE:
+          if (log.isDebugEnabled()) log.debug("received close frame");
+          if (!closed.get()) {
+            writeFrame(OPCODE_CLOSE, payload, 0, Math.min(payload.length, 2));
+          }
+          return null;
+        case OPCODE_PING:
+          writeFrame(OPCODE_PONG, payload, 0, payload.length);
+          break;
+        case OPCODE_PONG:
+          break;
+        default:
+          writeClose(CLOSE_PROTOCOL_ERROR);
+          throw new ProtocolException("Unknown opcode=" + opcode);
+        }
+        continue;
+      }
+
+      if (opcode == OPCODE_BINARY || opcode == OPCODE_TEXT) {
+        if (data != null) {
+          writeClose(CLOSE_PROTOCOL_ERROR);
+          throw new ProtocolException("Expected continuation frame.");
+        }
+        data = new byte[(int)Math.min(payloadLength, HConstants.WEBSOCKET_MAX_MESSAGE_SIZE)];
+      }
+      else if (opcode != OPCODE_CONTINUATION || data == null) {
+        writeClose(CLOSE_PROTOCOL_ERROR);
+        throw new ProtocolException("Unexpected opcode=" + opcode);
+      }
+
+      if (length + payloadLength > HConstants.WEBSOCKET_MAX_MESSAGE_SIZE) {
+        writeClose(CLOSE_TOO_BIG);
+        throw new ProtocolException("Message too big.");
+      }
+
+      if (length + payloadLength > data.length) {
+        byte[] ndata = new byte[(int)Math.min(Math.max(data.length * 2L, length + payloadLength), HConstants.WEBSOCKET_MAX_MESSAGE_SIZE)];
+        System.arraycopy(data, 0, ndata, 0, length);
+        data = ndata;
+      }
+
+      readPayload(data, length, (int)payloadLength, mask);
+      length += (int)payloadLength;
+
+      if (fin) return ByteBuffer.wrap(data, 0, length);
+    }
+  }
+
+  private void readPayload(byte[] arr, int offset, int len, byte[] mask) throws IOException {
+    readFully(arr, offset, len);
+    for (int i = 0; i < len; i++) {
+      arr[offset + i] ^= mask[i & 3];
+    }
+  }
+
+  private int readByte() throws IOException {
+    int b = is.read();
+    if (b < 0) throw new EOFException();
+    return b;
+  }
+
+  private void readFully(byte[] arr, int offset, int len) throws IOException {
+    while (len > 0) {
+      int n = is.read(arr, offset, len);
+      if (n < 0) throw new EOFException();
+      offset += n;
+      len -= n;
+    }
+  }
+
+  private void writeClose(int code) throws IOException {
+    byte[] payload = new byte[] { (byte)(code >> 8), (byte)code };
+    writeFrame(OPCODE_CLOSE, payload, 0, payload.length);
+  }
+
+  /**
+   * Write an unmasked frame.
+   */
+  private synchronized void writeFrame(int opcode, byte[] arr, int offset, int len) throws IOException {
+    byte[] header;
+    if (len < 126) {
+      header = new byte[] { (byte)(0x80 | opcode), (byte)len };
+    }
+    else if (len < 0x10000) {
+      header = new byte[] { (byte)(0x80 | opcode), 126, (byte)(len >> 8), (byte)len };
+    }
+    else {
+      header = new byte[10];
+      header[0] = (byte)(0x80 | opcode);
+      header[1] = 127;
+      for (int i = 0; i < 8; i++) {
+        header[9 - i] = (byte)((long)len >> (8 * i));
+      }
+    }
+    os.write(header);
+    os.write(arr, offset, len);
+    os.flush();
+  }
+
+  /**
+   * Write the result of a request.
+   * The buffer is passed back to the pool.
+   * @param obuf Result message
+   * @throws IOException
+   */
+  void writeResponse(ByteBuffer obuf) throws IOException {
+    sendMessage(obuf);
+    BBufferPool.release(obuf);
+  }
+
+  @Override
+  public String toString() {
+    return "[WebSocket, sess=" + sess + ", closed=" + closed + "]";
+  }
+}
@@ -0,0 +1,113 @@
+package byps.http;
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import byps.BException;
+import byps.BMessage;
+import byps.BMessageHeader;
+import byps.BOutput;
+import byps.BTransport;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Request context of a message received over a WebSocket connection.
+ * The result is sent back over the connection, see {@link HWriteResponseHelper}.
+ */
+class HWebSocketRequestContext implements HRequestContext {
+
+  private final static Logger log = LoggerFactory.getLogger(HWebSocketRequestContext.class);
+
+  private final HWebSocketConnection connection;
+  private final HttpServletRequest request;
+  private final BMessageHeader header;
+  private final BTransport transport;
+  private volatile boolean completed;
+
+  /**
+   * Constructor.
+   * @param connection WebSocket connection
+   * @param request Upgraded HTTP request
+   * @param header Request header
+   * @param transport Server transport, creates error responses.
+   */
+  HWebSocketRequestContext(HWebSocketConnection connection, HttpServletRequest request, BMessageHeader header, BTransport transport) {
+    this.connection = connection;
+    this.request = request;
+    this.header = header;
+    this.transport = transport;
+  }
+
+  /**
+   * Send the result over the WebSocket connection.
+   * An exception is sent as error message, since there is no HTTP status.
+   * @param obuf Result message
+   * @param e Exception or null
+   * @throws IOException
+   */
+  void writeResponse(ByteBuffer obuf, Throwable e) throws IOException {
+    if (log.isDebugEnabled()) log.debug("writeResponse(messageId=" + header.messageId + ", exception=" + e);
+    if (e != null) {
+      try {
+        BOutput bout = transport.getResponse(header);
+        bout.setException(e);
+        BMessage msg = bout.toMessage(header.getTrackingId());
+        obuf = msg.buf;
+      }
+      catch (BException ex) {
+        throw new IOException(ex);
+      }
+    }
+    connection.writeResponse(obuf);
+    if (log.isDebugEnabled()) log.debug(")writeResponse");
+  }
+
+  @Override
+  public void addListener(AsyncListener lsn) {
+  }
+
+  @Override
+  public void complete() {
+    completed = true;
+  }
+
+  @Override
+  public ServletRequest getRequest() {
+    return request;
+  }
+
+  @Override
+  public ServletResponse getResponse() {
+    return null;
+  }
+
+  @Override
+  public void setTimeout(long timeout) {
+  }
+
+  @Override
+  public void start(Runnable run) {
+    run.run();
+  }
+
+  @Override
+  public boolean isAsync() {
+    return false;
+  }
+
+  @Override
+  public boolean isCompleted() {
+    return completed;
+  }
+
+  @Override
+  public String toString() {
+    return "[WebSocket, messageId=" + header.messageId + "]";
+  }
+}
@@ -9,25 +9,27 @@ import java.net.URLEncoder;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import byps.BApiDescriptor;
 import byps.BAsyncResult;
 import byps.BBufferJson;
+import byps.BBufferPool;
+import byps.BCodec;
 import byps.BContentStream;
 import byps.BContentStreamAsyncCallback;
 import byps.BException;
 import byps.BExceptionC;
-import byps.BHashMap;
 import byps.BMessage;
 import byps.BMessageHeader;
 import byps.BNegotiate;
@@ -76,9 +78,18 @@ public class HWireClient extends BWire {
                                                                        // of
                                                                        // CHUNK_SIZE
   protected final static Logger log = LoggerFactory.getLogger(HWireClient.class);
-  protected final BHashMap<RequestToCancel, Boolean> openRequestsToCancel = new BHashMap<RequestToCancel, Boolean>();
-  // protected final Map<RequestToCancel, Boolean> openRequestsToCancel =
-  // Collections.synchronizedMap(new HashMap<RequestToCancel, Boolean>());
+  protected final ConcurrentHashMap<RequestToCancel, Boolean> openRequestsToCancel = new ConcurrentHashMap<RequestToCancel, Boolean>();
+  
+  /**
+   * Number of requests waiting for a free thread in {@link #threadPool}.
+   */
+  protected final AtomicInteger nbOfPendingRequests = new AtomicInteger();
+  
+  /**
+   * Requests waiting for a free thread are notified over this object when a request has finished.
+   */
+  protected final Object requestFinishedSignal = new Object();
+  
   protected final Executor threadPool;
   protected final boolean isMyThreadPool;
   protected final HTestAdapter testAdapter;
@@ -204,6 +215,17 @@ public class HWireClient extends BWire {
      * This exception is passed to {@link #methodResult} if {@link #nbOfOutstandingResults} is 0.
      */
     private Throwable ex;
+    
+    /**
+     * True, if the method request and all stream requests have been passed to the thread pool.
+     */
+    private boolean dispatched;
+    
+    /**
+     * True, if the message has to be cancelled after all requests have been dispatched.
+     * A cancel message must not overtake the requests it should cancel.
+     */
+    private boolean cancelPending;
 
     /**
      * Constructor.
@@ -315,11 +337,35 @@ public class HWireClient extends BWire {
       
       // Cancel all associated requests? 
       else if (cancelMessage) {
-        sendCancelMessage(messageId);
+        
+        synchronized (this) {
+          cancelPending = !dispatched;
+          cancelMessage = dispatched;
+        }
+        
+        if (cancelMessage) {
+          sendCancelMessage(messageId);
+        }
       }
 
       if (log.isDebugEnabled()) log.debug(")setAsyncResult");
     }
+    
+    /**
+     * Mark that the method request and all stream requests have been dispatched.
+     * Sends a cancel message that was requested before.
+     */
+    public void setDispatched() {
+      boolean cancelMessage = false;
+      synchronized (this) {
+        dispatched = true;
+        cancelMessage = cancelPending;
+        cancelPending = false;
+      }
+      if (cancelMessage) {
+        sendCancelMessage(messageId);
+      }
+    }
 
     /**
      * Replace the method result.
@@ -333,7 +379,7 @@ public class HWireClient extends BWire {
   }
 
   @Override
-  public synchronized void send(final BMessage msg, final BAsyncResult<BMessage> asyncResult) {
+  public void send(final BMessage msg, final BAsyncResult<BMessage> asyncResult) {
     internalSendMessage(msg, asyncResult);
   }
 
@@ -350,22 +396,47 @@ public class HWireClient extends BWire {
       throw e;
     }
 
-    for (int retry = 0; retry < 10 && !isDone; retry++) {
+    try {
+      threadPool.execute(r);
+      if (log.isDebugEnabled()) log.debug(")executeRequest");
+      return;
+    }
+    catch (RejectedExecutionException e) {
+      if (log.isDebugEnabled()) log.debug("rejected execution, thread pool exausted?");
+    }
+    
+    // The thread pool is exhausted. 
+    // Wait until another request has finished, but limit the number of waiting requests.
+    if (nbOfPendingRequests.incrementAndGet() <= HConstants.MAX_PENDING_REQUESTS) {
       try {
-        threadPool.execute(r);
-        if (log.isDebugEnabled()) log.debug(")executeRequest");
-        return;
-      }
-      catch (RejectedExecutionException e) {
-        if (log.isDebugEnabled()) log.debug("rejected execution, thread pool exausted? retry=" + retry);
-        int retryAfterMillis = rand.nextInt(100);
-        try {
-          Thread.sleep((long) retryAfterMillis);
-        }
-        catch (InterruptedException e1) {
-          break;
+        long waitUntil = System.currentTimeMillis() + HConstants.PENDING_REQUEST_TIMEOUT_MILLIS;
+        while (!isDone) {
+          long waitMillis = Math.min(100L, waitUntil - System.currentTimeMillis());
+          if (waitMillis <= 0) break;
+          
+          synchronized (requestFinishedSignal) {
+            requestFinishedSignal.wait(waitMillis);
+          }
+          
+          try {
+            threadPool.execute(r);
+            if (log.isDebugEnabled()) log.debug(")executeRequest");
+            return;
+          }
+          catch (RejectedExecutionException e) {
+            if (log.isDebugEnabled()) log.debug("rejected execution, wait for finished request");
+          }
         }
       }
+      catch (InterruptedException e) {
+        // fall through
+      }
+      finally {
+        nbOfPendingRequests.decrementAndGet();
+      }
+    }
+    else {
+      nbOfPendingRequests.decrementAndGet();
     }
 
     BException e = new BException(BExceptionC.TOO_MANY_REQUESTS, "Failed to send method or stream because too many requests are currently active.");
@@ -391,7 +462,7 @@ public class HWireClient extends BWire {
    * @param msg Message to be sent.
    * @param asyncResult Result object to be called when the message is finished.
    */
-  private synchronized void internalSendMessage(BMessage msg, BAsyncResult<BMessage> asyncResult) {
+  private void internalSendMessage(BMessage msg, BAsyncResult<BMessage> asyncResult) {
     if (log.isDebugEnabled()) log.debug("internalSendMessage(" + msg.header.messageId);
     try {
 
@@ -434,7 +505,7 @@ public class HWireClient extends BWire {
    * @param asyncResult Result object
    * @throws BException
    */
-  private synchronized void internalSendMessageWithoutStreams(final BMessage msg, final BAsyncResult<BMessage> asyncResult) throws BException {
+  private void internalSendMessageWithoutStreams(final BMessage msg, final BAsyncResult<BMessage> asyncResult) throws BException {
     RequestToCancel req = createRequestForMessage(msg, asyncResult, timeoutSecondsClient);
     executeRequest(req);
   }
@@ -445,7 +516,7 @@ public class HWireClient extends BWire {
    * @param asyncResult Result object
    * @throws BException
    */
-  private synchronized void internalSendMessageAndStreams(final BMessage msg, final BAsyncResult<BMessage> asyncResult) throws BException {
+  private void internalSendMessageAndStreams(final BMessage msg, final BAsyncResult<BMessage> asyncResult) throws BException {
     if (log.isDebugEnabled()) log.debug("send(" + msg + ", asyncResult=" + asyncResult);
 
     // If the BMessage contains streams, the given asyncResult is wrapped into a
@@ -453,7 +524,7 @@ public class HWireClient extends BWire {
     // message and all streams
     // have been sent.
     if (log.isDebugEnabled()) log.debug("wrap asyncResult");
-    BAsyncResult<BMessage> outerResult = new AsyncResultAfterAllRequests(msg.header.messageId, asyncResult, msg.streams.size() + 1);
+    AsyncResultAfterAllRequests outerResult = new AsyncResultAfterAllRequests(msg.header.messageId, asyncResult, msg.streams.size() + 1);
     
     // Create RequestToCancel for message
     RequestToCancel req = createRequestForMessage(msg, outerResult, timeoutSecondsClient);
@@ -462,6 +533,9 @@ public class HWireClient extends BWire {
     // Create RequestToCancel objects for each stream.
     long trackingId = msg.header.getTrackingId();
     putStreams(trackingId, msg.streams, outerResult);
+    
+    // Cancel messages for this message can be sent from now on.
+    outerResult.setDispatched();
 
     if (log.isDebugEnabled()) log.debug(")send");
   }
@@ -525,6 +599,7 @@ public class HWireClient extends BWire {
       httpRequest.setTimeouts(timeoutSecondsClient, timeoutSecondsRequest);
       
       requestToCancel.setHttpRequest(httpRequest);
+      requestToCancel.setRequestBuffer(requestDataBuffer);
 
       addRequest(requestToCancel);
     }
@@ -609,6 +684,12 @@ public class HWireClient extends BWire {
     final AtomicBoolean isOpen = new AtomicBoolean(true);
     final int timeoutSecondsRequest;
     HHttpRequest httpRequest;
+    
+    /**
+     * Message bytes sent in the request body.
+     * The buffer is returned to the {@link BBufferPool} when the response has been received.
+     */
+    ByteBuffer requestBuffer;
 
     protected RequestToCancel(long messageId, long streamId, long cancelMessageId, BAsyncResult<BMessage> asyncResult) {
       this.requestDirection = ERequestDirection.FORWARD;
@@ -623,6 +704,10 @@ public class HWireClient extends BWire {
       this.httpRequest = httpRequest;
     }
 
+    public void setRequestBuffer(ByteBuffer requestBuffer) {
+      this.requestBuffer = requestBuffer;
+    }
+
     @Override
     public void run() {
       httpRequest.run();
@@ -633,6 +718,13 @@ public class HWireClient extends BWire {
       try {
         if (isOpen.getAndSet(false) && asyncResult != null) {
           if (e == null && buf != null && buf.remaining() != 0) {
+            
+            // The server has answered, so the request body has been completely sent.
+            // Cancelled or failed requests keep their buffer, because the 
+            // HTTP client might still access it.
+            BBufferPool.release(requestBuffer);
+            requestBuffer = null;
+            
             BMessageHeader header = new BMessageHeader();
             try {
               if (BNegotiate.isNegotiateMessage(buf)) {
@@ -860,8 +952,10 @@ public class HWireClient extends BWire {
   protected void internalCancelAllRequests(long cancelMessageId) {
     if (log.isDebugEnabled()) log.debug("internalCancelAllRequests(");
 
-    ArrayList<RequestToCancel> arr = new ArrayList<RequestToCancel>(openRequestsToCancel.keys());
-    openRequestsToCancel.clear();
+    ArrayList<RequestToCancel> arr = new ArrayList<RequestToCancel>();
+    for (RequestToCancel robj : openRequestsToCancel.keySet()) {
+      if (openRequestsToCancel.remove(robj) != null) arr.add(robj);
+    }
 
     if (log.isDebugEnabled()) log.debug("cancel requests on client, #requests=" + arr.size());
     for (RequestToCancel robj : arr) {
@@ -904,13 +998,19 @@ public class HWireClient extends BWire {
     if (log.isDebugEnabled()) log.debug("removeRequest(" + robj);
     if (robj == null) return;
     openRequestsToCancel.remove(robj);
+    
+    // Wake up requests waiting for a free thread.
+    if (nbOfPendingRequests.get() != 0) {
+      synchronized (requestFinishedSignal) {
+        requestFinishedSignal.notifyAll();
+      }
+    }
     if (log.isDebugEnabled()) log.debug(")removeRequest");
   }
   
   protected RequestToCancel findRequest(long messageId) {
     RequestToCancel ret = null;
-    Collection<RequestToCancel> copyOfRequests = openRequestsToCancel.keys();
-    for (RequestToCancel req : copyOfRequests) {
+    for (RequestToCancel req : openRequestsToCancel.keySet()) {
       if (req.messageId == messageId) {
         ret = req;
         break;
@@ -997,6 +1097,12 @@ public class HWireClient extends BWire {
     stats = new Statistics();
   }
 
+  @Override
+  public void setCodec(BCodec codec) {
+    super.setCodec(codec);
+    httpClient.setCodec(codec);
+  }
+
   @Override
   public BTestAdapter getTestAdapter() {
     return testAdapter;
@@ -15,6 +15,7 @@ import byps.BContentStream;
 import byps.BException;
 import byps.BExceptionC;
 import byps.BMessage;
+import byps.BMessageBatch;
 import byps.BMessageHeader;
 import byps.BTargetId;
 import byps.BWire;
@@ -31,6 +32,11 @@ public class HWireClientR extends BWire {
 
     canceled = true;
 
+    HWebSocketConnection ws = webSocket;
+    if (ws != null) {
+      ws.close();
+    }
+
     BException bex = new BException(BExceptionC.CANCELLED, "Longpoll canceled");
 
     // Notify the threads inside the server waiting for results that the
@@ -87,33 +93,18 @@ public class HWireClientR extends BWire {
 
     if (log.isDebugEnabled()) log.debug("message buffer=" + ibuf);
 
-    // Function send() has stored its parameter BAsyncResult mapped under the messageId.  
-    if (log.isDebugEnabled()) log.debug("mapAsyncResults.keys=" + mapAsyncResults);
-    BAsyncResult<BMessage> asyncResult = mapAsyncResults.remove(ibuf.header.messageId);
-    if (log.isDebugEnabled()) log.debug("asyncResult for messageId: " + asyncResult);
-
-    // If a BAsyncResult object is found ...
-    if (asyncResult != null) {
-
-      // ... pass ibuf as result.
-      if (log.isDebugEnabled()) log.debug("pass message buffer to asyncResult");
-      asyncResult.setAsyncResult(ibuf, null);
-
-    }
-    else {
-      // Function send() has not been called before. 
-    }
+    recvResults(ibuf);
 
     // If function send() could not find a pending long-poll, it pushed 
     // the message into the queue of pending messages.
-    PendingMessage pendingMessage = pendingMessages.poll(); 
+    BMessage pendingMessage = pollPendingMessages(ibuf.header); 
     if (log.isDebugEnabled()) log.debug("pendingMessage=" + pendingMessage);
         
     // Pending message available? ...
     if (pendingMessage != null) {
       
       // ... send the pending message immediately to the client.
-      nextRequest.setAsyncResult(pendingMessage.msg, null);
+      nextRequest.setAsyncResult(pendingMessage, null);
     }
     else {
       
@@ -125,6 +116,66 @@ public class HWireClientR extends BWire {
     if (log.isDebugEnabled()) log.debug(")recvLongPoll");
   }
 
+  /**
+   * Pass the results of reverse requests to the callers of send().
+   * The client returns the results of a batch of reverse requests in one long-poll.
+   * @param ibuf Result message or batch of result messages
+   * @throws BException
+   */
+  public void recvResults(BMessage ibuf) throws BException {
+    if (BMessageBatch.isBatch(ibuf.header)) {
+      for (BMessage result : BMessageBatch.split(ibuf)) {
+        recvResult(result);
+      }
+    }
+    else {
+      recvResult(ibuf);
+    }
+  }
+
+  /**
+   * Pass the result of a reverse request to the caller of send().
+   * @param ibuf Result message
+   */
+  protected void recvResult(BMessage ibuf) {
+    
+    // Function send() has stored its parameter BAsyncResult mapped under the messageId.  
+    if (log.isDebugEnabled()) log.debug("mapAsyncResults.keys=" + mapAsyncResults);
+    BAsyncResult<BMessage> asyncResult = mapAsyncResults.remove(ibuf.header.messageId);
+    if (log.isDebugEnabled()) log.debug("asyncResult for messageId: " + asyncResult);
+
+    // If a BAsyncResult object is found ...
+    if (asyncResult != null) {
+
+      // ... pass ibuf as result.
+      if (log.isDebugEnabled()) log.debug("pass message buffer to asyncResult");
+      asyncResult.setAsyncResult(ibuf, null);
+
+    }
+    else {
+      // Function send() has not been called before. 
+    }
+  }
+  
+  /**
+   * Take the next pending messages for a long-poll.
+   * If the long-poll accepts batches, up to {@link HConstants#LONGPOLL_BATCH_SIZE} 
+   * binary messages are joined into one message.
+   * @param longpollHeader Header of the long-poll
+   * @return Message or null, if no message is pending.
+   */
+  protected BMessage pollPendingMessages(BMessageHeader longpollHeader) {
+    boolean acceptBatch = (longpollHeader.flags & BMessageHeader.FLAG_ACCEPT_BATCH) != 0 && longpollHeader.isBinaryMessage();
+    int maxMessages = acceptBatch ? Math.max(1, HConstants.LONGPOLL_BATCH_SIZE) : 1;
+    
+    ArrayList<BMessage> msgs = pendingMessages.poll(maxMessages);
+    if (msgs.size() == 0) return null;
+    if (msgs.size() == 1) return msgs.get(0);
+    
+    if (log.isDebugEnabled()) log.debug("send batch of #messages=" + msgs.size());
+    return BMessageBatch.join(msgs);
+  }
+
   @Override
   public void send(BMessage msg, BAsyncResult<BMessage> asyncResult) {
     if (log.isDebugEnabled()) log.debug(this + ".send(" + msg + ", asyncResult=" + asyncResult);
@@ -137,6 +188,12 @@ public class HWireClientR extends BWire {
       if (log.isDebugEnabled()) log.debug("map messageId=" + messageId + " to asyncResult=" + asyncResult);
       mapAsyncResults.put(messageId, asyncResult);
       
+      // Send the message over the WebSocket connection of the client.
+      if (sendToWebSocket(msg)) {
+        if (log.isDebugEnabled()) log.debug(")send WebSocket");
+        return;
+      }
+      
       int retries = 100;
       while (--retries >= 0) {
         
@@ -155,6 +212,10 @@ public class HWireClientR extends BWire {
           
           // The message was pushed into pendingMessages_access_sync.
           // It will be sent in the next call to recvLongPoll. 
+          // If the client has connected a WebSocket in the meantime, send it now.
+          if (webSocket != null) {
+            sendPendingMessagesToWebSocket();
+          }
           break;
         }
 
@@ -196,6 +257,70 @@ public class HWireClientR extends BWire {
     if (log.isDebugEnabled()) log.debug(")send");
   }
   
+  /**
+   * Set the WebSocket connection of the client.
+   * Reverse requests are sent over this connection instead of long-polls
+   * until the connection is closed.
+   * @param ws WebSocket connection
+   */
+  public void setWebSocket(HWebSocketConnection ws) {
+    if (log.isDebugEnabled()) log.debug("setWebSocket(" + ws);
+    this.webSocket = ws;
+    if (canceled) {
+      ws.close();
+    }
+    else {
+      sendPendingMessagesToWebSocket();
+    }
+    if (log.isDebugEnabled()) log.debug(")setWebSocket");
+  }
+  
+  /**
+   * The WebSocket connection has been closed.
+   * Following reverse requests are sent in long-polls.
+   * @param ws WebSocket connection
+   */
+  public void webSocketClosed(HWebSocketConnection ws) {
+    if (log.isDebugEnabled()) log.debug("webSocketClosed(" + ws);
+    if (webSocket == ws) {
+      webSocket = null;
+    }
+  }
+  
+  /**
+   * Send a reverse request over the WebSocket connection.
+   * @param msg Request
+   * @return true, if the message has been sent. 
+   */
+  protected boolean sendToWebSocket(BMessage msg) {
+    HWebSocketConnection ws = webSocket;
+    if (ws == null || canceled) return false;
+    try {
+      ws.sendReverseRequest(msg);
+      return true;
+    }
+    catch (IOException e) {
+      // Connection closed, use long-polls. 
+      if (log.isDebugEnabled()) log.debug("Failed to send over WebSocket.", e);
+      webSocketClosed(ws);
+      return false;
+    }
+  }
+
+  /**
+   * Send the messages that are waiting for a long-poll over the WebSocket connection.
+   */
+  protected void sendPendingMessagesToWebSocket() {
+    ArrayList<BMessage> msgs;
+    while (webSocket != null && !(msgs = pendingMessages.poll(1)).isEmpty()) {
+      BMessage msg = msgs.get(0);
+      if (!sendToWebSocket(msg)) {
+        pendingMessages.offer(new PendingMessage(msg));
+        break;
+      }
+    }
+  }
+  
   protected BAsyncResult<BMessage> getNextLongpollRequestOrPushMessage(BMessage msg) {
     if (log.isDebugEnabled()) log.debug("getNextLongpollRequestOrPushMessage(" + msg);
     
@@ -392,14 +517,31 @@ public class HWireClientR extends BWire {
   private final BWire wireServer;
   private final static Logger log = LoggerFactory.getLogger(HWireClientR.class);
   private volatile boolean canceled;
+  
+  /**
+   * WebSocket connection of the client.
+   * Null, if reverse requests are sent in long-polls.
+   */
+  private volatile HWebSocketConnection webSocket;
 
   private static class PendingMessages {
     private final ArrayList<PendingMessage> arr = new ArrayList<PendingMessage>();
 
-    public synchronized PendingMessage poll() {
-      PendingMessage ret = null;
-      if (arr.size() != 0) {
-        ret = arr.remove(0);
+    /**
+     * Remove messages from the queue.
+     * Only the first message is removed, if it is not a binary message.
+     * Otherwise, the following binary messages are removed too.
+     * @param maxMessages Maximum number of messages.
+     * @return Messages, empty if the queue is empty.
+     */
+    public synchronized ArrayList<BMessage> poll(int maxMessages) {
+      ArrayList<BMessage> ret = new ArrayList<BMessage>(Math.min(maxMessages, arr.size()));
+      while (arr.size() != 0 && ret.size() < maxMessages) {
+        BMessage msg = arr.get(0).msg;
+        if (ret.size() != 0 && !msg.header.isBinaryMessage()) break;
+        arr.remove(0);
+        ret.add(msg);
+        if (!msg.header.isBinaryMessage()) break;
       }
       return ret;
     }
@@ -299,6 +299,21 @@ public class HWireServer extends BWire {
     return asyncResponse;
   }
   
+  /**
+   * Select the WebSocket transport, if the client supports it.
+   * The client connects to the servlet with an upgrade request, see {@link HWebSocketConnection}.
+   */
+  @Override
+  public String negotiateTransport(String transports) {
+    if (transports == null) return null;
+    if (HConstants.WEBSOCKET_ENABLED) {
+      for (String transport : transports.split(",")) {
+        if (transport.trim().equals(HConstants.TRANSPORT_WEBSOCKET)) return HConstants.TRANSPORT_WEBSOCKET;
+      }
+    }
+    return "";
+  }
+  
   @Override
   public void send(BMessage msg, BAsyncResult<BMessage> asyncResult) {
     throw new IllegalStateException("BWireServer.send must not be called");
@@ -4,12 +4,14 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.nio.ByteBuffer;
-import java.util.zip.GZIPOutputStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import byps.BBuffer;
+import byps.BBufferPool;
+import byps.BCodec;
+import byps.BCodecs;
 import byps.BException;
 import byps.BExceptionC;
 import byps.BMessageHeader;
@@ -34,11 +36,17 @@ public class HWriteResponseHelper {
       return; // timeout
     }
     
-    // Detect whether client application accepts GZIP response
+    // Message received over a WebSocket connection
+    if (rctxt instanceof HWebSocketRequestContext) {
+      ((HWebSocketRequestContext)rctxt).writeResponse(obuf, e);
+      if (log.isDebugEnabled()) log.debug(")writeResponse WebSocket");
+      return;
+    }
+    
+    // Detect whether client application accepts compressed responses
     // BYPS-36
     HttpServletRequest req = (HttpServletRequest)rctxt.getRequest();
     String acceptEncoding = req.getHeader("Accept-Encoding");
-    boolean isGZIP = acceptEncoding != null && acceptEncoding.contains("gzip");
     
     HttpServletResponse resp = (HttpServletResponse)rctxt.getResponse();
     boolean isAsync = rctxt.isAsync();
@@ -83,20 +91,20 @@ public class HWriteResponseHelper {
       BOutputStreamByteCount osByteCount = new BOutputStreamByteCount(resp.getOutputStream());
       OutputStream os = osByteCount;
       
-      // BYPS-36: ZIP response if client accepts gzip.
-      if (isGZIP) {
-        resp.setHeader("Content-Encoding", "gzip");
-        os = new GZIPOutputStream(osByteCount);
-      }
-      else {
-        // Content-Length is only known for unzipped data.
-        resp.setContentLength(obuf.remaining());
-      }
-
       if (log.isDebugEnabled()) {
         log.debug("buffer: \r\n" + BBuffer.toDetailString(obuf));
       }
 
+      // BYPS-36: compress response with the first codec accepted by the client.
+      // Small responses are sent uncompressed.
+      ByteBuffer messageBuffer = obuf;
+      BCodec codec = BCodecs.getForAcceptEncoding(acceptEncoding, obuf.remaining());
+      if (codec != null) {
+        resp.setHeader("Content-Encoding", codec.getName());
+        obuf = codec.compress(obuf.duplicate());
+      }
+      resp.setContentLength(obuf.remaining());
+
       if (isAsync) {
 
         // Tomcat does not throw an IOException in asynchronous requests, if the
@@ -118,6 +126,10 @@ public class HWriteResponseHelper {
 
       os.close();
       
+      // The response has been completely written. 
+      // Pass the buffer back to the pool for the next message.
+      BBufferPool.release(messageBuffer);
+      
       if (listener != null) {
         if (log.isDebugEnabled()) log.debug("call onAfter-listener #bytes={}", osByteCount.getByteCount());
         listener.onAfterWriteHttpResponse((int)osByteCount.getByteCount());
@@ -5,6 +5,7 @@ import java.nio.ByteBuffer;
 import java.util.List;
 
 import byps.BAsyncResult;
+import byps.BCodec;
 import byps.BContentStream;
 
 /**
@@ -115,4 +116,14 @@ public interface HHttpClient {
    */
   public void setHttpCookies(List<java.net.HttpCookie> cookies);
   
+  /**
+   * Set the compression codec.
+   * Called after the codec has been negotiated with the server. POST requests 
+   * are compressed with this codec and the server is asked to compress its 
+   * responses with it.
+   * @param codec Codec or null, if the codec is not negotiated.
+   */
+  public default void setCodec(BCodec codec) {
+  }
+  
 }
@@ -0,0 +1,42 @@
+package byps.http.client;
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.nio.ByteBuffer;
+
+import byps.BCodec;
+import byps.BCodecGzip;
+import byps.BCodecs;
+
+/**
+ * Selects the compression of request and response bodies for the HTTP clients.
+ *
+ * If a codec has been negotiated, requests of at least {@link BCodecs#getMinSize()} bytes
+ * are compressed with it and the server is asked to compress responses with it, too.
+ * Otherwise, e.g. while negotiating or if the server does not support codecs,
+ * JSON requests are compressed with gzip as before.
+ */
+public class HHttpCompression {
+
+  /**
+   * Value of the Accept-Encoding header.
+   * @param codec Negotiated codec or null.
+   * @return Header value
+   */
+  public static String getAcceptEncoding(BCodec codec) {
+    if (codec == null || codec.getName().equals(BCodecGzip.NAME)) return BCodecGzip.NAME;
+    return codec.getName() + ", " + BCodecGzip.NAME;
+  }
+
+  /**
+   * Return the codec to compress a request body.
+   * @param codec Negotiated codec or null.
+   * @param buf Request body
+   * @param isJson true, if the body is a JSON message.
+   * @return Codec or null, if the body is sent uncompressed.
+   */
+  public static BCodec getRequestCodec(BCodec codec, ByteBuffer buf, boolean isJson) {
+    if (codec != null) return BCodecs.getForSize(codec, buf.remaining());
+    return isJson ? BCodecs.get(BCodecGzip.NAME) : null;
+  }
+
+}
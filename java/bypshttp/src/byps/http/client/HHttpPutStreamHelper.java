@@ -2,17 +2,24 @@ package byps.http.client;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.HttpURLConnection;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 import byps.BAsyncContentStream;
 import byps.BAsyncResult;
 import byps.BContentStream;
 import byps.BException;
 import byps.BExceptionC;
+import byps.http.HConstants;
 import byps.http.client.jcnn.JcnnClient;
 
 public class HHttpPutStreamHelper {
@@ -22,6 +29,16 @@ public class HHttpPutStreamHelper {
     public int putBytes(String url, byps.io.ByteArrayInputStream sendBuffer, String contentType, String contentDisposition, boolean lastRetry) throws BException;
     
     public boolean isCancelled();
+    
+    /**
+     * Return true, if {@link #putBytes(String, byps.io.ByteArrayInputStream, String, String, boolean)}
+     * can be called by several threads at the same time.
+     * Otherwise, the stream parts are sent one after another.
+     * @return true, if parts can be sent concurrently.
+     */
+    public default boolean isConcurrentPutSupported() {
+      return false;
+    }
   }
   
   private final PutBytes putBytesImpl;
@@ -31,11 +48,59 @@ public class HHttpPutStreamHelper {
   private static final int MAX_STREAM_PART_SIZE = 10*1000*1000; 
   private static Logger log = LoggerFactory.getLogger(HHttpPutStreamHelper.class);
   
+  /**
+   * Size of the first part of a stream.
+   * The part size is doubled for each further part until it reaches {@link #maxPartSize}.
+   * Small streams are sent with small buffers, large streams with few requests.
+   */
+  private static final int MIN_STREAM_PART_SIZE = 1000*1000;
+  
+  /**
+   * Maximum number of bytes buffered for the parts of a stream that are in flight.
+   */
+  private static final int MAX_BUFFERED_BYTES = 16*1000*1000;
+  
+  /**
+   * Threads that send the stream parts.
+   */
+  private static final ExecutorService partExecutor = Executors.newCachedThreadPool(r -> {
+    Thread thread = new Thread(r, "byps-put-stream-part");
+    thread.setDaemon(true);
+    return thread;
+  });
+  
+  /**
+   * Number of parts sent concurrently.
+   */
+  private final int parallelParts;
+  
+  /**
+   * Maximum part size.
+   */
+  private final int maxPartSize;
+  
+  /**
+   * Number of parts currently sent.
+   */
+  private int partsInFlight;
+  
+  /**
+   * Exception of the first part that could not be sent.
+   */
+  private Throwable partException;
+  
+  /**
+   * Buffers of sent parts.
+   */
+  private final ArrayDeque<byte[]> freeBuffers = new ArrayDeque<byte[]>();
+  
   public HHttpPutStreamHelper(PutBytes putBytesImpl, String url, InputStream stream, BAsyncResult<ByteBuffer> asyncResult) {
     this.putBytesImpl = putBytesImpl;
     this.url = url;
     this.stream = stream;
     this.asyncResult = asyncResult;
+    this.parallelParts = putBytesImpl.isConcurrentPutSupported() ? Math.max(1, HConstants.PUT_STREAM_PARALLEL_PARTS) : 1;
+    this.maxPartSize = Math.max(MIN_STREAM_PART_SIZE, Math.min(MAX_STREAM_PART_SIZE, MAX_BUFFERED_BYTES / parallelParts));
   }
   
   public void run() {
@@ -84,7 +149,6 @@ public class HHttpPutStreamHelper {
       
       // Compute number of stream parts
       long nbOfParts = computeNbOfParts(totalLength);
-      if (log.isDebugEnabled()) log.debug("send stream in #parts=" + nbOfParts);
       
       if (log.isDebugEnabled()) log.debug("sendBuffer={}, isStreamAsync={}", sendBuffer, isStreamAsync);
       if (sendBuffer != null) {
@@ -92,11 +156,7 @@ public class HHttpPutStreamHelper {
         putBytesFromMemory(contentType, totalLength, contentDisposition, sendBuffer, nbOfParts);
       }
       else {
-        if (isStreamAsync) {
-          putBytesFromStream(contentType, contentDisposition);
-        } else {
-          putBytesFromStream(contentType, totalLength, contentDisposition, nbOfParts);
-        }
+        putBytesFromStream(contentType, isStreamAsync ? -1 : totalLength, contentDisposition, isStreamAsync);
       }
       
     }
@@ -157,63 +217,147 @@ public class HHttpPutStreamHelper {
     return nbOfParts;
   }
 
-  private void putBytesFromStream(String contentType, long totalLength, String contentDisposition, long nbOfParts)
+  /**
+   * Send the stream in parts.
+   * While parts are sent, the next part is read from the stream. At most {@link HConstants#PUT_STREAM_PARALLEL_PARTS}
+   * parts are sent concurrently. The server assembles the parts by their partid in any order.
+   * @param contentType Content type
+   * @param totalLength Stream length, Long.MAX_VALUE if unknown, -1 if the stream is asynchronous.
+   * @param contentDisposition Content disposition
+   * @param isStreamAsync true, if the stream is a {@link BAsyncContentStream}. 
+   * Its bytes are sent as soon as they are available, the last part is empty.
+   * @throws IOException
+   */
+  private void putBytesFromStream(String contentType, long totalLength, String contentDisposition, boolean isStreamAsync)
       throws IOException {
-    if (log.isDebugEnabled()) log.debug("putBytesFromStream(contentType={}, totalLength={}, contentDisposition={}, nbOfParts={}", contentType, totalLength == Long.MAX_VALUE ? "MAX_VALUE" : Long.toString(totalLength), contentDisposition, nbOfParts);
-    int bufferSize = MAX_STREAM_PART_SIZE;
-    if (totalLength < MAX_STREAM_PART_SIZE) bufferSize = (int)totalLength;
-    if (log.isDebugEnabled()) log.debug("bufferSize={}", totalLength);
-    byte[] buf = new byte[bufferSize];
+    if (log.isDebugEnabled()) log.debug("putBytesFromStream(contentType={}, totalLength={}, contentDisposition={}, isStreamAsync={}", contentType, totalLength == Long.MAX_VALUE ? "MAX_VALUE" : Long.toString(totalLength), contentDisposition, isStreamAsync);
     
+    int partSize = MIN_STREAM_PART_SIZE;
+    long readBytesTotal = 0;
     boolean lastPart = false;
-    for (long partId = 0; partId < nbOfParts && !lastPart; partId++) {
-      if (log.isDebugEnabled()) log.debug("read partId={}/{} into buffer", partId, nbOfParts);
+    
+    for (long partId = 0; !lastPart; partId++) {
       
+      int bufferSize = partSize;
+      if (totalLength >= 0) bufferSize = (int)Math.min(partSize, totalLength - readBytesTotal);
+      byte[] buf = takeBuffer(bufferSize);
+      if (log.isDebugEnabled()) log.debug("read partId={} into buffer, bufferSize={}", partId, bufferSize);
+
       int len = 0;
-      while (len < buf.length) {
-        int n = stream.read(buf, len, buf.length - len);
-        if (log.isDebugEnabled()) log.debug("stream.read(buf, {}, {})={}", len, buf.length-len, n);
-        if (n < 0) break;
-        len += n;
+      long partTotalLength = totalLength;
+      if (isStreamAsync) {
+        
+        // Send the bytes that the stream provides at once.
+        len = stream.read(buf, 0, bufferSize);
+        
+        // Tell the server about the end of the stream by an empty part.
+        lastPart = len < 0;
+        if (lastPart) {
+          len = 0;
+          partTotalLength = readBytesTotal;
+        }
+      }
+      else {
+        while (len < bufferSize) {
+          int n = stream.read(buf, len, bufferSize - len);
+          if (log.isDebugEnabled()) log.debug("stream.read(buf, {}, {})={}", len, bufferSize - len, n);
+          if (n < 0) break;
+          len += n;
+        }
+        lastPart = len < partSize || readBytesTotal + len == totalLength;
       }
-      lastPart = len < MAX_STREAM_PART_SIZE;
       if (log.isDebugEnabled()) log.debug("lastPart={}", lastPart);
+      readBytesTotal += len;
+      
+      putPart(partId, lastPart, partTotalLength, buf, len, contentType, contentDisposition);
       
-      putBytesRetry(partId, lastPart, totalLength, new byps.io.ByteArrayInputStream(buf, 0, len), contentType, contentDisposition);
+      partSize = Math.min(maxPartSize, partSize << 1);
     }
+    
+    waitForParts();
   }
-
-  private void putBytesFromStream(String contentType, String contentDisposition) throws IOException {
-    int bufferSize = MAX_STREAM_PART_SIZE;
-    byte[] buf = new byte[bufferSize];
-
-    boolean lastPart = false;
-    long partId = 0;
-
-    // the amount of data read from stream in a single loop
-    int readBytesCurrent = 0;
-    // the total amount of data read from steam
-    long readBytesTotal = 0;
-
-    // as long as stream does not return -1, upload the data
-    while ((readBytesCurrent = stream.read(buf, 0, buf.length)) >= 0) {
-      if (log.isDebugEnabled()) {
-        log.debug("put partId={}", partId);
+  
+  /**
+   * Get a buffer for the next part.
+   * Waits until less than {@link #parallelParts} parts are in flight.
+   * @param size Minimum buffer size
+   * @return Buffer
+   * @throws IOException Exception of a part that could not be sent.
+   */
+  private synchronized byte[] takeBuffer(int size) throws IOException {
+    while (partsInFlight >= parallelParts && partException == null) {
+      try {
+        wait();
+      }
+      catch (InterruptedException e) {
+        throw new InterruptedIOException();
       }
-      putBytesRetry(partId, lastPart, -1, new byps.io.ByteArrayInputStream(buf, 0, readBytesCurrent), contentType,
-          contentDisposition);
-      readBytesTotal += readBytesCurrent;
-      partId++;
     }
-
-    // last data were read from stream => tell the server about it using empty data
-    // and the flag lastPart = true
-    if (log.isDebugEnabled()) {
-      log.debug("put last partId={}", partId);
+    throwPartException();
+    
+    byte[] buf = freeBuffers.poll();
+    if (buf == null || buf.length < size) {
+      buf = new byte[size];
+    }
+    return buf;
+  }
+  
+  /**
+   * Send a part in a thread of {@link #partExecutor}.
+   */
+  private void putPart(long partId, boolean lastPart, long totalLength, byte[] buf, int len, String contentType, String contentDisposition) {
+    synchronized (this) {
+      partsInFlight++;
+    }
+    
+    final Map<String, String> mdc = MDC.getCopyOfContextMap();
+    partExecutor.execute(() -> {
+      if (mdc != null) MDC.setContextMap(mdc);
+      Throwable ex = null;
+      try {
+        putBytesRetry(partId, lastPart, totalLength, new byps.io.ByteArrayInputStream(buf, 0, len), contentType, contentDisposition);
+      }
+      catch (Throwable e) {
+        if (log.isDebugEnabled()) log.debug("put partId={} failed: {}", partId, e);
+        ex = e;
+      }
+      finally {
+        MDC.clear();
+      }
+      
+      synchronized (HHttpPutStreamHelper.this) {
+        partsInFlight--;
+        if (ex != null && partException == null) {
+          partException = ex;
+        }
+        freeBuffers.add(buf);
+        HHttpPutStreamHelper.this.notifyAll();
+      }
+    });
+  }
+  
+  /**
+   * Wait until all parts have been sent.
+   * Returns immediately, if a part could not be sent. 
+   * The parts still in flight are not waited for, since the server would not read them anyway.
+   * @throws IOException Exception of a part that could not be sent.
+   */
+  private synchronized void waitForParts() throws IOException {
+    while (partsInFlight != 0 && partException == null) {
+      try {
+        wait();
+      }
+      catch (InterruptedException e) {
+        throw new InterruptedIOException();
+      }
     }
-    lastPart = true;
-    putBytesRetry(partId, lastPart, readBytesTotal, new byps.io.ByteArrayInputStream(buf, 0, 0), contentType,
-        contentDisposition);
+    throwPartException();
+  }
+  
+  private void throwPartException() throws IOException {
+    if (partException == null) return;
+    if (partException instanceof IOException) throw (IOException)partException;
+    throw new IOException(partException.getMessage(), partException);
   }
 
   private void putBytesFromMemory(String contentType, long totalLength, String contentDisposition,
@@ -22,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import byps.BAsyncResult;
+import byps.BCodec;
 import byps.BContentStream;
 import byps.http.HConstants;
 import byps.http.HHttpServlet;
@@ -64,6 +65,11 @@ public class JcnnClient implements HHttpClient {
    */
   private final AtomicBoolean multipartEnabled = new AtomicBoolean();
   
+  /**
+   * Negotiated compression codec or null.
+   */
+  private volatile BCodec codec;
+  
   public final static int MAX_RETRIES = 1;
   
   public JcnnClient(String url) {
@@ -126,9 +132,9 @@ public class JcnnClient implements HHttpClient {
     // BYPS-83: send buffer as multipart/form-data 
     
     if (isMultipartRequestEnabled()) {
-      request = new JcnnPostAsMultipartFormdata(trackingId, url, buf, asyncResult, getMyCookieManagerOrNull(), multipartEnabled);
+      request = new JcnnPostAsMultipartFormdata(trackingId, url, buf, codec, asyncResult, getMyCookieManagerOrNull(), multipartEnabled);
     } else {
-      request = new JcnnPost(trackingId, url, buf, asyncResult, getMyCookieManagerOrNull(), multipartEnabled);
+      request = new JcnnPost(trackingId, url, buf, codec, asyncResult, getMyCookieManagerOrNull(), multipartEnabled);
     }
     
     return request;
@@ -171,6 +177,14 @@ public class JcnnClient implements HHttpClient {
     return opt.orElse(null);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setCodec(BCodec codec) {
+    this.codec = codec;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -12,22 +12,26 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
 import byps.BAsyncResult;
+import byps.BCodec;
 import byps.BException;
 import byps.BExceptionC;
 import byps.BMessageHeader;
 import byps.BWire;
 import byps.BWire.OutputStreamByteCount;
+import byps.http.client.HHttpCompression;
 
 public class JcnnPost extends JcnnRequest {
 
   private static Logger log = LoggerFactory.getLogger(JcnnPost.class);
   private final BAsyncResult<ByteBuffer> asyncResult;
   private ByteBuffer buf;
+  private final BCodec codec;
   
-  protected JcnnPost(long trackingId, String url, ByteBuffer buf, BAsyncResult<ByteBuffer> asyncResult, 
+  protected JcnnPost(long trackingId, String url, ByteBuffer buf, BCodec codec, BAsyncResult<ByteBuffer> asyncResult, 
       CookieManager cookieManager, AtomicBoolean multipartEnabeld) {
     super(trackingId, url, cookieManager, multipartEnabeld);
     this.buf = buf;
+    this.codec = codec;
     this.asyncResult = asyncResult;
   }
 
@@ -40,10 +44,17 @@ public class JcnnPost extends JcnnRequest {
     int statusCode = BExceptionC.CONNECTION_TO_SERVER_FAILED;
     final boolean isJson = BMessageHeader.detectProtocol(buf) == BMessageHeader.MAGIC_JSON;
     final String contentType = isJson ? "application/json;charset=UTF-8" : "application/byps";
+    final BCodec requestCodec = HHttpCompression.getRequestCodec(codec, buf, isJson);
     int retry = 0; 
     
     do {
       try {
+        
+        // Compress once, the compressed bytes are sent again on retry.
+        if (retry == 0 && requestCodec != null) {
+          buf = requestCodec.compress(buf);
+        }
+        
         c = createConnection(url);
         
         c.setDoInput(true);
@@ -51,15 +62,15 @@ public class JcnnPost extends JcnnRequest {
   
         c.setRequestMethod("POST");
         c.setRequestProperty("Accept", "application/json, application/byps");
-        c.setRequestProperty("Accept-Encoding", "gzip");
+        c.setRequestProperty("Accept-Encoding", HHttpCompression.getAcceptEncoding(codec));
         c.setRequestProperty("Content-Type", contentType);
-        if (isJson) {
-          c.setRequestProperty("Content-Encoding", "gzip");
+        if (requestCodec != null) {
+          c.setRequestProperty("Content-Encoding", requestCodec.getName());
         }
 
         if (log.isDebugEnabled()) log.debug("write to output stream");
         OutputStreamByteCount osbc = new OutputStreamByteCount(c.getOutputStream());
-        BWire.bufferToStream(buf, isJson, osbc);
+        BWire.bufferToStream(buf.duplicate(), false, osbc);
         if (log.isDebugEnabled()) log.debug("written #bytes=" + osbc.getContentLength() + ", wait for response");
         
         statusCode = getResponseCode(c);
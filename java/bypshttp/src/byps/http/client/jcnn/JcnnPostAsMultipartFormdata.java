@@ -12,11 +12,13 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
 import byps.BAsyncResult;
+import byps.BCodec;
 import byps.BException;
 import byps.BExceptionC;
 import byps.BMessageHeader;
 import byps.BWire;
 import byps.BWire.OutputStreamByteCount;
+import byps.http.client.HHttpCompression;
 
 /**
  * This class sends a ByteBuffer in a POST request with content type multipart/form-data.
@@ -27,11 +29,13 @@ public class JcnnPostAsMultipartFormdata extends JcnnRequest {
   private static Logger log = LoggerFactory.getLogger(JcnnPostAsMultipartFormdata.class);
   private final BAsyncResult<ByteBuffer> asyncResult;
   private ByteBuffer buf;
+  private final BCodec codec;
   
-  protected JcnnPostAsMultipartFormdata(long trackingId, String url, ByteBuffer buf, BAsyncResult<ByteBuffer> asyncResult
+  protected JcnnPostAsMultipartFormdata(long trackingId, String url, ByteBuffer buf, BCodec codec, BAsyncResult<ByteBuffer> asyncResult
       , CookieManager cookieManager, AtomicBoolean multipartEnabeld) {
     super(trackingId, url, cookieManager, multipartEnabeld);
     this.buf = buf;
+    this.codec = codec;
     this.asyncResult = asyncResult;
   }
 
@@ -44,26 +48,33 @@ public class JcnnPostAsMultipartFormdata extends JcnnRequest {
     int statusCode = BExceptionC.CONNECTION_TO_SERVER_FAILED;
     boolean isJson = BMessageHeader.detectProtocol(buf) == BMessageHeader.MAGIC_JSON;
     final String contentType = isJson ? "application/json;charset=UTF-8" : "application/byps";
+    final BCodec requestCodec = HHttpCompression.getRequestCodec(codec, buf, isJson);
     int retry = 0; 
     
     do {
       try {
+        
+        // Compress once, the compressed bytes are sent again on retry.
+        if (retry == 0 && requestCodec != null) {
+          buf = requestCodec.compress(buf);
+        }
+        
         conn = createConnection(url);
         
         // Tell the client application that we accept BYPS formats.
         conn.setRequestProperty("Accept", "application/json, application/byps");
-        conn.setRequestProperty("Accept-Encoding", "gzip");
+        conn.setRequestProperty("Accept-Encoding", HHttpCompression.getAcceptEncoding(codec));
 
         // Provide header values.
         long contentLength = buf.remaining();
         String contentDisposition = "";
-        String contentEncoding = isJson ? "gzip" : "";
+        String contentEncoding = requestCodec != null ? requestCodec.getName() : "";
         
         // This callback function writes the buffer into the POST request stream.
         PostMultipartFormdata.WriteFunction writeFnct = os-> {
           if (log.isDebugEnabled()) log.debug("write to output stream");
           OutputStreamByteCount osbc = new OutputStreamByteCount(os);
-          BWire.bufferToStream(buf, isJson, osbc);
+          BWire.bufferToStream(buf.duplicate(), false, osbc);
           if (log.isDebugEnabled()) log.debug("written #bytes=" + osbc.getContentLength() + ", wait for response");
         };
 
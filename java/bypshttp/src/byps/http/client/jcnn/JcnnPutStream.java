@@ -55,6 +55,11 @@ public class JcnnPutStream extends JcnnRequest implements HHttpPutStreamHelper.P
     }
   }
   
+  @Override
+  public boolean isConcurrentPutSupported() {
+    return true;
+  }
+  
   @Override
   public int putBytes(String url, byps.io.ByteArrayInputStream sendBuffer, String contentType, String contentDisposition, boolean lastRetry) throws BException {
     if (log.isDebugEnabled()) log.debug("putBytes(url={}, sendBuffer={}, contentType={}, contentDisposition={}, lastRetry={}");
@@ -81,8 +86,6 @@ public class JcnnPutStream extends JcnnRequest implements HHttpPutStreamHelper.P
         conn.setRequestProperty("Content-Disposition", contentDisposition);
       }
       
-      applySession(this);
-      
       os = conn.getOutputStream();
       sendBuffer.copyTo(os, sendBuffer.available());
       
@@ -92,7 +95,7 @@ public class JcnnPutStream extends JcnnRequest implements HHttpPutStreamHelper.P
       os = null;
       
       if (log.isDebugEnabled()) log.debug("getResponseCode...");
-      statusCode = getResponseCode(conn);
+      statusCode = readResponseCode(conn);
       if (log.isDebugEnabled()) log.debug("statusCode={}", statusCode);
       
       if (statusCode != HttpURLConnection.HTTP_OK) {
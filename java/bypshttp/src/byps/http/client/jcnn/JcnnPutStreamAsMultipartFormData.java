@@ -52,6 +52,11 @@ public class JcnnPutStreamAsMultipartFormData extends JcnnRequest implements HHt
     }
   }
   
+  @Override
+  public boolean isConcurrentPutSupported() {
+    return true;
+  }
+  
   @Override
   public int putBytes(String url, byps.io.ByteArrayInputStream sendBuffer, String contentType, String contentDisposition, boolean lastRetry) throws BException {
     if (log.isDebugEnabled()) log.debug("putBytes(url={}, sendBuffer={}, contentType={}, contentDisposition={}, lastRetry={}");
@@ -85,7 +90,7 @@ public class JcnnPutStreamAsMultipartFormData extends JcnnRequest implements HHt
       PostMultipartFormdata.send(conn, contentLength, contentType, contentDisposition, contentEncoding, writeFnct);
 
       if (log.isDebugEnabled()) log.debug("getResponseCode...");
-      statusCode = getResponseCode(conn);
+      statusCode = readResponseCode(conn);
       if (log.isDebugEnabled()) log.debug("statusCode={}", statusCode);
       
       if (statusCode != HttpURLConnection.HTTP_OK) {
@@ -24,6 +24,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import byps.BBufferJson;
+import byps.BCodecs;
 import byps.BException;
 import byps.BExceptionC;
 import byps.BWire;
@@ -70,7 +71,7 @@ public abstract class JcnnRequest implements HHttpRequest {
       }
     }
     
-    applySession(this);
+    applyCookies(c);
     return c;
   }
 
@@ -121,22 +122,42 @@ public abstract class JcnnRequest implements HHttpRequest {
   protected int getResponseCode(HttpURLConnection c) throws IOException {
     if (log.isDebugEnabled()) log.debug("getResponseCode(");
     if (responseCode == -1) {
-      try {
-        responseCode = c.getResponseCode();
-      }
-      catch (IOException ex) {
-        if (ex.toString().indexOf("authentication challenge is null") < 0) throw ex;
-        responseCode = HttpURLConnection.HTTP_UNAUTHORIZED;
-      }
+      responseCode = readResponseCode(c);
     }
     if (log.isDebugEnabled()) log.debug(")getResponseCode=" + responseCode);
     return responseCode;
   }
   
+  /**
+   * Return HTTP status code of the given connection.
+   * In contrast to {@link #getResponseCode(HttpURLConnection)}, the code is not stored in this object.
+   * This function is used by requests that send several connections concurrently.
+   * @param c HTTP connection object.
+   * @return Response code.
+   * @throws IOException
+   */
+  protected static int readResponseCode(HttpURLConnection c) throws IOException {
+    try {
+      return c.getResponseCode();
+    }
+    catch (IOException ex) {
+      if (ex.toString().indexOf("authentication challenge is null") < 0) throw ex;
+      return HttpURLConnection.HTTP_UNAUTHORIZED;
+    }
+  }
+  
   public void applySession(HHttpRequest req1) {
     if (log.isDebugEnabled()) log.debug("applySession(");
     JcnnRequest req = (JcnnRequest)req1;
-    HttpURLConnection c = req.conn.get();
+    applyCookies(req.conn.get());
+    if (log.isDebugEnabled()) log.debug(")applySession");
+  }
+  
+  /**
+   * Set the cookie header of a connection.
+   * @param c HTTP connection object, might be null.
+   */
+  protected void applyCookies(HttpURLConnection c) {
     
     // BYPS-72: explicitly send cookie header only for non-default cookie handler.
     
@@ -157,7 +178,6 @@ public abstract class JcnnRequest implements HHttpRequest {
       }
       
     }
-    if (log.isDebugEnabled()) log.debug(")applySession");
   }
 
   public void saveSession(HHttpRequest req1) {
@@ -249,10 +269,9 @@ public abstract class JcnnRequest implements HHttpRequest {
       BInputStreamByteCount isByteCount = new BInputStreamByteCount(is);
       
       String enc = c.getHeaderField("Content-Encoding");
-      boolean gzip = enc != null && enc.equals("gzip");
   
       if (log.isDebugEnabled()) log.debug("read stream");
-      obuf = BWire.bufferFromStream(isByteCount, gzip);
+      obuf = BCodecs.bufferFromStream(isByteCount, enc, c.getContentLengthLong());
       if (log.isDebugEnabled()) {
         log.debug("received #bytes={}, msg-size={}", isByteCount.getByteCount(), obuf.remaining());
         obuf.mark();
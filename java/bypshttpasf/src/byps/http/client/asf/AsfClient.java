@@ -28,6 +28,7 @@ import org.apache.http.impl.cookie.BasicClientCookie;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import byps.BAsyncResult;
+import byps.BCodec;
 import byps.BContentStream;
 import byps.BSyncResult;
 import byps.http.HConstants;
@@ -44,6 +45,11 @@ public class AsfClient implements HHttpClient {
   private static Logger log = LoggerFactory.getLogger(AsfClient.class);
   private final CloseableHttpClient httpclient;
   private final HttpClientContext context;
+  
+  /**
+   * Negotiated compression codec or null.
+   */
+  private volatile BCodec codec;
 
   public AsfClient(String url) {
     if (log.isDebugEnabled()) log.debug("AsfClient(");
@@ -149,7 +155,12 @@ public class AsfClient implements HHttpClient {
   @Override
   public HHttpRequest post(long trackingId, String url, ByteBuffer buf,
       BAsyncResult<ByteBuffer> asyncResult) {
-    return new AsfPost(trackingId, url, buf, asyncResult, httpclient, context);
+    return new AsfPost(trackingId, url, buf, codec, asyncResult, httpclient, context);
+  }
+
+  @Override
+  public void setCodec(BCodec codec) {
+    this.codec = codec;
   }
 
   @Override
@@ -17,21 +17,23 @@ import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 
 import byps.BAsyncResult;
+import byps.BCodec;
 import byps.BException;
 import byps.BExceptionC;
 import byps.BMessageHeader;
-import byps.BWire;
-import byps.io.ByteArrayOutputStream;
+import byps.http.client.HHttpCompression;
 
 public class AsfPost extends AsfRequest {
 
   private static Logger log = LoggerFactory.getLogger(AsfPost.class);
   private ByteBuffer buf;
+  private final BCodec codec;
   private final BAsyncResult<ByteBuffer> asyncResult;
   
-  protected AsfPost(long trackingId, String url, ByteBuffer buf, BAsyncResult<ByteBuffer> asyncResult, CloseableHttpClient httpClient, HttpClientContext context) {
+  protected AsfPost(long trackingId, String url, ByteBuffer buf, BCodec codec, BAsyncResult<ByteBuffer> asyncResult, CloseableHttpClient httpClient, HttpClientContext context) {
     super(trackingId, url, httpClient, context);
     this.buf = buf;
+    this.codec = codec;
     this.asyncResult = asyncResult;
   }
 
@@ -52,24 +54,18 @@ public class AsfPost extends AsfRequest {
     try {
 
       request.setHeader("Accept", "application/json, application/byps");
-      request.setHeader("Accept-Encoding", "gzip");
+      request.setHeader("Accept-Encoding", HHttpCompression.getAcceptEncoding(codec));
       request.setHeader("Content-Type", contentType);
-      if (isJson) {
-        request.setHeader("Content-Encoding", "gzip");
-      }
       
-      HttpEntity postEntity = null;
-      if (isJson) {
-        buf.mark();
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        BWire.bufferToStream(buf, isJson, bos);
-        postEntity = new ByteArrayEntity(bos.toByteArray());
-        buf.reset();
-      }
-      else {
-        postEntity = new ByteArrayEntity(buf.array(), buf.position(), buf.remaining());
+      ByteBuffer body = buf;
+      BCodec requestCodec = HHttpCompression.getRequestCodec(codec, buf, isJson);
+      if (requestCodec != null) {
+        request.setHeader("Content-Encoding", requestCodec.getName());
+        body = requestCodec.compress(buf.duplicate());
       }
       
+      HttpEntity postEntity = new ByteArrayEntity(body.array(), body.arrayOffset() + body.position(), body.remaining());
+      
       ((HttpPost)request).setEntity(postEntity);
       
       response = execute();
@@ -20,7 +20,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import byps.BBufferJson;
-import byps.BWire;
+import byps.BCodecs;
 import byps.http.client.HHttpRequest;
 
 public abstract class AsfRequest implements HHttpRequest {
@@ -94,14 +94,9 @@ public abstract class AsfRequest implements HHttpRequest {
     requestProperties.put(name, value);
   }
   
-  protected boolean isEntityGzipEncoded(HttpEntity entity) {
-    boolean gzip = false;
+  protected String getEntityContentEncoding(HttpEntity entity) {
     Header header = entity.getContentEncoding();
-    if (header != null) {
-      String enc = header.getValue();
-      gzip = enc != null && enc.equals("gzip");
-    }
-    return gzip;
+    return header != null ? header.getValue() : null;
   }
 
   protected ByteBuffer readEntity(HttpEntity entity) throws IOException {
@@ -111,8 +106,8 @@ public abstract class AsfRequest implements HHttpRequest {
       if (is != null) {
         try {
           if (log.isDebugEnabled()) log.debug("read stream");
-          boolean gzip = isEntityGzipEncoded(entity);
-          obuf = BWire.bufferFromStream(is, gzip);
+          String enc = getEntityContentEncoding(entity);
+          obuf = BCodecs.bufferFromStream(is, enc, entity.getContentLength());
           if (log.isDebugEnabled()) {
             log.debug("received #bytes={}", obuf.remaining());
             obuf.mark();
@@ -0,0 +1,217 @@
+package byps.http.client.jdk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.CookieHandler;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import byps.BAsyncResult;
+import byps.BCodec;
+import byps.BContentStream;
+import byps.http.HConstants;
+import byps.http.client.HHttpClient;
+import byps.http.client.HHttpRequest;
+
+/**
+ * HTTP client based on java.net.http.HttpClient.
+ * All requests of this client share the connection to the server.
+ * If the server supports HTTP/2, method calls, stream requests and the long-polls
+ * of the reverse requests are multiplexed over one socket.
+ * Requests are sent asynchronously. No thread is blocked while a request waits for its response.
+ */
+public class JdkClient implements HHttpClient {
+
+  private static Logger log = LoggerFactory.getLogger(JdkClient.class);
+
+  /**
+   * Cookies are stored by this CookieHandler.
+   * This is either the object returned by {@link CookieHandler#getDefault()}.
+   * Or, if there is no default handler set, a {@link CookieManager} is created.
+   */
+  private final CookieHandler cookieHandler;
+
+  /**
+   * A {@link CookieManager} created in the constructor, if no default cookie handler is registered.
+   */
+  private final CookieManager myCookieManager;
+
+  /**
+   * Base URI of the server.
+   * This URI is used to get the cookies from the {@link #cookieHandler}.
+   */
+  private final URI uri;
+
+  private final HttpClient httpClient;
+
+  /**
+   * Negotiated compression codec or null.
+   */
+  private volatile BCodec codec;
+
+  public JdkClient(String url, int timeoutSeconds) {
+
+    CookieHandler handler = CookieHandler.getDefault();
+    if (handler != null) {
+      cookieHandler = handler;
+      myCookieManager = null;
+    }
+    else {
+      myCookieManager = new CookieManager();
+      myCookieManager.setCookiePolicy(CookiePolicy.ACCEPT_ALL);
+      cookieHandler = myCookieManager;
+    }
+
+    uri = URI.create(url);
+
+    HttpClient.Version version = HttpClient.Version.valueOf(System.getProperty(JdkClientFactory.HTTP_VERSION, HttpClient.Version.HTTP_2.name()));
+    if (log.isDebugEnabled()) log.debug("JdkClient(url={}, timeoutSeconds={}, version={}", url, timeoutSeconds, version);
+
+    HttpClient.Builder builder = HttpClient.newBuilder()
+        .version(version)
+        .followRedirects(HttpClient.Redirect.NEVER)
+        .cookieHandler(cookieHandler);
+    if (timeoutSeconds > 0) {
+      builder.connectTimeout(Duration.ofSeconds(timeoutSeconds));
+    }
+    httpClient = builder.build();
+  }
+
+  /**
+   * Return the underlying client.
+   * It is used to open WebSocket connections that share the cookies of this client.
+   * @return HttpClient
+   */
+  HttpClient getHttpClient() {
+    return httpClient;
+  }
+
+  @Override
+  public void done() {
+    // java.net.http.HttpClient releases its connections when it is garbage collected.
+  }
+
+  @Override
+  public HHttpRequest get(long trackingId, String url, BAsyncResult<ByteBuffer> asyncResult) {
+    return new JdkGet(trackingId, url, asyncResult, httpClient);
+  }
+
+  @Override
+  public HHttpRequest getStream(long trackingId, String url, BAsyncResult<BContentStream> asyncResult) {
+    return new JdkGetStream(trackingId, url, asyncResult, httpClient);
+  }
+
+  @Override
+  public HHttpRequest post(long trackingId, String url, ByteBuffer buf, BAsyncResult<ByteBuffer> asyncResult) {
+    return new JdkPost(trackingId, url, buf, codec, asyncResult, httpClient);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setCodec(BCodec codec) {
+    this.codec = codec;
+  }
+
+  @Override
+  public HHttpRequest putStream(long trackingId, String url, InputStream stream, BAsyncResult<ByteBuffer> asyncResult) {
+    return new JdkPutStream(trackingId, url, stream, asyncResult, httpClient);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getHttpSession() {
+    Optional<HttpCookie> opt = internalFindCookie(HConstants.HTTP_COOKIE_JSESSIONID);
+    return opt.map(HttpCookie::getValue).orElse("");
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public HttpCookie getHttpCookie(String name) {
+    Optional<HttpCookie> opt = internalFindCookie(name);
+    return opt.orElse(null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setHttpCookie(HttpCookie cookie) {
+    if (cookie != null) {
+      setHttpCookies(List.of(cookie));
+    }
+  }
+
+  private Optional<HttpCookie> internalFindCookie(String name) {
+    List<HttpCookie> cookies = getHttpCookies();
+    return cookies.stream().filter(c -> c.getName().equalsIgnoreCase(name)).findAny();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<HttpCookie> getHttpCookies() {
+    List<HttpCookie> cookies = Collections.emptyList();
+    try {
+      Map<String, List<String>> cookieMap = cookieHandler.get(uri, Collections.emptyMap());
+
+      cookies = cookieMap.values().stream()
+          .flatMap(list -> list.stream())
+          .map(s -> s.split(";")).flatMap(ss -> Stream.of(ss)).map(String::trim)
+          .flatMap(s -> HttpCookie.parse(s).stream()).collect(Collectors.toList());
+
+      if (log.isDebugEnabled()) log.debug("getHttpCookies()={}", cookies);
+
+    } catch (IOException e) {
+      log.warn("Cannot get cookies for uri={} from cookieHandler={}", uri, cookieHandler, e);
+    }
+
+    return Collections.unmodifiableList(cookies);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setHttpCookies(List<HttpCookie> cookies) {
+
+    if (myCookieManager != null) {
+      synchronized(myCookieManager) {
+        myCookieManager.getCookieStore().removeAll();
+      }
+    }
+
+    if (cookies != null && !cookies.isEmpty()) {
+      try {
+        Map<String, List<String>> headers = new HashMap<String, List<String>>();
+        headers.put("Set-Cookie", cookies.stream().map(HttpCookie::toString).collect(Collectors.toList()));
+        cookieHandler.put(uri, headers);
+      }
+      catch (IOException e) {
+        log.warn("Cannot set cookies={} for uri={} into cookieHandler={}", cookies, uri, cookieHandler, e);
+      }
+    }
+  }
+
+}
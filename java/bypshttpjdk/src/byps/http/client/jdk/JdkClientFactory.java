@@ -0,0 +1,26 @@
+package byps.http.client.jdk;
+
+import byps.http.client.HHttpClient;
+import byps.http.client.HHttpClientFactory;
+
+/**
+ * Factory for HTTP clients based on java.net.http.HttpClient.
+ *
+ * Select this factory by system property:
+ * -Dbyps.http.client.factory=byps.http.client.jdk.JdkClientFactory
+ *
+ * Supported system properties:
+ *
+ * key=byps.http.client.jdk.version: HTTP version, HTTP_2 or HTTP_1_1.
+ * default: HTTP_2
+ */
+public class JdkClientFactory implements HHttpClientFactory {
+
+  public final static String HTTP_VERSION = "byps.http.client.jdk.version";
+
+  @Override
+  public HHttpClient createHttpClient(String url, int timeoutSeconds) {
+    return new JdkClient(url, timeoutSeconds);
+  }
+
+}
@@ -0,0 +1,54 @@
+package byps.http.client.jdk;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+import byps.BAsyncResult;
+import byps.BException;
+import byps.BExceptionC;
+
+public class JdkGet extends JdkRequest {
+
+  private final BAsyncResult<ByteBuffer> asyncResult;
+
+  protected JdkGet(long trackingId, String url, BAsyncResult<ByteBuffer> asyncResult, HttpClient httpClient) {
+    super(trackingId, url, httpClient);
+    this.asyncResult = asyncResult;
+  }
+
+  @Override
+  public void run() {
+    try {
+      HttpRequest.Builder builder = newRequestBuilder(url);
+      builder.header("Accept", "application/json, application/byps, text/plain, text/html");
+      builder.header("Accept-Encoding", "gzip");
+
+      CompletableFuture<HttpResponse<byte[]>> f = httpClient.sendAsync(builder.GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+      future = f;
+      if (cancelled.get()) f.cancel(true);
+      f.whenComplete(this::onResponse);
+    }
+    catch (Throwable e) {
+      asyncResult.setAsyncResult(null, makeBException(e, BExceptionC.CONNECTION_TO_SERVER_FAILED));
+    }
+  }
+
+  private void onResponse(HttpResponse<byte[]> response, Throwable e) {
+    ByteBuffer returnBuffer = null;
+    BException returnException = checkResponse(response, e);
+    if (returnException == null) {
+      try {
+        returnBuffer = readResponse(response);
+      }
+      catch (Throwable ex) {
+        returnException = makeBException(ex, BExceptionC.IOERROR);
+      }
+    }
+
+    asyncResult.setAsyncResult(returnBuffer, returnException);
+  }
+
+}
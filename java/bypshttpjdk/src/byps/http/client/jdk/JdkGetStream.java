@@ -0,0 +1,79 @@
+package byps.http.client.jdk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+import byps.BAsyncResult;
+import byps.BContentStream;
+import byps.BContentStreamWrapper;
+import byps.BException;
+import byps.BExceptionC;
+
+public class JdkGetStream extends JdkRequest {
+
+  private final BAsyncResult<BContentStream> asyncResult;
+
+  protected JdkGetStream(long trackingId, String url, BAsyncResult<BContentStream> asyncResult, HttpClient httpClient) {
+    super(trackingId, url, httpClient);
+    this.asyncResult = asyncResult;
+  }
+
+  @Override
+  public void run() {
+    try {
+      HttpRequest.Builder builder = newRequestBuilder(url);
+
+      CompletableFuture<HttpResponse<InputStream>> f = httpClient.sendAsync(builder.GET().build(), HttpResponse.BodyHandlers.ofInputStream());
+      future = f;
+      if (cancelled.get()) f.cancel(true);
+      f.whenComplete(this::onResponse);
+    }
+    catch (Throwable e) {
+      onResponse(null, e);
+    }
+  }
+
+  private void onResponse(HttpResponse<InputStream> response, Throwable e) {
+    InputStream is = null;
+    BException returnException = null;
+    String contentType = null;
+    long contentLength = -1;
+    String contentDisposition = null;
+
+    if (e != null) {
+      returnException = makeBException(e, BExceptionC.CONNECTION_TO_SERVER_FAILED);
+    }
+    else if (response.statusCode() != HttpURLConnection.HTTP_OK && response.statusCode() != HttpURLConnection.HTTP_PARTIAL) {
+      returnException = new BException(response.statusCode(), "Send message failed.");
+      try {
+        response.body().close();
+      }
+      catch (IOException ignored) {
+        // Ignore exception to continue with cleanup.
+      }
+    }
+    else {
+      contentType = response.headers().firstValue("Content-Type").orElse(null);
+      contentDisposition = response.headers().firstValue("Content-Disposition").orElse(null);
+      contentLength = response.headers().firstValueAsLong("Content-Length").orElse(-1L);
+      is = response.body();
+    }
+
+    final BException ex2 = returnException;
+    BContentStream stream = new BContentStreamWrapper(is, contentType, contentLength) {
+      public InputStream ensureStream() throws IOException {
+        if (ex2 != null) throw ex2;
+        return super.ensureStream();
+      }
+    };
+    stream.setContentDisposition(contentDisposition);
+
+    asyncResult.setAsyncResult(stream, null);
+  }
+
+}
@@ -0,0 +1,75 @@
+package byps.http.client.jdk;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+import byps.BAsyncResult;
+import byps.BCodec;
+import byps.BException;
+import byps.BExceptionC;
+import byps.BMessageHeader;
+import byps.http.client.HHttpCompression;
+
+public class JdkPost extends JdkRequest {
+
+  private final BAsyncResult<ByteBuffer> asyncResult;
+  private ByteBuffer buf;
+  private final BCodec codec;
+
+  protected JdkPost(long trackingId, String url, ByteBuffer buf, BCodec codec, BAsyncResult<ByteBuffer> asyncResult, HttpClient httpClient) {
+    super(trackingId, url, httpClient);
+    this.buf = buf;
+    this.codec = codec;
+    this.asyncResult = asyncResult;
+  }
+
+  @Override
+  public void run() {
+    final boolean isJson = BMessageHeader.detectProtocol(buf) == BMessageHeader.MAGIC_JSON;
+    final String contentType = isJson ? "application/json;charset=UTF-8" : "application/byps";
+
+    try {
+      HttpRequest.Builder builder = newRequestBuilder(url);
+      builder.header("Accept", "application/json, application/byps");
+      builder.header("Accept-Encoding", HHttpCompression.getAcceptEncoding(codec));
+      builder.header("Content-Type", contentType);
+
+      ByteBuffer bytes = buf;
+      BCodec requestCodec = HHttpCompression.getRequestCodec(codec, buf, isJson);
+      if (requestCodec != null) {
+        builder.header("Content-Encoding", requestCodec.getName());
+        bytes = requestCodec.compress(buf.duplicate());
+      }
+      HttpRequest.BodyPublisher body = HttpRequest.BodyPublishers.ofByteArray(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+
+      CompletableFuture<HttpResponse<byte[]>> f = httpClient.sendAsync(builder.POST(body).build(), HttpResponse.BodyHandlers.ofByteArray());
+      future = f;
+      if (cancelled.get()) f.cancel(true);
+      f.whenComplete(this::onResponse);
+    }
+    catch (Throwable e) {
+      buf = null; // Speicher freigeben
+      asyncResult.setAsyncResult(null, makeBException(e, BExceptionC.CONNECTION_TO_SERVER_FAILED));
+    }
+  }
+
+  private void onResponse(HttpResponse<byte[]> response, Throwable e) {
+    ByteBuffer returnBuffer = null;
+    BException returnException = checkResponse(response, e);
+    if (returnException == null) {
+      try {
+        returnBuffer = readResponse(response);
+      }
+      catch (Throwable ex) {
+        returnException = makeBException(ex, BExceptionC.IOERROR);
+      }
+    }
+
+    buf = null; // Speicher freigeben
+    asyncResult.setAsyncResult(returnBuffer, returnException);
+  }
+
+}
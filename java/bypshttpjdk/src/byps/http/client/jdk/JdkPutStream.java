@@ -0,0 +1,103 @@
+package byps.http.client.jdk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import byps.BAsyncResult;
+import byps.BException;
+import byps.BExceptionC;
+import byps.http.client.HHttpPutStreamHelper;
+
+/**
+ * Upload a stream in parts.
+ * Each part is read from the stream and sent while the calling thread waits for the response,
+ * since reading an InputStream blocks anyway.
+ */
+public class JdkPutStream extends JdkRequest implements HHttpPutStreamHelper.PutBytes {
+
+  private static Logger log = LoggerFactory.getLogger(JdkPutStream.class);
+  private final InputStream stream;
+  private final BAsyncResult<ByteBuffer> asyncResult;
+
+  /**
+   * Send stream as POST message.
+   */
+  private static boolean sendAsPost = Boolean.parseBoolean(System.getProperty("byps.http.putStreamAsPost", "false"));
+
+  protected JdkPutStream(long trackingId, String url, InputStream stream, BAsyncResult<ByteBuffer> asyncResult, HttpClient httpClient) {
+    super(trackingId, url, httpClient);
+    this.stream = stream;
+    this.asyncResult = asyncResult;
+  }
+
+  @Override
+  public void run() {
+    HHttpPutStreamHelper helper = new HHttpPutStreamHelper(this, url, stream, asyncResult);
+    helper.run();
+  }
+
+  @Override
+  public boolean isConcurrentPutSupported() {
+    return true;
+  }
+
+  @Override
+  public int putBytes(String url, byps.io.ByteArrayInputStream sendBuffer, String contentType, String contentDisposition, boolean lastRetry) throws BException {
+    if (log.isDebugEnabled()) log.debug("putBytes(url={}, sendBuffer={}, contentType={}, contentDisposition={}, lastRetry={}", url, sendBuffer, contentType, contentDisposition, lastRetry);
+    int statusCode = BExceptionC.CONNECTION_TO_SERVER_FAILED;
+
+    try {
+      HttpRequest.Builder builder = newRequestBuilder(url);
+      builder.header("Content-Type", contentType);
+      if (!contentDisposition.isEmpty()) {
+        builder.header("Content-Disposition", contentDisposition);
+      }
+
+      ByteBuffer buf = sendBuffer.getBuffer();
+      HttpRequest.BodyPublisher body = HttpRequest.BodyPublishers.ofByteArray(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+      buf.position(buf.limit());
+      builder.method(sendAsPost ? "POST" : "PUT", body);
+
+      HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+      statusCode = response.statusCode();
+      if (log.isDebugEnabled()) log.debug("statusCode={}", statusCode);
+
+      if (statusCode != HttpURLConnection.HTTP_OK) {
+        throw new BException(statusCode, "Put stream failed.");
+      }
+    }
+    catch (BException e) {
+      throw e;
+    }
+    catch (ConnectException e) {
+      if (log.isDebugEnabled()) log.debug("received exception=" + e);
+      if (lastRetry) {
+        throw new BException(BExceptionC.CONNECTION_TO_SERVER_FAILED, "Socket error.", e);
+      }
+    }
+    catch (HttpTimeoutException e) {
+      if (log.isDebugEnabled()) log.debug("received exception=" + e);
+      throw new BException(BExceptionC.TIMEOUT, "Socket timeout.", e);
+    }
+    catch (IOException e) {
+      throw new BException(statusCode, "Put stream failed.", e);
+    }
+    catch (InterruptedException e) {
+      throw new BException(BExceptionC.CANCELLED, "Put stream interrupted.", e);
+    }
+
+    if (log.isDebugEnabled()) log.debug(")putBytes");
+    return statusCode;
+  }
+
+}
@@ -0,0 +1,163 @@
+package byps.http.client.jdk;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import byps.BBufferJson;
+import byps.BCodec;
+import byps.BCodecs;
+import byps.BException;
+import byps.BExceptionC;
+import byps.http.client.HHttpRequest;
+
+public abstract class JdkRequest implements HHttpRequest {
+
+  protected final String url;
+  protected final HttpClient httpClient;
+  protected final long trackingId;
+  protected int connectTimeoutSeconds;
+  protected int sendRecvTimeoutSeconds;
+  protected Map<String,String> requestProperties;
+  protected AtomicBoolean cancelled = new AtomicBoolean();
+
+  /**
+   * Result of HttpClient.sendAsync.
+   * Cancelling this future completes the request with an exception.
+   */
+  protected volatile CompletableFuture<?> future;
+
+  private static Logger log = LoggerFactory.getLogger(JdkRequest.class);
+
+  protected JdkRequest(long trackingId, String url, HttpClient httpClient) {
+    this.trackingId = trackingId;
+    this.url = url;
+    this.httpClient = httpClient;
+  }
+
+  @Override
+  public void setTimeouts(int connectTimeoutSeconds, int sendRecvTimeoutSeconds) {
+    this.connectTimeoutSeconds = connectTimeoutSeconds;
+    this.sendRecvTimeoutSeconds = sendRecvTimeoutSeconds;
+  }
+
+  @Override
+  public void cancel() {
+    if (log.isDebugEnabled()) log.debug("cancel(");
+    cancelled.set(true);
+    CompletableFuture<?> f = future;
+    if (f != null) {
+      f.cancel(true);
+    }
+    if (log.isDebugEnabled()) log.debug(")cancel");
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return cancelled.get();
+  }
+
+  @Override
+  public void setRequestProperty(String name, String value) {
+    if (requestProperties == null) requestProperties = new HashMap<String,String>();
+    requestProperties.put(name, value);
+  }
+
+  /**
+   * Create a request builder with URL, timeout and request properties.
+   * @param destUrl URL
+   * @return Builder
+   * @throws BException if the request has been cancelled.
+   */
+  protected HttpRequest.Builder newRequestBuilder(String destUrl) throws BException {
+    if (cancelled.get()) throw new BException(BExceptionC.CANCELLED, "Request cancelled");
+
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(destUrl));
+    if (sendRecvTimeoutSeconds > 0) {
+      builder.timeout(Duration.ofSeconds(sendRecvTimeoutSeconds));
+    }
+    if (requestProperties != null) {
+      for (Map.Entry<String, String> prop : requestProperties.entrySet()) {
+        builder.setHeader(prop.getKey(), prop.getValue());
+      }
+    }
+    return builder;
+  }
+
+  /**
+   * Read the message from a response.
+   * @param response Response
+   * @return Message bytes
+   * @throws IOException
+   */
+  protected ByteBuffer readResponse(HttpResponse<byte[]> response) throws IOException {
+    BCodec codec = BCodecs.get(response.headers().firstValue("Content-Encoding").orElse(null));
+
+    ByteBuffer obuf = ByteBuffer.wrap(response.body());
+    if (codec != null) {
+      obuf = codec.decompress(obuf);
+    }
+
+    if (log.isDebugEnabled()) {
+      log.debug("received #bytes={}", obuf.remaining());
+      obuf.mark();
+      BBufferJson bbuf = new BBufferJson(obuf);
+      log.debug(bbuf.toDetailString());
+      obuf.reset();
+    }
+    return obuf;
+  }
+
+  /**
+   * Convert the exception of a failed request into a BException.
+   * @param e Exception
+   * @param statusCode Error code if the exception cannot be classified.
+   * @return BException
+   */
+  protected BException makeBException(Throwable e, int statusCode) {
+    if (e instanceof CompletionException && e.getCause() != null) {
+      e = e.getCause();
+    }
+    if (log.isDebugEnabled()) log.debug("received exception=" + e);
+
+    if (e instanceof BException) return (BException)e;
+    if (isCancelled() || e instanceof CancellationException) return new BException(BExceptionC.CANCELLED, "Request cancelled", e);
+    if (e instanceof HttpTimeoutException) return new BException(BExceptionC.TIMEOUT, "Socket timeout", e);
+    if (e instanceof ConnectException) return new BException(BExceptionC.CONNECTION_TO_SERVER_FAILED, "Socket error, url=" + url, e);
+    return new BException(statusCode, "Send message failed, url=" + url, e);
+  }
+
+  /**
+   * Complete a message request.
+   * @param response Response or null, if an exception was thrown.
+   * @param e Exception or null.
+   * @return BException or null.
+   */
+  protected BException checkResponse(HttpResponse<?> response, Throwable e) {
+    BException returnException = null;
+    if (e != null) {
+      returnException = makeBException(e, BExceptionC.CONNECTION_TO_SERVER_FAILED);
+    }
+    else if (response.statusCode() != HttpURLConnection.HTTP_OK) {
+      returnException = new BException(response.statusCode(), "Send message failed.");
+    }
+    return returnException;
+  }
+
+}
@@ -0,0 +1,417 @@
+package byps.http.client.jdk;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import byps.BAsyncResult;
+import byps.BException;
+import byps.BExceptionC;
+import byps.BMessage;
+import byps.BMessageHeader;
+import byps.BNegotiate;
+import byps.http.HConstants;
+import byps.http.HWireClient;
+
+/**
+ * Client wire that sends messages over a WebSocket connection.
+ *
+ * The WebSocket transport is negotiated with the server, see {@link BNegotiate#transports}.
+ * After the negotiation, the wire connects to the servlet URL with the ws or wss scheme.
+ * Method calls, their results, reverse requests and their results are sent
+ * over this connection. Requests and results are correlated by the message ID.
+ * Streams, the negotiation and the cancellation of messages use HTTP requests.
+ *
+ * If the server does not support WebSockets or if the connection cannot be opened,
+ * the wire falls back to HTTP requests and long-polls.
+ */
+public class JdkWebSocketWire extends HWireClient {
+
+  private static Logger log = LoggerFactory.getLogger(JdkWebSocketWire.class);
+
+  private final JdkClient jdkClient;
+
+  /**
+   * Server has selected the WebSocket transport.
+   */
+  private volatile boolean transportNegotiated;
+
+  /**
+   * Open WebSocket or null.
+   */
+  private volatile WebSocket webSocket;
+
+  /**
+   * A connection has been tried to open.
+   * The wire does not try to connect again, if the connection failed or has been closed.
+   */
+  private boolean connectAttempted;
+  private final Object connectLock = new Object();
+
+  /**
+   * Messages must not be sent before the previous message has been sent.
+   */
+  private CompletableFuture<?> lastSend = CompletableFuture.completedFuture(null);
+  private final Object sendLock = new Object();
+
+  /**
+   * Method calls waiting for their results.
+   */
+  private final ConcurrentHashMap<Long, BAsyncResult<BMessage>> pendingResults = new ConcurrentHashMap<Long, BAsyncResult<BMessage>>();
+
+  /**
+   * Reverse requests received from the server that have not been passed to a receiver yet.
+   */
+  private final ArrayDeque<BMessage> reverseRequests = new ArrayDeque<BMessage>();
+
+  /**
+   * Receivers of reverse requests, one for each long-poll of HServerR.
+   */
+  private final ArrayDeque<BAsyncResult<BMessage>> reverseReceivers = new ArrayDeque<BAsyncResult<BMessage>>();
+
+  /**
+   * IDs of the reverse requests that are executed by the client.
+   */
+  private final Set<Long> reverseMessageIds = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Initializes a new client-side WebSocket communication.
+   * @param url URL to server.
+   * @param flags A combination of BWire.FLAG_* values.
+   * @param timeoutSeconds Read timeout in seconds.
+   * @param threadPool Optional: A thread pool. If null, a thread pool is internally created.
+   */
+  public JdkWebSocketWire(String url, int flags, int timeoutSeconds, Executor threadPool) {
+    this(new JdkClient(url, timeoutSeconds), url, flags, timeoutSeconds, threadPool);
+  }
+
+  private JdkWebSocketWire(JdkClient jdkClient, String url, int flags, int timeoutSeconds, Executor threadPool) {
+    super(jdkClient, url, flags, timeoutSeconds, threadPool);
+    this.jdkClient = jdkClient;
+  }
+
+  @Override
+  public String getTransports() {
+    return HConstants.TRANSPORT_WEBSOCKET;
+  }
+
+  @Override
+  public void setTransport(String transport) {
+    if (log.isDebugEnabled()) log.debug("setTransport(" + transport);
+    transportNegotiated = HConstants.TRANSPORT_WEBSOCKET.equals(transport);
+  }
+
+  /**
+   * Check whether messages are sent over the WebSocket connection.
+   * @return true, if the connection is open.
+   */
+  public boolean isWebSocketOpen() {
+    return webSocket != null;
+  }
+
+  @Override
+  public void send(BMessage msg, BAsyncResult<BMessage> asyncResult) {
+    if (log.isDebugEnabled()) log.debug("send(" + msg);
+
+    WebSocket ws = isWebSocketMessage(msg) ? ensureWebSocket(msg.header.sessionId) : null;
+    if (ws == null) {
+      super.send(msg, asyncResult);
+      return;
+    }
+
+    final long messageId = msg.header.messageId;
+    pendingResults.put(messageId, asyncResult);
+    sendWebSocketMessage(ws, msg.buf).whenComplete((result, ex) -> {
+      if (ex != null) {
+        BAsyncResult<BMessage> pendingResult = pendingResults.remove(messageId);
+        if (pendingResult != null) {
+          pendingResult.setAsyncResult(null, new BException(BExceptionC.IOERROR, "Failed to send message over WebSocket.", ex));
+        }
+      }
+    });
+
+    if (log.isDebugEnabled()) log.debug(")send");
+  }
+
+  /**
+   * Send the result of a reverse request and wait for the next request.
+   * With a WebSocket connection, the server sends its requests without a long-poll.
+   * The asyncResult is stored until a request is received.
+   */
+  @Override
+  public void sendR(BMessage msg, BAsyncResult<BMessage> asyncResult) {
+    if (log.isDebugEnabled()) log.debug("sendR(" + msg);
+
+    WebSocket ws = ensureWebSocket(msg.header.sessionId);
+    if (ws == null) {
+      super.sendR(msg, asyncResult);
+      return;
+    }
+
+    // Result of a request received over the WebSocket?
+    // The first long-poll of HServerR does not contain a result.
+    if (reverseMessageIds.remove(msg.header.messageId)) {
+      sendWebSocketMessage(ws, msg.buf).whenComplete((result, ex) -> {
+        if (ex != null) log.warn("Failed to send result of reverse request over WebSocket.", ex);
+      });
+    }
+
+    BMessage request = null;
+    synchronized (reverseRequests) {
+      request = reverseRequests.poll();
+      if (request == null) {
+        reverseReceivers.add(asyncResult);
+      }
+    }
+
+    if (request != null) {
+      final BMessage nextRequest = request;
+      threadPool.execute(() -> asyncResult.setAsyncResult(nextRequest, null));
+    }
+
+    if (log.isDebugEnabled()) log.debug(")sendR");
+  }
+
+  @Override
+  public void done() {
+    if (log.isDebugEnabled()) log.debug("done(");
+
+    WebSocket ws;
+    synchronized (connectLock) {
+      connectAttempted = true;
+      ws = webSocket;
+    }
+    if (ws != null) {
+      ws.sendClose(WebSocket.NORMAL_CLOSURE, "");
+      webSocketClosed(ws, new BException(BExceptionC.CANCELLED, "WebSocket closed."));
+    }
+
+    super.done();
+
+    if (log.isDebugEnabled()) log.debug(")done");
+  }
+
+  private boolean isWebSocketMessage(BMessage msg) {
+    if (!transportNegotiated) return false;
+    if (msg.streams != null && !msg.streams.isEmpty()) return false;
+    if ((msg.header.flags & BMessageHeader.FLAG_POLL_PROCESSING) != 0) return false;
+    if (msg.buf.remaining() > HConstants.WEBSOCKET_MAX_MESSAGE_SIZE) return false;
+    return !BNegotiate.isNegotiateMessage(msg.buf);
+  }
+
+  /**
+   * Open the WebSocket connection, if the transport has been negotiated.
+   * @param sessionId BYPS session ID
+   * @return Open connection or null
+   */
+  private WebSocket ensureWebSocket(String sessionId) {
+    if (!transportNegotiated) return null;
+
+    synchronized (connectLock) {
+      if (!connectAttempted && !isDone) {
+        connectAttempted = true;
+        try {
+          URI uri = makeWebSocketUri(sessionId);
+          if (log.isDebugEnabled()) log.debug("connect to " + uri);
+          WebSocket.Builder builder = jdkClient.getHttpClient().newWebSocketBuilder();
+          if (timeoutSecondsClient > 0) {
+            builder.connectTimeout(Duration.ofSeconds(timeoutSecondsClient));
+          }
+          webSocket = builder.buildAsync(uri, new Listener()).join();
+        }
+        catch (Exception e) {
+          log.info("Failed to open WebSocket, use HTTP requests.", e);
+        }
+      }
+    }
+    return webSocket;
+  }
+
+  private URI makeWebSocketUri(String sessionId) {
+    StringBuilder sbuf = new StringBuilder();
+    if (surl.startsWith("https:")) {
+      sbuf.append("wss:").append(surl.substring(6));
+    }
+    else if (surl.startsWith("http:")) {
+      sbuf.append("ws:").append(surl.substring(5));
+    }
+    else {
+      sbuf.append(surl);
+    }
+    sbuf.append(surl.indexOf('?') < 0 ? '?' : '&');
+    sbuf.append(HConstants.BYPS_SESSION_ID_PARAMETER_NAME).append('=');
+    sbuf.append(URLEncoder.encode(sessionId, StandardCharsets.UTF_8));
+    return URI.create(sbuf.toString());
+  }
+
+  /**
+   * Send a message after the previous message has been sent.
+   * @param ws WebSocket
+   * @param buf Message bytes
+   * @return Future completed after the message has been sent.
+   */
+  private CompletableFuture<?> sendWebSocketMessage(WebSocket ws, ByteBuffer buf) {
+    final ByteBuffer data = buf.duplicate();
+    synchronized (sendLock) {
+      CompletableFuture<?> f = lastSend.handle((result, ex) -> null).thenCompose(v -> ws.sendBinary(data, true));
+      lastSend = f;
+      return f;
+    }
+  }
+
+  /**
+   * Process a message received from the server.
+   * @param buf Message bytes
+   */
+  private void recvMessage(ByteBuffer buf) {
+    try {
+      BMessageHeader header = new BMessageHeader();
+      header.read(buf);
+      final BMessage msg = new BMessage(header, buf, null);
+      if (log.isDebugEnabled()) log.debug("recvMessage(" + header);
+
+      if ((header.flags & BMessageHeader.FLAG_RESPONSE) != 0) {
+
+        // Result of a method call
+        final BAsyncResult<BMessage> asyncResult = pendingResults.remove(header.messageId);
+        if (asyncResult != null) {
+          threadPool.execute(() -> asyncResult.setAsyncResult(msg, null));
+        }
+        else {
+          if (log.isDebugEnabled()) log.debug("No pending call for messageId=" + header.messageId);
+        }
+      }
+      else {
+
+        // Reverse request
+        reverseMessageIds.add(header.messageId);
+
+        BAsyncResult<BMessage> receiver = null;
+        synchronized (reverseRequests) {
+          receiver = reverseReceivers.poll();
+          if (receiver == null) {
+            reverseRequests.add(msg);
+          }
+        }
+
+        if (receiver != null) {
+          final BAsyncResult<BMessage> nextReceiver = receiver;
+          threadPool.execute(() -> nextReceiver.setAsyncResult(msg, null));
+        }
+      }
+    }
+    catch (Throwable e) {
+      log.warn("Failed to process message received over WebSocket.", e);
+    }
+  }
+
+  /**
+   * The connection has been closed.
+   * Pending method calls fail. HServerR sends its next long-polls in HTTP requests.
+   * @param ws WebSocket
+   * @param ex Exception passed to the pending method calls.
+   */
+  private void webSocketClosed(WebSocket ws, BException ex) {
+    synchronized (connectLock) {
+      if (webSocket != ws) return;
+      webSocket = null;
+    }
+    if (log.isDebugEnabled()) log.debug("webSocketClosed(" + ex);
+
+    ArrayList<BAsyncResult<BMessage>> results = new ArrayList<BAsyncResult<BMessage>>();
+    for (Long messageId : new ArrayList<Long>(pendingResults.keySet())) {
+      BAsyncResult<BMessage> asyncResult = pendingResults.remove(messageId);
+      if (asyncResult != null) results.add(asyncResult);
+    }
+    for (BAsyncResult<BMessage> asyncResult : results) {
+      asyncResult.setAsyncResult(null, ex);
+    }
+
+    ArrayList<BAsyncResult<BMessage>> receivers;
+    synchronized (reverseRequests) {
+      receivers = new ArrayList<BAsyncResult<BMessage>>(reverseReceivers);
+      reverseReceivers.clear();
+      reverseRequests.clear();
+    }
+    reverseMessageIds.clear();
+
+    // Cancelled receivers stop HServerR, otherwise it continues with long-polls.
+    BException receiverEx = ex.code == BExceptionC.CANCELLED ? ex : new BException(BExceptionC.RESEND_LONG_POLL, "WebSocket closed.");
+    for (BAsyncResult<BMessage> receiver : receivers) {
+      receiver.setAsyncResult(null, receiverEx);
+    }
+  }
+
+  private class Listener implements WebSocket.Listener {
+
+    private ByteBuffer fragments;
+
+    @Override
+    public CompletionStage<?> onBinary(WebSocket ws, ByteBuffer data, boolean last) {
+      ByteBuffer buf;
+      if (fragments == null && last) {
+        buf = ByteBuffer.allocate(data.remaining());
+        buf.put(data);
+        buf.flip();
+      }
+      else {
+        if (fragments == null) {
+          fragments = ByteBuffer.allocate(Math.max(data.remaining() * 2, 1024));
+        }
+        if (fragments.remaining() < data.remaining()) {
+          ByteBuffer nbuf = ByteBuffer.allocate(Math.max(fragments.capacity() * 2, fragments.position() + data.remaining()));
+          fragments.flip();
+          nbuf.put(fragments);
+          fragments = nbuf;
+        }
+        fragments.put(data);
+        buf = null;
+        if (last) {
+          buf = fragments;
+          buf.flip();
+          fragments = null;
+        }
+      }
+
+      if (buf != null) {
+        recvMessage(buf);
+      }
+
+      ws.request(1);
+      return null;
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket ws, CharSequence data, boolean last) {
+      ws.request(1);
+      return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket ws, int statusCode, String reason) {
+      if (log.isDebugEnabled()) log.debug("onClose(" + statusCode + ", " + reason);
+      webSocketClosed(ws, new BException(BExceptionC.IOERROR, "WebSocket closed, status=" + statusCode + ", reason=" + reason));
+      return null;
+    }
+
+    @Override
+    public void onError(WebSocket ws, Throwable error) {
+      if (log.isDebugEnabled()) log.debug("onError(" + error);
+      webSocketClosed(ws, new BException(BExceptionC.IOERROR, "WebSocket failed.", error));
+    }
+  }
+
+}
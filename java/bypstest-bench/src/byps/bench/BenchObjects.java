@@ -0,0 +1,192 @@
+package byps.bench;
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.TreeMap;
+
+import byps.BBinaryModel;
+import byps.BProtocolJson;
+import byps.BProtocolS;
+import byps.test.TestUtils;
+import byps.test.api.arr.ArrayTypes1dim;
+import byps.test.api.arr.ArrayTypes4dim;
+import byps.test.api.inl.Actor;
+import byps.test.api.inl.Matrix2D;
+import byps.test.api.inl.Point2D;
+import byps.test.api.list.ListTypes;
+import byps.test.api.map.MapTypes;
+import byps.test.api.prim.PrimitiveTypes;
+import byps.test.api.refs.Node;
+
+/**
+ * Objects serialized by the benchmarks.
+ * The objects are built from the types of the bypstest-api.
+ * Collections and arrays contain {@link #SIZE} elements.
+ */
+public class BenchObjects {
+
+  public final static int SIZE = 100;
+
+  public final static String PRIMITIVES = "primitives";
+  public final static String ARRAY_1DIM = "array1dim";
+  public final static String ARRAY_4DIM = "array4dim";
+  public final static String LIST = "list";
+  public final static String MAP = "map";
+  public final static String REFERENCES = "references";
+  public final static String INLINE = "inline";
+
+  /**
+   * Return the binary model for the name used in a benchmark parameter.
+   * @param model MEDIUM or JSON
+   * @return Binary model
+   */
+  public static BBinaryModel getBinaryModel(String model) {
+    if (model.equals("JSON")) return BProtocolJson.BINARY_MODEL;
+    if (model.equals("MEDIUM")) return BProtocolS.BINARY_MODEL;
+    throw new IllegalArgumentException("Unknown binary model=" + model);
+  }
+
+  /**
+   * Create an object of the given kind.
+   * @param type One of the constants of this class.
+   * @return Object
+   */
+  public static Object create(String type) {
+    switch (type) {
+    case PRIMITIVES: return TestUtils.createObjectPrimitiveTypes();
+    case ARRAY_1DIM: return createArrayTypes1dim();
+    case ARRAY_4DIM: return createArrayTypes4dim();
+    case LIST: return createListTypes();
+    case MAP: return createMapTypes();
+    case REFERENCES: return createNodes();
+    case INLINE: return createActor();
+    default: throw new IllegalArgumentException("Unknown object type=" + type);
+    }
+  }
+
+  private static ArrayTypes1dim createArrayTypes1dim() {
+    ArrayTypes1dim obj = new ArrayTypes1dim();
+    obj.boolean1 = new boolean[SIZE];
+    obj.byte1 = new byte[SIZE];
+    obj.char1 = new char[SIZE];
+    obj.short1 = new short[SIZE];
+    obj.int1 = new int[SIZE];
+    obj.long1 = new long[SIZE];
+    obj.float1 = new float[SIZE];
+    obj.double1 = new double[SIZE];
+    obj.string1 = new String[SIZE];
+    obj.date1 = new Date[SIZE];
+    obj.primitiveTypes1 = new PrimitiveTypes[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      obj.boolean1[i] = (i & 1) != 0;
+      obj.byte1[i] = (byte)i;
+      obj.char1[i] = (char)('a' + (i % 26));
+      obj.short1[i] = (short)(i * 3);
+      obj.int1[i] = i * 1000;
+      obj.long1[i] = i * 1000L * 1000L;
+      obj.float1[i] = i / 3f;
+      obj.double1[i] = i / 7d;
+      obj.string1[i] = "string-" + i;
+      obj.date1[i] = new Date(1000L * 1000L * i);
+      obj.primitiveTypes1[i] = TestUtils.createObjectPrimitiveTypes();
+    }
+    return obj;
+  }
+
+  private static ArrayTypes4dim createArrayTypes4dim() {
+    ArrayTypes4dim obj = new ArrayTypes4dim();
+    obj.int4 = new int[2][3][4][5];
+    obj.double4 = new double[2][3][4][5];
+    obj.string4 = new String[2][3][4][5];
+    obj.primitiveTypes4 = new PrimitiveTypes[2][3][4][5];
+    for (int i = 0; i < 2; i++) {
+      for (int j = 0; j < 3; j++) {
+        for (int k = 0; k < 4; k++) {
+          for (int m = 0; m < 5; m++) {
+            int v = ((i * 3 + j) * 4 + k) * 5 + m;
+            obj.int4[i][j][k][m] = v;
+            obj.double4[i][j][k][m] = v / 7d;
+            obj.string4[i][j][k][m] = "string-" + v;
+            obj.primitiveTypes4[i][j][k][m] = TestUtils.createObjectPrimitiveTypes();
+          }
+        }
+      }
+    }
+    return obj;
+  }
+
+  private static ListTypes createListTypes() {
+    ListTypes obj = new ListTypes();
+    obj.int1 = new ArrayList<Integer>();
+    obj.long1 = new ArrayList<Long>();
+    obj.double1 = new ArrayList<Double>();
+    obj.string1 = new ArrayList<String>();
+    obj.primitiveTypes1 = new ArrayList<PrimitiveTypes>();
+    for (int i = 0; i < SIZE; i++) {
+      obj.int1.add(i);
+      obj.long1.add(i * 1000L * 1000L);
+      obj.double1.add(i / 7d);
+      obj.string1.add("string-" + i);
+      obj.primitiveTypes1.add(TestUtils.createObjectPrimitiveTypes());
+    }
+    return obj;
+  }
+
+  private static MapTypes createMapTypes() {
+    MapTypes obj = new MapTypes();
+    obj.int1 = new HashMap<Integer, Integer>();
+    obj.byte1 = new HashMap<Double, Byte>();
+    obj.char1 = new TreeMap<Float, Character>();
+    obj.string1 = new HashMap<String, String>();
+    obj.primitiveTypes1 = new HashMap<Integer, PrimitiveTypes>();
+    for (int i = 0; i < SIZE; i++) {
+      obj.int1.put(i, i * 1000);
+      obj.byte1.put(i / 7d, (byte)i);
+      obj.char1.put(i / 3f, (char)('a' + (i % 26)));
+      obj.string1.put("key-" + i, "value-" + i);
+      obj.primitiveTypes1.put(i, TestUtils.createObjectPrimitiveTypes());
+    }
+    return obj;
+  }
+
+  /**
+   * Create a ring of nodes.
+   * Each node refers to itself, to the next node and to all nodes by list and map.
+   * @return First node
+   */
+  private static Node createNodes() {
+    ArrayList<Node> nodes = new ArrayList<Node>(SIZE);
+    HashMap<String, Node> mapOfNodes = new HashMap<String, Node>();
+    for (int i = 0; i < SIZE; i++) {
+      Node node = new Node();
+      node.me = node;
+      nodes.add(node);
+      mapOfNodes.put("node-" + i, node);
+    }
+    for (int i = 0; i < SIZE; i++) {
+      Node node = nodes.get(i);
+      node.next = nodes.get((i + 1) % SIZE);
+      node.listOfNodes = nodes;
+      node.mapOfNodes = mapOfNodes;
+    }
+    return nodes.get(0);
+  }
+
+  private static Actor createActor() {
+    Actor obj = new Actor();
+    obj.position = new Matrix2D();
+    obj.position._11 = 1;
+    obj.position._22 = 1;
+    obj.position._33 = 1;
+    obj.shape = new Point2D[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      obj.shape[i] = new Point2D();
+      obj.shape[i].x = (short)i;
+      obj.shape[i].y = (short)(SIZE - i);
+    }
+    return obj;
+  }
+
+}
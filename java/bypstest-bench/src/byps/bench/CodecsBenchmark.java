@@ -0,0 +1,73 @@
+package byps.bench;
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import byps.BCodec;
+import byps.BCodecs;
+import byps.BException;
+import byps.BOutput;
+import byps.BTransport;
+import byps.test.TestUtils;
+
+/**
+ * Compress and decompress serialized messages with the built-in codecs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecsBenchmark {
+
+  @Param({ "x-byps-lz4", "deflate", "gzip" })
+  public String codecName;
+
+  @Param({ "MEDIUM", "JSON" })
+  public String model;
+
+  @Param({ BenchObjects.LIST, BenchObjects.REFERENCES })
+  public String type;
+
+  private BCodec codec;
+  private ByteBuffer message;
+  private ByteBuffer compressed;
+
+  @Setup
+  public void setup() throws BException, IOException {
+    codec = BCodecs.get(codecName);
+
+    TestUtils.protocol = BenchObjects.getBinaryModel(model);
+    BTransport transport = TestUtils.createTransport();
+    BOutput bout = transport.getOutput();
+    bout.store(BenchObjects.create(type));
+    message = bout.toByteBuffer();
+    compressed = codec.compress(message.duplicate());
+  }
+
+  @Benchmark
+  public int compress() throws IOException {
+    return codec.compress(message.duplicate()).remaining();
+  }
+
+  @Benchmark
+  public int decompress() throws IOException {
+    return codec.decompress(compressed.duplicate()).remaining();
+  }
+
+}
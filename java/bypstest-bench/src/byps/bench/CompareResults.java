@@ -0,0 +1,111 @@
+package byps.bench;
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Compare two JMH result files in JSON format.
+ * <p>
+ * Usage: CompareResults baseline.json results.json [threshold-percent]
+ * <p>
+ * For each benchmark of the results file, the score is compared with the score
+ * of the same benchmark and parameters in the baseline file.
+ * The program exits with code 1, if any benchmark is worse than the baseline
+ * by more than the threshold (default 10%).
+ */
+public class CompareResults {
+
+  private static class Result {
+    String mode;
+    double score;
+    String unit;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: CompareResults baseline.json results.json [threshold-percent]");
+      System.exit(2);
+    }
+
+    File baselineFile = new File(args[0]);
+    File resultsFile = new File(args[1]);
+    double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+
+    if (!baselineFile.exists()) {
+      System.err.println("Baseline " + baselineFile + " not found. Run task jmhBaseline to create it.");
+      System.exit(2);
+    }
+
+    Map<String, Result> baseline = readResults(baselineFile);
+    Map<String, Result> results = readResults(resultsFile);
+
+    int nbOfRegressions = 0;
+    for (Map.Entry<String, Result> e : results.entrySet()) {
+      Result r = e.getValue();
+      Result b = baseline.get(e.getKey());
+      if (b == null || !b.mode.equals(r.mode) || !b.unit.equals(r.unit)) {
+        System.out.printf("%-80s %12.3f %s (new)%n", e.getKey(), r.score, r.unit);
+        continue;
+      }
+
+      // Positive value = worse than baseline.
+      // Average time: lower is better. Throughput: higher is better.
+      double change = (r.score - b.score) / b.score * 100;
+      if (r.mode.equals("thrpt")) change = -change;
+
+      boolean regression = change > threshold;
+      if (regression) nbOfRegressions++;
+
+      System.out.printf("%-80s %12.3f %12.3f %s %+7.1f%% %s%n",
+          e.getKey(), b.score, r.score, r.unit, change, regression ? "REGRESSION" : "");
+    }
+
+    if (nbOfRegressions != 0) {
+      System.out.println(nbOfRegressions + " benchmark(s) slower than baseline by more than " + threshold + "%");
+      System.exit(1);
+    }
+  }
+
+  private static Map<String, Result> readResults(File file) throws IOException {
+    Map<String, Result> map = new TreeMap<String, Result>();
+    try (Reader rd = new FileReader(file)) {
+      JsonArray arr = JsonParser.parseReader(rd).getAsJsonArray();
+      for (JsonElement elm : arr) {
+        JsonObject obj = elm.getAsJsonObject();
+        JsonObject metric = obj.getAsJsonObject("primaryMetric");
+
+        Result r = new Result();
+        r.mode = obj.get("mode").getAsString();
+        r.score = metric.get("score").getAsDouble();
+        r.unit = metric.get("scoreUnit").getAsString();
+
+        map.put(makeKey(obj), r);
+      }
+    }
+    return map;
+  }
+
+  private static String makeKey(JsonObject obj) {
+    StringBuilder key = new StringBuilder(obj.get("benchmark").getAsString());
+    JsonObject params = obj.getAsJsonObject("params");
+    if (params != null) {
+      Map<String, String> sorted = new TreeMap<String, String>();
+      for (Map.Entry<String, JsonElement> p : params.entrySet()) {
+        sorted.put(p.getKey(), p.getValue().getAsString());
+      }
+      key.append(sorted);
+    }
+    return key.toString();
+  }
+
+}
@@ -0,0 +1,128 @@
+package byps.bench;
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import byps.RemoteException;
+import byps.test.TestUtils;
+import byps.test.TestUtilsHttp;
+import byps.test.api.BClient_Testser;
+import byps.test.api.prim.PrimitiveTypes;
+import byps.test.api.remote.RemotePrimitiveTypes;
+import byps.test.servlet.BypsServlet;
+import io.undertow.Handlers;
+import io.undertow.Undertow;
+import io.undertow.servlet.Servlets;
+import io.undertow.servlet.api.DeploymentInfo;
+import io.undertow.servlet.api.DeploymentManager;
+import jakarta.servlet.MultipartConfigElement;
+
+/**
+ * Remote calls over HTTP to the test servlet in an embedded Undertow server.
+ * The benchmark covers HWireClient, the HTTP client selected by byps.http.client.factory
+ * and the request processing of HHttpServlet.
+ * The throughput benchmarks show how requests/s scale, if many threads
+ * send requests in the same BYPS session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpBenchmark {
+
+  @Param({ "MEDIUM", "JSON" })
+  public String model;
+
+  private Undertow undertow;
+  private DeploymentManager deploymentManager;
+  private BClient_Testser client;
+  private RemotePrimitiveTypes remote;
+  private PrimitiveTypes primitiveTypes;
+
+  @Setup
+  public void setup() throws Exception {
+    int port;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+
+    DeploymentInfo deploymentInfo = Servlets.deployment()
+        .setClassLoader(HttpBenchmark.class.getClassLoader())
+        .setContextPath("/bypstest-srv")
+        .setDeploymentName("bypstest-bench")
+        .addServlet(Servlets.servlet("BypsServlet", BypsServlet.class)
+            .addMapping("/bypsservlet")
+            .setAsyncSupported(true)
+            .setMultipartConfig(new MultipartConfigElement(""))
+            .setLoadOnStartup(1));
+    deploymentManager = Servlets.defaultContainer().addDeployment(deploymentInfo);
+    deploymentManager.deploy();
+
+    undertow = Undertow.builder()
+        .addHttpListener(port, "localhost")
+        .setHandler(Handlers.path().addPrefixPath("/bypstest-srv", deploymentManager.start()))
+        .build();
+    undertow.start();
+
+    TestUtils.protocol = BenchObjects.getBinaryModel(model);
+    TestUtilsHttp.url = "http://localhost:" + port + "/bypstest-srv/bypsservlet";
+    client = TestUtilsHttp.createClient();
+
+    remote = client.getRemotePrimitiveTypes();
+    primitiveTypes = (PrimitiveTypes)BenchObjects.create(BenchObjects.PRIMITIVES);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    client.done();
+    undertow.stop();
+    deploymentManager.stop();
+    deploymentManager.undeploy();
+  }
+
+  @Benchmark
+  public int setGetInt() throws RemoteException {
+    remote.setInt(1);
+    return remote.getInt();
+  }
+
+  @Benchmark
+  public PrimitiveTypes setGetPrimitiveTypes() throws RemoteException {
+    remote.setPrimitiveTypes(primitiveTypes);
+    return remote.getPrimitiveTypes();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @Threads(1)
+  public int getIntThroughput1Thread() throws RemoteException {
+    return remote.getInt();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @Threads(Threads.MAX)
+  public int getIntThroughputMaxThreads() throws RemoteException {
+    return remote.getInt();
+  }
+
+}
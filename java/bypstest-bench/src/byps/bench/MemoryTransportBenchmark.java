@@ -0,0 +1,99 @@
+package byps.bench;
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import byps.BApiDescriptor;
+import byps.BProtocolJson;
+import byps.BTransport;
+import byps.RemoteException;
+import byps.io.mem.BTransportFactoryClient;
+import byps.io.mem.BWireMemoryTransport;
+import byps.io.mem.BWireMemoryTransportImpl;
+import byps.io.mem.BWireServer;
+import byps.test.api.BApiDescriptor_Testser;
+import byps.test.api.BClient_Testser;
+import byps.test.api.BServer_Testser;
+import byps.test.api.JRegistry_Testser;
+import byps.test.api.prim.PrimitiveTypes;
+import byps.test.api.remote.RemotePrimitiveTypes;
+import byps.test.servlet.MyRemotePrimitiveTypes;
+
+/**
+ * Remote calls over the in-memory wire in package byps.io.mem.
+ * Client and server run in this process, no socket is involved.
+ * The benchmark covers message serialization, BTransport and the stub/skeleton dispatch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoryTransportBenchmark {
+
+  @Param({ "MEDIUM", "JSON" })
+  public String model;
+
+  private BWireServer wireServer;
+  private BClient_Testser client;
+  private RemotePrimitiveTypes remote;
+  private PrimitiveTypes primitiveTypes;
+
+  @Setup
+  public void setup() throws Exception {
+    BWireMemoryTransportImpl wmtImpl = new BWireMemoryTransportImpl();
+
+    // Server accepts both binary models.
+    BApiDescriptor serverDesc = BApiDescriptor_Testser.instance();
+    serverDesc.addRegistry(new JRegistry_Testser());
+    wireServer = new BWireServer(new BWireMemoryTransport(wmtImpl));
+    BServer_Testser server = new BServer_Testser(new BTransport(serverDesc, wireServer, null));
+    server.addRemote(new MyRemotePrimitiveTypes());
+    wireServer.setServer(server);
+
+    // The client negotiates the binary model of its registry.
+    BApiDescriptor clientDesc = BApiDescriptor_Testser.instance();
+    if (BenchObjects.getBinaryModel(model) == BProtocolJson.BINARY_MODEL) {
+      clientDesc = new BApiDescriptor(clientDesc.name, clientDesc.basePackage, clientDesc.version, clientDesc.uniqueObjects);
+      clientDesc.addRegistry(new JRegistry_Testser());
+    }
+    client = BClient_Testser.createClient(new BTransportFactoryClient(clientDesc, wmtImpl));
+    client.start();
+
+    remote = client.getRemotePrimitiveTypes();
+    primitiveTypes = (PrimitiveTypes)BenchObjects.create(BenchObjects.PRIMITIVES);
+  }
+
+  @TearDown
+  public void tearDown() {
+    client.done();
+    wireServer.done();
+  }
+
+  @Benchmark
+  public int setGetInt() throws RemoteException {
+    remote.setInt(1);
+    return remote.getInt();
+  }
+
+  @Benchmark
+  public PrimitiveTypes setGetPrimitiveTypes() throws RemoteException {
+    remote.setPrimitiveTypes(primitiveTypes);
+    return remote.getPrimitiveTypes();
+  }
+
+}
@@ -0,0 +1,88 @@
+package byps.bench;
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import byps.BBufferPool;
+import byps.BException;
+import byps.BMessageHeader;
+import byps.BOutput;
+import byps.BTransport;
+import byps.BVersioning;
+import byps.BWire;
+import byps.test.TestUtils;
+import byps.test.api.arr.ArrayTypes1dim;
+
+/**
+ * Serialize large int[], long[] and double[] arrays.
+ * Parameter bversion compares the element-wise encoding of BYPS_VERSION_BULK_ARRAYS-1
+ * with the block encoding of the current version.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveArraysBenchmark {
+
+  @Param({ "3", "4" })
+  public int bversion;
+
+  @Param({ "100000" })
+  public int nbOfElements;
+
+  private BTransport transport;
+  private ArrayTypes1dim obj;
+  private ByteBuffer serialized;
+
+  @Setup
+  public void setup() throws BException {
+    if (bversion > BMessageHeader.BYPS_VERSION_CURRENT) throw new IllegalArgumentException("Unsupported bversion=" + bversion);
+    TestUtils.protocol = BenchObjects.getBinaryModel("MEDIUM");
+    transport = TestUtils.createTransport(BWire.FLAG_DEFAULT, bversion, BVersioning.stringToLong("794"));
+
+    obj = new ArrayTypes1dim();
+    obj.int1 = new int[nbOfElements];
+    obj.long1 = new long[nbOfElements];
+    obj.double1 = new double[nbOfElements];
+    for (int i = 0; i < nbOfElements; i++) {
+      obj.int1[i] = i * 1000;
+      obj.long1[i] = i * 1000L * 1000L;
+      obj.double1[i] = i / 7d;
+    }
+
+    BOutput bout = transport.getOutput();
+    bout.store(obj);
+    serialized = bout.toByteBuffer();
+  }
+
+  @Benchmark
+  public int write() throws BException {
+    BOutput bout = transport.getOutput();
+    bout.store(obj);
+    ByteBuffer buf = bout.toByteBuffer();
+    int n = buf.remaining();
+    BBufferPool.release(buf);
+    return n;
+  }
+
+  @Benchmark
+  public Object read() throws BException {
+    return transport.getInput(null, serialized.duplicate()).load();
+  }
+
+}
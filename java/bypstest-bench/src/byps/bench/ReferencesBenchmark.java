@@ -0,0 +1,127 @@
+package byps.bench;
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import byps.BBufferPool;
+import byps.BException;
+import byps.BObjMap;
+import byps.BOutput;
+import byps.BTransport;
+import byps.test.TestUtils;
+import byps.test.api.refs.Node;
+
+/**
+ * Serialize large object graphs like in TestSerializeReferences.
+ * Each object has to be looked up in the reference map of BOutput and stored in the id table of BInput.
+ * <p>
+ * The benchmarks objMap and hashMap compare BObjMap with a map of identity hash codes to lists of
+ * objects as used by BObjMap before it became an open addressing table.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReferencesBenchmark {
+
+  @Param({ "MEDIUM" })
+  public String model;
+
+  @Param({ "1000", "100000" })
+  public int nbOfNodes;
+
+  private BTransport transport;
+  private Node root;
+  private ByteBuffer serialized;
+
+  private final BObjMap objMap = new BObjMap();
+
+  @Setup
+  public void setup() throws BException {
+    TestUtils.protocol = BenchObjects.getBinaryModel(model);
+    transport = TestUtils.createTransport();
+
+    root = new Node();
+    root.listOfNodes = new ArrayList<Node>(nbOfNodes);
+    for (int i = 0; i < nbOfNodes; i++) {
+      Node node = new Node();
+      node.me = node;
+      node.next = i != 0 ? root.listOfNodes.get(i / 2) : node;
+      root.listOfNodes.add(node);
+    }
+
+    BOutput bout = transport.getOutput();
+    bout.store(root);
+    serialized = bout.toByteBuffer();
+  }
+
+  @Benchmark
+  public int write() throws BException {
+    BOutput bout = transport.getOutput();
+    bout.store(root);
+    ByteBuffer buf = bout.toByteBuffer();
+    int n = buf.remaining();
+    BBufferPool.release(buf);
+    return n;
+  }
+
+  @Benchmark
+  public Object read() throws BException {
+    return transport.getInput(null, serialized.duplicate()).load();
+  }
+
+  @Benchmark
+  public int objMap() {
+    objMap.clear();
+    List<Node> nodes = root.listOfNodes;
+    int sum = 0;
+    for (int i = 0; i < nodes.size(); i++) {
+      objMap.put(nodes.get(i), i + 1);
+    }
+    for (int i = 0; i < nodes.size(); i++) {
+      sum += objMap.get(nodes.get(i));
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int hashMap() {
+    Map<Integer, List<Object[]>> map = new HashMap<>();
+    List<Node> nodes = root.listOfNodes;
+    int sum = 0;
+    for (int i = 0; i < nodes.size(); i++) {
+      Node node = nodes.get(i);
+      map.computeIfAbsent(System.identityHashCode(node), k -> new ArrayList<>(3)).add(new Object[] { node, i + 1 });
+    }
+    for (int i = 0; i < nodes.size(); i++) {
+      Node node = nodes.get(i);
+      for (Object[] e : map.get(System.identityHashCode(node))) {
+        if (e[0] == node) {
+          sum += (Integer)e[1];
+          break;
+        }
+      }
+    }
+    return sum;
+  }
+
+}
@@ -0,0 +1,75 @@
+package byps.bench;
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import byps.BBufferPool;
+import byps.BException;
+import byps.BOutput;
+import byps.BTransport;
+import byps.test.TestUtils;
+
+/**
+ * Serialize and deserialize objects with the generated serializers of bypstest-ser.
+ * The write benchmark covers BOutput.store and the BBuffer implementations,
+ * the read benchmark covers BInput.load.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+  @Param({ "MEDIUM", "JSON" })
+  public String model;
+
+  @Param({ BenchObjects.PRIMITIVES, BenchObjects.ARRAY_1DIM, BenchObjects.ARRAY_4DIM,
+    BenchObjects.LIST, BenchObjects.MAP, BenchObjects.REFERENCES, BenchObjects.INLINE })
+  public String type;
+
+  private BTransport transport;
+  private Object obj;
+  private ByteBuffer serialized;
+
+  @Setup
+  public void setup() throws BException {
+    TestUtils.protocol = BenchObjects.getBinaryModel(model);
+    transport = TestUtils.createTransport();
+    obj = BenchObjects.create(type);
+
+    BOutput bout = transport.getOutput();
+    bout.store(obj);
+    serialized = bout.toByteBuffer();
+  }
+
+  @Benchmark
+  public int write() throws BException {
+    BOutput bout = transport.getOutput();
+    bout.store(obj);
+    ByteBuffer buf = bout.toByteBuffer();
+    int n = buf.remaining();
+    BBufferPool.release(buf);
+    return n;
+  }
+
+  @Benchmark
+  public Object read() throws BException {
+    return transport.getInput(null, serialized.duplicate()).load();
+  }
+
+}
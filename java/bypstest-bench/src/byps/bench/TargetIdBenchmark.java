@@ -0,0 +1,70 @@
+package byps.bench;
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import byps.BTargetId;
+import byps.RemoteException;
+import byps.http.HTargetIdFactory;
+
+/**
+ * Encrypt and decrypt target IDs as done for remote references and streams.
+ * A cache size of 0 measures the cipher alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetIdBenchmark {
+
+  /**
+   * Number of distinct target IDs.
+   */
+  private final static int NB_OF_IDS = 100;
+
+  @Param({ "0", "10000" })
+  public int cacheSize;
+
+  private HTargetIdFactory factory;
+  private BTargetId[] plainIds;
+  private BTargetId[] encryptedIds;
+  private int idx;
+
+  @Setup
+  public void setup() throws RemoteException {
+    factory = new HTargetIdFactory(1, cacheSize);
+    plainIds = new BTargetId[NB_OF_IDS];
+    encryptedIds = new BTargetId[NB_OF_IDS];
+    for (int i = 0; i < NB_OF_IDS; i++) {
+      plainIds[i] = new BTargetId(1, i + 1, 1000 + i, 2000 + i, 0);
+      encryptedIds[i] = factory.encryptTargetId(plainIds[i], true);
+    }
+  }
+
+  @Benchmark
+  public BTargetId encrypt() throws RemoteException {
+    idx = (idx + 1) % NB_OF_IDS;
+    return factory.encryptTargetId(plainIds[idx], true);
+  }
+
+  @Benchmark
+  public BTargetId decrypt() throws RemoteException {
+    idx = (idx + 1) % NB_OF_IDS;
+    return factory.encryptTargetId(encryptedIds[idx], false);
+  }
+
+}
@@ -30,9 +30,7 @@ public class BSerializer_100361105 extends BSerializer {
 		
 		
 		final int[] a0 = arr;
-		for (int i0 = 0; i0 < n0; i0++) {
-			a0[i0] = bbuf.getInt();
-		}
+		bin.bbuf.getArrayInt(a0);
 		
 		return arr;
 	}
@@ -50,10 +48,7 @@ public class BSerializer_100361105 extends BSerializer {
 		
 		
 		final int[] a0 = arr;
-		for (int i0 = 0; i0 < n0; i0++) {
-			// checkpoint byps.gen.j.PrintContext:370
-			bbuf.putInt(a0[i0]);
-		}
+		bout.bbuf.putArrayInt(a0);
 	}
 	
 }
@@ -30,9 +30,7 @@ public class BSerializer_1097129250 extends BSerializer {
 		
 		
 		final long[] a0 = arr;
-		for (int i0 = 0; i0 < n0; i0++) {
-			a0[i0] = bbuf.getLong();
-		}
+		bin.bbuf.getArrayLong(a0);
 		
 		return arr;
 	}
@@ -50,10 +48,7 @@ public class BSerializer_1097129250 extends BSerializer {
 		
 		
 		final long[] a0 = arr;
-		for (int i0 = 0; i0 < n0; i0++) {
-			// checkpoint byps.gen.j.PrintContext:370
-			bbuf.putLong(a0[i0]);
-		}
+		bout.bbuf.putArrayLong(a0);
 	}
 	
 }
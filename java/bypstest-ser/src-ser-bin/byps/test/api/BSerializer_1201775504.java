@@ -39,9 +39,7 @@ public class BSerializer_1201775504 extends BSerializer {
 				final byte[][] a1 = a2[i2];
 				for (int i1 = 0; i1 < n1; i1++) {
 					final byte[] a0 = a1[i1];
-					for (int i0 = 0; i0 < n0; i0++) {
-						a0[i0] = bbuf.getByte();
-					}
+					bin.bbuf.getArrayByte(a0);
 				}
 			}
 		}
@@ -74,10 +72,7 @@ public class BSerializer_1201775504 extends BSerializer {
 				final byte[][] a1 = a2[i2];
 				for (int i1 = 0; i1 < n1; i1++) {
 					final byte[] a0 = a1[i1];
-					for (int i0 = 0; i0 < n0; i0++) {
-						// checkpoint byps.gen.j.PrintContext:370
-						bbuf.putByte(a0[i0]);
-					}
+					bout.bbuf.putArrayByte(a0);
 				}
 			}
 		}
@@ -30,9 +30,7 @@ public class BSerializer_1359468275 extends BSerializer {
 		
 		
 		final double[] a0 = arr;
-		for (int i0 = 0; i0 < n0; i0++) {
-			a0[i0] = bbuf.getDouble();
-		}
+		bin.bbuf.getArrayDouble(a0);
 		
 		return arr;
 	}
@@ -50,10 +48,7 @@ public class BSerializer_1359468275 extends BSerializer {
 		
 		
 		final double[] a0 = arr;
-		for (int i0 = 0; i0 < n0; i0++) {
-			// checkpoint byps.gen.j.PrintContext:370
-			bbuf.putDouble(a0[i0]);
-		}
+		bout.bbuf.putArrayDouble(a0);
 	}
 	
 }
@@ -30,9 +30,7 @@ public class BSerializer_1361632968 extends BSerializer {
 		
 		
 		final char[] a0 = arr;
-		for (int i0 = 0; i0 < n0; i0++) {
-			a0[i0] = bbuf.getChar();
-		}
+		bin.bbuf.getArrayChar(a0);
 		
 		return arr;
 	}
@@ -50,10 +48,7 @@ public class BSerializer_1361632968 extends BSerializer {
 		
 		
 		final char[] a0 = arr;
-		for (int i0 = 0; i0 < n0; i0++) {
-			// checkpoint byps.gen.j.PrintContext:370
-			bbuf.putChar(a0[i0]);
-		}
+		bout.bbuf.putArrayChar(a0);
 	}
 	
 }
@@ -39,9 +39,7 @@ public class BSerializer_1516687588 extends BSerializer {
 				final float[][] a1 = a2[i2];
 				for (int i1 = 0; i1 < n1; i1++) {
 					final float[] a0 = a1[i1];
-					for (int i0 = 0; i0 < n0; i0++) {
-						a0[i0] = bbuf.getFloat();
-					}
+					bin.bbuf.getArrayFloat(a0);
 				}
 			}
 		}
@@ -74,10 +72,7 @@ public class BSerializer_1516687588 extends BSerializer {
 				final float[][] a1 = a2[i2];
 				for (int i1 = 0; i1 < n1; i1++) {
 					final float[] a0 = a1[i1];
-					for (int i0 = 0; i0 < n0; i0++) {
-						// checkpoint byps.gen.j.PrintContext:370
-						bbuf.putFloat(a0[i0]);
-					}
+					bout.bbuf.putArrayFloat(a0);
 				}
 			}
 		}
@@ -33,9 +33,7 @@ public class BSerializer_1957744307 extends BSerializer {
 		final int[][] a1 = arr;
 		for (int i1 = 0; i1 < n1; i1++) {
 			final int[] a0 = a1[i1];
-			for (int i0 = 0; i0 < n0; i0++) {
-				a0[i0] = bbuf.getInt();
-			}
+			bin.bbuf.getArrayInt(a0);
 		}
 		
 		return arr;
@@ -58,10 +56,7 @@ public class BSerializer_1957744307 extends BSerializer {
 		final int[][] a1 = arr;
 		for (int i1 = 0; i1 < n1; i1++) {
 			final int[] a0 = a1[i1];
-			for (int i0 = 0; i0 < n0; i0++) {
-				// checkpoint byps.gen.j.PrintContext:370
-				bbuf.putInt(a0[i0]);
-			}
+			bout.bbuf.putArrayInt(a0);
 		}
 	}
 	
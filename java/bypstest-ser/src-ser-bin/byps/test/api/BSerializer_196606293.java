@@ -36,9 +36,7 @@ public class BSerializer_196606293 extends BSerializer {
 			final int[][] a1 = a2[i2];
 			for (int i1 = 0; i1 < n1; i1++) {
 				final int[] a0 = a1[i1];
-				for (int i0 = 0; i0 < n0; i0++) {
-					a0[i0] = bbuf.getInt();
-				}
+				bin.bbuf.getArrayInt(a0);
 			}
 		}
 		
@@ -66,10 +64,7 @@ public class BSerializer_196606293 extends BSerializer {
 			final int[][] a1 = a2[i2];
 			for (int i1 = 0; i1 < n1; i1++) {
 				final int[] a0 = a1[i1];
-				for (int i0 = 0; i0 < n0; i0++) {
-					// checkpoint byps.gen.j.PrintContext:370
-					bbuf.putInt(a0[i0]);
-				}
+				bout.bbuf.putArrayInt(a0);
 			}
 		}
 	}
@@ -30,9 +30,7 @@ public class BSerializer_2067161310 extends BSerializer {
 		
 		
 		final short[] a0 = arr;
-		for (int i0 = 0; i0 < n0; i0++) {
-			a0[i0] = bbuf.getShort();
-		}
+		bin.bbuf.getArrayShort(a0);
 		
 		return arr;
 	}
@@ -50,10 +48,7 @@ public class BSerializer_2067161310 extends BSerializer {
 		
 		
 		final short[] a0 = arr;
-		for (int i0 = 0; i0 < n0; i0++) {
-			// checkpoint byps.gen.j.PrintContext:370
-			bbuf.putShort(a0[i0]);
-		}
+		bout.bbuf.putArrayShort(a0);
 	}
 	
 }
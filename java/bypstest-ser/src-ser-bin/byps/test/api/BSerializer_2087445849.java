@@ -39,9 +39,7 @@ public class BSerializer_2087445849 extends BSerializer {
 				final double[][] a1 = a2[i2];
 				for (int i1 = 0; i1 < n1; i1++) {
 					final double[] a0 = a1[i1];
-					for (int i0 = 0; i0 < n0; i0++) {
-						a0[i0] = bbuf.getDouble();
-					}
+					bin.bbuf.getArrayDouble(a0);
 				}
 			}
 		}
@@ -74,10 +72,7 @@ public class BSerializer_2087445849 extends BSerializer {
 				final double[][] a1 = a2[i2];
 				for (int i1 = 0; i1 < n1; i1++) {
 					final double[] a0 = a1[i1];
-					for (int i0 = 0; i0 < n0; i0++) {
-						// checkpoint byps.gen.j.PrintContext:370
-						bbuf.putDouble(a0[i0]);
-					}
+					bout.bbuf.putArrayDouble(a0);
 				}
 			}
 		}
@@ -30,9 +30,7 @@ public class BSerializer_766441794 extends BSerializer {
 		
 		
 		final float[] a0 = arr;
-		for (int i0 = 0; i0 < n0; i0++) {
-			a0[i0] = bbuf.getFloat();
-		}
+		bin.bbuf.getArrayFloat(a0);
 		
 		return arr;
 	}
@@ -50,10 +48,7 @@ public class BSerializer_766441794 extends BSerializer {
 		
 		
 		final float[] a0 = arr;
-		for (int i0 = 0; i0 < n0; i0++) {
-			// checkpoint byps.gen.j.PrintContext:370
-			bbuf.putFloat(a0[i0]);
-		}
+		bout.bbuf.putArrayFloat(a0);
 	}
 	
 }
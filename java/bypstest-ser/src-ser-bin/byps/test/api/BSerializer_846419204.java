@@ -39,9 +39,7 @@ public class BSerializer_846419204 extends BSerializer {
 				final long[][] a1 = a2[i2];
 				for (int i1 = 0; i1 < n1; i1++) {
 					final long[] a0 = a1[i1];
-					for (int i0 = 0; i0 < n0; i0++) {
-						a0[i0] = bbuf.getLong();
-					}
+					bin.bbuf.getArrayLong(a0);
 				}
 			}
 		}
@@ -74,10 +72,7 @@ public class BSerializer_846419204 extends BSerializer {
 				final long[][] a1 = a2[i2];
 				for (int i1 = 0; i1 < n1; i1++) {
 					final long[] a0 = a1[i1];
-					for (int i0 = 0; i0 < n0; i0++) {
-						// checkpoint byps.gen.j.PrintContext:370
-						bbuf.putLong(a0[i0]);
-					}
+					bout.bbuf.putArrayLong(a0);
 				}
 			}
 		}
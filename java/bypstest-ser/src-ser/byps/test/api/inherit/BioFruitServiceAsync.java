@@ -7,7 +7,7 @@ package byps.test.api.inherit;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface BioFruitServiceAsync extends BRemote, 
 	BioFruitService, 
 	byps.test.api.inherit.FruitServiceAsync {
@@ -18,6 +18,12 @@ public interface BioFruitServiceAsync extends BRemote,
 	public boolean certify(java.lang.String param) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void certify(java.lang.String param, final BAsyncResult<Boolean> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Boolean> certifyAsync(java.lang.String param) {
+		final BFutureResult<Boolean> asyncResult = new BFutureResult<Boolean>();		
+		certify(param, asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
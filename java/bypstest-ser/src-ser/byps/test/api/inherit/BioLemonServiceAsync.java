@@ -7,7 +7,7 @@ package byps.test.api.inherit;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface BioLemonServiceAsync extends BRemote, 
 	BioLemonService, 
 	byps.test.api.inherit.BioFruitServiceAsync, 
@@ -18,6 +18,12 @@ public interface BioLemonServiceAsync extends BRemote,
 	public int useParing() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void useParing(final BAsyncResult<Integer> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Integer> useParingAsync() {
+		final BFutureResult<Integer> asyncResult = new BFutureResult<Integer>();		
+		useParing(asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
@@ -7,7 +7,7 @@ package byps.test.api.inherit;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface FruitServiceAuth extends BRemote, 
 	byps.test.api.inherit.PlantServiceAuth {
 	/**
@@ -16,6 +16,12 @@ public interface FruitServiceAuth extends BRemote,
 	public java.lang.String squeeze() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void squeeze(final BAsyncResult<String> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<String> squeezeAsync() {
+		final BFutureResult<String> asyncResult = new BFutureResult<String>();		
+		squeeze(asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
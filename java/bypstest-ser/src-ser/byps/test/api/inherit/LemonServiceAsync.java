@@ -7,7 +7,7 @@ package byps.test.api.inherit;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface LemonServiceAsync extends BRemote, 
 	LemonService, 
 	byps.test.api.inherit.FruitServiceAsync {
@@ -17,6 +17,12 @@ public interface LemonServiceAsync extends BRemote,
 	public java.lang.String pick(byps.test.api.auth.SessionInfo sess, java.lang.String fromTree) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void pick(byps.test.api.auth.SessionInfo sess, java.lang.String fromTree, final BAsyncResult<String> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<String> pickAsync(byps.test.api.auth.SessionInfo sess, java.lang.String fromTree) {
+		final BFutureResult<String> asyncResult = new BFutureResult<String>();		
+		pick(sess, fromTree, asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
@@ -7,7 +7,7 @@ package byps.test.api.inherit;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface PlantServiceAsync extends BRemote, 
 	PlantService {
 	/**
@@ -16,6 +16,12 @@ public interface PlantServiceAsync extends BRemote,
 	public java.lang.String grow() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void grow(final BAsyncResult<String> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<String> growAsync() {
+		final BFutureResult<String> asyncResult = new BFutureResult<String>();		
+		grow(asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
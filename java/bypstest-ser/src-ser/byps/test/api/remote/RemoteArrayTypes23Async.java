@@ -7,7 +7,7 @@ package byps.test.api.remote;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface RemoteArrayTypes23Async extends BRemote, 
 	RemoteArrayTypes23 {
 	/**
@@ -16,6 +16,12 @@ public interface RemoteArrayTypes23Async extends BRemote,
 	public int[] sendArraysInt(int[][] arr2, int[][][] arr3, int[][][][] arr4) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void sendArraysInt(int[][] arr2, int[][][] arr3, int[][][][] arr4, final BAsyncResult<int[]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<int[]> sendArraysIntAsync(int[][] arr2, int[][][] arr3, int[][][][] arr4) {
+		final BFutureResult<int[]> asyncResult = new BFutureResult<int[]>();		
+		sendArraysInt(arr2, arr3, arr4, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -23,6 +29,12 @@ public interface RemoteArrayTypes23Async extends BRemote,
 	public java.lang.String[] sendArraysString(java.lang.String[][] arr2, java.lang.String[][][] arr3, java.lang.String[][][][] arr4) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void sendArraysString(java.lang.String[][] arr2, java.lang.String[][][] arr3, java.lang.String[][][][] arr4, final BAsyncResult<java.lang.String[]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.lang.String[]> sendArraysStringAsync(java.lang.String[][] arr2, java.lang.String[][][] arr3, java.lang.String[][][][] arr4) {
+		final BFutureResult<java.lang.String[]> asyncResult = new BFutureResult<java.lang.String[]>();		
+		sendArraysString(arr2, arr3, arr4, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -30,6 +42,12 @@ public interface RemoteArrayTypes23Async extends BRemote,
 	public byps.test.api.prim.PrimitiveTypes[] sendArraysClass(byps.test.api.prim.PrimitiveTypes[][] arr2, byps.test.api.prim.PrimitiveTypes[][][] arr3, byps.test.api.prim.PrimitiveTypes[][][][] arr4) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void sendArraysClass(byps.test.api.prim.PrimitiveTypes[][] arr2, byps.test.api.prim.PrimitiveTypes[][][] arr3, byps.test.api.prim.PrimitiveTypes[][][][] arr4, final BAsyncResult<byps.test.api.prim.PrimitiveTypes[]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<byps.test.api.prim.PrimitiveTypes[]> sendArraysClassAsync(byps.test.api.prim.PrimitiveTypes[][] arr2, byps.test.api.prim.PrimitiveTypes[][][] arr3, byps.test.api.prim.PrimitiveTypes[][][][] arr4) {
+		final BFutureResult<byps.test.api.prim.PrimitiveTypes[]> asyncResult = new BFutureResult<byps.test.api.prim.PrimitiveTypes[]>();		
+		sendArraysClass(arr2, arr3, arr4, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -37,6 +55,12 @@ public interface RemoteArrayTypes23Async extends BRemote,
 	public java.lang.Object[] sendArraysObject(java.lang.Object[][] arr2, java.lang.Object[][][] arr3, java.lang.Object[][][][] arr4) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void sendArraysObject(java.lang.Object[][] arr2, java.lang.Object[][][] arr3, java.lang.Object[][][][] arr4, final BAsyncResult<java.lang.Object[]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.lang.Object[]> sendArraysObjectAsync(java.lang.Object[][] arr2, java.lang.Object[][][] arr3, java.lang.Object[][][][] arr4) {
+		final BFutureResult<java.lang.Object[]> asyncResult = new BFutureResult<java.lang.Object[]>();		
+		sendArraysObject(arr2, arr3, arr4, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -44,6 +68,12 @@ public interface RemoteArrayTypes23Async extends BRemote,
 	public byps.test.api.inl.Point2D[] sendArraysInline(byps.test.api.inl.Point2D[][] arr2, byps.test.api.inl.Point2D[][][] arr3, byps.test.api.inl.Point2D[][][][] arr4) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void sendArraysInline(byps.test.api.inl.Point2D[][] arr2, byps.test.api.inl.Point2D[][][] arr3, byps.test.api.inl.Point2D[][][][] arr4, final BAsyncResult<byps.test.api.inl.Point2D[]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<byps.test.api.inl.Point2D[]> sendArraysInlineAsync(byps.test.api.inl.Point2D[][] arr2, byps.test.api.inl.Point2D[][][] arr3, byps.test.api.inl.Point2D[][][][] arr4) {
+		final BFutureResult<byps.test.api.inl.Point2D[]> asyncResult = new BFutureResult<byps.test.api.inl.Point2D[]>();		
+		sendArraysInline(arr2, arr3, arr4, asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
@@ -7,7 +7,7 @@ package byps.test.api.remote;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface RemoteArrayTypes4dimAsync extends BRemote, 
 	RemoteArrayTypes4dim {
 	/**
@@ -16,6 +16,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public void setBool(boolean[][][][] v) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setBool(boolean[][][][] v, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setBoolAsync(boolean[][][][] v) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setBool(v, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -23,6 +29,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public void setByte(byte[][][][] v) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setByte(byte[][][][] v, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setByteAsync(byte[][][][] v) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setByte(v, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -30,6 +42,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public void setChar(char[][][][] v) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setChar(char[][][][] v, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setCharAsync(char[][][][] v) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setChar(v, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -37,6 +55,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public void setShort(short[][][][] v) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setShort(short[][][][] v, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setShortAsync(short[][][][] v) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setShort(v, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -44,6 +68,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public void setInt(int[][][][] v) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setInt(int[][][][] v, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setIntAsync(int[][][][] v) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setInt(v, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -51,6 +81,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public void setLong(long[][][][] v) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setLong(long[][][][] v, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setLongAsync(long[][][][] v) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setLong(v, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -58,6 +94,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public void setFloat(float[][][][] v) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setFloat(float[][][][] v, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setFloatAsync(float[][][][] v) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setFloat(v, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -65,6 +107,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public void setDouble(double[][][][] v) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setDouble(double[][][][] v, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setDoubleAsync(double[][][][] v) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setDouble(v, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -72,6 +120,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public void setString(java.lang.String[][][][] v) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setString(java.lang.String[][][][] v, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setStringAsync(java.lang.String[][][][] v) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setString(v, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -79,6 +133,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public void setPrimitiveTypes(byps.test.api.prim.PrimitiveTypes[][][][] v) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setPrimitiveTypes(byps.test.api.prim.PrimitiveTypes[][][][] v, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setPrimitiveTypesAsync(byps.test.api.prim.PrimitiveTypes[][][][] v) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setPrimitiveTypes(v, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -86,6 +146,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public void setObject(java.lang.Object[][][][] v) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setObject(java.lang.Object[][][][] v, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setObjectAsync(java.lang.Object[][][][] v) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setObject(v, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -93,6 +159,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public void setDate(java.util.Date[][][][] v) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setDate(java.util.Date[][][][] v, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setDateAsync(java.util.Date[][][][] v) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setDate(v, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -100,6 +172,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public boolean[][][][] getBool() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getBool(final BAsyncResult<boolean[][][][]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<boolean[][][][]> getBoolAsync() {
+		final BFutureResult<boolean[][][][]> asyncResult = new BFutureResult<boolean[][][][]>();		
+		getBool(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -107,6 +185,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public byte[][][][] getByte() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getByte(final BAsyncResult<byte[][][][]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<byte[][][][]> getByteAsync() {
+		final BFutureResult<byte[][][][]> asyncResult = new BFutureResult<byte[][][][]>();		
+		getByte(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -114,6 +198,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public char[][][][] getChar() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getChar(final BAsyncResult<char[][][][]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<char[][][][]> getCharAsync() {
+		final BFutureResult<char[][][][]> asyncResult = new BFutureResult<char[][][][]>();		
+		getChar(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -121,6 +211,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public short[][][][] getShort() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getShort(final BAsyncResult<short[][][][]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<short[][][][]> getShortAsync() {
+		final BFutureResult<short[][][][]> asyncResult = new BFutureResult<short[][][][]>();		
+		getShort(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -128,6 +224,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public int[][][][] getInt() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getInt(final BAsyncResult<int[][][][]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<int[][][][]> getIntAsync() {
+		final BFutureResult<int[][][][]> asyncResult = new BFutureResult<int[][][][]>();		
+		getInt(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -135,6 +237,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public long[][][][] getLong() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getLong(final BAsyncResult<long[][][][]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<long[][][][]> getLongAsync() {
+		final BFutureResult<long[][][][]> asyncResult = new BFutureResult<long[][][][]>();		
+		getLong(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -142,6 +250,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public float[][][][] getFloat() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getFloat(final BAsyncResult<float[][][][]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<float[][][][]> getFloatAsync() {
+		final BFutureResult<float[][][][]> asyncResult = new BFutureResult<float[][][][]>();		
+		getFloat(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -149,6 +263,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public double[][][][] getDouble() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getDouble(final BAsyncResult<double[][][][]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<double[][][][]> getDoubleAsync() {
+		final BFutureResult<double[][][][]> asyncResult = new BFutureResult<double[][][][]>();		
+		getDouble(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -156,6 +276,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public java.lang.String[][][][] getString() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getString(final BAsyncResult<java.lang.String[][][][]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.lang.String[][][][]> getStringAsync() {
+		final BFutureResult<java.lang.String[][][][]> asyncResult = new BFutureResult<java.lang.String[][][][]>();		
+		getString(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -163,6 +289,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public byps.test.api.prim.PrimitiveTypes[][][][] getPrimitiveTypes() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getPrimitiveTypes(final BAsyncResult<byps.test.api.prim.PrimitiveTypes[][][][]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<byps.test.api.prim.PrimitiveTypes[][][][]> getPrimitiveTypesAsync() {
+		final BFutureResult<byps.test.api.prim.PrimitiveTypes[][][][]> asyncResult = new BFutureResult<byps.test.api.prim.PrimitiveTypes[][][][]>();		
+		getPrimitiveTypes(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -170,6 +302,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public java.lang.Object[][][][] getObject() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getObject(final BAsyncResult<java.lang.Object[][][][]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.lang.Object[][][][]> getObjectAsync() {
+		final BFutureResult<java.lang.Object[][][][]> asyncResult = new BFutureResult<java.lang.Object[][][][]>();		
+		getObject(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -177,6 +315,12 @@ public interface RemoteArrayTypes4dimAsync extends BRemote,
 	public java.util.Date[][][][] getDate() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getDate(final BAsyncResult<java.util.Date[][][][]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Date[][][][]> getDateAsync() {
+		final BFutureResult<java.util.Date[][][][]> asyncResult = new BFutureResult<java.util.Date[][][][]>();		
+		getDate(asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
@@ -7,7 +7,7 @@ package byps.test.api.remote;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface RemoteEnumsAsync extends BRemote, 
 	RemoteEnums {
 	/**
@@ -16,6 +16,12 @@ public interface RemoteEnumsAsync extends BRemote,
 	public byps.test.api.enu.EnumPlanets getPlanet() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getPlanet(final BAsyncResult<byps.test.api.enu.EnumPlanets> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<byps.test.api.enu.EnumPlanets> getPlanetAsync() {
+		final BFutureResult<byps.test.api.enu.EnumPlanets> asyncResult = new BFutureResult<byps.test.api.enu.EnumPlanets>();		
+		getPlanet(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -23,6 +29,12 @@ public interface RemoteEnumsAsync extends BRemote,
 	public void setPlanet(byps.test.api.enu.EnumPlanets planet) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setPlanet(byps.test.api.enu.EnumPlanets planet, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setPlanetAsync(byps.test.api.enu.EnumPlanets planet) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setPlanet(planet, asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
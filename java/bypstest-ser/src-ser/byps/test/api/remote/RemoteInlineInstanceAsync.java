@@ -7,7 +7,7 @@ package byps.test.api.remote;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface RemoteInlineInstanceAsync extends BRemote, 
 	RemoteInlineInstance {
 	/**
@@ -16,6 +16,12 @@ public interface RemoteInlineInstanceAsync extends BRemote,
 	public void setActor(byps.test.api.inl.Actor act) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setActor(byps.test.api.inl.Actor act, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setActorAsync(byps.test.api.inl.Actor act) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setActor(act, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -23,6 +29,12 @@ public interface RemoteInlineInstanceAsync extends BRemote,
 	public byps.test.api.inl.Actor getActor() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getActor(final BAsyncResult<byps.test.api.inl.Actor> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<byps.test.api.inl.Actor> getActorAsync() {
+		final BFutureResult<byps.test.api.inl.Actor> asyncResult = new BFutureResult<byps.test.api.inl.Actor>();		
+		getActor(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -30,6 +42,12 @@ public interface RemoteInlineInstanceAsync extends BRemote,
 	public void setPoint2DArray1dim(byps.test.api.inl.Point2D[] pointArray) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setPoint2DArray1dim(byps.test.api.inl.Point2D[] pointArray, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setPoint2DArray1dimAsync(byps.test.api.inl.Point2D[] pointArray) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setPoint2DArray1dim(pointArray, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -37,6 +55,12 @@ public interface RemoteInlineInstanceAsync extends BRemote,
 	public byps.test.api.inl.Point2D[] getPoint2DArray1dim() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getPoint2DArray1dim(final BAsyncResult<byps.test.api.inl.Point2D[]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<byps.test.api.inl.Point2D[]> getPoint2DArray1dimAsync() {
+		final BFutureResult<byps.test.api.inl.Point2D[]> asyncResult = new BFutureResult<byps.test.api.inl.Point2D[]>();		
+		getPoint2DArray1dim(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -44,6 +68,12 @@ public interface RemoteInlineInstanceAsync extends BRemote,
 	public void setPoint2DArray4dim(byps.test.api.inl.Point2D[][][][] pointArray) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setPoint2DArray4dim(byps.test.api.inl.Point2D[][][][] pointArray, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setPoint2DArray4dimAsync(byps.test.api.inl.Point2D[][][][] pointArray) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setPoint2DArray4dim(pointArray, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -51,6 +81,12 @@ public interface RemoteInlineInstanceAsync extends BRemote,
 	public byps.test.api.inl.Point2D[][][][] getPoint2DArray4dim() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getPoint2DArray4dim(final BAsyncResult<byps.test.api.inl.Point2D[][][][]> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<byps.test.api.inl.Point2D[][][][]> getPoint2DArray4dimAsync() {
+		final BFutureResult<byps.test.api.inl.Point2D[][][][]> asyncResult = new BFutureResult<byps.test.api.inl.Point2D[][][][]>();		
+		getPoint2DArray4dim(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -58,6 +94,12 @@ public interface RemoteInlineInstanceAsync extends BRemote,
 	public void setPoint2DList(java.util.List<byps.test.api.inl.Point2D> pointList) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setPoint2DList(java.util.List<byps.test.api.inl.Point2D> pointList, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setPoint2DListAsync(java.util.List<byps.test.api.inl.Point2D> pointList) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setPoint2DList(pointList, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -65,6 +107,12 @@ public interface RemoteInlineInstanceAsync extends BRemote,
 	public java.util.List<byps.test.api.inl.Point2D> getPoint2DList() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getPoint2DList(final BAsyncResult<java.util.List<byps.test.api.inl.Point2D>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.List<byps.test.api.inl.Point2D>> getPoint2DListAsync() {
+		final BFutureResult<java.util.List<byps.test.api.inl.Point2D>> asyncResult = new BFutureResult<java.util.List<byps.test.api.inl.Point2D>>();		
+		getPoint2DList(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -72,6 +120,12 @@ public interface RemoteInlineInstanceAsync extends BRemote,
 	public void setPoint2DListList(java.util.List<java.util.List<byps.test.api.inl.Point2D>> pointListList) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setPoint2DListList(java.util.List<java.util.List<byps.test.api.inl.Point2D>> pointListList, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setPoint2DListListAsync(java.util.List<java.util.List<byps.test.api.inl.Point2D>> pointListList) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setPoint2DListList(pointListList, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -79,6 +133,12 @@ public interface RemoteInlineInstanceAsync extends BRemote,
 	public java.util.List<java.util.List<byps.test.api.inl.Point2D>> getPoint2DListList() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getPoint2DListList(final BAsyncResult<java.util.List<java.util.List<byps.test.api.inl.Point2D>>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.List<java.util.List<byps.test.api.inl.Point2D>>> getPoint2DListListAsync() {
+		final BFutureResult<java.util.List<java.util.List<byps.test.api.inl.Point2D>>> asyncResult = new BFutureResult<java.util.List<java.util.List<byps.test.api.inl.Point2D>>>();		
+		getPoint2DListList(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -86,6 +146,12 @@ public interface RemoteInlineInstanceAsync extends BRemote,
 	public void setPoint2DMap(java.util.Map<java.lang.Integer,byps.test.api.inl.Point2D> pointMap) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setPoint2DMap(java.util.Map<java.lang.Integer,byps.test.api.inl.Point2D> pointMap, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setPoint2DMapAsync(java.util.Map<java.lang.Integer,byps.test.api.inl.Point2D> pointMap) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setPoint2DMap(pointMap, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -93,6 +159,12 @@ public interface RemoteInlineInstanceAsync extends BRemote,
 	public java.util.Map<java.lang.Integer,byps.test.api.inl.Point2D> getPoint2DMap() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getPoint2DMap(final BAsyncResult<java.util.Map<java.lang.Integer,byps.test.api.inl.Point2D>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Map<java.lang.Integer,byps.test.api.inl.Point2D>> getPoint2DMapAsync() {
+		final BFutureResult<java.util.Map<java.lang.Integer,byps.test.api.inl.Point2D>> asyncResult = new BFutureResult<java.util.Map<java.lang.Integer,byps.test.api.inl.Point2D>>();		
+		getPoint2DMap(asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
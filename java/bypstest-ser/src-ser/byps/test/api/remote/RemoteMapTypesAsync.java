@@ -7,7 +7,7 @@ package byps.test.api.remote;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface RemoteMapTypesAsync extends BRemote, 
 	RemoteMapTypes {
 	/**
@@ -16,6 +16,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public java.util.Map<java.lang.String,java.lang.Boolean> getBoolean1() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getBoolean1(final BAsyncResult<java.util.Map<java.lang.String,java.lang.Boolean>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Map<java.lang.String,java.lang.Boolean>> getBoolean1Async() {
+		final BFutureResult<java.util.Map<java.lang.String,java.lang.Boolean>> asyncResult = new BFutureResult<java.util.Map<java.lang.String,java.lang.Boolean>>();		
+		getBoolean1(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -23,6 +29,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public void setBoolean1(java.util.Map<java.lang.String,java.lang.Boolean> boolean1) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setBoolean1(java.util.Map<java.lang.String,java.lang.Boolean> boolean1, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setBoolean1Async(java.util.Map<java.lang.String,java.lang.Boolean> boolean1) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setBoolean1(boolean1, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -30,6 +42,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public java.util.HashMap<java.lang.Double,java.lang.Byte> getByte1() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getByte1(final BAsyncResult<java.util.HashMap<java.lang.Double,java.lang.Byte>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.HashMap<java.lang.Double,java.lang.Byte>> getByte1Async() {
+		final BFutureResult<java.util.HashMap<java.lang.Double,java.lang.Byte>> asyncResult = new BFutureResult<java.util.HashMap<java.lang.Double,java.lang.Byte>>();		
+		getByte1(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -37,6 +55,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public void setByte1(java.util.HashMap<java.lang.Double,java.lang.Byte> byte1) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setByte1(java.util.HashMap<java.lang.Double,java.lang.Byte> byte1, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setByte1Async(java.util.HashMap<java.lang.Double,java.lang.Byte> byte1) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setByte1(byte1, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -44,6 +68,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public java.util.TreeMap<java.lang.Float,java.lang.Character> getChar1() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getChar1(final BAsyncResult<java.util.TreeMap<java.lang.Float,java.lang.Character>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.TreeMap<java.lang.Float,java.lang.Character>> getChar1Async() {
+		final BFutureResult<java.util.TreeMap<java.lang.Float,java.lang.Character>> asyncResult = new BFutureResult<java.util.TreeMap<java.lang.Float,java.lang.Character>>();		
+		getChar1(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -51,6 +81,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public void setChar1(java.util.TreeMap<java.lang.Float,java.lang.Character> char1) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setChar1(java.util.TreeMap<java.lang.Float,java.lang.Character> char1, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setChar1Async(java.util.TreeMap<java.lang.Float,java.lang.Character> char1) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setChar1(char1, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -58,6 +94,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public java.util.Map<java.lang.Long,java.lang.Short> getShort1() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getShort1(final BAsyncResult<java.util.Map<java.lang.Long,java.lang.Short>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Map<java.lang.Long,java.lang.Short>> getShort1Async() {
+		final BFutureResult<java.util.Map<java.lang.Long,java.lang.Short>> asyncResult = new BFutureResult<java.util.Map<java.lang.Long,java.lang.Short>>();		
+		getShort1(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -65,6 +107,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public void setShort1(java.util.Map<java.lang.Long,java.lang.Short> short1) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setShort1(java.util.Map<java.lang.Long,java.lang.Short> short1, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setShort1Async(java.util.Map<java.lang.Long,java.lang.Short> short1) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setShort1(short1, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -72,6 +120,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public java.util.Map<java.lang.Integer,java.lang.Integer> getInt1() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getInt1(final BAsyncResult<java.util.Map<java.lang.Integer,java.lang.Integer>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Map<java.lang.Integer,java.lang.Integer>> getInt1Async() {
+		final BFutureResult<java.util.Map<java.lang.Integer,java.lang.Integer>> asyncResult = new BFutureResult<java.util.Map<java.lang.Integer,java.lang.Integer>>();		
+		getInt1(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -79,6 +133,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public void setInt1(java.util.Map<java.lang.Integer,java.lang.Integer> int1) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setInt1(java.util.Map<java.lang.Integer,java.lang.Integer> int1, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setInt1Async(java.util.Map<java.lang.Integer,java.lang.Integer> int1) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setInt1(int1, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -86,6 +146,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public java.util.Map<java.lang.Short,java.lang.Long> getLong1() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getLong1(final BAsyncResult<java.util.Map<java.lang.Short,java.lang.Long>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Map<java.lang.Short,java.lang.Long>> getLong1Async() {
+		final BFutureResult<java.util.Map<java.lang.Short,java.lang.Long>> asyncResult = new BFutureResult<java.util.Map<java.lang.Short,java.lang.Long>>();		
+		getLong1(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -93,6 +159,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public void setLong1(java.util.Map<java.lang.Short,java.lang.Long> long1) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setLong1(java.util.Map<java.lang.Short,java.lang.Long> long1, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setLong1Async(java.util.Map<java.lang.Short,java.lang.Long> long1) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setLong1(long1, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -100,6 +172,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public java.util.Map<java.lang.Character,java.lang.Float> getFloat1() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getFloat1(final BAsyncResult<java.util.Map<java.lang.Character,java.lang.Float>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Map<java.lang.Character,java.lang.Float>> getFloat1Async() {
+		final BFutureResult<java.util.Map<java.lang.Character,java.lang.Float>> asyncResult = new BFutureResult<java.util.Map<java.lang.Character,java.lang.Float>>();		
+		getFloat1(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -107,6 +185,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public void setFloat1(java.util.Map<java.lang.Character,java.lang.Float> float1) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setFloat1(java.util.Map<java.lang.Character,java.lang.Float> float1, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setFloat1Async(java.util.Map<java.lang.Character,java.lang.Float> float1) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setFloat1(float1, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -114,6 +198,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public java.util.Map<java.lang.Byte,java.lang.Double> getDouble1() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getDouble1(final BAsyncResult<java.util.Map<java.lang.Byte,java.lang.Double>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Map<java.lang.Byte,java.lang.Double>> getDouble1Async() {
+		final BFutureResult<java.util.Map<java.lang.Byte,java.lang.Double>> asyncResult = new BFutureResult<java.util.Map<java.lang.Byte,java.lang.Double>>();		
+		getDouble1(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -121,6 +211,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public void setDouble1(java.util.Map<java.lang.Byte,java.lang.Double> double1) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setDouble1(java.util.Map<java.lang.Byte,java.lang.Double> double1, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setDouble1Async(java.util.Map<java.lang.Byte,java.lang.Double> double1) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setDouble1(double1, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -128,6 +224,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public java.util.Map<java.lang.String,java.lang.String> getString1() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getString1(final BAsyncResult<java.util.Map<java.lang.String,java.lang.String>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Map<java.lang.String,java.lang.String>> getString1Async() {
+		final BFutureResult<java.util.Map<java.lang.String,java.lang.String>> asyncResult = new BFutureResult<java.util.Map<java.lang.String,java.lang.String>>();		
+		getString1(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -135,6 +237,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public void setString1(java.util.Map<java.lang.String,java.lang.String> string1) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setString1(java.util.Map<java.lang.String,java.lang.String> string1, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setString1Async(java.util.Map<java.lang.String,java.lang.String> string1) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setString1(string1, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -142,6 +250,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public java.util.Map<java.lang.Integer,byps.test.api.prim.PrimitiveTypes> getPrimitiveTypes1() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getPrimitiveTypes1(final BAsyncResult<java.util.Map<java.lang.Integer,byps.test.api.prim.PrimitiveTypes>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Map<java.lang.Integer,byps.test.api.prim.PrimitiveTypes>> getPrimitiveTypes1Async() {
+		final BFutureResult<java.util.Map<java.lang.Integer,byps.test.api.prim.PrimitiveTypes>> asyncResult = new BFutureResult<java.util.Map<java.lang.Integer,byps.test.api.prim.PrimitiveTypes>>();		
+		getPrimitiveTypes1(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -149,6 +263,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public void setPrimitiveTypes1(java.util.Map<java.lang.Integer,byps.test.api.prim.PrimitiveTypes> primitiveTypes1) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setPrimitiveTypes1(java.util.Map<java.lang.Integer,byps.test.api.prim.PrimitiveTypes> primitiveTypes1, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setPrimitiveTypes1Async(java.util.Map<java.lang.Integer,byps.test.api.prim.PrimitiveTypes> primitiveTypes1) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setPrimitiveTypes1(primitiveTypes1, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -156,6 +276,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public java.util.Map<java.lang.Integer,byte[]> getByte2() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getByte2(final BAsyncResult<java.util.Map<java.lang.Integer,byte[]>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Map<java.lang.Integer,byte[]>> getByte2Async() {
+		final BFutureResult<java.util.Map<java.lang.Integer,byte[]>> asyncResult = new BFutureResult<java.util.Map<java.lang.Integer,byte[]>>();		
+		getByte2(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -163,6 +289,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public void setByte2(java.util.Map<java.lang.Integer,byte[]> byte2) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setByte2(java.util.Map<java.lang.Integer,byte[]> byte2, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setByte2Async(java.util.Map<java.lang.Integer,byte[]> byte2) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setByte2(byte2, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -170,6 +302,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public java.util.Map<java.lang.Integer,int[]> getInt2() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getInt2(final BAsyncResult<java.util.Map<java.lang.Integer,int[]>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Map<java.lang.Integer,int[]>> getInt2Async() {
+		final BFutureResult<java.util.Map<java.lang.Integer,int[]>> asyncResult = new BFutureResult<java.util.Map<java.lang.Integer,int[]>>();		
+		getInt2(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -177,6 +315,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public void setInt2(java.util.Map<java.lang.Integer,int[]> int2) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setInt2(java.util.Map<java.lang.Integer,int[]> int2, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setInt2Async(java.util.Map<java.lang.Integer,int[]> int2) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setInt2(int2, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -184,6 +328,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public java.util.Map<java.lang.String,java.lang.Object> getObj1() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getObj1(final BAsyncResult<java.util.Map<java.lang.String,java.lang.Object>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Map<java.lang.String,java.lang.Object>> getObj1Async() {
+		final BFutureResult<java.util.Map<java.lang.String,java.lang.Object>> asyncResult = new BFutureResult<java.util.Map<java.lang.String,java.lang.Object>>();		
+		getObj1(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -191,6 +341,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public void setObj1(java.util.Map<java.lang.String,java.lang.Object> obj1) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setObj1(java.util.Map<java.lang.String,java.lang.Object> obj1, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setObj1Async(java.util.Map<java.lang.String,java.lang.Object> obj1) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setObj1(obj1, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -198,6 +354,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public java.util.Map<java.lang.String,java.util.Date> getDate1() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getDate1(final BAsyncResult<java.util.Map<java.lang.String,java.util.Date>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Map<java.lang.String,java.util.Date>> getDate1Async() {
+		final BFutureResult<java.util.Map<java.lang.String,java.util.Date>> asyncResult = new BFutureResult<java.util.Map<java.lang.String,java.util.Date>>();		
+		getDate1(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -205,6 +367,12 @@ public interface RemoteMapTypesAsync extends BRemote,
 	public void setDate1(java.util.Map<java.lang.String,java.util.Date> obj1) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setDate1(java.util.Map<java.lang.String,java.util.Date> obj1, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setDate1Async(java.util.Map<java.lang.String,java.util.Date> obj1) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setDate1(obj1, asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
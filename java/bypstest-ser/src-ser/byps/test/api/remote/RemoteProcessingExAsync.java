@@ -7,7 +7,7 @@ package byps.test.api.remote;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface RemoteProcessingExAsync extends BRemote, 
 	RemoteProcessingEx {
 	/**
@@ -20,6 +20,12 @@ public interface RemoteProcessingExAsync extends BRemote,
 	public boolean getValueAfterProcessingExceptions(int sleepSeconds) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getValueAfterProcessingExceptions(int sleepSeconds, final BAsyncResult<Boolean> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Boolean> getValueAfterProcessingExceptionsAsync(int sleepSeconds) {
+		final BFutureResult<Boolean> asyncResult = new BFutureResult<Boolean>();		
+		getValueAfterProcessingExceptions(sleepSeconds, asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
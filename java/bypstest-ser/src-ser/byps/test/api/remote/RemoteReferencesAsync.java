@@ -7,7 +7,7 @@ package byps.test.api.remote;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface RemoteReferencesAsync extends BRemote, 
 	RemoteReferences {
 	/**
@@ -16,6 +16,12 @@ public interface RemoteReferencesAsync extends BRemote,
 	public byps.test.api.refs.Node getNode() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getNode(final BAsyncResult<byps.test.api.refs.Node> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<byps.test.api.refs.Node> getNodeAsync() {
+		final BFutureResult<byps.test.api.refs.Node> asyncResult = new BFutureResult<byps.test.api.refs.Node>();		
+		getNode(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -23,6 +29,12 @@ public interface RemoteReferencesAsync extends BRemote,
 	public void setNode(byps.test.api.refs.Node v) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setNode(byps.test.api.refs.Node v, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setNodeAsync(byps.test.api.refs.Node v) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setNode(v, asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
@@ -7,7 +7,7 @@ package byps.test.api.remote;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface RemoteServerCtrlAsync extends BRemote, 
 	RemoteServerCtrl {
 	/**
@@ -16,6 +16,12 @@ public interface RemoteServerCtrlAsync extends BRemote,
 	public void publishRemote(java.lang.String name, BRemote remote, boolean fowardToOtherServers) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void publishRemote(java.lang.String name, BRemote remote, boolean fowardToOtherServers, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> publishRemoteAsync(java.lang.String name, BRemote remote, boolean fowardToOtherServers) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		publishRemote(name, remote, fowardToOtherServers, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -23,6 +29,12 @@ public interface RemoteServerCtrlAsync extends BRemote,
 	public BRemote getPublishedRemote(java.lang.String name) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getPublishedRemote(java.lang.String name, final BAsyncResult<BRemote> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<BRemote> getPublishedRemoteAsync(java.lang.String name) {
+		final BFutureResult<BRemote> asyncResult = new BFutureResult<BRemote>();		
+		getPublishedRemote(name, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -30,6 +42,12 @@ public interface RemoteServerCtrlAsync extends BRemote,
 	public void removePublishedRemote(java.lang.String name) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void removePublishedRemote(java.lang.String name, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> removePublishedRemoteAsync(java.lang.String name) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		removePublishedRemote(name, asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
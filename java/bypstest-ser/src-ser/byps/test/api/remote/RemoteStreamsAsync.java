@@ -7,7 +7,7 @@ package byps.test.api.remote;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface RemoteStreamsAsync extends BRemote, 
 	RemoteStreams {
 	/**
@@ -16,6 +16,12 @@ public interface RemoteStreamsAsync extends BRemote,
 	public java.io.InputStream getImage() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getImage(final BAsyncResult<java.io.InputStream> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.io.InputStream> getImageAsync() {
+		final BFutureResult<java.io.InputStream> asyncResult = new BFutureResult<java.io.InputStream>();		
+		getImage(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	 * @param istrm
@@ -25,6 +31,12 @@ public interface RemoteStreamsAsync extends BRemote,
 	public void setImage(java.io.InputStream istrm) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setImage(java.io.InputStream istrm, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setImageAsync(java.io.InputStream istrm) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setImage(istrm, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -32,6 +44,12 @@ public interface RemoteStreamsAsync extends BRemote,
 	public java.util.TreeMap<java.lang.Integer,java.io.InputStream> getImages() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getImages(final BAsyncResult<java.util.TreeMap<java.lang.Integer,java.io.InputStream>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.TreeMap<java.lang.Integer,java.io.InputStream>> getImagesAsync() {
+		final BFutureResult<java.util.TreeMap<java.lang.Integer,java.io.InputStream>> asyncResult = new BFutureResult<java.util.TreeMap<java.lang.Integer,java.io.InputStream>>();		
+		getImages(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -39,6 +57,12 @@ public interface RemoteStreamsAsync extends BRemote,
 	public void setImages(java.util.Map<java.lang.Integer,java.io.InputStream> istrms, int doNotReadStreamAtKey) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setImages(java.util.Map<java.lang.Integer,java.io.InputStream> istrms, int doNotReadStreamAtKey, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setImagesAsync(java.util.Map<java.lang.Integer,java.io.InputStream> istrms, int doNotReadStreamAtKey) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setImages(istrms, doNotReadStreamAtKey, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -46,6 +70,12 @@ public interface RemoteStreamsAsync extends BRemote,
 	public void throwLastException() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void throwLastException(final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> throwLastExceptionAsync() {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		throwLastException(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -53,6 +83,12 @@ public interface RemoteStreamsAsync extends BRemote,
 	public java.io.InputStream getTextStream() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getTextStream(final BAsyncResult<java.io.InputStream> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.io.InputStream> getTextStreamAsync() {
+		final BFutureResult<java.io.InputStream> asyncResult = new BFutureResult<java.io.InputStream>();		
+		getTextStream(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	 * This functionality is currently only tested in the JSON API by TestVideoCheckSupportByteRange.html.
@@ -64,6 +100,12 @@ public interface RemoteStreamsAsync extends BRemote,
 	public java.io.InputStream getVideoCheckSupportByteRange() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getVideoCheckSupportByteRange(final BAsyncResult<java.io.InputStream> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.io.InputStream> getVideoCheckSupportByteRangeAsync() {
+		final BFutureResult<java.io.InputStream> asyncResult = new BFutureResult<java.io.InputStream>();		
+		getVideoCheckSupportByteRange(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	 * The properties must be made explicitly available on the client-side by calling
@@ -76,6 +118,12 @@ public interface RemoteStreamsAsync extends BRemote,
 	public java.io.InputStream getStreamDeferedProperies() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getStreamDeferedProperies(final BAsyncResult<java.io.InputStream> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.io.InputStream> getStreamDeferedProperiesAsync() {
+		final BFutureResult<java.io.InputStream> asyncResult = new BFutureResult<java.io.InputStream>();		
+		getStreamDeferedProperies(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	 * @param stream
@@ -86,6 +134,12 @@ public interface RemoteStreamsAsync extends BRemote,
 	public void setStreamDoNotMaterialize(java.io.InputStream stream) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setStreamDoNotMaterialize(java.io.InputStream stream, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setStreamDoNotMaterializeAsync(java.io.InputStream stream) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setStreamDoNotMaterialize(stream, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	 * Return stream, do not call BContentStream.cloneStream().
@@ -95,6 +149,12 @@ public interface RemoteStreamsAsync extends BRemote,
 	public java.io.InputStream getStreamDoNotClone() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getStreamDoNotClone(final BAsyncResult<java.io.InputStream> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.io.InputStream> getStreamDoNotCloneAsync() {
+		final BFutureResult<java.io.InputStream> asyncResult = new BFutureResult<java.io.InputStream>();		
+		getStreamDoNotClone(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	 * @consumes multipart/form-data
@@ -117,6 +177,12 @@ public interface RemoteStreamsAsync extends BRemote,
 	public void putSharedStream(long id, java.io.InputStream stream) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void putSharedStream(long id, java.io.InputStream stream, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> putSharedStreamAsync(long id, java.io.InputStream stream) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		putSharedStream(id, stream, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	 * @param id Stream ID
@@ -142,6 +208,12 @@ public interface RemoteStreamsAsync extends BRemote,
 	public java.io.InputStream getSharedStream(long id) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getSharedStream(long id, final BAsyncResult<java.io.InputStream> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.io.InputStream> getSharedStreamAsync(long id) {
+		final BFutureResult<java.io.InputStream> asyncResult = new BFutureResult<java.io.InputStream>();		
+		getSharedStream(id, asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
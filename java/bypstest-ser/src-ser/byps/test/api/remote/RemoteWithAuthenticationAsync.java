@@ -7,7 +7,7 @@ package byps.test.api.remote;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface RemoteWithAuthenticationAsync extends BRemote, 
 	RemoteWithAuthentication {
 	/**
@@ -19,6 +19,12 @@ public interface RemoteWithAuthenticationAsync extends BRemote,
 	public void setUseAuthentication(boolean useAuth) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setUseAuthentication(boolean useAuth, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setUseAuthenticationAsync(boolean useAuth) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setUseAuthentication(useAuth, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	 * @param sess Session information, always null in this scenario.
@@ -33,6 +39,12 @@ public interface RemoteWithAuthenticationAsync extends BRemote,
 	public byps.test.api.auth.SessionInfo login(byps.test.api.auth.SessionInfo sess, java.lang.String userName, java.lang.String userPwd) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void login(byps.test.api.auth.SessionInfo sess, java.lang.String userName, java.lang.String userPwd, final BAsyncResult<byps.test.api.auth.SessionInfo> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<byps.test.api.auth.SessionInfo> loginAsync(byps.test.api.auth.SessionInfo sess, java.lang.String userName, java.lang.String userPwd) {
+		final BFutureResult<byps.test.api.auth.SessionInfo> asyncResult = new BFutureResult<byps.test.api.auth.SessionInfo>();		
+		login(sess, userName, userPwd, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	 * @param sess Session information. Must not be null, if user was logged in.
@@ -45,6 +57,12 @@ public interface RemoteWithAuthenticationAsync extends BRemote,
 	public int doit(byps.test.api.auth.SessionInfo sess, int value) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void doit(byps.test.api.auth.SessionInfo sess, int value, final BAsyncResult<Integer> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Integer> doitAsync(byps.test.api.auth.SessionInfo sess, int value) {
+		final BFutureResult<Integer> asyncResult = new BFutureResult<Integer>();		
+		doit(sess, value, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	 * @param sess
@@ -55,6 +73,12 @@ public interface RemoteWithAuthenticationAsync extends BRemote,
 	public void expire(byps.test.api.auth.SessionInfo sess) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void expire(byps.test.api.auth.SessionInfo sess, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> expireAsync(byps.test.api.auth.SessionInfo sess) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		expire(sess, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	 * @param count
@@ -66,6 +90,12 @@ public interface RemoteWithAuthenticationAsync extends BRemote,
 	public void setReloginCount(int count) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setReloginCount(int count, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setReloginCountAsync(int count) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setReloginCount(count, asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
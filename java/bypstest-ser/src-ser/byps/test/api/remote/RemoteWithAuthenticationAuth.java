@@ -7,7 +7,7 @@ package byps.test.api.remote;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface RemoteWithAuthenticationAuth extends BRemote {
 	/**
 	 * @param useAuth
@@ -18,6 +18,12 @@ public interface RemoteWithAuthenticationAuth extends BRemote {
 	public void setUseAuthentication(boolean useAuth) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setUseAuthentication(boolean useAuth, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setUseAuthenticationAsync(boolean useAuth) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setUseAuthentication(useAuth, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	 * @param sess Session information, always null in this scenario.
@@ -32,6 +38,12 @@ public interface RemoteWithAuthenticationAuth extends BRemote {
 	public byps.test.api.auth.SessionInfo login(java.lang.String userName, java.lang.String userPwd) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void login(java.lang.String userName, java.lang.String userPwd, final BAsyncResult<byps.test.api.auth.SessionInfo> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<byps.test.api.auth.SessionInfo> loginAsync(java.lang.String userName, java.lang.String userPwd) {
+		final BFutureResult<byps.test.api.auth.SessionInfo> asyncResult = new BFutureResult<byps.test.api.auth.SessionInfo>();		
+		login(userName, userPwd, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	 * @param sess Session information. Must not be null, if user was logged in.
@@ -44,6 +56,12 @@ public interface RemoteWithAuthenticationAuth extends BRemote {
 	public int doit(int value) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void doit(int value, final BAsyncResult<Integer> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Integer> doitAsync(int value) {
+		final BFutureResult<Integer> asyncResult = new BFutureResult<Integer>();		
+		doit(value, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	 * @param sess
@@ -54,6 +72,12 @@ public interface RemoteWithAuthenticationAuth extends BRemote {
 	public void expire() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void expire(final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> expireAsync() {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		expire(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	 * @param count
@@ -65,6 +89,12 @@ public interface RemoteWithAuthenticationAuth extends BRemote {
 	public void setReloginCount(int count) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setReloginCount(int count, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setReloginCountAsync(int count) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setReloginCount(count, asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
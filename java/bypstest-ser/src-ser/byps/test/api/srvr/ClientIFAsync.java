@@ -7,7 +7,7 @@ package byps.test.api.srvr;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface ClientIFAsync extends BRemote, 
 	ClientIF {
 	/**
@@ -16,6 +16,12 @@ public interface ClientIFAsync extends BRemote,
 	public int incrementInt(int a) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void incrementInt(int a, final BAsyncResult<Integer> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Integer> incrementIntAsync(int a) {
+		final BFutureResult<Integer> asyncResult = new BFutureResult<Integer>();		
+		incrementInt(a, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -23,6 +29,12 @@ public interface ClientIFAsync extends BRemote,
 	public java.util.List<java.io.InputStream> getStreams(int ctrl) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getStreams(int ctrl, final BAsyncResult<java.util.List<java.io.InputStream>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.List<java.io.InputStream>> getStreamsAsync(int ctrl) {
+		final BFutureResult<java.util.List<java.io.InputStream>> asyncResult = new BFutureResult<java.util.List<java.io.InputStream>>();		
+		getStreams(ctrl, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -30,6 +42,12 @@ public interface ClientIFAsync extends BRemote,
 	public void putStreams(java.util.List<java.io.InputStream> strm, int ctrl) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void putStreams(java.util.List<java.io.InputStream> strm, int ctrl, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> putStreamsAsync(java.util.List<java.io.InputStream> strm, int ctrl) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		putStreams(strm, ctrl, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -37,6 +55,12 @@ public interface ClientIFAsync extends BRemote,
 	public ChatStructure sendChat(ChatStructure cs) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void sendChat(ChatStructure cs, final BAsyncResult<ChatStructure> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<ChatStructure> sendChatAsync(ChatStructure cs) {
+		final BFutureResult<ChatStructure> asyncResult = new BFutureResult<ChatStructure>();		
+		sendChat(cs, asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
@@ -7,7 +7,7 @@ package byps.test.api.srvr;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface ServerIFAsync extends BRemote, 
 	ServerIF {
 	/**
@@ -16,6 +16,12 @@ public interface ServerIFAsync extends BRemote,
 	public int callClientIncrementInt(int v) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void callClientIncrementInt(int v, final BAsyncResult<Integer> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Integer> callClientIncrementIntAsync(int v) {
+		final BFutureResult<Integer> asyncResult = new BFutureResult<Integer>();		
+		callClientIncrementInt(v, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -23,6 +29,12 @@ public interface ServerIFAsync extends BRemote,
 	public void setPartner(ClientIF client) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setPartner(ClientIF client, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setPartnerAsync(ClientIF client) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setPartner(client, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -30,6 +42,12 @@ public interface ServerIFAsync extends BRemote,
 	public ClientIF getPartner() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getPartner(final BAsyncResult<ClientIF> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<ClientIF> getPartnerAsync() {
+		final BFutureResult<ClientIF> asyncResult = new BFutureResult<ClientIF>();		
+		getPartner(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -37,6 +55,12 @@ public interface ServerIFAsync extends BRemote,
 	public java.util.List<java.io.InputStream> getStreamsFromClient(boolean materializeOnServer) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getStreamsFromClient(boolean materializeOnServer, final BAsyncResult<java.util.List<java.io.InputStream>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.List<java.io.InputStream>> getStreamsFromClientAsync(boolean materializeOnServer) {
+		final BFutureResult<java.util.List<java.io.InputStream>> asyncResult = new BFutureResult<java.util.List<java.io.InputStream>>();		
+		getStreamsFromClient(materializeOnServer, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -44,6 +68,12 @@ public interface ServerIFAsync extends BRemote,
 	public void putStreamsOnClient(java.util.List<java.io.InputStream> streams) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void putStreamsOnClient(java.util.List<java.io.InputStream> streams, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> putStreamsOnClientAsync(java.util.List<java.io.InputStream> streams) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		putStreamsOnClient(streams, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -51,6 +81,12 @@ public interface ServerIFAsync extends BRemote,
 	public void registerWithClientMap(int id) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void registerWithClientMap(int id, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> registerWithClientMapAsync(int id) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		registerWithClientMap(id, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -58,6 +94,12 @@ public interface ServerIFAsync extends BRemote,
 	public ClientIF getClient(int id) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getClient(int id, final BAsyncResult<ClientIF> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<ClientIF> getClientAsync(int id) {
+		final BFutureResult<ClientIF> asyncResult = new BFutureResult<ClientIF>();		
+		getClient(id, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -65,6 +107,12 @@ public interface ServerIFAsync extends BRemote,
 	public java.util.Set<java.lang.Integer> getClientIds() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getClientIds(final BAsyncResult<java.util.Set<java.lang.Integer>> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<java.util.Set<java.lang.Integer>> getClientIdsAsync() {
+		final BFutureResult<java.util.Set<java.lang.Integer>> asyncResult = new BFutureResult<java.util.Set<java.lang.Integer>>();		
+		getClientIds(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -72,6 +120,12 @@ public interface ServerIFAsync extends BRemote,
 	public int callClientParallel(int v) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void callClientParallel(int v, final BAsyncResult<Integer> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Integer> callClientParallelAsync(int v) {
+		final BFutureResult<Integer> asyncResult = new BFutureResult<Integer>();		
+		callClientParallel(v, asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
@@ -7,7 +7,7 @@ package byps.test.api.ver;
 
 import byps.*;
 
-// checkpoint byps.gen.j.GenRemoteClassAsync:68
+// checkpoint byps.gen.j.GenRemoteClassAsync:69
 public interface EvolveIFAsync extends BRemote, 
 	EvolveIF {
 	/**
@@ -16,6 +16,12 @@ public interface EvolveIFAsync extends BRemote,
 	public void setEvolve(Evolve obj) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setEvolve(Evolve obj, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setEvolveAsync(Evolve obj) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setEvolve(obj, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -23,6 +29,12 @@ public interface EvolveIFAsync extends BRemote,
 	public Evolve getEvolve() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getEvolve(final BAsyncResult<Evolve> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Evolve> getEvolveAsync() {
+		final BFutureResult<Evolve> asyncResult = new BFutureResult<Evolve>();		
+		getEvolve(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -30,6 +42,12 @@ public interface EvolveIFAsync extends BRemote,
 	public void setClient(EvolveIF partner) throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void setClient(EvolveIF partner, final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> setClientAsync(EvolveIF partner) {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		setClient(partner, asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -37,6 +55,12 @@ public interface EvolveIFAsync extends BRemote,
 	public EvolveIF getClient() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void getClient(final BAsyncResult<EvolveIF> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<EvolveIF> getClientAsync() {
+		final BFutureResult<EvolveIF> asyncResult = new BFutureResult<EvolveIF>();		
+		getClient(asyncResult);
+		return asyncResult;
+	}
 	
 	/**
 	*/
@@ -44,6 +68,12 @@ public interface EvolveIFAsync extends BRemote,
 	public void sendEvolveToClient() throws RemoteException;
 	// checkpoint byps.gen.j.PrintContext:440
 	public void sendEvolveToClient(final BAsyncResult<Object> asyncResult) ;
+	// checkpoint byps.gen.j.PrintContext:475
+	public default java.util.concurrent.CompletableFuture<Object> sendEvolveToClientAsync() {
+		final BFutureResult<Object> asyncResult = new BFutureResult<Object>();		
+		sendEvolveToClient(asyncResult);
+		return asyncResult;
+	}
 	
 	
 }
@@ -22,6 +22,10 @@ import byps.BProtocolS;
 	TestSerializePrivateMembers.class,
 	TestSerializeInlineInstances.class,
 	TestSerializeDifferentVersions.class,
+	TestBBufferPool.class,
+	TestCodecs.class,
+	TestTimerWheel.class,
+	TestTargetIdFactory.class,
 	TestRemotePrimitiveTypes.class,
 	TestRemoteProcessingEx.class,
 	TestRemoteArrays.class,
@@ -31,7 +35,8 @@ import byps.BProtocolS;
 	TestRemoteStreams.class,
 	TestRemoteServerR.class,
 	TestRemoteDifferentVersions.class,
-	TestRemoteWithAuthentication.class
+	TestRemoteWithAuthentication.class,
+	TestWebSocket.class
 	})
 public class AllTestsMEDIUM {
 	
@@ -0,0 +1,90 @@
+package byps.test;
+
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import byps.BBufferPool;
+import byps.BException;
+import byps.BInput;
+import byps.BOutput;
+import byps.BTransport;
+import byps.test.api.arr.ArrayTypes1dim;
+
+/**
+ * Tests for the pool of message buffers.
+ */
+public class TestBBufferPool {
+
+  private Logger log = LoggerFactory.getLogger(TestBBufferPool.class);
+  BTransport transport = TestUtils.createTransport();
+
+  /**
+   * A released buffer is returned by the next allocation of the same size class.
+   */
+  @Test
+  public void testAllocateRelease() {
+    log.info("testAllocateRelease(");
+
+    ByteBuffer buf = BBufferPool.allocate(10 * 1000);
+    Assert.assertEquals(BBufferPool.MIN_CAPACITY, buf.capacity());
+    buf.order(ByteOrder.LITTLE_ENDIAN);
+    buf.putInt(1);
+    BBufferPool.release(buf);
+
+    BBufferPool.Statistics stats0 = BBufferPool.getStatistics();
+    ByteBuffer buf2 = BBufferPool.allocate(100);
+    BBufferPool.Statistics stats1 = BBufferPool.getStatistics();
+
+    Assert.assertSame(buf, buf2);
+    Assert.assertEquals(0, buf2.position());
+    Assert.assertEquals(buf2.capacity(), buf2.limit());
+    Assert.assertEquals(ByteOrder.BIG_ENDIAN, buf2.order());
+    Assert.assertEquals(stats0.hits + 1, stats1.hits);
+
+    // Buffers that do not match a size class are not pooled.
+    BBufferPool.release(ByteBuffer.allocate(1000));
+    ByteBuffer buf3 = BBufferPool.allocate(1000);
+    Assert.assertEquals(BBufferPool.MIN_CAPACITY, buf3.capacity());
+
+    // Buffers larger than the largest size class are allocated exactly.
+    ByteBuffer buf4 = BBufferPool.allocate(BBufferPool.MAX_CAPACITY + 1);
+    Assert.assertEquals(BBufferPool.MAX_CAPACITY + 1, buf4.capacity());
+
+    log.info(")testAllocateRelease");
+  }
+
+  /**
+   * Serialize a message that grows its buffer several times into a pooled buffer.
+   * The old buffers are returned to the pool while growing.
+   * @throws BException
+   */
+  @Test
+  public void testGrowMessage() throws BException {
+    log.info("testGrowMessage(");
+
+    ArrayTypes1dim obj = new ArrayTypes1dim();
+    obj.int1 = new int[100 * 1000];
+    for (int i = 0; i < obj.int1.length; i++) obj.int1[i] = i * 1000;
+    obj.string1 = new String[] { "a", "b" };
+
+    for (int i = 0; i < 3; i++) {
+      BOutput bout = transport.getOutput();
+      bout.store(obj);
+
+      ByteBuffer buf = bout.toByteBuffer();
+      BInput bin = transport.getInput(null, buf);
+      ArrayTypes1dim objR = (ArrayTypes1dim)bin.load();
+      TestUtils.assertEquals(log, "", obj, objR);
+
+      BBufferPool.release(buf);
+    }
+
+    log.info(")testGrowMessage");
+  }
+}
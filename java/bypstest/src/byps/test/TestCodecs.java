@@ -0,0 +1,291 @@
+package byps.test;
+
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import byps.BCodec;
+import byps.BCodecDeflate;
+import byps.BCodecGzip;
+import byps.BCodecLz4;
+import byps.BCodecs;
+import byps.BException;
+import byps.BNegotiate;
+import byps.BOutput;
+import byps.BTransport;
+import byps.test.api.arr.ArrayTypes1dim;
+
+/**
+ * Tests for the compression codecs.
+ */
+public class TestCodecs {
+
+  private Logger log = LoggerFactory.getLogger(TestCodecs.class);
+  BTransport transport = TestUtils.createTransport();
+
+  /**
+   * Compress and decompress data of different sizes and entropy with all built-in codecs.
+   */
+  @Test
+  public void testRoundTrip() throws IOException {
+    log.info("testRoundTrip(");
+    for (String name : new String[] { BCodecLz4.NAME, BCodecDeflate.NAME, BCodecGzip.NAME }) {
+      BCodec codec = BCodecs.get(name);
+      Assert.assertNotNull(name, codec);
+      for (byte[] data : makeTestData()) {
+        internalTestRoundTrip(codec, data);
+      }
+    }
+    log.info(")testRoundTrip");
+  }
+
+  /**
+   * Compress a serialized message.
+   */
+  @Test
+  public void testCompressMessage() throws IOException, BException {
+    log.info("testCompressMessage(");
+    ArrayTypes1dim obj = new ArrayTypes1dim();
+    obj.int1 = new int[10 * 1000];
+    for (int i = 0; i < obj.int1.length; i++) obj.int1[i] = i * 1000;
+    obj.string1 = new String[100];
+    for (int i = 0; i < obj.string1.length; i++) obj.string1[i] = "string" + i;
+    BOutput bout = transport.getOutput();
+    bout.store(obj);
+    ByteBuffer buf = bout.toByteBuffer();
+    byte[] data = new byte[buf.remaining()];
+    buf.get(data);
+
+    for (String name : new String[] { BCodecLz4.NAME, BCodecDeflate.NAME, BCodecGzip.NAME }) {
+      BCodec codec = BCodecs.get(name);
+      ByteBuffer cbuf = internalTestRoundTrip(codec, data);
+      log.info("codec=" + name + ", #bytes=" + data.length + ", #compressed=" + cbuf.remaining());
+    }
+    log.info(")testCompressMessage");
+  }
+
+  /**
+   * Gzip codec and GZIPInputStream/GZIPOutputStream are compatible.
+   */
+  @Test
+  public void testGzipCompatible() throws IOException {
+    log.info("testGzipCompatible(");
+    byte[] data = makeText(10000);
+    BCodec codec = BCodecs.get(BCodecGzip.NAME);
+
+    ByteBuffer cbuf = codec.compress(ByteBuffer.wrap(data));
+    try (GZIPInputStream is = new GZIPInputStream(new ByteArrayInputStream(cbuf.array(), cbuf.position(), cbuf.remaining()))) {
+      Assert.assertArrayEquals(data, is.readAllBytes());
+    }
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (GZIPOutputStream os = new GZIPOutputStream(bos)) {
+      os.write(data);
+    }
+    ByteBuffer dbuf = codec.decompress(ByteBuffer.wrap(bos.toByteArray()));
+    Assert.assertArrayEquals(data, toArray(dbuf));
+
+    // Message body as sent by a client before codecs have been negotiated.
+    dbuf = BCodecs.bufferFromStream(new ByteArrayInputStream(bos.toByteArray()), null, bos.size());
+    Assert.assertArrayEquals(data, toArray(dbuf));
+    log.info(")testGzipCompatible");
+  }
+
+  /**
+   * A preset dictionary makes small messages compress better.
+   */
+  @Test
+  public void testDictionary() throws IOException {
+    log.info("testDictionary(");
+    byte[] dict = "{\"_typeId\":1234567,\"boolean1\":[true,false],\"string1\":[\"abcdefghijklmnopqrstuvwxyz\"]}".getBytes(StandardCharsets.UTF_8);
+    byte[] data = "{\"_typeId\":1234567,\"boolean1\":[false,true],\"string1\":[\"abcdefghijklmnopqrstuvwxyz\",\"x\"]}".getBytes(StandardCharsets.UTF_8);
+
+    BCodec withDict = new BCodecDeflate("x-test-deflate-dict", Deflater.BEST_COMPRESSION, dict);
+    BCodec withoutDict = new BCodecDeflate(Deflater.BEST_COMPRESSION);
+
+    ByteBuffer cbufDict = internalTestRoundTrip(withDict, data);
+    ByteBuffer cbuf = internalTestRoundTrip(withoutDict, data);
+    log.info("#bytes=" + data.length + ", with dictionary=" + cbufDict.remaining() + ", without=" + cbuf.remaining());
+    Assert.assertTrue("dictionary", cbufDict.remaining() < cbuf.remaining());
+
+    // A codec without the dictionary cannot decompress the data.
+    try {
+      withoutDict.decompress(cbufDict);
+      Assert.fail("Exception expected");
+    }
+    catch (IOException expected) {
+    }
+    log.info(")testDictionary");
+  }
+
+  /**
+   * Corrupt or truncated data throws an IOException.
+   */
+  @Test
+  public void testCorruptData() throws IOException {
+    log.info("testCorruptData(");
+    byte[] data = makeText(5000);
+    Random rand = new Random(7);
+    for (String name : new String[] { BCodecLz4.NAME, BCodecDeflate.NAME, BCodecGzip.NAME }) {
+      BCodec codec = BCodecs.get(name);
+      byte[] cdata = toArray(codec.compress(ByteBuffer.wrap(data)));
+
+      expectCorrupt(codec, Arrays.copyOf(cdata, cdata.length / 2));
+      expectCorrupt(codec, Arrays.copyOf(cdata, 3));
+
+      for (int i = 0; i < 100; i++) {
+        byte[] bad = cdata.clone();
+        bad[rand.nextInt(bad.length)] ^= (byte) (1 + rand.nextInt(255));
+        try {
+          ByteBuffer dbuf = codec.decompress(ByteBuffer.wrap(bad));
+          // A modified literal is not detected by LZ4, but the size must be correct.
+          Assert.assertEquals(name, data.length, dbuf.remaining());
+        }
+        catch (IOException expected) {
+        }
+      }
+    }
+    log.info(")testCorruptData");
+  }
+
+  /**
+   * The server selects the first codec of the client that it supports.
+   */
+  @Test
+  public void testNegotiate() throws BException {
+    log.info("testNegotiate(");
+    Assert.assertEquals(BCodecDeflate.NAME, BCodecs.negotiate("x-unknown," + BCodecDeflate.NAME + "," + BCodecLz4.NAME));
+    Assert.assertEquals("", BCodecs.negotiate("x-unknown"));
+    Assert.assertNull(BCodecs.negotiate(null));
+
+    BNegotiate nego = new BNegotiate(transport.getApiDesc());
+    nego.codecs = BCodecLz4.NAME + "," + BCodecGzip.NAME;
+    ByteBuffer buf = ByteBuffer.allocate(BNegotiate.NEGOTIATE_MAX_SIZE);
+    nego.write(buf);
+    buf.flip();
+    BNegotiate negoR = new BNegotiate();
+    negoR.read(buf);
+    Assert.assertEquals(nego.codecs, negoR.codecs);
+    Assert.assertEquals(nego.sessionId, negoR.sessionId);
+    Assert.assertEquals(nego.bversion, negoR.bversion);
+
+    // Negotiate message of a client that does not support codecs.
+    nego.codecs = null;
+    buf.clear();
+    nego.write(buf);
+    buf.flip();
+    negoR = new BNegotiate();
+    negoR.read(buf);
+    Assert.assertNull(negoR.codecs);
+    Assert.assertEquals(nego.sessionId, negoR.sessionId);
+    log.info(")testNegotiate");
+  }
+
+  /**
+   * Messages below the minimum size are not compressed.
+   * The first known codec of the Accept-Encoding header is used for responses.
+   */
+  @Test
+  public void testSizeThreshold() {
+    log.info("testSizeThreshold(");
+    BCodec lz4 = BCodecs.get(BCodecLz4.NAME);
+    int minSize = BCodecs.getMinSize();
+    Assert.assertNull(BCodecs.getForSize(lz4, minSize - 1));
+    Assert.assertSame(lz4, BCodecs.getForSize(lz4, minSize));
+
+    Assert.assertNull(BCodecs.getForAcceptEncoding("gzip", minSize - 1));
+    Assert.assertSame(lz4, BCodecs.getForAcceptEncoding("br, x-byps-lz4;q=1.0, gzip", minSize));
+    Assert.assertSame(BCodecs.get(BCodecGzip.NAME), BCodecs.getForAcceptEncoding("gzip", minSize));
+    Assert.assertNull(BCodecs.getForAcceptEncoding("identity", minSize));
+    Assert.assertNull(BCodecs.getForAcceptEncoding(null, minSize));
+    log.info(")testSizeThreshold");
+  }
+
+  /**
+   * Codecs count compressed and decompressed bytes.
+   */
+  @Test
+  public void testStatistics() throws IOException {
+    log.info("testStatistics(");
+    BCodec codec = BCodecs.get(BCodecLz4.NAME);
+    byte[] data = makeText(10000);
+    BCodec.Statistics stats0 = codec.getStatistics();
+    ByteBuffer cbuf = codec.compress(ByteBuffer.wrap(data));
+    int n = cbuf.remaining();
+    codec.decompress(cbuf);
+    BCodec.Statistics stats1 = BCodecs.getStatistics().get(BCodecLz4.NAME);
+    Assert.assertEquals(stats0.compressCount + 1, stats1.compressCount);
+    Assert.assertEquals(stats0.compressBytesIn + data.length, stats1.compressBytesIn);
+    Assert.assertEquals(stats0.compressBytesOut + n, stats1.compressBytesOut);
+    Assert.assertEquals(stats0.decompressCount + 1, stats1.decompressCount);
+    Assert.assertEquals(stats0.decompressBytesIn + n, stats1.decompressBytesIn);
+    Assert.assertEquals(stats0.decompressBytesOut + data.length, stats1.decompressBytesOut);
+    log.info(")testStatistics");
+  }
+
+  private ByteBuffer internalTestRoundTrip(BCodec codec, byte[] data) throws IOException {
+    // Use an offset into the array to check that array offsets are respected.
+    byte[] arr = new byte[data.length + 10];
+    System.arraycopy(data, 0, arr, 5, data.length);
+    ByteBuffer buf = ByteBuffer.wrap(arr, 5, data.length).slice();
+
+    ByteBuffer cbuf = codec.compress(buf);
+    Assert.assertEquals(codec.getName() + ": input consumed", 0, buf.remaining());
+
+    ByteBuffer dbuf = codec.decompress(cbuf.duplicate());
+    Assert.assertArrayEquals(codec.getName() + ": #bytes=" + data.length, data, toArray(dbuf));
+    return cbuf;
+  }
+
+  private static void expectCorrupt(BCodec codec, byte[] cdata) {
+    try {
+      codec.decompress(ByteBuffer.wrap(cdata));
+      Assert.fail(codec.getName() + ": Exception expected");
+    }
+    catch (IOException expected) {
+    }
+  }
+
+  private static byte[] toArray(ByteBuffer buf) {
+    byte[] arr = new byte[buf.remaining()];
+    buf.duplicate().get(arr);
+    return arr;
+  }
+
+  private static byte[] makeText(int size) {
+    StringBuilder sbuf = new StringBuilder();
+    for (int i = 0; sbuf.length() < size; i++) {
+      sbuf.append("{\"name\":\"item").append(i % 100).append("\",\"value\":").append(i * 31).append("},");
+    }
+    return Arrays.copyOf(sbuf.toString().getBytes(StandardCharsets.UTF_8), size);
+  }
+
+  private static byte[][] makeTestData() {
+    Random rand = new Random(1);
+    byte[] random = new byte[100000];
+    rand.nextBytes(random);
+    byte[] zeros = new byte[1000 * 1000];
+    byte[] runs = new byte[50000];
+    for (int i = 0; i < runs.length; i++) {
+      runs[i] = (byte) (i / 300);
+    }
+    return new byte[][] {
+      new byte[0], new byte[] { 1 }, Arrays.copyOf(random, 12), Arrays.copyOf(random, 13), makeText(17),
+      makeText(1000), makeText(100000), random, zeros, runs
+    };
+  }
+
+}
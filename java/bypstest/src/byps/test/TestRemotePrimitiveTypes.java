@@ -1,7 +1,15 @@
 package byps.test;
 
 /* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -260,4 +268,78 @@ public class TestRemotePrimitiveTypes {
     log.info(")testRemoteAsyncNull");
   }
   
+  /**
+   * Tests the methods returning a CompletableFuture.
+   * Many calls are sent without waiting for the results.
+   * @throws Exception
+   */
+  @Test
+  public void testRemoteFutures() throws Exception {
+    log.info("testRemoteFutures(");
+    
+    final int nbOfCalls = 200;
+    List<CompletableFuture<Integer>> futures = new ArrayList<CompletableFuture<Integer>>();
+    for (int i = 0; i < nbOfCalls; i++) {
+      futures.add(remote.addAsync(i, i));
+    }
+    
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(60, TimeUnit.SECONDS);
+    for (int i = 0; i < nbOfCalls; i++) {
+      TestUtils.assertEquals(log, "add", 2 * i, futures.get(i).get());
+    }
+    
+    Boolean ret = remote.setBoolAsync(true).thenCompose((ignored) -> remote.getBoolAsync()).get(60, TimeUnit.SECONDS);
+    TestUtils.assertEquals(log, "wrong bool", true, ret);
+    
+    try {
+      remote.throwExceptionAsync().get(60, TimeUnit.SECONDS);
+      TestUtils.fail(log, "Exception expected");
+    }
+    catch (ExecutionException e) {
+      TestUtils.assertTrue(log, "BException expected", e.getCause() instanceof BException);
+    }
+    
+    log.info(")testRemoteFutures");
+  }
+  
+  /**
+   * Many threads share one client.
+   * Requests must not be serialized by the client, so the throughput should increase with the number of threads.
+   * @throws Exception
+   */
+  @Test
+  public void testRemoteConcurrentCalls() throws Exception {
+    log.info("testRemoteConcurrentCalls(");
+    
+    final int nbOfCalls = 2000;
+    for (int nbOfThreads = 1; nbOfThreads <= 16; nbOfThreads *= 4) {
+      final int callsPerThread = nbOfCalls / nbOfThreads;
+      ExecutorService tpool = Executors.newFixedThreadPool(nbOfThreads);
+      try {
+        long t1 = System.currentTimeMillis();
+        List<Future<Object>> futures = new ArrayList<Future<Object>>();
+        for (int t = 0; t < nbOfThreads; t++) {
+          final int v = t;
+          futures.add(tpool.submit(() -> {
+            for (int i = 0; i < callsPerThread; i++) {
+              remote.setInt(v);
+              remote.getInt();
+            }
+            return null;
+          }));
+        }
+        for (Future<Object> f : futures) {
+          f.get(60, TimeUnit.SECONDS);
+        }
+        long t2 = System.currentTimeMillis();
+        log.info("#threads=" + nbOfThreads + ", #calls=" + (2 * nbOfCalls) + ", ms=" + (t2 - t1) + ", calls/s=" + (2000L * nbOfCalls / Math.max(1, t2 - t1)));
+      }
+      finally {
+        tpool.shutdown();
+      }
+    }
+    
+    log.info(")testRemoteConcurrentCalls");
+  }
+  
 }
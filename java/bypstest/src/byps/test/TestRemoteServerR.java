@@ -226,6 +226,50 @@ public class TestRemoteServerR {
 		log.info(")testCallClientFromServer");
 	}
 	
+	/**
+	 * The server calls the client more often than the client provides long-polls.
+	 * The pending calls are sent in one long-poll response and executed in parallel.
+	 * @throws RemoteException
+	 */
+	@Test
+	public void testCallClientFromServerBatch() throws RemoteException {
+		log.info("testCallClientFromServerBatch(");
+		
+		final int nbOfCalls = 10;
+		final long sleepMillis = 500;
+		
+		// Only one long-poll, binary protocol
+		BClient_Testser client = TestUtilsHttp.createClient(BProtocolS.BINARY_MODEL, BWire.FLAG_DEFAULT, BMessageHeader.BYPS_VERSION_CURRENT, BApiDescriptor_Testser.VERSION, 1);
+		try {
+			client.addRemote(new BSkeleton_ClientIF() {
+				@Override
+				public int incrementInt(int a) throws RemoteException {
+					try {
+						Thread.sleep(sleepMillis);
+					} catch (InterruptedException e) {
+						throw new BException(BExceptionC.CANCELLED, e.toString(), e);
+					}
+					return 1;
+				}
+			});
+			
+			long t1 = System.currentTimeMillis();
+			int r = client.getServerIF().callClientParallel(nbOfCalls);
+			long t2 = System.currentTimeMillis();
+			
+			TestUtils.assertEquals(log, "callClientParallel", nbOfCalls, r);
+			
+			// Executed one after another, the calls would need nbOfCalls * sleepMillis.
+			log.info("callClientParallel time=" + (t2-t1));
+			TestUtils.assertTrue(log, "calls not executed in parallel, time=" + (t2-t1), (t2-t1) < (nbOfCalls * sleepMillis) / 2);
+		}
+		finally {
+			client.done();
+		}
+		
+		log.info(")testCallClientFromServerBatch");
+	}
+	
 	/**
 	 * The server tries to use a non-existing client interface implementation.
 	 * This must cause an exception. The call must not hang.
@@ -9,6 +9,8 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -36,6 +38,7 @@ import byps.BContentStreamAsyncCallback;
 import byps.BContentStreamWrapper;
 import byps.BException;
 import byps.BExceptionC;
+import byps.BTargetId;
 import byps.BWire;
 import byps.RemoteException;
 import byps.http.HConstants;
@@ -93,6 +96,48 @@ public class TestRemoteStreams {
     log.info(")testRemoteStreamsOneStreamContentLength");
   }
 
+  /**
+   * Receive a stream that the server keeps in a file.
+   * The server sends the bytes from the file and supports byte ranges for it.
+   * @throws IOException
+   */
+  @Test
+  public void testRemoteStreamsFileBackedRange() throws IOException {
+    log.info("testRemoteStreamsFileBackedRange(");
+
+    // Larger than HConstants.INCOMING_STREAM_BUFFER, so that the server stores it in a file.
+    byte[] bytes = new byte[3 * HConstants.INCOMING_STREAM_BUFFER];
+    rand.nextBytes(bytes);
+    remote.setImage(new ByteArrayInputStream(bytes));
+
+    BContentStream istrmR = (BContentStream)remote.getImage();
+    BTargetId targetId = istrmR.getTargetId();
+
+    int offset = HConstants.INCOMING_STREAM_BUFFER + 17, length = 1000;
+    URL url = new URL(TestUtilsHttp.url + "?serverid=" + targetId.getServerId() +
+        "&messageid=" + targetId.getMessageId() + "&streamid=" + targetId.getStreamId() +
+        "&" + BContentStream.URL_PARAM_ACCEPT_RANGES + "=1");
+    HttpURLConnection conn = (HttpURLConnection)url.openConnection();
+    conn.setRequestProperty("Range", "bytes=" + offset + "-" + (offset + length - 1));
+    TestUtils.assertEquals(log, "status", HttpURLConnection.HTTP_PARTIAL, conn.getResponseCode());
+    TestUtils.assertEquals(log, "Content-Range", "bytes " + offset + "-" + (offset + length - 1) + "/" + bytes.length,
+        conn.getHeaderField("Content-Range"));
+    byte[] range;
+    try (InputStream is = conn.getInputStream()) {
+      range = BWire.bufferFromStream(is).array();
+    }
+    assertTrue("range", Arrays.equals(Arrays.copyOfRange(bytes, offset, offset + length), Arrays.copyOf(range, length)));
+
+    ByteBuffer buf = BWire.bufferFromStream(istrmR);
+    TestUtils.assertEquals(log, "length", bytes.length, buf.remaining());
+    assertTrue("stream", Arrays.equals(bytes, Arrays.copyOfRange(buf.array(), buf.position(), buf.limit())));
+
+    remote.setImage(null);
+    TestUtils.checkTempDirEmpty(client);
+
+    log.info(")testRemoteStreamsFileBackedRange");
+  }
+
   /**
    * Send file stream.
    * A file stream has the fileName property set.
@@ -1014,4 +1059,50 @@ public class TestRemoteStreams {
 
     log.info(")testRemoteStreamsOneStreamChunked");
   }
+
+  /**
+   * Upload streams that are sent in several parts concurrently.
+   * The parts grow from 1MB, so a stream of 7.5MB is sent in 4 parts.
+   * @throws IOException
+   */
+  @Test
+  public void testRemoteStreamsParallelParts() throws IOException {
+    log.info("testRemoteStreamsParallelParts(");
+
+    final byte[] buf = new byte[7 * 1000 * 1000 + 500 * 1000 + 1];
+    rand.nextBytes(buf);
+    
+    // Known content length
+    remote.setImage(new ByteArrayInputStream(buf));
+    TestUtils.assertEquals(log, "stream", new ByteArrayInputStream(buf), remote.getImage());
+    
+    // Unknown content length
+    InputStream istrm = new BContentStream() {
+      
+      ByteArrayInputStream bis = new ByteArrayInputStream(buf);
+      
+      @Override
+      public long getContentLength() {
+        return -1L;
+      }
+
+      @Override
+      public int read() throws IOException {
+        return bis.read();
+      }
+      
+      @Override
+      public int read(byte[] buf, int offset, int length) throws IOException {
+        return bis.read(buf, offset, length);
+      }
+
+    };
+    remote.setImage(istrm);
+    TestUtils.assertEquals(log, "stream", new ByteArrayInputStream(buf), remote.getImage());
+
+    remote.setImage(null);
+    TestUtils.checkTempDirEmpty(client);
+
+    log.info(")testRemoteStreamsParallelParts");
+  }
 }
@@ -14,9 +14,12 @@ import byps.BBuffer;
 import byps.BBufferJson;
 import byps.BException;
 import byps.BInput;
+import byps.BMessageHeader;
 import byps.BOutput;
 import byps.BProtocolJson;
 import byps.BTransport;
+import byps.BVersioning;
+import byps.BWire;
 import byps.test.api.arr.ArrayTypes1dim;
 import byps.test.api.prim.PrimitiveTypes;
 
@@ -415,4 +418,36 @@ public class TestSerializeArrays1dim {
 		TestUtils.assertEquals(log, "", obj, objR);
 	}
 
+	/**
+	 * Numeric arrays are written as one block since BYPS_VERSION_BULK_ARRAYS.
+	 * Check that arrays are still serialized element by element, if an older version has been negotiated.
+	 * @throws BException
+	 */
+	@Test
+	public void testArrayTypes1dimBulkEncoding() throws BException {
+		log.info("testArrayTypes1dimBulkEncoding(");
+		ArrayTypes1dim obj = new ArrayTypes1dim();
+		obj.int1 = new int[] {1, -1, 123, -123, (int)0xCDCDCDCD, Integer.MIN_VALUE, Integer.MAX_VALUE };
+		obj.long1 = new long[] {1, -1, 123, -123, 0xCDCDCDCDCDCDCDCDL, Long.MIN_VALUE, Long.MAX_VALUE };
+		obj.short1 = new short[] {1, -1, 123, -123, Short.MIN_VALUE, Short.MAX_VALUE };
+		obj.char1 = new char[] {'a', '\u20ac', Character.MIN_VALUE, Character.MAX_VALUE };
+		obj.float1 = new float[] {1, -1, 123, -123, 4e5f, Float.MAX_VALUE };
+		obj.double1 = new double[] {1, -1, 123, -123, 4e5, Double.MIN_VALUE, Double.NEGATIVE_INFINITY };
+		
+		int[] bypsVersions = new int[] {BMessageHeader.BYPS_VERSION_BULK_ARRAYS - 1, BMessageHeader.BYPS_VERSION_CURRENT};
+		for (int bypsVersion : bypsVersions) {
+			BTransport transport = TestUtils.createTransport(BWire.FLAG_DEFAULT, bypsVersion, BVersioning.stringToLong("794"));
+			BOutput bout = transport.getOutput();
+			bout.store(obj);
+			
+			ByteBuffer buf = bout.toByteBuffer();
+			TestUtils.printBuffer(log, buf);
+			
+			BInput bin = transport.getInput(null, buf);
+			ArrayTypes1dim objR = (ArrayTypes1dim)bin.load();
+			TestUtils.assertEquals(log, "bversion=" + bypsVersion, obj, objR);
+		}
+		log.info(")testArrayTypes1dimBulkEncoding");
+	}
+
 }
@@ -21,6 +21,7 @@ import byps.BBuffer;
 import byps.BBufferBin;
 import byps.BBufferJson;
 import byps.BException;
+import byps.BJsonObject;
 import byps.BInput;
 import byps.BMessageHeader;
 import byps.BOutput;
@@ -156,6 +157,37 @@ public class TestSerializePrimitiveTypes {
     internalTestSerializeStringUTF8("😫"); // 4 bytes
   }
 
+  /**
+   * Parse JSON as sent by JavaScript clients.
+   * Members can be read in any order and strings can contain \\u escape sequences.
+   * @throws BException
+   */
+  @Test
+  public void testParseJsonObject() throws BException {
+    log.info("testParseJsonObject(");
+    
+    StringBuilder sbuf = new StringBuilder("{\"s\":\"a\\t\\u00e9\\ud83d\\ude2b\\\"x\\/\"");
+    for (int i = 0; i < 20; i++) {
+      sbuf.append(",\"m").append(i).append("\":").append(i);
+    }
+    sbuf.append(",\"d\":-1.5e2,\"e\":{}}");
+    BJsonObject js = BJsonObject.fromString(sbuf.toString());
+    
+    TestUtils.assertEquals(log, "s", "a\t\u00e9\ud83d\ude2b\"x/", js.getString("s"));
+    for (int i = 19; i >= 0; i -= 2) {
+      TestUtils.assertEquals(log, "m" + i, i, js.getInt("m" + i));
+    }
+    for (int i = 0; i < 20; i++) {
+      TestUtils.assertEquals(log, "m" + i, i, js.getInt("m" + i));
+    }
+    TestUtils.assertEquals(log, "d", -150.0, js.getDouble("d"));
+    TestUtils.assertEquals(log, "e", 0, js.getJsonObject("e").keys().size());
+    TestUtils.assertEquals(log, "missing", null, js.get("m20"));
+    TestUtils.assertEquals(log, "keys", 23, js.keys().size());
+    
+    log.info(")testParseJsonObject");
+  }
+
 	
 	public void internalTestSerializeStringUTF8(String text) {
 		log.info("internalTestSerializeStringUTF8(" + ((text != null) ? text.substring(0, Math.min(100, text.length())) : text));
@@ -75,6 +75,40 @@ public class TestSerializeReferences {
 		Assert.assertTrue("node1.listOfNodes[0]", nodeR.listOfNodes.get(0) == nodeR);
 	}
 
+	/**
+	 * Serializes a graph with many objects.
+	 * The reference tables of BOutput and BInput have to grow several times
+	 * and identity hash codes of different objects collide.
+	 * @throws BException
+	 */
+	@Test
+	public void testSerializeLargeGraph() throws BException {
+		log.info("testSerializeLargeGraph(");
+		int nbOfNodes = 100 * 1000;
+		Node root = new Node();
+		root.listOfNodes = new ArrayList<Node>(nbOfNodes);
+		for (int i = 0; i < nbOfNodes; i++) {
+			Node node = new Node();
+			node.me = node;
+			node.next = i != 0 ? root.listOfNodes.get(i/2) : node;
+			root.listOfNodes.add(node);
+		}
+
+		BOutput bout = transport.getOutput();
+		bout.store(root);
+		ByteBuffer buf = bout.toByteBuffer();
+		BInput bin = transport.getInput(null, buf);
+		Node rootR = (Node)bin.load();
+
+		Assert.assertEquals("#nodes", nbOfNodes, rootR.listOfNodes.size());
+		for (int i = 0; i < nbOfNodes; i++) {
+			Node nodeR = rootR.listOfNodes.get(i);
+			Assert.assertTrue("me[" + i + "]", nodeR.me == nodeR);
+			Assert.assertTrue("next[" + i + "]", nodeR.next == rootR.listOfNodes.get(i != 0 ? i/2 : 0));
+		}
+		log.info(")testSerializeLargeGraph");
+	}
+
 	private Node internalTestSerializeObject(Node obj) throws BException {
 		log.info("internalTestSerializeObject(" + obj);
 		BOutput bout = transport.getOutput();
@@ -0,0 +1,142 @@
+package byps.test;
+
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import byps.BMessageHeader;
+import byps.BTargetId;
+import byps.RemoteException;
+import byps.http.HTargetIdFactory;
+
+/**
+ * Tests for the encryption of target IDs.
+ */
+public class TestTargetIdFactory {
+
+  private Logger log = LoggerFactory.getLogger(TestTargetIdFactory.class);
+
+  /**
+   * Encrypted target IDs are decrypted into the original target IDs,
+   * with and without cache.
+   * @throws RemoteException
+   */
+  @Test
+  public void testEncryptDecrypt() throws RemoteException {
+    log.info("testEncryptDecrypt(");
+    internalTestEncryptDecrypt(new HTargetIdFactory(1, 0));
+    internalTestEncryptDecrypt(new HTargetIdFactory(1, 100));
+    log.info(")testEncryptDecrypt");
+  }
+
+  private void internalTestEncryptDecrypt(HTargetIdFactory factory) throws RemoteException {
+    for (int i = 0; i < 10; i++) {
+      BTargetId targetId = createTargetId(i);
+      BTargetId encrypted = factory.encryptTargetId(targetId, true);
+      Assert.assertTrue("not encrypted", factory.isEncrypted(encrypted));
+      Assert.assertEquals("encrypted twice", toString(encrypted), toString(factory.encryptTargetId(encrypted, true)));
+      Assert.assertEquals("same encryption", toString(encrypted), toString(factory.encryptTargetId(targetId, true)));
+
+      BTargetId decrypted = factory.encryptTargetId(encrypted, false);
+      Assert.assertFalse("not decrypted", factory.isEncrypted(decrypted));
+      assertSameTargetId(targetId, decrypted);
+      assertSameTargetId(targetId, factory.encryptTargetId(encrypted, false));
+    }
+  }
+
+  /**
+   * Target IDs that only differ in the remote ID must not share a cache entry.
+   * {@link BTargetId#equals(Object)} does not compare the remote ID.
+   * @throws RemoteException
+   */
+  @Test
+  public void testCacheDistinguishesRemoteId() throws RemoteException {
+    log.info("testCacheDistinguishesRemoteId(");
+    HTargetIdFactory factory = new HTargetIdFactory(1, 100);
+    BTargetId targetId1 = new BTargetId(1, 2, 3, 4, 0);
+    BTargetId targetId2 = new BTargetId(1, 5, 3, 4, 0);
+
+    BTargetId encrypted1 = factory.encryptTargetId(targetId1, true);
+    BTargetId encrypted2 = factory.encryptTargetId(targetId2, true);
+    Assert.assertNotEquals("same encryption", toString(encrypted1), toString(encrypted2));
+
+    assertSameTargetId(targetId1, factory.encryptTargetId(encrypted1, false));
+    assertSameTargetId(targetId2, factory.encryptTargetId(encrypted2, false));
+    log.info(")testCacheDistinguishesRemoteId");
+  }
+
+  /**
+   * Count cache hits, misses and evictions.
+   * @throws RemoteException
+   */
+  @Test
+  public void testStatistics() throws RemoteException {
+    log.info("testStatistics(");
+    HTargetIdFactory factory = new HTargetIdFactory(1, 2);
+    BTargetId targetId1 = createTargetId(1);
+    BTargetId targetId2 = createTargetId(2);
+    BTargetId targetId3 = createTargetId(3);
+
+    factory.encryptTargetId(targetId1, true);
+    factory.encryptTargetId(targetId1, true);
+    factory.encryptTargetId(targetId2, true);
+    HTargetIdFactory.Statistics stats = factory.getStatistics();
+    log.info("stats=" + stats);
+    Assert.assertEquals("hits", 1, stats.hits);
+    Assert.assertEquals("misses", 2, stats.misses);
+    Assert.assertEquals("evictions", 0, stats.evictions);
+    Assert.assertEquals("size", 2, stats.size);
+
+    // Cache is full
+    factory.encryptTargetId(targetId3, true);
+    stats = factory.getStatistics();
+    log.info("stats=" + stats);
+    Assert.assertEquals("misses", 3, stats.misses);
+    Assert.assertEquals("evictions", 1, stats.evictions);
+    Assert.assertEquals("size", 1, stats.size);
+
+    factory.clearStatistics();
+    stats = factory.getStatistics();
+    Assert.assertEquals("hits", 0, stats.hits);
+    Assert.assertEquals("misses", 0, stats.misses);
+    Assert.assertEquals("evictions", 0, stats.evictions);
+    log.info(")testStatistics");
+  }
+
+  /**
+   * Target IDs encrypted by another server are rejected.
+   */
+  @Test
+  public void testDecryptForeignTargetId() throws RemoteException {
+    log.info("testDecryptForeignTargetId(");
+    HTargetIdFactory factory1 = new HTargetIdFactory(1, 100);
+    HTargetIdFactory factory2 = new HTargetIdFactory(1, 100);
+    BTargetId encrypted = factory1.encryptTargetId(createTargetId(1), true);
+    try {
+      factory2.encryptTargetId(encrypted, false);
+      Assert.fail("Exception expected");
+    }
+    catch (RemoteException expected) {
+    }
+    Assert.assertEquals("failed decryption must not be cached", 0, factory2.getStatistics().size);
+    log.info(")testDecryptForeignTargetId");
+  }
+
+  private static BTargetId createTargetId(int remoteId) {
+    return new BTargetId(1, remoteId, 1000 + remoteId, 2000 + remoteId, 0);
+  }
+
+  private static String toString(BTargetId targetId) {
+    return targetId.makeSerializeString(BMessageHeader.BYPS_VERSION_ENCRYPTED_TARGETID);
+  }
+
+  private static void assertSameTargetId(BTargetId expected, BTargetId actual) {
+    Assert.assertEquals("serverId", expected.getServerId(), actual.getServerId());
+    Assert.assertEquals("remoteId", expected.getRemoteId(), actual.getRemoteId());
+    Assert.assertEquals("messageId", expected.getMessageId(), actual.getMessageId());
+    Assert.assertEquals("streamId", expected.getStreamId(), actual.getStreamId());
+    Assert.assertEquals("signature", expected.getSignature(), actual.getSignature());
+  }
+}
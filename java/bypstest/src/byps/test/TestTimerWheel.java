@@ -0,0 +1,101 @@
+package byps.test;
+
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import byps.http.HTimerWheel;
+
+/**
+ * Tests for the timers of messages, streams and sessions.
+ */
+public class TestTimerWheel {
+
+  private Logger log = LoggerFactory.getLogger(TestTimerWheel.class);
+
+  /**
+   * Timers expire after their delay, in the order of their deadlines.
+   * Deadlines beyond one revolution of the wheel expire after the remaining rounds.
+   * @throws InterruptedException
+   */
+  @Test
+  public void testExpire() throws InterruptedException {
+    log.info("testExpire(");
+
+    // 8 buckets of 10ms, one revolution takes 80ms.
+    HTimerWheel timerWheel = new HTimerWheel("test-timer-wheel", 10, 8);
+    try {
+      final int[] delays = new int[] { 250, 0, 30, 120, 75 };
+      final long[] expiredAt = new long[delays.length];
+      final CountDownLatch latch = new CountDownLatch(delays.length);
+
+      long t0 = System.nanoTime();
+      for (int i = 0; i < delays.length; i++) {
+        final int idx = i;
+        timerWheel.schedule(delays[i], () -> {
+          expiredAt[idx] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
+          latch.countDown();
+        });
+      }
+      Assert.assertEquals(delays.length, timerWheel.getPendingTimers());
+
+      Assert.assertTrue("Timers did not expire", latch.await(10, TimeUnit.SECONDS));
+      Assert.assertEquals(0, timerWheel.getPendingTimers());
+
+      for (int i = 0; i < delays.length; i++) {
+        log.info("delay=" + delays[i] + ", expiredAt=" + expiredAt[i]);
+        Assert.assertTrue("Timer expired too early, delay=" + delays[i], expiredAt[i] >= delays[i]);
+      }
+    }
+    finally {
+      timerWheel.done();
+    }
+
+    log.info(")testExpire");
+  }
+
+  /**
+   * Cancelled timers do not expire.
+   * @throws InterruptedException
+   */
+  @Test
+  public void testCancel() throws InterruptedException {
+    log.info("testCancel(");
+
+    HTimerWheel timerWheel = new HTimerWheel("test-timer-wheel", 10, 8);
+    try {
+      final AtomicInteger expired = new AtomicInteger();
+      final CountDownLatch latch = new CountDownLatch(1);
+
+      HTimerWheel.Timer t1 = timerWheel.schedule(50, () -> expired.incrementAndGet());
+      HTimerWheel.Timer t2 = timerWheel.schedule(200, () -> expired.incrementAndGet());
+      timerWheel.schedule(300, () -> latch.countDown());
+      Assert.assertEquals(3, timerWheel.getPendingTimers());
+
+      Assert.assertTrue(t1.cancel());
+      Assert.assertFalse(t1.cancel());
+      Assert.assertTrue(t1.isCancelled());
+      Assert.assertEquals(2, timerWheel.getPendingTimers());
+
+      // Cancel a timer after it has been moved into the wheel.
+      Thread.sleep(100);
+      Assert.assertTrue(t2.cancel());
+
+      Assert.assertTrue("Timer did not expire", latch.await(10, TimeUnit.SECONDS));
+      Assert.assertEquals(0, expired.get());
+      Assert.assertFalse(t2.isExpired());
+      Assert.assertEquals(0, timerWheel.getPendingTimers());
+    }
+    finally {
+      timerWheel.done();
+    }
+
+    log.info(")testCancel");
+  }
+}
@@ -24,6 +24,7 @@ import byps.http.HConstants;
 import byps.http.HTransportFactoryClient;
 import byps.http.HWireClient;
 import byps.http.client.asf.AsfClientFactory;
+import byps.http.client.jdk.JdkClientFactory;
 import byps.http.client.jcnn.JcnnClientFactory;
 import byps.test.api.BApiDescriptor_Testser;
 import byps.test.api.BClient_Testser;
@@ -44,7 +45,7 @@ public class TestUtilsHttp {
   /**
    * Von BYPS unterstützte HTTP client factories. 
    */
-  private static final String[] HTTP_CLIENT_FACTORIES = new String[] { JcnnClientFactory.class.getName(), AsfClientFactory.class.getName() };
+  private static final String[] HTTP_CLIENT_FACTORIES = new String[] { JcnnClientFactory.class.getName(), AsfClientFactory.class.getName(), JdkClientFactory.class.getName() };
 
 	static {
     System.setProperty(HWireClient.SYSTEM_PROPERTY_HTTP_CLIENT_FACTORY, HTTP_CLIENT_FACTORIES[0]);
@@ -0,0 +1,265 @@
+package byps.test;
+
+/* USE THIS FILE ACCORDING TO THE COPYRIGHT RULES IN LICENSE.TXT WHICH IS PART OF THE SOURCE CODE PACKAGE */
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import byps.BApiDescriptor;
+import byps.BException;
+import byps.BExceptionC;
+import byps.BProtocolJson;
+import byps.BRegistry;
+import byps.BSyncResult;
+import byps.BWire;
+import byps.RemoteException;
+import byps.http.HConstants;
+import byps.http.HTransportFactoryClient;
+import byps.http.client.jdk.JdkWebSocketWire;
+import byps.test.api.BApiDescriptor_Testser;
+import byps.test.api.BClient_Testser;
+import byps.test.api.BRegistry_Testser;
+import byps.test.api.JRegistry_Testser;
+import byps.test.api.remote.RemotePrimitiveTypes;
+import byps.test.api.remote.RemoteStreams;
+import byps.test.api.srvr.BSkeleton_ClientIF;
+import byps.test.servlet.BypsServlet;
+import io.undertow.Handlers;
+import io.undertow.Undertow;
+import io.undertow.servlet.Servlets;
+import io.undertow.servlet.api.DeploymentInfo;
+import io.undertow.servlet.api.DeploymentManager;
+import jakarta.servlet.MultipartConfigElement;
+
+/**
+ * Tests for the WebSocket transport.
+ * The test servlet runs in an embedded Undertow server.
+ */
+public class TestWebSocket {
+
+  private static Logger log = LoggerFactory.getLogger(TestWebSocket.class);
+
+  private static Undertow undertow;
+  private static DeploymentManager deploymentManager;
+  private static String url;
+  private static Executor tpool = Executors.newCachedThreadPool();
+
+  @BeforeClass
+  public static void startServer() throws Exception {
+    int port;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+
+    DeploymentInfo deploymentInfo = Servlets.deployment()
+        .setClassLoader(TestWebSocket.class.getClassLoader())
+        .setContextPath("/bypstest-srv")
+        .setDeploymentName("bypstest-websocket")
+        .addServlet(Servlets.servlet("BypsServlet", BypsServlet.class)
+            .addMapping("/bypsservlet")
+            .setAsyncSupported(true)
+            .setMultipartConfig(new MultipartConfigElement(""))
+            .setLoadOnStartup(1));
+    deploymentManager = Servlets.defaultContainer().addDeployment(deploymentInfo);
+    deploymentManager.deploy();
+
+    undertow = Undertow.builder()
+        .addHttpListener(port, "localhost")
+        .setHandler(Handlers.path().addPrefixPath("/bypstest-srv", deploymentManager.start()))
+        .build();
+    undertow.start();
+
+    url = "http://localhost:" + port + "/bypstest-srv/bypsservlet";
+  }
+
+  @AfterClass
+  public static void stopServer() throws Exception {
+    undertow.stop();
+    deploymentManager.stop();
+    deploymentManager.undeploy();
+  }
+
+  /**
+   * Method calls are sent over the WebSocket.
+   */
+  @Test
+  public void testForwardCalls() throws RemoteException {
+    log.info("testForwardCalls(");
+    JdkWebSocketWire wire = createWire();
+    BClient_Testser client = createClient(wire, 1);
+    try {
+      RemotePrimitiveTypes remote = client.getRemotePrimitiveTypes();
+      for (int i = 0; i < 100; i++) {
+        remote.setInt(i);
+        TestUtils.assertEquals(log, "int", i, remote.getInt());
+      }
+      TestUtils.assertTrue(log, "WebSocket not open", wire.isWebSocketOpen());
+    }
+    finally {
+      client.done();
+    }
+    TestUtils.assertTrue(log, "WebSocket not closed", !wire.isWebSocketOpen());
+    log.info(")testForwardCalls");
+  }
+
+  /**
+   * The server calls the client over the WebSocket.
+   * Exceptions thrown by the client are passed to the server.
+   */
+  @Test
+  public void testReverseCalls() throws RemoteException {
+    log.info("testReverseCalls(");
+    JdkWebSocketWire wire = createWire();
+    BClient_Testser client = createClient(wire, 1);
+    try {
+      client.addRemote(new BSkeleton_ClientIF() {
+        @Override
+        public int incrementInt(int a) throws RemoteException {
+          if (a == -1) throw new BException(123, "Test exception");
+          return a + 1;
+        }
+      });
+
+      TestUtils.assertEquals(log, "incrementInt", 6, client.getServerIF().callClientIncrementInt(5));
+
+      try {
+        client.getServerIF().callClientIncrementInt(-1);
+        Assert.fail("Exception expected");
+      }
+      catch (BException e) {
+        TestUtils.assertEquals(log, "exception code", 123, e.code);
+      }
+
+      TestUtils.assertTrue(log, "WebSocket not open", wire.isWebSocketOpen());
+    }
+    finally {
+      client.done();
+    }
+    log.info(")testReverseCalls");
+  }
+
+  /**
+   * The server calls the client several times simultaneously.
+   * The calls are executed in parallel.
+   */
+  @Test
+  public void testReverseCallsParallel() throws RemoteException {
+    log.info("testReverseCallsParallel(");
+    final int nbOfCalls = 10;
+    final long sleepMillis = 500;
+
+    BClient_Testser client = createClient(createWire(), nbOfCalls);
+    try {
+      client.addRemote(new BSkeleton_ClientIF() {
+        @Override
+        public int incrementInt(int a) throws RemoteException {
+          try {
+            Thread.sleep(sleepMillis);
+          } catch (InterruptedException e) {
+            throw new BException(BExceptionC.CANCELLED, e.toString(), e);
+          }
+          return 1;
+        }
+      });
+
+      long t1 = System.currentTimeMillis();
+      int r = client.getServerIF().callClientParallel(nbOfCalls);
+      long t2 = System.currentTimeMillis();
+
+      TestUtils.assertEquals(log, "callClientParallel", nbOfCalls, r);
+      TestUtils.assertTrue(log, "calls not executed in parallel, time=" + (t2-t1), (t2-t1) < (nbOfCalls * sleepMillis) / 2);
+    }
+    finally {
+      client.done();
+    }
+    log.info(")testReverseCallsParallel");
+  }
+
+  /**
+   * Streams are sent in HTTP requests while the method calls use the WebSocket.
+   */
+  @Test
+  public void testStreams() throws Exception {
+    log.info("testStreams(");
+    JdkWebSocketWire wire = createWire();
+    BClient_Testser client = createClient(wire, 1);
+    try {
+      RemoteStreams remote = client.getRemoteStreams();
+      String str = "hello";
+      remote.setImage(new ByteArrayInputStream(str.getBytes()));
+
+      InputStream istrmR = remote.getImage();
+      ByteBuffer buf = BWire.bufferFromStream(istrmR);
+      TestUtils.assertEquals(log, "stream", str, new String(buf.array(), buf.position(), buf.remaining()));
+
+      remote.setImage(null);
+      TestUtils.assertTrue(log, "WebSocket not open", wire.isWebSocketOpen());
+    }
+    finally {
+      client.done();
+    }
+    log.info(")testStreams");
+  }
+
+  /**
+   * The client uses HTTP requests, if the server does not accept WebSocket connections.
+   */
+  @Test
+  public void testFallbackToHttp() throws RemoteException {
+    log.info("testFallbackToHttp(");
+    boolean enabled = HConstants.WEBSOCKET_ENABLED;
+    HConstants.WEBSOCKET_ENABLED = false;
+    try {
+      JdkWebSocketWire wire = createWire();
+      BClient_Testser client = createClient(wire, 1);
+      try {
+        client.addRemote(new BSkeleton_ClientIF() {
+          @Override
+          public int incrementInt(int a) throws RemoteException {
+            return a + 1;
+          }
+        });
+        TestUtils.assertEquals(log, "incrementInt", 6, client.getServerIF().callClientIncrementInt(5));
+        TestUtils.assertTrue(log, "WebSocket must not be open", !wire.isWebSocketOpen());
+      }
+      finally {
+        client.done();
+      }
+    }
+    finally {
+      HConstants.WEBSOCKET_ENABLED = enabled;
+    }
+    log.info(")testFallbackToHttp");
+  }
+
+  private JdkWebSocketWire createWire() {
+    return new JdkWebSocketWire(url, BWire.FLAG_DEFAULT, 60, tpool);
+  }
+
+  private BClient_Testser createClient(BWire wire, int nbOfReverseRequests) throws RemoteException {
+    BRegistry registry = TestUtils.protocol == BProtocolJson.BINARY_MODEL ? new JRegistry_Testser() : new BRegistry_Testser();
+    BApiDescriptor apiDesc = new BApiDescriptor(
+        BApiDescriptor_Testser.instance().name,
+        BApiDescriptor_Testser.instance().basePackage,
+        BApiDescriptor_Testser.VERSION,
+        BApiDescriptor_Testser.instance().uniqueObjects);
+    apiDesc.addRegistry(registry);
+
+    BClient_Testser client = BClient_Testser.createClient(new HTransportFactoryClient(apiDesc, wire, nbOfReverseRequests));
+    BSyncResult<Boolean> syncResult = new BSyncResult<Boolean>();
+    client.start(syncResult);
+    syncResult.getResult();
+    return client;
+  }
+
+}